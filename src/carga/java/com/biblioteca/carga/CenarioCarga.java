@@ -0,0 +1,352 @@
+package com.biblioteca.carga;
+
+import com.biblioteca.BibliotecaDigitalApplication;
+import com.biblioteca.config.GeradorDadosSinteticos;
+import com.biblioteca.util.DistribuicaoZipf;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Cenário de carga de ponta a ponta contra o servidor embutido.
+ *
+ * Sobe a aplicação com os perfis de carga (acervo sintético), autentica
+ * usuários virtuais e executa, em malha fechada com pausa entre ações:
+ * leitores navegam, buscam, abrem livros, emprestam e devolvem; administradores
+ * consultam o dashboard e baixam relatórios e exportações. Ao final imprime
+ * vazão e percentis de latência por endpoint e grava o resumo em JSON.
+ *
+ * Propriedades (-D): carga.virtuais, carga.administradores, carga.duracao-s,
+ * carga.aquecimento-s, carga.pausa-ms, carga.perfis, carga.threads-virtuais, carga.resultado.
+ *
+ * carga.threads-virtuais liga biblioteca.execucao.threads-virtuais no servidor; o modo
+ * fica registrado no JSON para comparar vazão e p99 entre execuções.
+ */
+public final class CenarioCarga {
+
+    private static final Pattern CSRF = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+    private static final Pattern EMPRESTIMO_ATIVO = Pattern.compile("/emprestimos/(\\d+)/renovar");
+
+    private final Medicoes medicoes = new Medicoes();
+    private final String baseUrl;
+    private final long livroMin;
+    private final int livros;
+    private final int leitores;
+    private final String senha;
+    private final long pausaMs;
+    private volatile boolean medindo;
+    private volatile boolean executando = true;
+
+    private CenarioCarga(String baseUrl, long livroMin, int livros, int leitores, String senha, long pausaMs) {
+        this.baseUrl = baseUrl;
+        this.livroMin = livroMin;
+        this.livros = livros;
+        this.leitores = leitores;
+        this.senha = senha;
+        this.pausaMs = pausaMs;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int virtuais = Integer.getInteger("carga.virtuais", 50);
+        int administradores = Integer.getInteger("carga.administradores", 2);
+        int duracao = Integer.getInteger("carga.duracao-s", 120);
+        int aquecimento = Integer.getInteger("carga.aquecimento-s", 20);
+        long pausaMs = Long.getLong("carga.pausa-ms", 200);
+        String perfis = System.getProperty("carga.perfis", "dev,carga");
+        boolean threadsVirtuais = Boolean.getBoolean("carga.threads-virtuais");
+        String resultado = System.getProperty("carga.resultado", "target/carga-resultado.json");
+
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        ConfigurableApplicationContext contexto = SpringApplication.run(BibliotecaDigitalApplication.class,
+                "--spring.profiles.active=" + perfis, "--server.port=0",
+                "--biblioteca.execucao.threads-virtuais=" + threadsVirtuais);
+        try {
+            Environment ambiente = contexto.getEnvironment();
+            JdbcTemplate jdbc = contexto.getBean(JdbcTemplate.class);
+            Map<String, Object> faixa = jdbc.queryForMap("SELECT MIN(id) AS minimo, MAX(id) AS maximo FROM livros "
+                    + "WHERE isbn LIKE ?", GeradorDadosSinteticos.PREFIXO_ISBN + "%");
+            if (faixa.get("minimo") == null) {
+                throw new IllegalStateException("Acervo sintético não encontrado: ative o perfil carga");
+            }
+            long livroMin = ((Number) faixa.get("minimo")).longValue();
+            int livros = (int) (((Number) faixa.get("maximo")).longValue() - livroMin + 1);
+
+            CenarioCarga cenario = new CenarioCarga(
+                    "http://localhost:" + ambiente.getProperty("local.server.port"),
+                    livroMin, livros,
+                    ambiente.getProperty("biblioteca.carga.usuarios", Integer.class, 50000),
+                    ambiente.getProperty("biblioteca.carga.senha", "carga123"),
+                    pausaMs);
+            cenario.executar(virtuais, administradores, aquecimento, duracao, threadsVirtuais, new File(resultado));
+        } finally {
+            contexto.close();
+        }
+    }
+
+    private void executar(int virtuais, int administradores, int aquecimento, int duracao,
+                          boolean threadsVirtuais, File resultado) throws InterruptedException, IOException {
+        System.out.printf("Carga: %d usuários virtuais (%d administradores), aquecimento %d s, medição %d s, "
+                        + "servidor em threads %s%n",
+                virtuais, administradores, aquecimento, duracao, threadsVirtuais ? "virtuais" : "de plataforma");
+
+        CountDownLatch concluidos = new CountDownLatch(virtuais);
+        for (int i = 0; i < virtuais; i++) {
+            boolean administrador = i < administradores;
+            long semente = 1000L + i;
+            Thread thread = new Thread(() -> {
+                try {
+                    new UsuarioVirtual(administrador, new SplittableRandom(semente)).executar();
+                } catch (Exception e) {
+                    System.err.println("Usuário virtual encerrado: " + e);
+                } finally {
+                    concluidos.countDown();
+                }
+            }, "carga-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        Thread.sleep(aquecimento * 1000L);
+        medindo = true;
+        long inicio = System.nanoTime();
+        Thread.sleep(duracao * 1000L);
+        medindo = false;
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+        executando = false;
+        concluidos.await();
+
+        List<Medicoes.Resumo> resumos = medicoes.resumir(segundos);
+        imprimir(resumos);
+        gravar(resumos, virtuais, administradores, threadsVirtuais, segundos, resultado);
+    }
+
+    private void imprimir(List<Medicoes.Resumo> resumos) {
+        System.out.printf("%n%-36s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "req", "erros", "req/s", "p50 ms", "p90 ms", "p99 ms", "máx ms");
+        for (Medicoes.Resumo r : resumos) {
+            System.out.printf("%-36s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n", r.endpoint(), r.requisicoes(),
+                    r.erros(), r.porSegundo(), r.p50Ms(), r.p90Ms(), r.p99Ms(), r.maximoMs());
+        }
+    }
+
+    private void gravar(List<Medicoes.Resumo> resumos, int virtuais, int administradores,
+                        boolean threadsVirtuais, double segundos, File arquivo) throws IOException {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("usuariosVirtuais", virtuais);
+        json.put("administradores", administradores);
+        json.put("threadsVirtuais", threadsVirtuais);
+        json.put("duracaoSegundos", segundos);
+        json.put("livros", livros);
+        json.put("leitores", leitores);
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        resumos.forEach(r -> endpoints.add(r.comoMapa()));
+        json.put("endpoints", endpoints);
+
+        File diretorio = arquivo.getAbsoluteFile().getParentFile();
+        if (diretorio != null) {
+            diretorio.mkdirs();
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(arquivo, json);
+        System.out.println("Resultado gravado em " + arquivo.getAbsolutePath());
+    }
+
+    /**
+     * Sessão de um usuário: cookies próprios, token CSRF e empréstimos abertos.
+     */
+    private final class UsuarioVirtual {
+
+        private final boolean administrador;
+        private final SplittableRandom random;
+        private final DistribuicaoZipf popularidade;
+        private final HttpClient cliente = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        private String csrf;
+
+        UsuarioVirtual(boolean administrador, SplittableRandom random) {
+            this.administrador = administrador;
+            this.random = random;
+            this.popularidade = new DistribuicaoZipf(livros, 1.0, random.nextLong());
+        }
+
+        void executar() throws InterruptedException {
+            String email = administrador
+                    ? "admin" + GeradorDadosSinteticos.DOMINIO_EMAIL
+                    : "leitor" + (1 + random.nextInt(leitores)) + GeradorDadosSinteticos.DOMINIO_EMAIL;
+            if (!autenticar(email)) {
+                return;
+            }
+            while (executando) {
+                if (administrador) {
+                    acaoAdministrador();
+                } else {
+                    acaoLeitor();
+                }
+                if (pausaMs > 0) {
+                    Thread.sleep(pausaMs);
+                }
+            }
+        }
+
+        private boolean autenticar(String email) {
+            String pagina = corpo(get("GET /login", "/login"));
+            atualizarCsrf(pagina);
+            HttpResponse<String> resposta = post("POST /login",
+                    "/login", "email=" + codificar(email) + "&senha=" + codificar(senha));
+            String destino = resposta == null ? null : resposta.headers().firstValue("Location").orElse(null);
+            if (destino == null || destino.contains("error")) {
+                System.err.println("Falha na autenticação de " + email);
+                return false;
+            }
+            // A autenticação troca a sessão e o token CSRF
+            atualizarCsrf(corpo(get("GET /livros/{id}", "/livros/" + livroPopular())));
+            return true;
+        }
+
+        private void acaoLeitor() {
+            int sorteio = random.nextInt(100);
+            if (sorteio < 30) {
+                get("GET /livros", "/livros?page=" + random.nextInt(20));
+            } else if (sorteio < 50) {
+                String termo = GeradorDadosSinteticos.VOCABULARIO.get(
+                        random.nextInt(GeradorDadosSinteticos.VOCABULARIO.size()));
+                get("GET /livros?busca", "/livros?busca=" + codificar(termo) + "&page=" + random.nextInt(3));
+            } else if (sorteio < 75) {
+                atualizarCsrf(corpo(get("GET /livros/{id}", "/livros/" + livroPopular())));
+            } else if (sorteio < 88) {
+                emprestar();
+            } else {
+                devolver();
+            }
+        }
+
+        private void emprestar() {
+            long livroId = livroPopular();
+            String pagina = corpo(get("GET /livros/{id}", "/livros/" + livroId));
+            atualizarCsrf(pagina);
+            if (pagina != null && pagina.contains("Disponível para empréstimo")) {
+                post("POST /emprestimos/emprestar/{id}", "/emprestimos/emprestar/" + livroId, "");
+            }
+        }
+
+        private void devolver() {
+            String pagina = corpo(get("GET /emprestimos/meus", "/emprestimos/meus"));
+            atualizarCsrf(pagina);
+            if (pagina == null) {
+                return;
+            }
+            Matcher matcher = EMPRESTIMO_ATIVO.matcher(pagina);
+            if (matcher.find()) {
+                post("POST /emprestimos/{id}/devolver", "/emprestimos/" + matcher.group(1) + "/devolver", "");
+            } else {
+                emprestar();
+            }
+        }
+
+        private void acaoAdministrador() {
+            int sorteio = random.nextInt(100);
+            if (sorteio < 40) {
+                get("GET /dashboard", "/dashboard");
+            } else if (sorteio < 60) {
+                get("GET /emprestimos/atrasados", "/emprestimos/atrasados");
+            } else if (sorteio < 80) {
+                baixar("GET /relatorios/emprestimos/atrasados", "/relatorios/emprestimos/atrasados");
+            } else {
+                baixar("GET /relatorios/exportar/EMPRESTIMOS", "/relatorios/exportar/EMPRESTIMOS?formato=CSV");
+            }
+        }
+
+        private long livroPopular() {
+            return livroMin + popularidade.proximo() - 1;
+        }
+
+        private HttpResponse<String> get(String endpoint, String caminho) {
+            return enviar(endpoint, HttpRequest.newBuilder(URI.create(baseUrl + caminho)).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+        }
+
+        private HttpResponse<String> post(String endpoint, String caminho, String formulario) {
+            String corpo = formulario.isEmpty() ? "_csrf=" + codificar(csrf) : formulario + "&_csrf=" + codificar(csrf);
+            return enviar(endpoint, HttpRequest.newBuilder(URI.create(baseUrl + caminho))
+                            .header("Content-Type", "application/x-www-form-urlencoded")
+                            .POST(HttpRequest.BodyPublishers.ofString(corpo))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+        }
+
+        /**
+         * Download completo do arquivo, descartando o conteúdo.
+         */
+        private void baixar(String endpoint, String caminho) {
+            enviar(endpoint, HttpRequest.newBuilder(URI.create(baseUrl + caminho)).GET().build(),
+                    HttpResponse.BodyHandlers.discarding());
+        }
+
+        private <T> HttpResponse<T> enviar(String endpoint, HttpRequest requisicao, HttpResponse.BodyHandler<T> leitor) {
+            long inicio = System.nanoTime();
+            try {
+                HttpResponse<T> resposta = cliente.send(requisicao, leitor);
+                // Redirecionar para o login significa sessão perdida ou acesso negado
+                boolean erro = resposta.statusCode() >= 400 || resposta.headers().firstValue("Location")
+                        .map(destino -> destino.contains("/login") && !endpoint.equals("POST /login"))
+                        .orElse(false);
+                registrar(endpoint, System.nanoTime() - inicio, erro);
+                return resposta;
+            } catch (IOException e) {
+                registrar(endpoint, System.nanoTime() - inicio, true);
+                return null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                executando = false;
+                return null;
+            }
+        }
+
+        private void registrar(String endpoint, long nanos, boolean erro) {
+            if (medindo) {
+                medicoes.registrar(endpoint, nanos, erro);
+            }
+        }
+
+        private void atualizarCsrf(String pagina) {
+            if (pagina != null) {
+                Matcher matcher = CSRF.matcher(pagina);
+                if (matcher.find()) {
+                    csrf = matcher.group(1);
+                }
+            }
+        }
+
+        private String corpo(HttpResponse<String> resposta) {
+            return resposta == null || resposta.statusCode() != 200 ? null : resposta.body();
+        }
+    }
+
+    private static String codificar(String valor) {
+        return URLEncoder.encode(valor == null ? "" : valor, StandardCharsets.UTF_8);
+    }
+}
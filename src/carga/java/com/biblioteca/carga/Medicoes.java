@@ -0,0 +1,84 @@
+package com.biblioteca.carga;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Latências registradas por endpoint durante o cenário de carga.
+ *
+ * Cada endpoint guarda todas as amostras (8 bytes cada) para que os
+ * percentis sejam exatos; o volume de um teste de minutos cabe com folga.
+ */
+class Medicoes {
+
+    private final Map<String, Amostras> porEndpoint = new ConcurrentHashMap<>();
+
+    void registrar(String endpoint, long nanos, boolean erro) {
+        porEndpoint.computeIfAbsent(endpoint, chave -> new Amostras()).adicionar(nanos, erro);
+    }
+
+    /**
+     * Resumo por endpoint, em ordem alfabética, para a duração medida.
+     */
+    List<Resumo> resumir(double duracaoSegundos) {
+        List<Resumo> resumos = new ArrayList<>();
+        porEndpoint.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entrada -> resumos.add(entrada.getValue().resumir(entrada.getKey(), duracaoSegundos)));
+        return resumos;
+    }
+
+    record Resumo(String endpoint, long requisicoes, long erros, double porSegundo,
+                  double p50Ms, double p90Ms, double p99Ms, double maximoMs) {
+
+        Map<String, Object> comoMapa() {
+            Map<String, Object> mapa = new LinkedHashMap<>();
+            mapa.put("endpoint", endpoint);
+            mapa.put("requisicoes", requisicoes);
+            mapa.put("erros", erros);
+            mapa.put("porSegundo", porSegundo);
+            mapa.put("p50Ms", p50Ms);
+            mapa.put("p90Ms", p90Ms);
+            mapa.put("p99Ms", p99Ms);
+            mapa.put("maximoMs", maximoMs);
+            return mapa;
+        }
+    }
+
+    private static final class Amostras {
+
+        private long[] nanos = new long[1024];
+        private int quantidade;
+        private long erros;
+
+        synchronized void adicionar(long valor, boolean erro) {
+            if (quantidade == nanos.length) {
+                nanos = Arrays.copyOf(nanos, quantidade * 2);
+            }
+            nanos[quantidade++] = valor;
+            if (erro) {
+                erros++;
+            }
+        }
+
+        synchronized Resumo resumir(String endpoint, double duracaoSegundos) {
+            long[] ordenadas = Arrays.copyOf(nanos, quantidade);
+            Arrays.sort(ordenadas);
+            return new Resumo(endpoint, quantidade, erros, quantidade / duracaoSegundos,
+                    percentil(ordenadas, 0.50), percentil(ordenadas, 0.90), percentil(ordenadas, 0.99),
+                    quantidade == 0 ? 0 : ordenadas[quantidade - 1] / 1e6);
+        }
+
+        private static double percentil(long[] ordenadas, double p) {
+            if (ordenadas.length == 0) {
+                return 0;
+            }
+            int indice = (int) Math.ceil(p * ordenadas.length) - 1;
+            return ordenadas[Math.max(0, indice)] / 1e6;
+        }
+    }
+}
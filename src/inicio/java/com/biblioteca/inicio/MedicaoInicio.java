@@ -0,0 +1,150 @@
+package com.biblioteca.inicio;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Medição do tempo de inicialização da aplicação, sem e com o arquivo AppCDS.
+ *
+ * Cada execução é uma JVM nova com o jar da aplicação (classpath em lib/),
+ * encerrada logo após a subida (biblioteca.inicio.encerrar-apos-inicio). O tempo
+ * é o "process running for" informado pelo Spring Boot, que inclui a JVM.
+ * Grava mediana e mínimo por modo em JSON; com inicio.limite-ms > 0 falha se a
+ * mediana com AppCDS passar do limite. Com inicio.banco-url, as subidas usam
+ * esse banco no lugar do configurado nos perfis (no build, um H2 em memória
+ * no modo PostgreSQL).
+ *
+ * Propriedades (-D): inicio.jar, inicio.arquivo-cds, inicio.perfis,
+ * inicio.banco-url, inicio.banco-usuario, inicio.banco-senha,
+ * inicio.repeticoes, inicio.limite-ms, inicio.resultado.
+ */
+public final class MedicaoInicio {
+
+    private static final Pattern INICIO = Pattern.compile(
+            "Started \\S+ in ([\\d.]+) seconds \\(process running for ([\\d.]+)\\)");
+
+    private MedicaoInicio() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String jar = obrigatoria("inicio.jar");
+        String arquivoCds = obrigatoria("inicio.arquivo-cds");
+        String perfis = System.getProperty("inicio.perfis", "prod,inicio-rapido");
+        int repeticoes = Integer.getInteger("inicio.repeticoes", 5);
+        long limiteMs = Long.getLong("inicio.limite-ms", 0);
+        File resultado = new File(System.getProperty("inicio.resultado", "target/inicio-resultado.json"));
+
+        if (!new File(arquivoCds).isFile()) {
+            throw new IllegalStateException("Arquivo AppCDS não encontrado: " + arquivoCds);
+        }
+
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        List<String> base = new ArrayList<>(List.of("-Dspring.profiles.active=" + perfis, "-Dserver.port=0",
+                "-Dbiblioteca.inicio.encerrar-apos-inicio=true"));
+        String bancoUrl = System.getProperty("inicio.banco-url", "");
+        if (!bancoUrl.isBlank()) {
+            base.add("-Dspring.datasource.url=" + bancoUrl);
+            base.add("-Dspring.datasource.username=" + System.getProperty("inicio.banco-usuario", ""));
+            base.add("-Dspring.datasource.password=" + System.getProperty("inicio.banco-senha", ""));
+        }
+
+        System.out.printf("Inicialização: %d execuções por modo, perfis %s%n", repeticoes, perfis);
+        Map<String, Object> semCds = medir(repeticoes, comando(java, base, null, jar));
+        Map<String, Object> comCds = medir(repeticoes, comando(java, base, "-XX:SharedArchiveFile=" + arquivoCds, jar));
+        System.out.printf("%-10s mediana %6d ms, mínimo %6d ms%n", "sem CDS", semCds.get("medianaMs"), semCds.get("minimoMs"));
+        System.out.printf("%-10s mediana %6d ms, mínimo %6d ms%n", "com CDS", comCds.get("medianaMs"), comCds.get("minimoMs"));
+
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("perfis", perfis);
+        if (!bancoUrl.isBlank()) {
+            json.put("banco", bancoUrl);
+        }
+        json.put("repeticoes", repeticoes);
+        json.put("java", Runtime.version().toString());
+        json.put("semCds", semCds);
+        json.put("comCds", comCds);
+        File diretorio = resultado.getAbsoluteFile().getParentFile();
+        if (diretorio != null) {
+            diretorio.mkdirs();
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(resultado, json);
+        System.out.println("Resultado gravado em " + resultado.getAbsolutePath());
+
+        long mediana = (long) comCds.get("medianaMs");
+        if (limiteMs > 0 && mediana > limiteMs) {
+            System.err.printf("Inicialização com CDS em %d ms, acima do limite de %d ms%n", mediana, limiteMs);
+            System.exit(1);
+        }
+    }
+
+    private static List<String> comando(String java, List<String> base, String opcaoCds, String jar) {
+        List<String> comando = new ArrayList<>();
+        comando.add(java);
+        if (opcaoCds != null) {
+            comando.add(opcaoCds);
+        }
+        comando.addAll(base);
+        comando.add("-jar");
+        comando.add(jar);
+        return comando;
+    }
+
+    private static Map<String, Object> medir(int repeticoes, List<String> comando)
+            throws IOException, InterruptedException {
+        long[] tempos = new long[repeticoes];
+        for (int i = 0; i < repeticoes; i++) {
+            tempos[i] = executar(comando);
+        }
+        Arrays.sort(tempos);
+
+        Map<String, Object> mapa = new LinkedHashMap<>();
+        mapa.put("medianaMs", tempos[repeticoes / 2]);
+        mapa.put("minimoMs", tempos[0]);
+        mapa.put("amostrasMs", tempos);
+        return mapa;
+    }
+
+    /**
+     * Executa uma subida e retorna o tempo de inicialização em milissegundos.
+     */
+    private static long executar(List<String> comando) throws IOException, InterruptedException {
+        Process processo = new ProcessBuilder(comando).redirectErrorStream(true).start();
+        Long tempoMs = null;
+        try (BufferedReader saida = new BufferedReader(
+                new InputStreamReader(processo.getInputStream(), StandardCharsets.UTF_8))) {
+            String linha;
+            while ((linha = saida.readLine()) != null) {
+                Matcher matcher = INICIO.matcher(linha);
+                if (matcher.find()) {
+                    tempoMs = Math.round(Double.parseDouble(matcher.group(2)) * 1000);
+                }
+            }
+        }
+        int codigo = processo.waitFor();
+        if (tempoMs == null) {
+            throw new IllegalStateException("Aplicação não informou o tempo de inicialização (código " + codigo + ")");
+        }
+        return tempoMs;
+    }
+
+    private static String obrigatoria(String propriedade) {
+        String valor = System.getProperty(propriedade);
+        if (valor == null || valor.isBlank()) {
+            throw new IllegalStateException("Propriedade -D" + propriedade + " não informada");
+        }
+        return valor;
+    }
+}
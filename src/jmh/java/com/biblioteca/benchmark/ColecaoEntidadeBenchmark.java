@@ -0,0 +1,78 @@
+package com.biblioteca.benchmark;
+
+import com.biblioteca.model.entity.Emprestimo;
+import com.biblioteca.model.entity.Livro;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de add/contains dos empréstimos de um livro, por quantidade de empréstimos.
+ *
+ * Antes: HashSet de entidades com hash constante por classe (antigo Livro.emprestimos),
+ * em que todos os elementos caem no mesmo bucket. Depois: coleção indexada pelo id.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ColecaoEntidadeBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int emprestimosPorLivro;
+
+    private List<Emprestimo> emprestimos;
+    private Set<Emprestimo> conjuntoEntidades;
+    private Map<Long, Emprestimo> mapaPorId;
+    private Emprestimo ultimo;
+
+    @Setup
+    public void preparar() {
+        Livro livro = DadosBenchmark.livro(1);
+        emprestimos = new ArrayList<>(emprestimosPorLivro);
+        for (long i = 1; i <= emprestimosPorLivro; i++) {
+            emprestimos.add(DadosBenchmark.emprestimo(i, DadosBenchmark.usuario(i), livro, 0));
+        }
+        ultimo = emprestimos.get(emprestimos.size() - 1);
+
+        conjuntoEntidades = new HashSet<>(emprestimos);
+        mapaPorId = new HashMap<>();
+        emprestimos.forEach(e -> mapaPorId.put(e.getId(), e));
+    }
+
+    @Benchmark
+    public Set<Emprestimo> adicionarConjuntoEntidades() {
+        Set<Emprestimo> conjunto = new HashSet<>();
+        for (Emprestimo emprestimo : emprestimos) {
+            conjunto.add(emprestimo);
+        }
+        return conjunto;
+    }
+
+    @Benchmark
+    public Map<Long, Emprestimo> adicionarMapaPorId() {
+        Map<Long, Emprestimo> mapa = new HashMap<>();
+        for (Emprestimo emprestimo : emprestimos) {
+            mapa.put(emprestimo.getId(), emprestimo);
+        }
+        return mapa;
+    }
+
+    @Benchmark
+    public boolean contemConjuntoEntidades() {
+        return conjuntoEntidades.contains(ultimo);
+    }
+
+    @Benchmark
+    public boolean contemMapaPorId() {
+        return mapaPorId.containsKey(ultimo.getId());
+    }
+}
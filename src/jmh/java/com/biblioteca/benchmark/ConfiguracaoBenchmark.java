@@ -0,0 +1,43 @@
+package com.biblioteca.benchmark;
+
+import com.biblioteca.pattern.singleton.ConfigurationManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Leitura das regras de empréstimo: API legada por chave (switch, boxing e
+ * contagem de acessos) contra o retrato imutável, com 1 e 32 threads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConfiguracaoBenchmark {
+
+    private final ConfigurationManager configurationManager = ConfigurationManager.getInstance();
+
+    @Benchmark
+    public Integer getConfig() {
+        return configurationManager.getConfig("MAX_EMPRESTIMOS_POR_USUARIO");
+    }
+
+    @Benchmark
+    public int atual() {
+        return ConfigurationManager.atual().maxEmprestimosPorUsuario();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public Integer getConfig32Threads() {
+        return configurationManager.getConfig("MAX_EMPRESTIMOS_POR_USUARIO");
+    }
+
+    @Benchmark
+    @Threads(32)
+    public int atual32Threads() {
+        return ConfigurationManager.atual().maxEmprestimosPorUsuario();
+    }
+}
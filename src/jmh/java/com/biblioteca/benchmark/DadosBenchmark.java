@@ -0,0 +1,148 @@
+package com.biblioteca.benchmark;
+
+import com.biblioteca.model.entity.Autor;
+import com.biblioteca.model.entity.Categoria;
+import com.biblioteca.model.entity.Emprestimo;
+import com.biblioteca.model.entity.Livro;
+import com.biblioteca.model.entity.Usuario;
+import com.biblioteca.model.projection.EmprestimoExportacao;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Massa de dados em memória para os benchmarks (sem banco nem Spring).
+ */
+final class DadosBenchmark {
+
+    private static final Categoria CATEGORIA = Categoria.builder().id(1L).nome("Literatura Brasileira").build();
+
+    private DadosBenchmark() {
+    }
+
+    static Livro livro(long id) {
+        Livro livro = Livro.builder()
+                .id(id)
+                .titulo("Livro de Teste " + id)
+                .isbn(String.format("978%010d", id))
+                .anoPublicacao(2000 + (int) (id % 25))
+                .editora("Editora " + (id % 50))
+                .edicao("1ª")
+                .numeroPaginas(200 + (int) (id % 300))
+                .sinopse("Sinopse do livro " + id)
+                .quantidadeTotal(3)
+                .quantidadeDisponivel((int) (id % 4))
+                .dataCadastro(LocalDate.of(2024, 1, 1))
+                .status(Livro.StatusLivro.DISPONIVEL)
+                .categoria(CATEGORIA)
+                .build();
+
+        Set<Autor> autores = new HashSet<>();
+        for (long a = 0; a < 2; a++) {
+            autores.add(Autor.builder().id(id * 2 + a).nome("Autor " + (id * 2 + a)).build());
+        }
+        livro.setAutores(autores);
+        return livro;
+    }
+
+    static Usuario usuario(long id) {
+        return Usuario.builder()
+                .id(id)
+                .nome("Usuário " + id)
+                .email("usuario" + id + "@biblioteca.com")
+                .senha("x")
+                .role(Usuario.Role.USER)
+                .ativo(true)
+                .saldoDevedor(BigDecimal.ZERO)
+                .build();
+    }
+
+    /**
+     * Empréstimo ativo com o atraso informado (0 = dentro do prazo).
+     */
+    static Emprestimo emprestimo(long id, Usuario usuario, Livro livro, int diasAtraso) {
+        LocalDate prevista = LocalDate.now().minusDays(diasAtraso > 0 ? diasAtraso : -7);
+        return Emprestimo.builder()
+                .id(id)
+                .usuario(usuario)
+                .livro(livro)
+                .dataEmprestimo(prevista.minusDays(14))
+                .dataPrevistaDevolucao(prevista)
+                .status(Emprestimo.StatusEmprestimo.ATIVO)
+                .build();
+    }
+
+    /**
+     * Empréstimos distribuídos entre usuários e livros; um terço em atraso.
+     */
+    static List<Emprestimo> emprestimos(int quantidade) {
+        int totalLivros = Math.max(1, quantidade / 10);
+        int totalUsuarios = Math.max(1, quantidade / 5);
+        List<Livro> livros = livros(totalLivros);
+        List<Usuario> usuarios = new ArrayList<>(totalUsuarios);
+        for (int i = 0; i < totalUsuarios; i++) {
+            usuarios.add(usuario(i + 1));
+        }
+
+        List<Emprestimo> emprestimos = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            int diasAtraso = i % 3 == 0 ? 1 + i % 30 : 0;
+            emprestimos.add(emprestimo(i + 1, usuarios.get(i % totalUsuarios), livros.get(i % totalLivros), diasAtraso));
+        }
+        return emprestimos;
+    }
+
+    static List<Livro> livros(int quantidade) {
+        List<Livro> livros = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            livros.add(livro(i + 1));
+        }
+        return livros;
+    }
+
+    static EmprestimoExportacao projecao(Emprestimo emprestimo) {
+        return new EmprestimoExportacao() {
+            public Long getId() { return emprestimo.getId(); }
+            public String getLivroTitulo() { return emprestimo.getLivro().getTitulo(); }
+            public String getLivroIsbn() { return emprestimo.getLivro().getIsbn(); }
+            public String getUsuarioNome() { return emprestimo.getUsuario().getNome(); }
+            public String getUsuarioEmail() { return emprestimo.getUsuario().getEmail(); }
+            public LocalDate getDataEmprestimo() { return emprestimo.getDataEmprestimo(); }
+            public LocalDate getDataPrevistaDevolucao() { return emprestimo.getDataPrevistaDevolucao(); }
+            public LocalDate getDataDevolucao() { return emprestimo.getDataDevolucao(); }
+            public Emprestimo.StatusEmprestimo getStatus() { return emprestimo.getStatus(); }
+            public BigDecimal getMulta() { return emprestimo.getMulta(); }
+        };
+    }
+
+    /**
+     * Repositório falso: responde aos métodos informados pelo nome e falha
+     * nos demais, para que um benchmark não dependa de consultas não simuladas.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T repositorio(Class<T> tipo, Map<String, Function<Object[], Object>> respostas) {
+        return (T) Proxy.newProxyInstance(tipo.getClassLoader(), new Class<?>[]{tipo}, (proxy, metodo, args) -> {
+            switch (metodo.getName()) {
+                case "toString":
+                    return tipo.getSimpleName() + " (benchmark)";
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                default:
+                    Function<Object[], Object> resposta = respostas.get(metodo.getName());
+                    if (resposta == null) {
+                        throw new UnsupportedOperationException(tipo.getSimpleName() + "." + metodo.getName());
+                    }
+                    return resposta.apply(args);
+            }
+        });
+    }
+}
@@ -0,0 +1,135 @@
+package com.biblioteca.benchmark;
+
+import com.biblioteca.metrics.MetricasRelatorio;
+import com.biblioteca.model.entity.Emprestimo;
+import com.biblioteca.model.entity.Livro;
+import com.biblioteca.model.entity.Usuario;
+import com.biblioteca.pattern.singleton.ConfigurationManager;
+import com.biblioteca.pattern.strategy.MultaCalculator;
+import com.biblioteca.pattern.strategy.MultaFixaStrategy;
+import com.biblioteca.pattern.strategy.MultaProgressivaStrategy;
+import com.biblioteca.repository.EmprestimoRepository;
+import com.biblioteca.repository.LivroRepository;
+import com.biblioteca.repository.UsuarioRepository;
+import com.biblioteca.service.ExportacaoService.FormatoExportacao;
+import com.biblioteca.service.ReportService.TipoRelatorio;
+import com.biblioteca.service.impl.ExportacaoServiceImpl;
+import com.biblioteca.service.impl.ReportServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * Exportação de empréstimos em CSV/NDJSON comparada ao relatório em PDF, até
+ * 1 milhão de linhas.
+ *
+ * CSV e NDJSON recebem as linhas sob demanda, como o cursor do repositório as
+ * entrega. O PDF segue o caminho do ReportService: carrega todos os
+ * empréstimos (findAll, materializado na chamada como faria o repositório) e
+ * monta a tabela inteira antes de escrevê-la. Os três formatos rodam na mesma
+ * JVM (-Xmx2g) para que os picos de heap sejam comparáveis; o PDF com 1 milhão
+ * de linhas pode esgotar o heap, o que também é um resultado. Contadores
+ * reportados por iteração:
+ * - linhas: linhas exportadas por segundo
+ * - picoHeapMb: soma dos picos de uso dos pools de heap (limite superior do pico)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class ExportacaoBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int linhas;
+
+    @Param({"CSV", "NDJSON", "PDF"})
+    private String formato;
+
+    private ExportacaoServiceImpl exportacaoService;
+    private ReportServiceImpl reportService;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Vazao {
+        public long linhas;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Heap {
+        public long picoHeapMb;
+
+        @Setup(Level.Iteration)
+        public void zerarPicos() {
+            picoHeapMb = 0;
+            ManagementFactory.getMemoryPoolMXBeans().stream()
+                    .filter(pool -> pool.getType() == MemoryType.HEAP)
+                    .forEach(MemoryPoolMXBean::resetPeakUsage);
+        }
+
+        void registrar() {
+            long pico = ManagementFactory.getMemoryPoolMXBeans().stream()
+                    .filter(pool -> pool.getType() == MemoryType.HEAP)
+                    .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                    .sum();
+            picoHeapMb = Math.max(picoHeapMb, pico / (1024 * 1024));
+        }
+    }
+
+    @Setup
+    public void preparar() {
+        List<Livro> livros = DadosBenchmark.livros(1000);
+        Usuario[] usuarios = new Usuario[1000];
+        for (int i = 0; i < usuarios.length; i++) {
+            usuarios[i] = DadosBenchmark.usuario(i + 1);
+        }
+
+        // Um empréstimo por linha, criado só quando o cursor o lê (ou, no findAll, na chamada)
+        LongFunction<Emprestimo> emprestimo = id -> DadosBenchmark.emprestimo(id,
+                usuarios[(int) (id % usuarios.length)], livros.get((int) (id % livros.size())),
+                id % 3 == 0 ? 1 + (int) (id % 30) : 0);
+        EmprestimoRepository emprestimoRepository = DadosBenchmark.repositorio(EmprestimoRepository.class, Map.of(
+                "streamParaExportacao", args -> LongStream.rangeClosed(1, linhas)
+                        .mapToObj(emprestimo)
+                        .map(DadosBenchmark::projecao),
+                "findAll", args -> LongStream.rangeClosed(1, linhas)
+                        .mapToObj(emprestimo)
+                        .collect(Collectors.toList())));
+        LivroRepository livroRepository = DadosBenchmark.repositorio(LivroRepository.class, Map.of());
+        UsuarioRepository usuarioRepository = DadosBenchmark.repositorio(UsuarioRepository.class, Map.of());
+
+        MultaCalculator multaCalculator = new MultaCalculator(Map.of(
+                "multaFixa", new MultaFixaStrategy(),
+                "multaProgressiva", new MultaProgressivaStrategy()), ConfigurationManager.getInstance());
+
+        MetricasRelatorio metricasRelatorio = new MetricasRelatorio(new SimpleMeterRegistry());
+        exportacaoService = new ExportacaoServiceImpl(livroRepository, emprestimoRepository, usuarioRepository,
+                multaCalculator, metricasRelatorio);
+        reportService = new ReportServiceImpl(livroRepository, emprestimoRepository, usuarioRepository,
+                null, multaCalculator, metricasRelatorio);
+    }
+
+    @Benchmark
+    public void exportarEmprestimos(Vazao vazao, Heap heap) {
+        if (formato.equals("PDF")) {
+            reportService.gerarRelatorio(TipoRelatorio.EMPRESTIMOS, OutputStream.nullOutputStream());
+        } else {
+            exportacaoService.exportar(TipoRelatorio.EMPRESTIMOS, FormatoExportacao.valueOf(formato),
+                    OutputStream.nullOutputStream());
+        }
+        vazao.linhas += linhas;
+        heap.registrar();
+    }
+}
@@ -0,0 +1,106 @@
+package com.biblioteca.benchmark;
+
+import com.biblioteca.model.dto.LivroDTO;
+import com.biblioteca.model.entity.Autor;
+import com.biblioteca.model.entity.Livro;
+import com.biblioteca.model.projection.LivroAutorNome;
+import com.biblioteca.model.projection.LivroResumo;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Página da listagem de livros (10 linhas): entidade completa com sinopse
+ * versus projeção LivroResumo, por tamanho da sinopse.
+ *
+ * Cada linha é materializada a partir de bytes, como faria o driver JDBC, para
+ * que a sinopse entre na conta. Heap por página: executar com -prof gc
+ * (gc.alloc.rate.norm = bytes alocados por página).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListagemLivroBenchmark {
+
+    private static final int TAMANHO_PAGINA = 10;
+
+    @Param({"0", "1000", "8000"})
+    private int tamanhoSinopse;
+
+    private List<Livro> livros;
+    private byte[] sinopse;
+
+    @Setup
+    public void preparar() {
+        livros = DadosBenchmark.livros(TAMANHO_PAGINA);
+        sinopse = "a".repeat(tamanhoSinopse).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public List<LivroDTO> paginaEntidade() {
+        List<LivroDTO> pagina = new ArrayList<>(TAMANHO_PAGINA);
+        for (Livro origem : livros) {
+            Livro livro = Livro.builder()
+                    .id(origem.getId())
+                    .titulo(new String(origem.getTitulo()))
+                    .isbn(new String(origem.getIsbn()))
+                    .anoPublicacao(origem.getAnoPublicacao())
+                    .editora(new String(origem.getEditora()))
+                    .edicao(new String(origem.getEdicao()))
+                    .numeroPaginas(origem.getNumeroPaginas())
+                    .sinopse(new String(sinopse, StandardCharsets.UTF_8))
+                    .quantidadeTotal(origem.getQuantidadeTotal())
+                    .quantidadeDisponivel(origem.getQuantidadeDisponivel())
+                    .dataCadastro(origem.getDataCadastro())
+                    .status(origem.getStatus())
+                    .categoria(origem.getCategoria())
+                    .autores(origem.getAutores())
+                    .build();
+            pagina.add(LivroDTO.fromEntity(livro));
+        }
+        return pagina;
+    }
+
+    @Benchmark
+    public List<LivroDTO> paginaResumo() {
+        List<LivroDTO> pagina = new ArrayList<>(TAMANHO_PAGINA);
+        for (Livro origem : livros) {
+            LivroResumo resumo = resumo(origem.getId(), new String(origem.getTitulo()),
+                    new String(origem.getIsbn()), origem);
+            List<LivroAutorNome> autores = new ArrayList<>(origem.getAutores().size());
+            for (Autor autor : origem.getAutores()) {
+                autores.add(autorNome(origem.getId(), autor.getId(), new String(autor.getNome())));
+            }
+            pagina.add(LivroDTO.fromResumo(resumo, autores));
+        }
+        return pagina;
+    }
+
+    private static LivroResumo resumo(Long id, String titulo, String isbn, Livro origem) {
+        return new LivroResumo() {
+            public Long getId() { return id; }
+            public String getTitulo() { return titulo; }
+            public String getIsbn() { return isbn; }
+            public Integer getAnoPublicacao() { return origem.getAnoPublicacao(); }
+            public Integer getQuantidadeTotal() { return origem.getQuantidadeTotal(); }
+            public Integer getQuantidadeDisponivel() { return origem.getQuantidadeDisponivel(); }
+            public Livro.StatusLivro getStatus() { return origem.getStatus(); }
+            public Long getCategoriaId() { return origem.getCategoria().getId(); }
+            public String getCategoriaNome() { return origem.getCategoria().getNome(); }
+        };
+    }
+
+    private static LivroAutorNome autorNome(Long livroId, Long autorId, String autorNome) {
+        return new LivroAutorNome() {
+            public Long getLivroId() { return livroId; }
+            public Long getAutorId() { return autorId; }
+            public String getAutorNome() { return autorNome; }
+        };
+    }
+}
@@ -0,0 +1,40 @@
+package com.biblioteca.benchmark;
+
+import com.biblioteca.model.dto.EmprestimoDTO;
+import com.biblioteca.model.dto.LivroDTO;
+import com.biblioteca.model.entity.Emprestimo;
+import com.biblioteca.model.entity.Livro;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversão de entidades em DTOs (listagens e páginas de detalhe).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapeamentoDtoBenchmark {
+
+    private Livro livro;
+    private Emprestimo emprestimo;
+
+    @Setup
+    public void preparar() {
+        livro = DadosBenchmark.livro(1);
+        emprestimo = DadosBenchmark.emprestimo(1, DadosBenchmark.usuario(1), livro, 5);
+    }
+
+    @Benchmark
+    public EmprestimoDTO emprestimoFromEntity() {
+        return EmprestimoDTO.fromEntity(emprestimo);
+    }
+
+    @Benchmark
+    public LivroDTO livroFromEntity() {
+        return LivroDTO.fromEntity(livro);
+    }
+}
@@ -0,0 +1,54 @@
+package com.biblioteca.benchmark;
+
+import com.biblioteca.model.entity.Emprestimo;
+import com.biblioteca.pattern.strategy.MultaFixaStrategy;
+import com.biblioteca.pattern.strategy.MultaProgressivaStrategy;
+import com.biblioteca.pattern.strategy.MultaStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cálculo de atraso e de multa por empréstimo, por dias de atraso.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MultaBenchmark {
+
+    @Param({"0", "7", "30", "365"})
+    private int diasAtraso;
+
+    private Emprestimo emprestimo;
+    private final MultaStrategy multaFixa = new MultaFixaStrategy();
+    private final MultaStrategy multaProgressiva = new MultaProgressivaStrategy();
+
+    @Setup
+    public void preparar() {
+        emprestimo = DadosBenchmark.emprestimo(1, DadosBenchmark.usuario(1), DadosBenchmark.livro(1), diasAtraso);
+    }
+
+    @Benchmark
+    public long diasAtraso() {
+        return emprestimo.getDiasAtraso();
+    }
+
+    @Benchmark
+    public BigDecimal calcularMulta() {
+        return emprestimo.calcularMulta();
+    }
+
+    @Benchmark
+    public BigDecimal multaFixa() {
+        return multaFixa.calcularMulta(emprestimo);
+    }
+
+    @Benchmark
+    public BigDecimal multaProgressiva() {
+        return multaProgressiva.calcularMulta(emprestimo);
+    }
+}
@@ -0,0 +1,90 @@
+package com.biblioteca.benchmark;
+
+import com.biblioteca.util.MatrizCoocorrencia;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construção da matriz de co-ocorrência (reconstrução das recomendações)
+ * e consulta dos livros similares, com popularidade concentrada em poucos
+ * livros como na circulação real.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class RecomendacaoBenchmark {
+
+    private static final int LIVROS_POR_USUARIO = 10;
+    private static final int MAX_VIZINHOS = 50;
+    private static final int RECOMENDACOES_POR_LIVRO = 10;
+
+    @Param({"100000", "1000000"})
+    private int emprestimos;
+
+    @Param({"10000", "100000"})
+    private int livros;
+
+    // Livros distintos de cada usuário, como na leitura agrupada por usuário
+    private long[][] conjuntos;
+
+    @Setup
+    public void preparar() {
+        SplittableRandom random = new SplittableRandom(42);
+        conjuntos = new long[emprestimos / LIVROS_POR_USUARIO][];
+        for (int u = 0; u < conjuntos.length; u++) {
+            conjuntos[u] = random.longs(LIVROS_POR_USUARIO * 2L)
+                    .map(x -> 1 + (long) (livros * Math.pow((x >>> 11) * 0x1.0p-53, 2)))
+                    .distinct()
+                    .limit(LIVROS_POR_USUARIO)
+                    .toArray();
+        }
+    }
+
+    @Benchmark
+    public int construir() {
+        MatrizCoocorrencia matriz = new MatrizCoocorrencia(MAX_VIZINHOS, livros);
+        for (long[] conjunto : conjuntos) {
+            matriz.registrarConjunto(conjunto, conjunto.length);
+        }
+
+        int[] publicados = new int[1];
+        matriz.forEachItem((livroId, linha) ->
+                publicados[0] += matriz.similares(livroId, RECOMENDACOES_POR_LIVRO).length);
+        return publicados[0];
+    }
+
+    @State(Scope.Benchmark)
+    public static class MatrizConstruida {
+
+        MatrizCoocorrencia matriz;
+        long[] itens;
+
+        @Setup
+        public void preparar(RecomendacaoBenchmark benchmark) {
+            matriz = new MatrizCoocorrencia(MAX_VIZINHOS, benchmark.livros);
+            for (long[] conjunto : benchmark.conjuntos) {
+                matriz.registrarConjunto(conjunto, conjunto.length);
+            }
+            itens = Arrays.stream(benchmark.conjuntos).flatMapToLong(Arrays::stream).distinct().limit(1024).toArray();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public int similares(MatrizConstruida estado) {
+        int total = 0;
+        for (long item : estado.itens) {
+            total += estado.matriz.similares(item, RECOMENDACOES_POR_LIVRO).length;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,97 @@
+package com.biblioteca.benchmark;
+
+import com.biblioteca.metrics.MetricasRelatorio;
+import com.biblioteca.model.entity.Emprestimo;
+import com.biblioteca.model.entity.Livro;
+import com.biblioteca.pattern.singleton.ConfigurationManager;
+import com.biblioteca.pattern.strategy.MultaCalculator;
+import com.biblioteca.pattern.strategy.MultaFixaStrategy;
+import com.biblioteca.pattern.strategy.MultaProgressivaStrategy;
+import com.biblioteca.repository.EmprestimoRepository;
+import com.biblioteca.repository.LivroRepository;
+import com.biblioteca.repository.UsuarioRepository;
+import com.biblioteca.service.ExportacaoService.FormatoExportacao;
+import com.biblioteca.service.ReportService.TipoRelatorio;
+import com.biblioteca.service.impl.ExportacaoServiceImpl;
+import com.biblioteca.service.impl.ReportServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Geração de relatórios em PDF e exportações CSV/NDJSON por volume de
+ * linhas, com repositórios em memória (mede apenas a escrita do documento).
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class RelatorioBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int linhas;
+
+    private ReportServiceImpl reportService;
+    private ExportacaoServiceImpl exportacaoService;
+
+    @Setup
+    public void preparar() {
+        List<Emprestimo> emprestimos = DadosBenchmark.emprestimos(linhas);
+        List<Emprestimo> atrasados = emprestimos.stream()
+                .filter(Emprestimo::isAtrasado)
+                .collect(Collectors.toList());
+        List<Livro> livros = DadosBenchmark.livros(linhas);
+
+        EmprestimoRepository emprestimoRepository = DadosBenchmark.repositorio(EmprestimoRepository.class, Map.of(
+                "findAll", args -> emprestimos,
+                "findEmprestimosAtrasados", args -> atrasados,
+                "streamParaExportacao", args -> emprestimos.stream().map(DadosBenchmark::projecao),
+                "streamAtrasadosParaExportacao", args -> atrasados.stream().map(DadosBenchmark::projecao)));
+        LivroRepository livroRepository = DadosBenchmark.repositorio(LivroRepository.class, Map.of(
+                "findAll", args -> livros));
+        UsuarioRepository usuarioRepository = DadosBenchmark.repositorio(UsuarioRepository.class, Map.of());
+
+        MultaCalculator multaCalculator = new MultaCalculator(Map.of(
+                "multaFixa", new MultaFixaStrategy(),
+                "multaProgressiva", new MultaProgressivaStrategy()), ConfigurationManager.getInstance());
+
+        MetricasRelatorio metricasRelatorio = new MetricasRelatorio(new SimpleMeterRegistry());
+
+        reportService = new ReportServiceImpl(livroRepository, emprestimoRepository, usuarioRepository,
+                null, multaCalculator, metricasRelatorio);
+        exportacaoService = new ExportacaoServiceImpl(livroRepository, emprestimoRepository, usuarioRepository,
+                multaCalculator, metricasRelatorio);
+    }
+
+    @Benchmark
+    public void pdfLivros() {
+        reportService.gerarRelatorio(TipoRelatorio.LIVROS, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void pdfEmprestimos() {
+        reportService.gerarRelatorio(TipoRelatorio.EMPRESTIMOS, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void pdfEmprestimosAtrasados() {
+        reportService.gerarRelatorio(TipoRelatorio.EMPRESTIMOS_ATRASADOS, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void csvEmprestimos() {
+        exportacaoService.exportar(TipoRelatorio.EMPRESTIMOS, FormatoExportacao.CSV, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void ndjsonEmprestimos() {
+        exportacaoService.exportar(TipoRelatorio.EMPRESTIMOS, FormatoExportacao.NDJSON, OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,90 @@
+package com.biblioteca.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DataSource que limita as conexões em uso simultâneo por um semáforo.
+ *
+ * Com threads virtuais o número de requisições simultâneas deixa de ser limitado
+ * pelo pool do Tomcat; as excedentes esperam aqui, em fila justa e sem ocupar
+ * threads de plataforma, em vez de disputarem o pool de conexões. A permissão é
+ * devolvida no close() da conexão.
+ */
+final class ConexoesLimitadasDataSource extends DelegatingDataSource {
+
+    private final Semaphore permissoes;
+    private final long esperaMs;
+
+    ConexoesLimitadasDataSource(DataSource alvo, int maxConexoes, long esperaMs) {
+        super(alvo);
+        this.permissoes = new Semaphore(maxConexoes, true);
+        this.esperaMs = esperaMs;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        adquirir();
+        return obter(() -> super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        adquirir();
+        return obter(() -> super.getConnection(username, password));
+    }
+
+    private void adquirir() throws SQLException {
+        try {
+            if (!permissoes.tryAcquire(esperaMs, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "Nenhuma conexão liberada em " + esperaMs + " ms (limite de conexões simultâneas)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrompido aguardando conexão", e);
+        }
+    }
+
+    private Connection obter(Abertura abertura) throws SQLException {
+        Connection conexao;
+        try {
+            conexao = abertura.abrir();
+        } catch (SQLException | RuntimeException e) {
+            permissoes.release();
+            throw e;
+        }
+
+        AtomicBoolean liberada = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, metodo, argumentos) -> {
+                    if (metodo.getName().equals("close") && liberada.compareAndSet(false, true)) {
+                        try {
+                            conexao.close();
+                        } finally {
+                            permissoes.release();
+                        }
+                        return null;
+                    }
+                    try {
+                        return metodo.invoke(conexao, argumentos);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    @FunctionalInterface
+    private interface Abertura {
+        Connection abrir() throws SQLException;
+    }
+}
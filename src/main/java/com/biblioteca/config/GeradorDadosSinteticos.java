@@ -0,0 +1,362 @@
+package com.biblioteca.config;
+
+import com.biblioteca.service.EstatisticaCirculacaoService;
+import com.biblioteca.util.DistribuicaoZipf;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Gera um acervo sintético para testes de carga (perfil "carga").
+ *
+ * - Popularidade dos livros e atividade dos leitores seguem distribuições
+ *   de Zipf; autores prolíficos também
+ * - Empréstimos cobrem o histórico configurado, com taxas de atraso,
+ *   devolução atrasada (com multa no extrato) e pagamento de multas
+ * - Tudo é inserido por JDBC em lotes, com ids explícitos; ao final as
+ *   sequências de identidade são reposicionadas após o maior id
+ *
+ * Leitores: leitor{n}@carga.biblioteca; administrador: admin@carga.biblioteca.
+ * Todos usam a senha biblioteca.carga.senha. A geração é ignorada se o
+ * banco já contém dados sintéticos.
+ */
+@Component
+@Profile("carga")
+@Order(100)
+public class GeradorDadosSinteticos implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeradorDadosSinteticos.class);
+
+    public static final String DOMINIO_EMAIL = "@carga.biblioteca";
+    public static final String PREFIXO_ISBN = "S";
+
+    /** Palavras dos títulos; também usadas como termos de busca no cenário de carga. */
+    public static final List<String> VOCABULARIO = List.of(
+            "Jardim", "Sombras", "Mar", "Cidade", "Tempo", "Memórias", "Caminho", "Noite", "Silêncio",
+            "Rio", "Montanha", "Segredo", "Vento", "Estrelas", "Casa", "Viagem", "Destino", "Espelho",
+            "Fogo", "Inverno", "Verão", "Sertão", "Janela", "Ponte", "Sonho", "Guerra", "Paz", "Ilha",
+            "Labirinto", "Deserto", "Floresta", "Algoritmo", "Código", "Sistema", "Dados", "Arquitetura");
+
+    private static final List<String> NACIONALIDADES = List.of(
+            "Brasileira", "Portuguesa", "Argentina", "Britânica", "Americana", "Francesa", "Italiana");
+
+    private static final int DIAS_EMPRESTIMO = 14;
+    private static final BigDecimal MULTA_POR_DIA = new BigDecimal("2.00");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final EstatisticaCirculacaoService estatisticaService;
+
+    @Value("${biblioteca.carga.categorias:20}")
+    private int categorias;
+    @Value("${biblioteca.carga.autores:20000}")
+    private int autores;
+    @Value("${biblioteca.carga.livros:100000}")
+    private int livros;
+    @Value("${biblioteca.carga.usuarios:50000}")
+    private int usuarios;
+    @Value("${biblioteca.carga.emprestimos:1000000}")
+    private int emprestimos;
+    @Value("${biblioteca.carga.dias-historico:365}")
+    private int diasHistorico;
+    @Value("${biblioteca.carga.zipf-livros:1.0}")
+    private double zipfLivros;
+    @Value("${biblioteca.carga.zipf-usuarios:0.8}")
+    private double zipfUsuarios;
+    @Value("${biblioteca.carga.taxa-atraso:0.05}")
+    private double taxaAtraso;
+    @Value("${biblioteca.carga.taxa-devolucao-atrasada:0.15}")
+    private double taxaDevolucaoAtrasada;
+    @Value("${biblioteca.carga.taxa-pagamento:0.9}")
+    private double taxaPagamento;
+    @Value("${biblioteca.carga.lote:1000}")
+    private int tamanhoLote;
+    @Value("${biblioteca.carga.semente:42}")
+    private long semente;
+    @Value("${biblioteca.carga.senha:carga123}")
+    private String senha;
+
+    public GeradorDadosSinteticos(JdbcTemplate jdbcTemplate,
+                                  PasswordEncoder passwordEncoder,
+                                  EstatisticaCirculacaoService estatisticaService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.estatisticaService = estatisticaService;
+    }
+
+    @Override
+    public void run(String... args) {
+        Long existentes = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM usuarios WHERE email LIKE ?", Long.class, "%" + DOMINIO_EMAIL);
+        if (existentes != null && existentes > 0) {
+            logger.info("Dados sintéticos já existentes ({} usuários); geração ignorada", existentes);
+            return;
+        }
+
+        long inicio = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(semente);
+        LocalDate hoje = LocalDate.now();
+
+        long categoriaBase = proximoId("categorias");
+        long autorBase = proximoId("autores");
+        long livroBase = proximoId("livros");
+        long usuarioBase = proximoId("usuarios");
+        long emprestimoBase = proximoId("emprestimos");
+        long lancamentoBase = proximoId("lancamentos_multa");
+
+        gerarCategorias(categoriaBase);
+        gerarAutores(autorBase, random);
+        byte[] exemplares = gerarLivros(livroBase, categoriaBase, autorBase, random, hoje);
+        gerarUsuarios(usuarioBase, random, hoje);
+        long[] totais = gerarEmprestimos(emprestimoBase, lancamentoBase, livroBase, usuarioBase,
+                exemplares, random, hoje);
+
+        reposicionarIdentidade("categorias", categoriaBase + categorias);
+        reposicionarIdentidade("autores", autorBase + autores);
+        reposicionarIdentidade("livros", livroBase + livros);
+        reposicionarIdentidade("usuarios", usuarioBase + usuarios + 1);
+        reposicionarIdentidade("emprestimos", emprestimoBase + emprestimos);
+        reposicionarIdentidade("lancamentos_multa", lancamentoBase + totais[1]);
+
+        long estatisticas = estatisticaService.reconstruir(hoje.minusDays(diasHistorico), hoje);
+
+        logger.info("Dados sintéticos gerados em {} s: {} livros, {} autores, {} usuários, {} empréstimos, "
+                        + "{} lançamentos de multa, {} estatísticas diárias",
+                (System.nanoTime() - inicio) / 1_000_000_000, livros, autores, usuarios, emprestimos,
+                totais[1], estatisticas);
+    }
+
+    private void gerarCategorias(long base) {
+        Lote lote = new Lote("INSERT INTO categorias (id, nome, descricao) VALUES (?, ?, ?)");
+        for (int i = 0; i < categorias; i++) {
+            lote.adicionar(base + i, String.format("Sintética %03d", i + 1), "Categoria gerada para testes de carga");
+        }
+        lote.concluir("categorias");
+    }
+
+    private void gerarAutores(long base, SplittableRandom random) {
+        Lote lote = new Lote("INSERT INTO autores (id, nome, nacionalidade, data_nascimento) VALUES (?, ?, ?, ?)");
+        for (int i = 0; i < autores; i++) {
+            lote.adicionar(base + i, "Autor Sintético " + (i + 1),
+                    NACIONALIDADES.get(random.nextInt(NACIONALIDADES.size())),
+                    LocalDate.of(1900 + random.nextInt(100), 1 + random.nextInt(12), 1 + random.nextInt(28)));
+        }
+        lote.concluir("autores");
+    }
+
+    /**
+     * Insere os livros e as autorias; retorna a quantidade de exemplares por livro.
+     * O posto de popularidade k corresponde ao livro base + k - 1.
+     */
+    private byte[] gerarLivros(long base, long categoriaBase, long autorBase, SplittableRandom random, LocalDate hoje) {
+        byte[] exemplares = new byte[livros];
+        DistribuicaoZipf autoria = new DistribuicaoZipf(autores, 1.0, random.nextLong());
+
+        Lote lote = new Lote("INSERT INTO livros (id, titulo, isbn, ano_publicacao, editora, edicao, numero_paginas, "
+                + "sinopse, quantidade_total, quantidade_disponivel, data_cadastro, status, categoria_id) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 'DISPONIVEL', ?)");
+        Lote autorias = new Lote("INSERT INTO livro_autor (livro_id, autor_id) VALUES (?, ?)");
+
+        for (int i = 0; i < livros; i++) {
+            long id = base + i;
+            // Livros populares têm mais exemplares
+            int quantidade = i < livros / 100 ? 5 : 1 + random.nextInt(3);
+            exemplares[i] = (byte) quantidade;
+
+            lote.adicionar(id, titulo(random, i + 1), PREFIXO_ISBN + String.format("%012d", id),
+                    1950 + random.nextInt(75), "Editora " + (1 + random.nextInt(200)), "1ª",
+                    80 + random.nextInt(900), "Sinopse do livro sintético " + (i + 1),
+                    quantidade, quantidade, hoje.minusDays(random.nextInt(3650)),
+                    categoriaBase + random.nextInt(categorias));
+
+            int quantidadeAutores = 1 + (random.nextInt(10) < 8 ? 0 : 1 + random.nextInt(2));
+            long[] escolhidos = new long[quantidadeAutores];
+            for (int a = 0; a < quantidadeAutores; a++) {
+                long autorId = autorBase + autoria.proximo() - 1;
+                boolean repetido = false;
+                for (int b = 0; b < a; b++) {
+                    repetido |= escolhidos[b] == autorId;
+                }
+                if (!repetido) {
+                    escolhidos[a] = autorId;
+                    autorias.adicionar(id, autorId);
+                }
+            }
+        }
+        lote.concluir("livros");
+        autorias.concluir("autorias");
+        return exemplares;
+    }
+
+    private String titulo(SplittableRandom random, int numero) {
+        String primeira = VOCABULARIO.get(random.nextInt(VOCABULARIO.size()));
+        String segunda = VOCABULARIO.get(random.nextInt(VOCABULARIO.size()));
+        return "O " + primeira + " e o " + segunda + " " + numero;
+    }
+
+    private void gerarUsuarios(long base, SplittableRandom random, LocalDate hoje) {
+        // Mesmo hash para todos: codificar milhões de senhas levaria horas
+        String hash = passwordEncoder.encode(senha);
+        Lote lote = new Lote("INSERT INTO usuarios (id, nome, email, senha, role, ativo, data_cadastro) "
+                + "VALUES (?, ?, ?, ?, ?, TRUE, ?)");
+        for (int i = 0; i < usuarios; i++) {
+            lote.adicionar(base + i, "Leitor Sintético " + (i + 1), "leitor" + (i + 1) + DOMINIO_EMAIL, hash,
+                    "USER", hoje.minusDays(random.nextInt(diasHistorico + 365)).atStartOfDay());
+        }
+        lote.adicionar(base + usuarios, "Administrador de Carga", "admin" + DOMINIO_EMAIL, hash,
+                "ADMIN", LocalDateTime.now());
+        lote.concluir("usuários");
+    }
+
+    /**
+     * Insere os empréstimos e os lançamentos de multa; atualiza a
+     * disponibilidade dos livros emprestados, o saldo devedor e os totais dos leitores.
+     *
+     * @return {empréstimos ativos, lançamentos de multa}
+     */
+    private long[] gerarEmprestimos(long base, long lancamentoBase, long livroBase, long usuarioBase,
+                                    byte[] exemplares, SplittableRandom random, LocalDate hoje) {
+        DistribuicaoZipf popularidade = new DistribuicaoZipf(livros, zipfLivros, random.nextLong());
+        DistribuicaoZipf atividade = new DistribuicaoZipf(usuarios, zipfUsuarios, random.nextLong());
+        int[] emprestados = new int[livros];
+        long[] saldoCentavos = new long[usuarios];
+        long[] pagoCentavos = new long[usuarios];
+        int[] totalEmprestimos = new int[usuarios];
+        long ativos = 0;
+        long lancamentoId = lancamentoBase;
+
+        Lote lote = new Lote("INSERT INTO emprestimos (id, usuario_id, livro_id, data_emprestimo, "
+                + "data_prevista_devolucao, data_devolucao, status, multa, renovacoes) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)");
+        Lote lancamentos = new Lote("INSERT INTO lancamentos_multa (id, usuario_id, emprestimo_id, tipo, valor, "
+                + "data_lancamento, descricao) VALUES (?, ?, ?, ?, ?, ?, ?)");
+
+        for (int i = 0; i < emprestimos; i++) {
+            long id = base + i;
+            int usuario = atividade.proximo() - 1;
+            int livro = popularidade.proximo() - 1;
+            LocalDate dataEmprestimo = hoje.minusDays(random.nextInt(diasHistorico + 1));
+            LocalDate prevista = dataEmprestimo.plusDays(DIAS_EMPRESTIMO);
+            totalEmprestimos[usuario]++;
+
+            // Empréstimos em aberto (no prazo ou em atraso) ocupam um exemplar
+            boolean emAberto = !prevista.isBefore(hoje) || random.nextDouble() < taxaAtraso;
+            if (emAberto && emprestados[livro] < exemplares[livro]) {
+                emprestados[livro]++;
+                ativos++;
+                lote.adicionar(id, usuarioBase + usuario, livroBase + livro, dataEmprestimo, prevista,
+                        null, "ATIVO", null);
+                continue;
+            }
+
+            LocalDate devolucao;
+            BigDecimal multa = null;
+            if (random.nextDouble() < taxaDevolucaoAtrasada) {
+                int diasAtraso = 1 + random.nextInt(20);
+                devolucao = prevista.plusDays(diasAtraso);
+                multa = MULTA_POR_DIA.multiply(BigDecimal.valueOf(diasAtraso));
+            } else {
+                devolucao = dataEmprestimo.plusDays(1 + random.nextInt(DIAS_EMPRESTIMO));
+            }
+            if (devolucao.isAfter(hoje)) {
+                devolucao = hoje;
+            }
+            lote.adicionar(id, usuarioBase + usuario, livroBase + livro, dataEmprestimo, prevista,
+                    devolucao, "DEVOLVIDO", multa);
+
+            if (multa != null) {
+                lancamentos.adicionar(lancamentoId++, usuarioBase + usuario, id, "MULTA", multa,
+                        devolucao.atStartOfDay(), "Multa por atraso: livro sintético " + (livro + 1));
+                if (random.nextDouble() < taxaPagamento) {
+                    lancamentos.adicionar(lancamentoId++, usuarioBase + usuario, null, "PAGAMENTO", multa,
+                            devolucao.plusDays(random.nextInt(30)).atStartOfDay(), "Pagamento de multa");
+                    pagoCentavos[usuario] += multa.movePointRight(2).longValueExact();
+                } else {
+                    saldoCentavos[usuario] += multa.movePointRight(2).longValueExact();
+                }
+            }
+        }
+        lote.concluir("empréstimos");
+        lancamentos.concluir("lançamentos de multa");
+
+        Lote disponibilidade = new Lote("UPDATE livros SET quantidade_disponivel = quantidade_total - ?, "
+                + "status = CASE WHEN quantidade_total - ? > 0 THEN 'DISPONIVEL' ELSE 'INDISPONIVEL' END WHERE id = ?");
+        for (int i = 0; i < livros; i++) {
+            if (emprestados[i] > 0) {
+                disponibilidade.adicionar(emprestados[i], emprestados[i], livroBase + i);
+            }
+        }
+        disponibilidade.concluir("livros emprestados");
+
+        Lote saldos = new Lote("UPDATE usuarios SET saldo_devedor = ?, total_emprestimos = ?, "
+                + "total_multas_pagas = ? WHERE id = ?");
+        for (int i = 0; i < usuarios; i++) {
+            if (totalEmprestimos[i] > 0) {
+                saldos.adicionar(BigDecimal.valueOf(saldoCentavos[i], 2), totalEmprestimos[i],
+                        BigDecimal.valueOf(pagoCentavos[i], 2), usuarioBase + i);
+            }
+        }
+        saldos.concluir("saldos e totais dos leitores");
+
+        return new long[]{ativos, lancamentoId - lancamentoBase};
+    }
+
+    private long proximoId(String tabela) {
+        Long maior = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + tabela, Long.class);
+        return maior == null ? 1 : maior + 1;
+    }
+
+    /**
+     * Ids explícitos não avançam a identidade; a sintaxe vale para H2 e PostgreSQL.
+     */
+    private void reposicionarIdentidade(String tabela, long proximo) {
+        jdbcTemplate.execute("ALTER TABLE " + tabela + " ALTER COLUMN id RESTART WITH " + proximo);
+    }
+
+    /**
+     * Acumula linhas e as envia em batch a cada biblioteca.carga.lote linhas.
+     */
+    private final class Lote {
+
+        private final String sql;
+        private final List<Object[]> linhas = new ArrayList<>(tamanhoLote);
+        private final long inicio = System.nanoTime();
+        private long total;
+
+        Lote(String sql) {
+            this.sql = sql;
+        }
+
+        void adicionar(Object... valores) {
+            linhas.add(valores);
+            if (linhas.size() >= tamanhoLote) {
+                enviar();
+            }
+        }
+
+        void concluir(String descricao) {
+            enviar();
+            logger.info("Carga: {} {} em {} ms", total, descricao, (System.nanoTime() - inicio) / 1_000_000);
+        }
+
+        private void enviar() {
+            if (!linhas.isEmpty()) {
+                jdbcTemplate.batchUpdate(sql, linhas);
+                total += linhas.size();
+                linhas.clear();
+            }
+        }
+    }
+}
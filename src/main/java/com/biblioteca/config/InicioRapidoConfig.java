@@ -0,0 +1,50 @@
+package com.biblioteca.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Perfil de inicialização rápida (inicio-rapido), usado com prod.
+ *
+ * Com spring.main.lazy-initialization os beans são criados no primeiro uso;
+ * os que têm tarefas @Scheduled continuam sendo criados na subida, senão as
+ * tarefas (e o ConfigurationManager) só seriam registradas no primeiro acesso.
+ * O arquivo AppCDS e a medição da subida ficam no perfil Maven inicio-rapido.
+ */
+@Configuration
+@Profile("inicio-rapido")
+public class InicioRapidoConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter tarefasAgendadasNaSubida() {
+        return (beanName, definicao, tipo) -> tipo != null && possuiTarefaAgendada(tipo);
+    }
+
+    private static boolean possuiTarefaAgendada(Class<?> tipo) {
+        if (!AnnotationUtils.isCandidateClass(tipo, Scheduled.class)) {
+            return false;
+        }
+        return !MethodIntrospector.selectMethods(tipo, (MethodIntrospector.MetadataLookup<Scheduled>) metodo ->
+                AnnotatedElementUtils.findMergedAnnotation(metodo, Scheduled.class)).isEmpty();
+    }
+
+    /**
+     * Encerra a aplicação logo após a subida: execução de treino do arquivo
+     * AppCDS (-XX:ArchiveClassesAtExit) e medição do tempo de inicialização.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "biblioteca.inicio.encerrar-apos-inicio", havingValue = "true")
+    ApplicationListener<ApplicationReadyEvent> encerrarAposInicio() {
+        return evento -> System.exit(SpringApplication.exit(evento.getApplicationContext()));
+    }
+}
@@ -0,0 +1,39 @@
+package com.biblioteca.config;
+
+import com.biblioteca.metrics.ContadorConsultas;
+import com.biblioteca.metrics.OrcamentoConsultasInterceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Detecção de requisições que excedem o orçamento de comandos SQL (N+1).
+ *
+ * Registra o {@link ContadorConsultas} como StatementInspector do Hibernate
+ * e o interceptor que mede cada requisição. Desative com
+ * biblioteca.consultas.ativo=false.
+ */
+@Configuration
+@ConditionalOnProperty(name = "biblioteca.consultas.ativo", havingValue = "true", matchIfMissing = true)
+public class OrcamentoConsultasConfig implements WebMvcConfigurer {
+
+    private final OrcamentoConsultasInterceptor interceptor;
+
+    public OrcamentoConsultasConfig(OrcamentoConsultasInterceptor interceptor) {
+        this.interceptor = interceptor;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer contadorConsultasCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new ContadorConsultas());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(interceptor);
+    }
+}
@@ -1,11 +1,16 @@
 package com.biblioteca.config;
 
+import com.biblioteca.metrics.AutenticacaoMedida;
 import com.biblioteca.service.impl.UserDetailsServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -52,6 +57,9 @@ public class SecurityConfig {
                 // Administração - apenas ADMIN
                 .requestMatchers(new AntPathRequestMatcher("/admin/**")).hasRole("ADMIN")
                 .requestMatchers(new AntPathRequestMatcher("/api/admin/**")).hasRole("ADMIN")
+                // Actuator: health público; métricas (Prometheus) apenas ADMIN, via HTTP Basic
+                .requestMatchers(new AntPathRequestMatcher("/actuator/health/**")).permitAll()
+                .requestMatchers(new AntPathRequestMatcher("/actuator/**")).hasRole("ADMIN")
                 // Demais requisições precisam de autenticação
                 .anyRequest().authenticated()
             )
@@ -64,6 +72,8 @@ public class SecurityConfig {
                 .passwordParameter("senha")
                 .permitAll()
             )
+            // Usado pelo coletor do Prometheus; navegadores continuam no formulário
+            .httpBasic(Customizer.withDefaults())
             .logout(logout -> logout
                 .logoutRequestMatcher(new AntPathRequestMatcher("/logout"))
                 .logoutSuccessUrl("/login?logout=true")
@@ -74,10 +84,11 @@ public class SecurityConfig {
             .exceptionHandling(ex -> ex
                 .accessDeniedPage("/access-denied")
             )
-            // Para o H2 Console funcionar
+            // Para o H2 Console funcionar. Na API, só requisições com HTTP Basic
+            // dispensam o token: a sessão do navegador não autentica sem ele
             .csrf(csrf -> csrf
                 .ignoringRequestMatchers(new AntPathRequestMatcher("/h2-console/**"))
-                .ignoringRequestMatchers(new AntPathRequestMatcher("/api/**"))
+                .ignoringRequestMatchers(SecurityConfig::autenticacaoBasic)
             )
             .headers(headers -> headers
                 .frameOptions(frame -> frame.sameOrigin())
@@ -86,12 +97,20 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * Requisição com credenciais HTTP Basic no cabeçalho (clientes sem sessão).
+     */
+    private static boolean autenticacaoBasic(HttpServletRequest request) {
+        String autorizacao = request.getHeader(HttpHeaders.AUTHORIZATION);
+        return autorizacao != null && autorizacao.regionMatches(true, 0, "Basic ", 0, 6);
+    }
+
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(MeterRegistry meterRegistry) {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
         provider.setUserDetailsService(userDetailsService);
         provider.setPasswordEncoder(passwordEncoder());
-        return provider;
+        return new AutenticacaoMedida(provider, meterRegistry);
     }
 
     @Bean
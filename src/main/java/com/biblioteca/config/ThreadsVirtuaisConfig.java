@@ -0,0 +1,119 @@
+package com.biblioteca.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import javax.sql.DataSource;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Execução em threads virtuais (opcional): biblioteca.execucao.threads-virtuais=true.
+ *
+ * Requisições do Tomcat, processamento assíncrono do MVC (exportações) e tarefas
+ * agendadas passam a rodar em threads virtuais, de modo que chamadas JDBC e
+ * relatórios bloqueantes não esgotem um pool fixo de threads. As conexões em uso
+ * ficam limitadas ao tamanho do pool (ver {@link ConexoesLimitadasDataSource}).
+ * Os executores próprios de relatórios e recomendações continuam limitados.
+ *
+ * O projeto compila para Java 17: as threads virtuais são obtidas por reflexão
+ * e a aplicação não sobe com a opção ativa em JVM anterior à 21.
+ */
+@Configuration
+@ConditionalOnProperty(name = "biblioteca.execucao.threads-virtuais", havingValue = "true")
+@Slf4j
+public class ThreadsVirtuaisConfig {
+
+    private static final long ESPERA_CONEXAO_PADRAO_MS = 30_000;
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> threadsVirtuaisTomcat() {
+        Executor executor = porTarefa(criarFabrica("http-virtual-"));
+        log.info("Requisições HTTP em threads virtuais");
+        return protocolHandler -> protocolHandler.setExecutor(executor);
+    }
+
+    /**
+     * Substitui o executor padrão (processamento assíncrono do MVC e @Async).
+     */
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(porTarefa(criarFabrica("tarefa-virtual-")));
+    }
+
+    /**
+     * Agendador das tarefas @Scheduled com workers virtuais.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2);
+        scheduler.setThreadFactory(criarFabrica("agendada-virtual-"));
+        return scheduler;
+    }
+
+    @Bean
+    public static BeanPostProcessor limiteConexoesPostProcessor(Environment ambiente) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConexoesLimitadasDataSource) {
+                    return bean;
+                }
+                int maxConexoes;
+                long esperaMs;
+                if (bean instanceof HikariDataSource hikari) {
+                    maxConexoes = hikari.getMaximumPoolSize();
+                    esperaMs = hikari.getConnectionTimeout();
+                } else {
+                    maxConexoes = ambiente.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+                    esperaMs = ESPERA_CONEXAO_PADRAO_MS;
+                }
+                log.info("Conexões simultâneas limitadas a {} (espera máxima {} ms)", maxConexoes, esperaMs);
+                return new ConexoesLimitadasDataSource(dataSource, maxConexoes, esperaMs);
+            }
+        };
+    }
+
+    /**
+     * Uma thread nova por tarefa (threads virtuais não são reaproveitadas em pool).
+     */
+    private static Executor porTarefa(ThreadFactory fabrica) {
+        return tarefa -> fabrica.newThread(tarefa).start();
+    }
+
+    /**
+     * Equivalente a Thread.ofVirtual().name(prefixo, 0).factory(), disponível a partir do Java 21.
+     */
+    private static ThreadFactory criarFabrica(String prefixo) {
+        try {
+            Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            MethodHandle ofVirtual = lookup.findStatic(Thread.class, "ofVirtual",
+                    MethodType.methodType(Class.forName("java.lang.Thread$Builder$OfVirtual")));
+            MethodHandle nome = lookup.findVirtual(builder, "name",
+                    MethodType.methodType(builder, String.class, long.class));
+            MethodHandle fabrica = lookup.findVirtual(builder, "factory", MethodType.methodType(ThreadFactory.class));
+
+            Object virtual = ofVirtual.invoke();
+            return (ThreadFactory) fabrica.invoke(nome.invoke(virtual, prefixo, 0L));
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("biblioteca.execucao.threads-virtuais requer Java 21 ou superior (atual: "
+                    + Runtime.version() + ")", e);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Falha ao criar threads virtuais", e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.biblioteca.controller.api;
+
+import com.biblioteca.exception.BusinessException;
+import com.biblioteca.pattern.singleton.ConfigurationManager;
+import com.biblioteca.pattern.singleton.ConfiguracaoEmprestimo;
+import com.biblioteca.pattern.strategy.MultaCalculator;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Set;
+
+/**
+ * Controller REST para consulta e recarga das regras de empréstimo.
+ */
+@RestController
+@RequestMapping("/api/admin/configuracao")
+public class ConfiguracaoApiController {
+
+    private final ConfigurationManager configurationManager;
+    private final MultaCalculator multaCalculator;
+
+    public ConfiguracaoApiController(ConfigurationManager configurationManager,
+                                     MultaCalculator multaCalculator) {
+        this.configurationManager = configurationManager;
+        this.multaCalculator = multaCalculator;
+    }
+
+    @GetMapping
+    public ConfiguracaoEmprestimo atual() {
+        return configurationManager.getConfiguracao();
+    }
+
+    @PostMapping("/recarregar")
+    public ConfiguracaoEmprestimo recarregar() {
+        configurationManager.recarregar();
+        return configurationManager.getConfiguracao();
+    }
+
+    /**
+     * Descarta as alterações feitas em execução (como a troca da estratégia
+     * de multa), voltando aos valores do arquivo e das propriedades.
+     */
+    @DeleteMapping("/ajustes")
+    public ConfiguracaoEmprestimo descartarAjustes() {
+        configurationManager.resetToDefaults();
+        return configurationManager.getConfiguracao();
+    }
+
+    @GetMapping("/multa/estrategias")
+    public Set<String> estrategiasMulta() {
+        return multaCalculator.getNomesEstrategias();
+    }
+
+    /**
+     * Troca a estratégia de multa ativa; o novo retrato passa a valer
+     * para as próximas devoluções, relatórios e exportações. A troca
+     * prevalece sobre o arquivo nas recargas, até DELETE /ajustes.
+     */
+    @PutMapping("/multa")
+    public ConfiguracaoEmprestimo ativarEstrategiaMulta(@RequestParam String estrategia) {
+        try {
+            multaCalculator.ativar(estrategia);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(e.getMessage());
+        }
+        return configurationManager.getConfiguracao();
+    }
+}
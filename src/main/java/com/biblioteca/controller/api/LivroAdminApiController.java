@@ -0,0 +1,32 @@
+package com.biblioteca.controller.api;
+
+import com.biblioteca.model.dto.DescarteLivrosDTO;
+import com.biblioteca.service.LivroService;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Controller REST para operações administrativas em lote sobre o acervo.
+ */
+@RestController
+@RequestMapping("/api/admin/livros")
+public class LivroAdminApiController {
+
+    private final LivroService livroService;
+
+    public LivroAdminApiController(LivroService livroService) {
+        this.livroService = livroService;
+    }
+
+    /**
+     * Descarta os livros informados (lista de ids no corpo da requisição).
+     */
+    @PostMapping("/descarte")
+    public DescarteLivrosDTO descartar(@RequestBody List<Long> ids) {
+        return livroService.descartar(ids);
+    }
+}
@@ -0,0 +1,33 @@
+package com.biblioteca.controller.api;
+
+import com.biblioteca.model.dto.SugestaoDTO;
+import com.biblioteca.service.LivroService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Controller REST de consultas ao acervo para usuários autenticados.
+ */
+@RestController
+@RequestMapping("/api/livros")
+public class LivroApiController {
+
+    private final LivroService livroService;
+
+    public LivroApiController(LivroService livroService) {
+        this.livroService = livroService;
+    }
+
+    /**
+     * Livros disponíveis por prefixo do título ou do ISBN (formulário de empréstimo).
+     */
+    @GetMapping("/disponiveis/busca")
+    public List<SugestaoDTO> buscarDisponiveis(@RequestParam("q") String termo,
+                                               @RequestParam(defaultValue = "10") int limite) {
+        return livroService.sugerirDisponiveis(termo, limite);
+    }
+}
@@ -0,0 +1,32 @@
+package com.biblioteca.controller.api;
+
+import com.biblioteca.model.dto.RankingLivroDTO;
+import com.biblioteca.model.entity.RankingLivro;
+import com.biblioteca.service.RankingService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Controller REST para o ranking de livros mais emprestados.
+ */
+@RestController
+@RequestMapping("/api/ranking")
+public class RankingApiController {
+
+    private final RankingService rankingService;
+
+    public RankingApiController(RankingService rankingService) {
+        this.rankingService = rankingService;
+    }
+
+    @GetMapping("/livros")
+    public List<RankingLivroDTO> livrosMaisEmprestados(
+            @RequestParam(defaultValue = "SEMANA") RankingLivro.Janela janela,
+            @RequestParam(defaultValue = "10") int limite) {
+        return rankingService.obterRanking(janela, limite);
+    }
+}
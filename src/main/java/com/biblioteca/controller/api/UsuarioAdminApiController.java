@@ -0,0 +1,33 @@
+package com.biblioteca.controller.api;
+
+import com.biblioteca.model.dto.SugestaoDTO;
+import com.biblioteca.service.UsuarioService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Controller REST de consultas a usuários (apenas ADMIN).
+ */
+@RestController
+@RequestMapping("/api/admin/usuarios")
+public class UsuarioAdminApiController {
+
+    private final UsuarioService usuarioService;
+
+    public UsuarioAdminApiController(UsuarioService usuarioService) {
+        this.usuarioService = usuarioService;
+    }
+
+    /**
+     * Usuários ativos por prefixo do nome ou do e-mail (formulário de empréstimo).
+     */
+    @GetMapping("/busca")
+    public List<SugestaoDTO> buscar(@RequestParam("q") String termo,
+                                    @RequestParam(defaultValue = "10") int limite) {
+        return usuarioService.sugerir(termo, limite);
+    }
+}
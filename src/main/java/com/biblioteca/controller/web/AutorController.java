@@ -4,6 +4,8 @@ import com.biblioteca.model.dto.AutorDTO;
 import com.biblioteca.service.AutorService;
 import com.biblioteca.service.LivroService;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -33,11 +35,12 @@ public class AutorController {
     }
 
     @GetMapping("/{id}")
-    public String detalhes(@PathVariable Long id, Model model) {
+    public String detalhes(@PathVariable Long id, Model model,
+                           @PageableDefault(size = 12, sort = "titulo") Pageable pageable) {
         return autorService.buscarPorId(id)
                 .map(autor -> {
                     model.addAttribute("autor", autor);
-                    model.addAttribute("livros", livroService.buscarPorAutor(id));
+                    model.addAttribute("livros", livroService.buscarPorAutor(id, pageable));
                     return "autores/detalhes";
                 })
                 .orElse("redirect:/autores");
@@ -4,6 +4,8 @@ import com.biblioteca.model.dto.CategoriaDTO;
 import com.biblioteca.service.CategoriaService;
 import com.biblioteca.service.LivroService;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -33,11 +35,12 @@ public class CategoriaController {
     }
 
     @GetMapping("/{id}")
-    public String detalhes(@PathVariable Long id, Model model) {
+    public String detalhes(@PathVariable Long id, Model model,
+                           @PageableDefault(size = 12, sort = "titulo") Pageable pageable) {
         return categoriaService.buscarPorId(id)
                 .map(categoria -> {
                     model.addAttribute("categoria", categoria);
-                    model.addAttribute("livros", livroService.buscarPorCategoria(id));
+                    model.addAttribute("livros", livroService.buscarPorCategoria(id, pageable));
                     return "categorias/detalhes";
                 })
                 .orElse("redirect:/categorias");
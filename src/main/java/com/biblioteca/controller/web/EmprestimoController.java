@@ -1,10 +1,14 @@
 package com.biblioteca.controller.web;
 
 import com.biblioteca.model.dto.EmprestimoDTO;
+import com.biblioteca.model.dto.FiltroEmprestimoDTO;
 import com.biblioteca.model.entity.Usuario;
+import com.biblioteca.pattern.policy.PoliticaEmprestimoResolver;
 import com.biblioteca.service.EmprestimoService;
 import com.biblioteca.service.LivroService;
 import com.biblioteca.service.UsuarioService;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
@@ -12,8 +16,6 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.util.List;
-
 /**
  * Controller Web para gerenciamento de Empréstimos.
  */
@@ -23,20 +25,25 @@ public class EmprestimoController {
 
     private final EmprestimoService emprestimoService;
     private final LivroService livroService;
+    private final PoliticaEmprestimoResolver politicaResolver;
     private final UsuarioService usuarioService;
 
     public EmprestimoController(EmprestimoService emprestimoService,
                                LivroService livroService,
+                               PoliticaEmprestimoResolver politicaResolver,
                                UsuarioService usuarioService) {
         this.emprestimoService = emprestimoService;
         this.livroService = livroService;
+        this.politicaResolver = politicaResolver;
         this.usuarioService = usuarioService;
     }
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public String listarTodos(Model model) {
-        model.addAttribute("emprestimos", emprestimoService.listarTodos());
+    public String listarTodos(@ModelAttribute("filtro") FiltroEmprestimoDTO filtro,
+                              @PageableDefault(size = 20) Pageable pageable,
+                              Model model) {
+        model.addAttribute("emprestimos", emprestimoService.buscar(filtro, pageable));
         return "emprestimos/lista";
     }
 
@@ -55,9 +62,14 @@ public class EmprestimoController {
     }
 
     @GetMapping("/meus")
-    public String meusEmprestimos(Model model, @AuthenticationPrincipal Usuario usuario) {
-        List<EmprestimoDTO> emprestimos = emprestimoService.listarPorUsuario(usuario.getId());
-        model.addAttribute("emprestimos", emprestimos);
+    public String meusEmprestimos(@PageableDefault(size = 20) Pageable pageable,
+                                  Model model, @AuthenticationPrincipal Usuario usuario) {
+        model.addAttribute("emprestimos", emprestimoService.listarHistorico(usuario.getId(), pageable));
+        // Saldo e totais lidos da linha do usuário (o principal da sessão pode estar desatualizado)
+        usuarioService.buscarPorId(usuario.getId()).ifPresent(leitor -> {
+            model.addAttribute("leitor", leitor);
+            model.addAttribute("saldoDevedor", leitor.getSaldoDevedor());
+        });
         return "emprestimos/meus-emprestimos";
     }
 
@@ -70,13 +82,11 @@ public class EmprestimoController {
             livroService.buscarPorId(livroId).ifPresent(livro -> model.addAttribute("livro", livro));
         }
         
-        // Admin pode escolher usuário e ver todos os livros
-        if (usuarioLogado.getRole() == Usuario.Role.ADMIN) {
-            model.addAttribute("usuarios", usuarioService.listarTodos());
-            model.addAttribute("livros", livroService.listarDisponiveis());
-        }
+        // Usuário e livro são escolhidos por busca incremental (/api/admin/usuarios/busca,
+        // /api/livros/disponiveis/busca), sem carregar as listas completas
         
         model.addAttribute("usuarioLogado", usuarioLogado);
+        model.addAttribute("politica", politicaResolver.resolver(usuarioLogado));
         return "emprestimos/form";
     }
 
@@ -165,17 +175,13 @@ public class EmprestimoController {
 
     @GetMapping("/ativos")
     @PreAuthorize("hasRole('ADMIN')")
-    public String listarAtivos(Model model) {
-        model.addAttribute("emprestimos", emprestimoService.listarAtivos());
-        model.addAttribute("titulo", "Empréstimos Ativos");
-        return "emprestimos/lista";
+    public String listarAtivos() {
+        return "redirect:/emprestimos?status=ATIVO";
     }
 
     @GetMapping("/atrasados")
     @PreAuthorize("hasRole('ADMIN')")
-    public String listarAtrasados(Model model) {
-        model.addAttribute("emprestimos", emprestimoService.listarAtrasados());
-        model.addAttribute("titulo", "Empréstimos Atrasados");
-        return "emprestimos/lista";
+    public String listarAtrasados() {
+        return "redirect:/emprestimos?status=ATRASADO";
     }
 }
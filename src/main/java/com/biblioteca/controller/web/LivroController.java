@@ -4,6 +4,8 @@ import com.biblioteca.model.dto.LivroDTO;
 import com.biblioteca.service.AutorService;
 import com.biblioteca.service.CategoriaService;
 import com.biblioteca.service.LivroService;
+import com.biblioteca.service.RecomendacaoService;
+import com.biblioteca.service.ReservaService;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -25,13 +27,19 @@ public class LivroController {
     private final LivroService livroService;
     private final CategoriaService categoriaService;
     private final AutorService autorService;
+    private final RecomendacaoService recomendacaoService;
+    private final ReservaService reservaService;
 
     public LivroController(LivroService livroService, 
                           CategoriaService categoriaService,
-                          AutorService autorService) {
+                          AutorService autorService,
+                          RecomendacaoService recomendacaoService,
+                          ReservaService reservaService) {
         this.livroService = livroService;
         this.categoriaService = categoriaService;
         this.autorService = autorService;
+        this.recomendacaoService = recomendacaoService;
+        this.reservaService = reservaService;
     }
 
     @GetMapping
@@ -56,6 +64,8 @@ public class LivroController {
         return livroService.buscarPorId(id)
                 .map(livro -> {
                     model.addAttribute("livro", livro);
+                    model.addAttribute("recomendacoes", recomendacaoService.recomendar(id, 6));
+                    model.addAttribute("filaReservas", reservaService.contarFila(id));
                     return "livros/detalhes";
                 })
                 .orElse("redirect:/livros");
@@ -1,21 +1,44 @@
 package com.biblioteca.controller.web;
 
+import com.biblioteca.exception.BusinessException;
 import com.biblioteca.model.dto.DashboardDTO;
+import com.biblioteca.model.dto.RelatorioJobDTO;
 import com.biblioteca.service.DashboardService;
+import com.biblioteca.service.EstatisticaCirculacaoService;
+import com.biblioteca.service.ExportacaoService;
+import com.biblioteca.service.RelatorioJobService;
 import com.biblioteca.service.ReportService;
+import com.biblioteca.util.CompressaoUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Controller para geração e download de relatórios PDF
+ * 
+ * Além da geração síncrona, permite agendar relatórios grandes como jobs
+ * assíncronos e baixá-los quando prontos (com suporte a Range), e exportar
+ * os dados em CSV/NDJSON por streaming.
  */
 @Controller
 @RequestMapping("/relatorios")
@@ -25,6 +48,9 @@ public class ReportController {
     
     private final ReportService reportService;
     private final DashboardService dashboardService;
+    private final RelatorioJobService relatorioJobService;
+    private final ExportacaoService exportacaoService;
+    private final EstatisticaCirculacaoService estatisticaService;
     
     @GetMapping("/livros")
     public ResponseEntity<byte[]> relatorioLivros() {
@@ -57,6 +83,98 @@ public class ReportController {
         return createPdfResponse(baos, "relatorio-dashboard.pdf");
     }
     
+    @PostMapping("/jobs")
+    public ResponseEntity<RelatorioJobDTO> submeterJob(@RequestParam ReportService.TipoRelatorio tipo) {
+        RelatorioJobDTO job = relatorioJobService.submeter(tipo);
+        return ResponseEntity.accepted()
+                .location(URI.create("/relatorios/jobs/" + job.getId()))
+                .body(job);
+    }
+    
+    @GetMapping("/jobs/{id}")
+    public ResponseEntity<RelatorioJobDTO> statusJob(@PathVariable String id) {
+        return relatorioJobService.buscarPorId(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    @GetMapping("/jobs/{id}/download")
+    public ResponseEntity<Resource> downloadJob(@PathVariable String id) {
+        RelatorioJobDTO job = relatorioJobService.buscarPorId(id).orElse(null);
+        if (job == null) {
+            return ResponseEntity.notFound().build();
+        }
+        
+        // Ainda em geração (ou falhou): cliente deve consultar o status
+        return relatorioJobService.obterArquivo(id)
+                .map(arquivo -> {
+                    HttpHeaders headers = new HttpHeaders();
+                    headers.setContentType(MediaType.APPLICATION_PDF);
+                    headers.setContentDispositionFormData("attachment", job.getTipo().getNomeArquivo() + ".pdf");
+                    headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+                    headers.setETag("\"" + id + "\"");
+                    
+                    // Respostas com Resource tratam o cabeçalho Range (206 Partial Content)
+                    return ResponseEntity.ok()
+                            .headers(headers)
+                            .<Resource>body(new FileSystemResource(arquivo));
+                })
+                .orElse(ResponseEntity.status(HttpStatus.CONFLICT).build());
+    }
+    
+    @GetMapping("/exportar/{tipo}")
+    public ResponseEntity<StreamingResponseBody> exportar(
+            @PathVariable ReportService.TipoRelatorio tipo,
+            @RequestParam(defaultValue = "CSV") ExportacaoService.FormatoExportacao formato,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        
+        // Validado antes do streaming: depois do primeiro byte o status não pode mudar
+        if (tipo == ReportService.TipoRelatorio.DASHBOARD) {
+            throw new BusinessException("Relatório de dashboard disponível apenas em PDF");
+        }
+        
+        boolean gzip = CompressaoUtil.aceitaGzip(acceptEncoding);
+        
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(formato.getContentType() + ";charset=UTF-8"));
+        headers.setContentDispositionFormData("attachment", tipo.getNomeArquivo() + "." + formato.getExtensao());
+        headers.set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        
+        // Escrito em thread assíncrona diretamente na resposta, sem buffer intermediário
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8 * 1024);
+                exportacaoService.exportar(tipo, formato, gzipOut);
+                gzipOut.finish();
+            } else {
+                exportacaoService.exportar(tipo, formato, out);
+            }
+        };
+        
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(body);
+    }
+    
+    @PostMapping("/estatisticas/reconstruir")
+    public String reconstruirEstatisticas(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate inicio,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fim,
+            RedirectAttributes redirectAttributes) {
+        
+        if (estatisticaService.iniciarReconstrucao(inicio, fim)) {
+            redirectAttributes.addFlashAttribute("mensagem",
+                    "Reconstrução das estatísticas de circulação iniciada em segundo plano.");
+        } else {
+            redirectAttributes.addFlashAttribute("erro",
+                    "Já existe uma reconstrução das estatísticas em andamento.");
+        }
+        return "redirect:/dashboard";
+    }
+    
     private ResponseEntity<byte[]> createPdfResponse(ByteArrayOutputStream baos, String filename) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_PDF);
@@ -0,0 +1,57 @@
+package com.biblioteca.controller.web;
+
+import com.biblioteca.model.dto.ReservaDTO;
+import com.biblioteca.model.entity.Usuario;
+import com.biblioteca.service.ReservaService;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+
+/**
+ * Controller Web para reservas de livros indisponíveis.
+ */
+@Controller
+@RequestMapping("/reservas")
+public class ReservaController {
+
+    private final ReservaService reservaService;
+
+    public ReservaController(ReservaService reservaService) {
+        this.reservaService = reservaService;
+    }
+
+    @GetMapping("/minhas")
+    public String minhasReservas(Model model, @AuthenticationPrincipal Usuario usuario) {
+        model.addAttribute("reservas", reservaService.listarPorUsuario(usuario.getId()));
+        return "reservas/minhas";
+    }
+
+    @PostMapping("/livro/{livroId}")
+    public String reservar(@PathVariable Long livroId,
+                           @AuthenticationPrincipal Usuario usuario,
+                           RedirectAttributes redirectAttributes) {
+        try {
+            ReservaDTO reserva = reservaService.reservar(usuario.getId(), livroId);
+            redirectAttributes.addFlashAttribute("mensagem",
+                    "Reserva realizada! Sua posição na fila: " + reserva.getPosicaoFila());
+        } catch (Exception e) {
+            redirectAttributes.addFlashAttribute("erro", e.getMessage());
+        }
+        return "redirect:/reservas/minhas";
+    }
+
+    @PostMapping("/{id}/cancelar")
+    public String cancelar(@PathVariable Long id,
+                           @AuthenticationPrincipal Usuario usuario,
+                           RedirectAttributes redirectAttributes) {
+        try {
+            reservaService.cancelar(id, usuario.getId());
+            redirectAttributes.addFlashAttribute("mensagem", "Reserva cancelada com sucesso!");
+        } catch (Exception e) {
+            redirectAttributes.addFlashAttribute("erro", e.getMessage());
+        }
+        return "redirect:/reservas/minhas";
+    }
+}
@@ -2,8 +2,12 @@ package com.biblioteca.controller.web;
 
 import com.biblioteca.model.dto.UsuarioDTO;
 import com.biblioteca.model.entity.Usuario;
+import com.biblioteca.service.EmprestimoService;
+import com.biblioteca.service.MultaService;
 import com.biblioteca.service.UsuarioService;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -11,6 +15,8 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.math.BigDecimal;
+
 /**
  * Controller Web para gerenciamento de Usuários (Admin).
  */
@@ -20,27 +26,56 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 public class UsuarioController {
 
     private final UsuarioService usuarioService;
+    private final MultaService multaService;
+    private final EmprestimoService emprestimoService;
 
-    public UsuarioController(UsuarioService usuarioService) {
+    public UsuarioController(UsuarioService usuarioService, MultaService multaService,
+                             EmprestimoService emprestimoService) {
         this.usuarioService = usuarioService;
+        this.multaService = multaService;
+        this.emprestimoService = emprestimoService;
     }
 
     @GetMapping
-    public String listar(Model model) {
-        model.addAttribute("usuarios", usuarioService.listarTodos());
+    public String listar(@RequestParam(required = false) String termo,
+                         @RequestParam(required = false) Usuario.Role role,
+                         @RequestParam(required = false) Boolean ativo,
+                         @PageableDefault(size = 20) Pageable pageable,
+                         Model model) {
+        model.addAttribute("usuarios", usuarioService.buscar(termo, role, ativo, pageable));
+        model.addAttribute("termo", termo);
+        model.addAttribute("role", role);
+        model.addAttribute("ativo", ativo);
         return "admin/usuarios/lista";
     }
 
     @GetMapping("/{id}")
-    public String detalhes(@PathVariable Long id, Model model) {
+    public String detalhes(@PathVariable Long id,
+                           @PageableDefault(size = 20) Pageable pageable,
+                           Model model) {
         return usuarioService.buscarPorId(id)
                 .map(usuario -> {
                     model.addAttribute("usuario", usuario);
+                    model.addAttribute("extrato", multaService.listarExtrato(id));
+                    model.addAttribute("emprestimos", emprestimoService.listarHistorico(id, pageable));
                     return "admin/usuarios/detalhes";
                 })
                 .orElse("redirect:/admin/usuarios");
     }
 
+    @PostMapping("/{id}/pagamentos")
+    public String registrarPagamento(@PathVariable Long id,
+                                     @RequestParam BigDecimal valor,
+                                     RedirectAttributes redirectAttributes) {
+        try {
+            multaService.registrarPagamento(id, valor);
+            redirectAttributes.addFlashAttribute("mensagem", "Pagamento registrado com sucesso!");
+        } catch (Exception e) {
+            redirectAttributes.addFlashAttribute("erro", e.getMessage());
+        }
+        return "redirect:/admin/usuarios/" + id;
+    }
+
     @GetMapping("/novo")
     public String novo(Model model) {
         model.addAttribute("usuario", new UsuarioDTO());
@@ -0,0 +1,53 @@
+package com.biblioteca.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+
+/**
+ * Decorador de {@link AuthenticationProvider} que mede o login.
+ *
+ * O timer {@code biblioteca.login} inclui a consulta do usuário e a
+ * verificação do hash BCrypt, a parte mais cara da autenticação; a tag
+ * {@code resultado} separa sucessos de falhas.
+ */
+public class AutenticacaoMedida implements AuthenticationProvider {
+
+    private final AuthenticationProvider delegate;
+    private final Timer sucesso;
+    private final Timer falha;
+
+    public AutenticacaoMedida(AuthenticationProvider delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.sucesso = timer(registry, "sucesso");
+        this.falha = timer(registry, "falha");
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        Timer.Sample amostra = Timer.start();
+        try {
+            Authentication resultado = delegate.authenticate(authentication);
+            amostra.stop(sucesso);
+            return resultado;
+        } catch (AuthenticationException e) {
+            amostra.stop(falha);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+
+    private static Timer timer(MeterRegistry registry, String resultado) {
+        return Timer.builder("biblioteca.login")
+                .description("Tempo de autenticação")
+                .tag("resultado", resultado)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
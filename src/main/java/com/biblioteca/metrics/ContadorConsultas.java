@@ -0,0 +1,148 @@
+package com.biblioteca.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Conta os comandos SQL preparados pelo Hibernate na thread corrente.
+ *
+ * Registrado como {@link StatementInspector}: cada comando é contado e
+ * agrupado pelo seu formato (SQL com listas de parâmetros e espaços
+ * normalizados), o que evidencia consultas N+1 — o mesmo formato repetido
+ * dezenas de vezes. Só conta dentro de uma medição aberta com
+ * {@link #iniciar()}; fora dela o custo é uma leitura de ThreadLocal.
+ *
+ * Comandos emitidos diretamente por JDBC (JdbcTemplate) não passam pelo
+ * Hibernate e não são contados.
+ */
+public class ContadorConsultas implements StatementInspector {
+
+    /** Formatos distintos guardados por medição; os demais entram só no total. */
+    private static final int MAX_FORMATOS = 50;
+    private static final int MAX_TAMANHO_FORMATO = 300;
+
+    private static final Pattern LISTA_PARAMETROS = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern LITERAL_NUMERICO = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern ESPACOS = Pattern.compile("\\s+");
+
+    private static final ThreadLocal<Contagem> ATUAL = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        Contagem contagem = ATUAL.get();
+        if (contagem != null) {
+            contagem.registrar(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * Abre uma medição na thread corrente. Uma medição já aberta fica
+     * suspensa e recebe a contagem desta quando ela for encerrada.
+     */
+    public static Contagem iniciar() {
+        Contagem contagem = new Contagem(ATUAL.get());
+        ATUAL.set(contagem);
+        return contagem;
+    }
+
+    /**
+     * Encerra a medição da thread corrente e a devolve (null se não houver),
+     * retomando a medição externa, se houver.
+     */
+    public static Contagem encerrar() {
+        Contagem contagem = ATUAL.get();
+        if (contagem == null) {
+            return null;
+        }
+        if (contagem.externa != null) {
+            contagem.externa.somar(contagem);
+            ATUAL.set(contagem.externa);
+        } else {
+            ATUAL.remove();
+        }
+        return contagem;
+    }
+
+    /**
+     * Executa a ação contando os comandos emitidos por ela, para verificar
+     * o número de consultas de um fluxo (por exemplo, em testes de integração).
+     * Medições abertas dentro da ação, como a do interceptor de cada
+     * requisição do MockMvc, também entram na contagem.
+     */
+    public static <T> Resultado<T> medir(Supplier<T> acao) {
+        Contagem contagem = iniciar();
+        try {
+            T valor = acao.get();
+            return new Resultado<>(valor, contagem);
+        } finally {
+            encerrar();
+        }
+    }
+
+    static String formato(String sql) {
+        String formato = ESPACOS.matcher(sql).replaceAll(" ").trim();
+        formato = LISTA_PARAMETROS.matcher(formato).replaceAll("(?...)");
+        formato = LITERAL_NUMERICO.matcher(formato).replaceAll("N");
+        return formato.length() > MAX_TAMANHO_FORMATO
+                ? formato.substring(0, MAX_TAMANHO_FORMATO) + "..."
+                : formato;
+    }
+
+    /**
+     * Comandos contados em uma medição.
+     */
+    public static final class Contagem {
+
+        private final Contagem externa;
+        private int total;
+        private final Map<String, Integer> porFormato = new LinkedHashMap<>();
+
+        private Contagem(Contagem externa) {
+            this.externa = externa;
+        }
+
+        private void registrar(String sql) {
+            total++;
+            String formato = formato(sql);
+            if (porFormato.containsKey(formato) || porFormato.size() < MAX_FORMATOS) {
+                porFormato.merge(formato, 1, Integer::sum);
+            }
+        }
+
+        private void somar(Contagem outra) {
+            total += outra.total;
+            outra.porFormato.forEach((formato, vezes) -> {
+                if (porFormato.containsKey(formato) || porFormato.size() < MAX_FORMATOS) {
+                    porFormato.merge(formato, vezes, Integer::sum);
+                }
+            });
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        /**
+         * Quantidade de execuções por formato de SQL, na ordem da primeira ocorrência.
+         */
+        public Map<String, Integer> getPorFormato() {
+            return Collections.unmodifiableMap(porFormato);
+        }
+    }
+
+    /**
+     * Valor devolvido pela ação medida e a contagem de comandos.
+     */
+    public record Resultado<T>(T valor, Contagem contagem) {
+
+        public int total() {
+            return contagem.getTotal();
+        }
+    }
+}
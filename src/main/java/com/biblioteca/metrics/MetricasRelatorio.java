@@ -0,0 +1,60 @@
+package com.biblioteca.metrics;
+
+import com.biblioteca.service.ReportService;
+import com.biblioteca.util.ContadorOutputStream;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Métricas de geração de relatórios e exportações.
+ *
+ * - {@code biblioteca.relatorio.tempo}: duração, por tipo, formato e resultado
+ * - {@code biblioteca.relatorio.bytes}: tamanho do documento gerado
+ */
+@Component
+public class MetricasRelatorio {
+
+    private final MeterRegistry registry;
+
+    public MetricasRelatorio(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Executa a escrita do relatório contando os bytes enviados a {@code out}.
+     */
+    public void medir(ReportService.TipoRelatorio tipo, String formato, OutputStream out,
+                      Consumer<OutputStream> escrita) {
+        ContadorOutputStream contador = new ContadorOutputStream(out);
+        long inicio = System.nanoTime();
+        String resultado = "erro";
+        try {
+            escrita.accept(contador);
+            resultado = "sucesso";
+        } finally {
+            Timer.builder("biblioteca.relatorio.tempo")
+                    .description("Tempo de geração de relatórios")
+                    .tag("tipo", tipo.name())
+                    .tag("formato", formato)
+                    .tag("resultado", resultado)
+                    .publishPercentileHistogram()
+                    .register(registry)
+                    .record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            if ("sucesso".equals(resultado)) {
+                DistributionSummary.builder("biblioteca.relatorio.bytes")
+                        .description("Tamanho dos relatórios gerados")
+                        .baseUnit("bytes")
+                        .tag("tipo", tipo.name())
+                        .tag("formato", formato)
+                        .register(registry)
+                        .record(contador.getBytes());
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.biblioteca.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a latência de todos os métodos públicos das implementações de serviço.
+ *
+ * Gera o timer {@code biblioteca.servico} com histograma de percentis,
+ * identificado por classe, método e exceção lançada ("none" em caso de
+ * sucesso). Executa antes do aspecto transacional, de modo que o tempo
+ * inclui o commit.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class MetricasServicoAspect {
+
+    private static final String METRICA = "biblioteca.servico";
+
+    private final MeterRegistry registry;
+
+    // Timer de sucesso por método, evitando a busca no registro a cada chamada
+    private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
+
+    public MetricasServicoAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("execution(public * com.biblioteca.service.impl..*(..))")
+    public Object medir(ProceedingJoinPoint joinPoint) throws Throwable {
+        Class<?> classe = joinPoint.getTarget().getClass();
+        Method metodo = AopUtils.getMostSpecificMethod(
+                ((MethodSignature) joinPoint.getSignature()).getMethod(), classe);
+        long inicio = System.nanoTime();
+        try {
+            Object resultado = joinPoint.proceed();
+            timers.computeIfAbsent(metodo, m -> timer(classe, m, "none"))
+                    .record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            return resultado;
+        } catch (Throwable e) {
+            timer(classe, metodo, e.getClass().getSimpleName())
+                    .record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private Timer timer(Class<?> classe, Method metodo, String excecao) {
+        return Timer.builder(METRICA)
+                .description("Latência dos métodos de serviço")
+                .tag("classe", classe.getSimpleName())
+                .tag("metodo", metodo.getName())
+                .tag("excecao", excecao)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(registry);
+    }
+}
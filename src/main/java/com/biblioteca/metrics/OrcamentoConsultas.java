@@ -0,0 +1,21 @@
+package com.biblioteca.metrics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Define o número máximo de comandos SQL esperado para um endpoint,
+ * substituindo o orçamento global (biblioteca.consultas.orcamento).
+ *
+ * Pode ser usada no método ou no controller; a do método prevalece.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface OrcamentoConsultas {
+
+    int value();
+}
@@ -0,0 +1,111 @@
+package com.biblioteca.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Aplica o orçamento de comandos SQL por requisição.
+ *
+ * Abre uma medição do {@link ContadorConsultas} antes do controller e a
+ * encerra após a renderização da view, de modo que consultas disparadas
+ * por associações lazy no template também são contadas. Requisições acima
+ * do orçamento são registradas em log com o controller e os formatos de SQL
+ * mais repetidos, e contadas em {@code biblioteca.consultas.excedidas}.
+ *
+ * Downloads assíncronos (StreamingResponseBody) rodam em outra thread e
+ * ficam fora da medição.
+ */
+@Component
+public class OrcamentoConsultasInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrcamentoConsultasInterceptor.class);
+
+    private static final int FORMATOS_NO_LOG = 5;
+
+    private final MeterRegistry meterRegistry;
+    private final int orcamentoPadrao;
+
+    public OrcamentoConsultasInterceptor(MeterRegistry meterRegistry,
+                                         @Value("${biblioteca.consultas.orcamento:20}") int orcamentoPadrao) {
+        this.meterRegistry = meterRegistry;
+        this.orcamentoPadrao = orcamentoPadrao;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            ContadorConsultas.iniciar();
+        }
+        return true;
+    }
+
+    /**
+     * A thread do container é liberada sem passar por afterCompletion:
+     * descarta a medição para que não vaze para a próxima requisição.
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        if (handler instanceof HandlerMethod) {
+            ContadorConsultas.encerrar();
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        if (!(handler instanceof HandlerMethod metodo)) {
+            return;
+        }
+        ContadorConsultas.Contagem contagem = ContadorConsultas.encerrar();
+        if (contagem == null) {
+            return;
+        }
+
+        String endpoint = metodo.getBeanType().getSimpleName() + "." + metodo.getMethod().getName();
+        DistributionSummary.builder("biblioteca.consultas.requisicao")
+                .description("Comandos SQL por requisição")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(contagem.getTotal());
+
+        int orcamento = orcamento(metodo);
+        if (contagem.getTotal() <= orcamento) {
+            return;
+        }
+
+        meterRegistry.counter("biblioteca.consultas.excedidas", "endpoint", endpoint).increment();
+        logger.warn("{} {} ({}) executou {} comandos SQL (orçamento: {}). Mais repetidos:\n{}",
+                request.getMethod(), request.getRequestURI(), endpoint, contagem.getTotal(), orcamento,
+                formatosMaisRepetidos(contagem));
+    }
+
+    private int orcamento(HandlerMethod metodo) {
+        OrcamentoConsultas anotacao = metodo.getMethodAnnotation(OrcamentoConsultas.class);
+        if (anotacao == null) {
+            anotacao = AnnotatedElementUtils.findMergedAnnotation(metodo.getBeanType(), OrcamentoConsultas.class);
+        }
+        return anotacao != null ? anotacao.value() : orcamentoPadrao;
+    }
+
+    private static String formatosMaisRepetidos(ContadorConsultas.Contagem contagem) {
+        return contagem.getPorFormato().entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+                .limit(FORMATOS_NO_LOG)
+                .map(formato -> "  " + formato.getValue() + "x " + formato.getKey())
+                .collect(Collectors.joining("\n"));
+    }
+}
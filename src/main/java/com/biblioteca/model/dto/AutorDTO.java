@@ -1,13 +1,12 @@
 package com.biblioteca.model.dto;
 
 import com.biblioteca.model.entity.Autor;
+import com.biblioteca.model.projection.AutorResumo;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * DTO para operações de criação e atualização de autores.
@@ -31,8 +30,8 @@ public class AutorDTO {
 
     private String biografia;
 
-    @Builder.Default
-    private List<LivroDTO> livros = new ArrayList<>();
+    /** Preenchido apenas na listagem (consulta agrupada). */
+    private Long totalLivros;
 
     /**
      * Converte DTO para entidade.
@@ -51,23 +50,24 @@ public class AutorDTO {
      * Cria DTO a partir de entidade.
      */
     public static AutorDTO fromEntity(Autor autor) {
-        AutorDTO dto = AutorDTO.builder()
+        return AutorDTO.builder()
                 .id(autor.getId())
                 .nome(autor.getNome())
                 .nacionalidade(autor.getNacionalidade())
                 .dataNascimento(autor.getDataNascimento())
                 .biografia(autor.getBiografia())
                 .build();
-        
-        if (autor.getLivros() != null) {
-            dto.setLivros(autor.getLivros().stream()
-                    .map(livro -> LivroDTO.builder()
-                            .id(livro.getId())
-                            .titulo(livro.getTitulo())
-                            .build())
-                    .toList());
-        }
-        
-        return dto;
+    }
+
+    /**
+     * Cria DTO de listagem a partir da projeção com o total de livros.
+     */
+    public static AutorDTO fromResumo(AutorResumo resumo) {
+        return AutorDTO.builder()
+                .id(resumo.getId())
+                .nome(resumo.getNome())
+                .nacionalidade(resumo.getNacionalidade())
+                .totalLivros(resumo.getTotalLivros())
+                .build();
     }
 }
@@ -1,12 +1,11 @@
 package com.biblioteca.model.dto;
 
 import com.biblioteca.model.entity.Categoria;
+import com.biblioteca.model.projection.CategoriaResumo;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * DTO para operações de criação e atualização de categorias.
@@ -27,8 +26,8 @@ public class CategoriaDTO {
     @Size(max = 500, message = "Descrição deve ter no máximo 500 caracteres")
     private String descricao;
 
-    @Builder.Default
-    private List<LivroDTO> livros = new ArrayList<>();
+    /** Preenchido apenas na listagem (consulta agrupada). */
+    private Long totalLivros;
 
     /**
      * Converte DTO para entidade.
@@ -45,21 +44,22 @@ public class CategoriaDTO {
      * Cria DTO a partir de entidade.
      */
     public static CategoriaDTO fromEntity(Categoria categoria) {
-        CategoriaDTO dto = CategoriaDTO.builder()
+        return CategoriaDTO.builder()
                 .id(categoria.getId())
                 .nome(categoria.getNome())
                 .descricao(categoria.getDescricao())
                 .build();
-        
-        if (categoria.getLivros() != null) {
-            dto.setLivros(categoria.getLivros().stream()
-                    .map(livro -> LivroDTO.builder()
-                            .id(livro.getId())
-                            .titulo(livro.getTitulo())
-                            .build())
-                    .toList());
-        }
-        
-        return dto;
+    }
+
+    /**
+     * Cria DTO de listagem a partir da projeção com o total de livros.
+     */
+    public static CategoriaDTO fromResumo(CategoriaResumo resumo) {
+        return CategoriaDTO.builder()
+                .id(resumo.getId())
+                .nome(resumo.getNome())
+                .descricao(resumo.getDescricao())
+                .totalLivros(resumo.getTotalLivros())
+                .build();
     }
 }
@@ -2,6 +2,9 @@ package com.biblioteca.model.dto;
 
 import lombok.*;
 
+import java.math.BigDecimal;
+import java.util.List;
+
 /**
  * DTO para estatísticas do dashboard.
  */
@@ -20,4 +23,16 @@ public class DashboardDTO {
     private Long emprestimosAtrasados;
     private Long livrosDisponiveis;
     private Long livrosIndisponiveis;
+
+    // Circulação do período recente, lida das estatísticas agregadas
+    private Integer diasPeriodo;
+    private Long emprestimosPeriodo;
+    private Long devolucoesPeriodo;
+    private Long atrasosPeriodo;
+    private BigDecimal multasPeriodo;
+    private List<EstatisticaCirculacaoDTO> circulacaoDiaria;
+    private List<EstatisticaCirculacaoDTO> categoriasMaisEmprestadas;
+
+    // Ranking aproximado da semana corrente
+    private List<RankingLivroDTO> livrosMaisEmprestados;
 }
@@ -0,0 +1,23 @@
+package com.biblioteca.model.dto;
+
+import lombok.*;
+
+/**
+ * DTO com o resultado do descarte em lote de livros.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DescarteLivrosDTO {
+
+    private int solicitados;
+
+    private int descartados;
+
+    /** Já descartados, inexistentes ou com empréstimo ativo. */
+    private int ignorados;
+
+    private int reservasCanceladas;
+}
@@ -1,6 +1,7 @@
 package com.biblioteca.model.dto;
 
 import com.biblioteca.model.entity.Emprestimo;
+import com.biblioteca.model.projection.EmprestimoResumo;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
@@ -41,6 +42,8 @@ public class EmprestimoDTO {
 
     private String observacoes;
 
+    private Integer renovacoes;
+
     private Boolean atrasado;
     private Long diasAtraso;
 
@@ -71,6 +74,7 @@ public class EmprestimoDTO {
                 .status(emprestimo.getStatus())
                 .multa(emprestimo.getMulta())
                 .observacoes(emprestimo.getObservacoes())
+                .renovacoes(emprestimo.getRenovacoes())
                 .atrasado(emprestimo.isAtrasado())
                 .diasAtraso(emprestimo.getDiasAtraso())
                 .build();
@@ -89,4 +93,32 @@ public class EmprestimoDTO {
 
         return dto;
     }
+
+    /**
+     * Cria DTO de listagem a partir da projeção.
+     */
+    public static EmprestimoDTO fromResumo(EmprestimoResumo resumo) {
+        // Reaproveita as regras de atraso da entidade sem consultá-la
+        Emprestimo calculo = Emprestimo.builder()
+                .status(resumo.getStatus())
+                .dataPrevistaDevolucao(resumo.getDataPrevistaDevolucao())
+                .dataDevolucao(resumo.getDataDevolucao())
+                .build();
+
+        return EmprestimoDTO.builder()
+                .id(resumo.getId())
+                .livroId(resumo.getLivroId())
+                .livroTitulo(resumo.getLivroTitulo())
+                .livroIsbn(resumo.getLivroIsbn())
+                .usuarioId(resumo.getUsuarioId())
+                .usuarioNome(resumo.getUsuarioNome())
+                .dataEmprestimo(resumo.getDataEmprestimo())
+                .dataPrevistaDevolucao(resumo.getDataPrevistaDevolucao())
+                .dataDevolucao(resumo.getDataDevolucao())
+                .status(resumo.getStatus())
+                .multa(resumo.getMulta())
+                .atrasado(calculo.isAtrasado())
+                .diasAtraso(calculo.getDiasAtraso())
+                .build();
+    }
 }
@@ -0,0 +1,56 @@
+package com.biblioteca.model.dto;
+
+import com.biblioteca.model.entity.EstatisticaCirculacao;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO para exibição das estatísticas de circulação.
+ *
+ * Representa um dia (série diária) ou um item de ranking, identificado
+ * pelo rótulo (ex.: nome da categoria).
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EstatisticaCirculacaoDTO {
+
+    private LocalDate data;
+
+    private String rotulo;
+
+    private long emprestimos;
+
+    private long devolucoes;
+
+    private long atrasos;
+
+    private BigDecimal multas;
+
+    /**
+     * Converte entidade para DTO.
+     */
+    public static EstatisticaCirculacaoDTO fromEntity(EstatisticaCirculacao estatistica) {
+        return EstatisticaCirculacaoDTO.builder()
+                .data(estatistica.getData())
+                .emprestimos(estatistica.getEmprestimos())
+                .devolucoes(estatistica.getDevolucoes())
+                .atrasos(estatistica.getAtrasos())
+                .multas(estatistica.getMultas())
+                .build();
+    }
+
+    /**
+     * Cria um registro zerado para dias sem movimentação.
+     */
+    public static EstatisticaCirculacaoDTO vazio(LocalDate data) {
+        return EstatisticaCirculacaoDTO.builder()
+                .data(data)
+                .multas(BigDecimal.ZERO)
+                .build();
+    }
+}
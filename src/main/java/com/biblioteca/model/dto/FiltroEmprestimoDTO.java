@@ -0,0 +1,33 @@
+package com.biblioteca.model.dto;
+
+import com.biblioteca.model.entity.Emprestimo;
+import lombok.*;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Filtros da listagem administrativa de empréstimos; campos nulos não filtram.
+ * ATIVO seleciona os empréstimos em aberto (ativos e renovados) e ATRASADO,
+ * os em aberto com prazo vencido.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FiltroEmprestimoDTO {
+
+    private Emprestimo.StatusEmprestimo status;
+
+    // Intervalo da data do empréstimo (inclusivo)
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate inicio;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate fim;
+
+    private Long usuarioId;
+
+    private Long livroId;
+}
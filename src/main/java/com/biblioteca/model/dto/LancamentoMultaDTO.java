@@ -0,0 +1,56 @@
+package com.biblioteca.model.dto;
+
+import com.biblioteca.model.entity.LancamentoMulta;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO para exibição do extrato de multas.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LancamentoMultaDTO {
+
+    private Long id;
+
+    private Long usuarioId;
+
+    private Long emprestimoId;
+
+    private LancamentoMulta.TipoLancamento tipo;
+
+    private BigDecimal valor;
+
+    private LocalDateTime dataLancamento;
+
+    private String descricao;
+
+    /**
+     * Cria DTO a partir de entidade.
+     */
+    public static LancamentoMultaDTO fromEntity(LancamentoMulta lancamento) {
+        LancamentoMultaDTO dto = LancamentoMultaDTO.builder()
+                .id(lancamento.getId())
+                .tipo(lancamento.getTipo())
+                .valor(lancamento.getValor())
+                .dataLancamento(lancamento.getDataLancamento())
+                .descricao(lancamento.getDescricao())
+                .build();
+
+        // Apenas os ids: não inicializa as associações LAZY
+        if (lancamento.getUsuario() != null) {
+            dto.setUsuarioId(lancamento.getUsuario().getId());
+        }
+
+        if (lancamento.getEmprestimo() != null) {
+            dto.setEmprestimoId(lancamento.getEmprestimo().getId());
+        }
+
+        return dto;
+    }
+}
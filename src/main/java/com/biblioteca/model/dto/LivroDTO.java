@@ -1,6 +1,8 @@
 package com.biblioteca.model.dto;
 
 import com.biblioteca.model.entity.Livro;
+import com.biblioteca.model.projection.LivroAutorNome;
+import com.biblioteca.model.projection.LivroResumo;
 import jakarta.validation.constraints.*;
 import lombok.*;
 
@@ -119,4 +121,34 @@ public class LivroDTO {
 
         return dto;
     }
+
+    /**
+     * Cria DTO de listagem a partir da projeção (sem sinopse e campos de detalhe).
+     */
+    public static LivroDTO fromResumo(LivroResumo resumo, List<LivroAutorNome> autores) {
+        LivroDTO dto = LivroDTO.builder()
+                .id(resumo.getId())
+                .titulo(resumo.getTitulo())
+                .isbn(resumo.getIsbn())
+                .anoPublicacao(resumo.getAnoPublicacao())
+                .quantidadeTotal(resumo.getQuantidadeTotal())
+                .quantidadeDisponivel(resumo.getQuantidadeDisponivel())
+                .status(resumo.getStatus())
+                .categoriaId(resumo.getCategoriaId())
+                .categoriaNome(resumo.getCategoriaNome())
+                .build();
+
+        if (!autores.isEmpty()) {
+            dto.setAutoresIds(autores.stream()
+                    .map(LivroAutorNome::getAutorId)
+                    .collect(Collectors.toList()));
+            dto.setAutoresNomes(autores.stream()
+                    .map(LivroAutorNome::getAutorNome)
+                    .collect(Collectors.joining(", ")));
+        }
+
+        dto.setDisponivel(resumo.getQuantidadeDisponivel() != null && resumo.getQuantidadeDisponivel() > 0);
+
+        return dto;
+    }
 }
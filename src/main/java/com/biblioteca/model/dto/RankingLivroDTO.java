@@ -0,0 +1,29 @@
+package com.biblioteca.model.dto;
+
+import lombok.*;
+
+/**
+ * DTO para exibição do ranking de livros mais emprestados.
+ *
+ * A contagem é aproximada: o valor real está entre
+ * {@code emprestimos - margemErro} e {@code emprestimos}.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RankingLivroDTO {
+
+    private int posicao;
+
+    private Long livroId;
+
+    private String titulo;
+
+    private String isbn;
+
+    private long emprestimos;
+
+    private long margemErro;
+}
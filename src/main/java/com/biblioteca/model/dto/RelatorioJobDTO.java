@@ -0,0 +1,43 @@
+package com.biblioteca.model.dto;
+
+import com.biblioteca.service.ReportService;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO com a situação de um job de geração assíncrona de relatório.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RelatorioJobDTO {
+
+    private String id;
+
+    private ReportService.TipoRelatorio tipo;
+
+    private StatusJob status;
+
+    private LocalDateTime dataCriacao;
+
+    private LocalDateTime dataConclusao;
+
+    private Long tamanhoBytes;
+
+    private String mensagemErro;
+
+    private String urlDownload;
+
+    /**
+     * Enum que define os status possíveis de um job de relatório.
+     */
+    public enum StatusJob {
+        PENDENTE,     // Aguardando vaga no executor
+        EM_EXECUCAO,  // Relatório sendo gerado
+        CONCLUIDO,    // Arquivo pronto para download
+        FALHOU        // Erro durante a geração
+    }
+}
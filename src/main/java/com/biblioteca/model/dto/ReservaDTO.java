@@ -0,0 +1,61 @@
+package com.biblioteca.model.dto;
+
+import com.biblioteca.model.entity.Reserva;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO para exibição de reservas de livros.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReservaDTO {
+
+    private Long id;
+
+    private Long usuarioId;
+
+    private Long livroId;
+    private String livroTitulo;
+    private String livroIsbn;
+
+    private LocalDateTime dataReserva;
+
+    private LocalDateTime dataDisponibilidade;
+
+    private LocalDateTime dataExpiracao;
+
+    private Reserva.StatusReserva status;
+
+    // Posição na fila (apenas para reservas aguardando)
+    private Long posicaoFila;
+
+    /**
+     * Cria DTO a partir de entidade.
+     */
+    public static ReservaDTO fromEntity(Reserva reserva) {
+        ReservaDTO dto = ReservaDTO.builder()
+                .id(reserva.getId())
+                .dataReserva(reserva.getDataReserva())
+                .dataDisponibilidade(reserva.getDataDisponibilidade())
+                .dataExpiracao(reserva.getDataExpiracao())
+                .status(reserva.getStatus())
+                .build();
+
+        if (reserva.getUsuario() != null) {
+            dto.setUsuarioId(reserva.getUsuario().getId());
+        }
+
+        if (reserva.getLivro() != null) {
+            dto.setLivroId(reserva.getLivro().getId());
+            dto.setLivroTitulo(reserva.getLivro().getTitulo());
+            dto.setLivroIsbn(reserva.getLivro().getIsbn());
+        }
+
+        return dto;
+    }
+}
@@ -0,0 +1,22 @@
+package com.biblioteca.model.dto;
+
+import lombok.*;
+
+/**
+ * Item de busca incremental (autocompletar) nos formulários.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SugestaoDTO {
+
+    private Long id;
+
+    // Texto principal exibido na lista
+    private String rotulo;
+
+    // Informação complementar (e-mail, ISBN)
+    private String detalhe;
+}
@@ -1,11 +1,13 @@
 package com.biblioteca.model.dto;
 
 import com.biblioteca.model.entity.Usuario;
+import com.biblioteca.model.projection.UsuarioResumo;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 /**
@@ -41,6 +43,17 @@ public class UsuarioDTO {
 
     private LocalDateTime dataCadastro;
 
+    // Somente leitura
+    private LocalDateTime ultimoAcesso;
+
+    // Somente leitura: mantido pelo extrato de multas
+    private BigDecimal saldoDevedor;
+
+    // Somente leitura: totais do histórico do usuário
+    private Long totalEmprestimos;
+
+    private BigDecimal totalMultasPagas;
+
     /**
      * Converte DTO para entidade.
      */
@@ -70,6 +83,24 @@ public class UsuarioDTO {
                 .role(usuario.getRole())
                 .ativo(usuario.isAtivo())
                 .dataCadastro(usuario.getDataCadastro())
+                .ultimoAcesso(usuario.getUltimoAcesso())
+                .saldoDevedor(usuario.getSaldoDevedor())
+                .totalEmprestimos(usuario.getTotalEmprestimos())
+                .totalMultasPagas(usuario.getTotalMultasPagas())
+                .build();
+    }
+
+    /**
+     * Cria DTO de listagem a partir da projeção.
+     */
+    public static UsuarioDTO fromResumo(UsuarioResumo resumo) {
+        return UsuarioDTO.builder()
+                .id(resumo.getId())
+                .nome(resumo.getNome())
+                .email(resumo.getEmail())
+                .role(resumo.getRole())
+                .ativo(resumo.getAtivo())
+                .dataCadastro(resumo.getDataCadastro())
                 .build();
     }
 }
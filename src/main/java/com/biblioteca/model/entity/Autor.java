@@ -4,13 +4,12 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDate;
-import java.util.HashSet;
-import java.util.Set;
 
 /**
  * Entidade que representa um Autor de livros.
  * 
- * Relacionamento Many-to-Many com Livro.
+ * Relacionamento Many-to-Many com Livro, mapeado apenas do lado do livro
+ * (Livro.autores); os livros de um autor são consultados via LivroRepository.
  */
 @Entity
 @Table(name = "autores")
@@ -37,9 +36,6 @@ public class Autor {
     @Column(columnDefinition = "TEXT")
     private String biografia;
 
-    @ManyToMany(mappedBy = "autores", fetch = FetchType.LAZY)
-    private Set<Livro> livros = new HashSet<>();
-
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -48,6 +44,11 @@ public class Autor {
         return id != null && id.equals(autor.id);
     }
 
+    /**
+     * Hash constante por classe: estável antes e depois da persistência (id gerado).
+     * Degrada um HashSet a busca linear, por isso só é usado em coleções pequenas
+     * como Livro.autores.
+     */
     @Override
     public int hashCode() {
         return getClass().hashCode();
@@ -3,13 +3,10 @@ package com.biblioteca.model.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
-import java.util.HashSet;
-import java.util.Set;
-
 /**
  * Entidade que representa uma Categoria de livros.
  * 
- * Relacionamento One-to-Many com Livro.
+ * Os livros da categoria são consultados via LivroRepository (Livro.categoria).
  */
 @Entity
 @Table(name = "categorias")
@@ -30,9 +27,6 @@ public class Categoria {
     @Column(length = 500)
     private String descricao;
 
-    @OneToMany(mappedBy = "categoria", fetch = FetchType.LAZY)
-    private Set<Livro> livros = new HashSet<>();
-
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -1,5 +1,7 @@
 package com.biblioteca.model.entity;
 
+import com.biblioteca.pattern.singleton.ConfigurationManager;
+import com.biblioteca.pattern.strategy.MultaStrategy;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -15,8 +17,15 @@ import java.time.temporal.ChronoUnit;
  * - Many-to-One com Livro
  * 
  * Implementa lógica de cálculo de multa por atraso.
+ *
+ * Plano de busca "Emprestimo.livroUsuario": livro e usuário na mesma consulta,
+ * usado pelas listagens (os DTOs leem título, nome e e-mail de cada linha).
  */
 @Entity
+@NamedEntityGraph(name = Emprestimo.GRAFO_LIVRO_USUARIO, attributeNodes = {
+        @NamedAttributeNode("livro"),
+        @NamedAttributeNode("usuario")
+})
 @Table(name = "emprestimos")
 @Getter
 @Setter
@@ -25,8 +34,7 @@ import java.time.temporal.ChronoUnit;
 @Builder
 public class Emprestimo {
 
-    private static final int DIAS_EMPRESTIMO_PADRAO = 14;
-    private static final BigDecimal VALOR_MULTA_POR_DIA = new BigDecimal("2.00");
+    public static final String GRAFO_LIVRO_USUARIO = "Emprestimo.livroUsuario";
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -59,19 +67,29 @@ public class Emprestimo {
     @Column(length = 500)
     private String observacoes;
 
+    @Column(nullable = false)
+    private int renovacoes;
+
     @PrePersist
     protected void onCreate() {
         if (dataEmprestimo == null) {
             dataEmprestimo = LocalDate.now();
         }
         if (dataPrevistaDevolucao == null) {
-            dataPrevistaDevolucao = dataEmprestimo.plusDays(DIAS_EMPRESTIMO_PADRAO);
+            dataPrevistaDevolucao = dataEmprestimo.plusDays(ConfigurationManager.atual().diasEmprestimoPadrao());
         }
         if (status == null) {
             status = StatusEmprestimo.ATIVO;
         }
     }
 
+    /**
+     * Verifica se o empréstimo já foi encerrado (devolvido ou cancelado).
+     */
+    public boolean isEncerrado() {
+        return status == StatusEmprestimo.DEVOLVIDO || status == StatusEmprestimo.CANCELADO;
+    }
+
     /**
      * Verifica se o empréstimo está em atraso.
      */
@@ -99,28 +117,45 @@ public class Emprestimo {
     public BigDecimal calcularMulta() {
         long diasAtraso = getDiasAtraso();
         if (diasAtraso > 0) {
-            return VALOR_MULTA_POR_DIA.multiply(BigDecimal.valueOf(diasAtraso));
+            return ConfigurationManager.atual().valorMultaPorDia().multiply(BigDecimal.valueOf(diasAtraso));
         }
         return BigDecimal.ZERO;
     }
 
     /**
-     * Realiza a devolução do empréstimo.
+     * Realiza a devolução do empréstimo. O exemplar volta ao acervo pelo
+     * serviço de reservas (ReservaService.liberarExemplar).
      */
     public void realizarDevolucao() {
         this.dataDevolucao = LocalDate.now();
         this.multa = calcularMulta();
         this.status = StatusEmprestimo.DEVOLVIDO;
-        this.livro.devolver();
+    }
+
+    /**
+     * Realiza a devolução calculando a multa pela estratégia informada.
+     */
+    public void realizarDevolucao(MultaStrategy estrategiaMulta) {
+        this.dataDevolucao = LocalDate.now();
+        this.multa = estrategiaMulta.calcularMulta(this);
+        this.status = StatusEmprestimo.DEVOLVIDO;
     }
 
     /**
      * Renova o empréstimo por mais um período.
      */
     public void renovar() {
-        if (status == StatusEmprestimo.ATIVO && !isAtrasado()) {
-            this.dataPrevistaDevolucao = this.dataPrevistaDevolucao.plusDays(DIAS_EMPRESTIMO_PADRAO);
+        renovar(ConfigurationManager.atual().diasEmprestimoPadrao());
+    }
+
+    /**
+     * Renova o empréstimo pelo número de dias informado.
+     */
+    public void renovar(int dias) {
+        if ((status == StatusEmprestimo.ATIVO || status == StatusEmprestimo.RENOVADO) && !isAtrasado()) {
+            this.dataPrevistaDevolucao = this.dataPrevistaDevolucao.plusDays(dias);
             this.status = StatusEmprestimo.RENOVADO;
+            this.renovacoes++;
         }
     }
 
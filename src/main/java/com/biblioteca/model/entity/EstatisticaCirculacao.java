@@ -0,0 +1,81 @@
+package com.biblioteca.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Entidade que representa as estatísticas diárias de circulação.
+ *
+ * Tabela de agregados mantida incrementalmente a partir dos eventos de
+ * empréstimo, com uma linha por dia e dimensão (geral, categoria, livro
+ * ou usuário). Consultas analíticas leem desta tabela em vez de varrer
+ * a tabela de empréstimos.
+ */
+@Entity
+@Table(name = "estatisticas_circulacao",
+       uniqueConstraints = @UniqueConstraint(name = "uk_estatistica_data_dimensao_chave",
+                                             columnNames = {"data", "dimensao", "chave"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EstatisticaCirculacao {
+
+    /**
+     * Chave usada na dimensão GERAL, que não se refere a nenhuma entidade.
+     */
+    public static final long CHAVE_GERAL = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate data;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Dimensao dimensao;
+
+    @Column(nullable = false)
+    private Long chave;
+
+    @Column(nullable = false)
+    private long emprestimos;
+
+    @Column(nullable = false)
+    private long devolucoes;
+
+    @Column(nullable = false)
+    private long atrasos;
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal multas;
+
+    /**
+     * Enum que define as dimensões de agregação.
+     */
+    public enum Dimensao {
+        GERAL,      // Totais da biblioteca
+        CATEGORIA,  // Por categoria do livro
+        LIVRO,      // Por livro
+        USUARIO     // Por usuário
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EstatisticaCirculacao that = (EstatisticaCirculacao) o;
+        return id != null && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -0,0 +1,67 @@
+package com.biblioteca.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Entidade que representa a variação de um evento de circulação ainda não
+ * consolidada nas estatísticas diárias.
+ *
+ * Gravada na mesma transação do empréstimo, devolução ou cancelamento, de
+ * modo que a variação só existe se o evento foi confirmado e sobrevive a uma
+ * queda da aplicação. A consolidação soma as variações em
+ * {@link EstatisticaCirculacao} e exclui as linhas processadas.
+ */
+@Entity
+@Table(name = "eventos_circulacao")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventoCirculacao {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate data;
+
+    @Column(name = "livro_id", nullable = false)
+    private Long livroId;
+
+    @Column(name = "categoria_id")
+    private Long categoriaId;
+
+    @Column(name = "usuario_id", nullable = false)
+    private Long usuarioId;
+
+    @Column(nullable = false)
+    private long emprestimos;
+
+    @Column(nullable = false)
+    private long devolucoes;
+
+    @Column(nullable = false)
+    private long atrasos;
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal multas;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EventoCirculacao that = (EventoCirculacao) o;
+        return id != null && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -0,0 +1,88 @@
+package com.biblioteca.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Entidade que representa um lançamento no extrato de multas do usuário.
+ *
+ * Relacionamentos:
+ * - Many-to-One com Usuario
+ * - Many-to-One com Emprestimo (apenas para multas)
+ *
+ * O extrato é somente de inclusão: multas somam ao saldo devedor do
+ * usuário e pagamentos subtraem. O valor é sempre positivo; o sentido
+ * vem do tipo do lançamento.
+ */
+@Entity
+@Table(name = "lancamentos_multa")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LancamentoMulta {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "usuario_id", nullable = false, updatable = false)
+    private Usuario usuario;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "emprestimo_id", updatable = false)
+    private Emprestimo emprestimo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20, updatable = false)
+    private TipoLancamento tipo;
+
+    @Column(nullable = false, precision = 10, scale = 2, updatable = false)
+    private BigDecimal valor;
+
+    @Column(name = "data_lancamento", nullable = false, updatable = false)
+    private LocalDateTime dataLancamento;
+
+    @Column(length = 200, updatable = false)
+    private String descricao;
+
+    @PrePersist
+    protected void onCreate() {
+        if (dataLancamento == null) {
+            dataLancamento = LocalDateTime.now();
+        }
+    }
+
+    /**
+     * Valor com sinal aplicado ao saldo devedor.
+     */
+    public BigDecimal getValorNoSaldo() {
+        return tipo == TipoLancamento.PAGAMENTO ? valor.negate() : valor;
+    }
+
+    /**
+     * Enum que define os tipos de lançamento do extrato.
+     */
+    public enum TipoLancamento {
+        MULTA,      // Multa por atraso registrada na devolução
+        PAGAMENTO   // Pagamento recebido do usuário
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        LancamentoMulta lancamento = (LancamentoMulta) o;
+        return id != null && id.equals(lancamento.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -11,11 +11,20 @@ import java.util.Set;
  * Entidade que representa um Livro da biblioteca.
  * 
  * Relacionamentos:
- * - Many-to-Many com Autor
+ * - Many-to-Many com Autor (poucos autores por livro)
  * - Many-to-One com Categoria
- * - One-to-Many com Emprestimo
+ *
+ * Empréstimos não são mapeados como coleção: um livro popular acumula milhares
+ * de registros, consultados via EmprestimoRepository.
+ *
+ * Plano de busca "Livro.categoriaAutores": categoria e autores na mesma consulta,
+ * usado pelo detalhe (as listagens usam a projeção LivroResumo).
  */
 @Entity
+@NamedEntityGraph(name = Livro.GRAFO_CATEGORIA_AUTORES, attributeNodes = {
+        @NamedAttributeNode("categoria"),
+        @NamedAttributeNode("autores")
+})
 @Table(name = "livros")
 @Getter
 @Setter
@@ -24,6 +33,8 @@ import java.util.Set;
 @Builder
 public class Livro {
 
+    public static final String GRAFO_CATEGORIA_AUTORES = "Livro.categoriaAutores";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -52,6 +63,7 @@ public class Livro {
     @Column(name = "quantidade_total", nullable = false)
     private Integer quantidadeTotal;
 
+    // Empréstimos e reservas alteram por UPDATE condicional (LivroRepository.retirarExemplar)
     @Column(name = "quantidade_disponivel", nullable = false)
     private Integer quantidadeDisponivel;
 
@@ -77,9 +89,6 @@ public class Livro {
     )
     private Set<Autor> autores = new HashSet<>();
 
-    @OneToMany(mappedBy = "livro", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
-    private Set<Emprestimo> emprestimos = new HashSet<>();
-
     @PrePersist
     protected void onCreate() {
         dataCadastro = LocalDate.now();
@@ -98,28 +107,6 @@ public class Livro {
         return quantidadeDisponivel > 0 && status == StatusLivro.DISPONIVEL;
     }
 
-    /**
-     * Realiza o empréstimo de uma unidade do livro.
-     */
-    public void emprestar() {
-        if (isDisponivel()) {
-            quantidadeDisponivel--;
-            if (quantidadeDisponivel == 0) {
-                status = StatusLivro.INDISPONIVEL;
-            }
-        }
-    }
-
-    /**
-     * Realiza a devolução de uma unidade do livro.
-     */
-    public void devolver() {
-        quantidadeDisponivel++;
-        if (quantidadeDisponivel > 0) {
-            status = StatusLivro.DISPONIVEL;
-        }
-    }
-
     /**
      * Enum que define os status possíveis de um livro.
      */
@@ -0,0 +1,81 @@
+package com.biblioteca.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Entidade que representa um contador persistido do ranking de livros.
+ *
+ * Guarda o estado do contador aproximado de cada janela de tempo para que
+ * o ranking sobreviva a reinicializações da aplicação.
+ */
+@Entity
+@Table(name = "ranking_livros",
+       uniqueConstraints = @UniqueConstraint(name = "uk_ranking_janela_inicio_livro",
+                                             columnNames = {"janela", "inicio", "livro_id"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RankingLivro {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Janela janela;
+
+    @Column(nullable = false)
+    private LocalDate inicio;
+
+    @Column(name = "livro_id", nullable = false)
+    private Long livroId;
+
+    @Column(nullable = false)
+    private long contagem;
+
+    @Column(nullable = false)
+    private long erro;
+
+    /**
+     * Enum que define as janelas de tempo do ranking.
+     */
+    public enum Janela {
+        DIA,     // Dia corrente
+        SEMANA,  // Semana corrente (a partir de segunda-feira)
+        MES,     // Mês corrente
+        TOTAL;   // Desde o início
+
+        /**
+         * Data de início da janela que contém a data informada.
+         */
+        public LocalDate inicio(LocalDate data) {
+            return switch (this) {
+                case DIA -> data;
+                case SEMANA -> data.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                case MES -> data.withDayOfMonth(1);
+                case TOTAL -> LocalDate.EPOCH;
+            };
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RankingLivro that = (RankingLivro) o;
+        return id != null && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -0,0 +1,93 @@
+package com.biblioteca.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidade que representa a Reserva de um livro indisponível.
+ *
+ * Relacionamentos:
+ * - Many-to-One com Usuario
+ * - Many-to-One com Livro
+ *
+ * As reservas de um livro formam uma fila FIFO pela ordem do id. Quando um
+ * exemplar retorna ao acervo, a primeira reserva aguardando passa a
+ * DISPONIVEL e o exemplar fica separado até a retirada ou a expiração.
+ */
+@Entity
+@Table(name = "reservas")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Reserva {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "usuario_id", nullable = false)
+    private Usuario usuario;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "livro_id", nullable = false)
+    private Livro livro;
+
+    @Column(name = "data_reserva", nullable = false)
+    private LocalDateTime dataReserva;
+
+    @Column(name = "data_disponibilidade")
+    private LocalDateTime dataDisponibilidade;
+
+    @Column(name = "data_expiracao")
+    private LocalDateTime dataExpiracao;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private StatusReserva status;
+
+    @PrePersist
+    protected void onCreate() {
+        if (dataReserva == null) {
+            dataReserva = LocalDateTime.now();
+        }
+        if (status == null) {
+            status = StatusReserva.AGUARDANDO;
+        }
+    }
+
+    /**
+     * Verifica se a reserva ainda ocupa lugar na fila ou um exemplar.
+     */
+    public boolean isAtiva() {
+        return status == StatusReserva.AGUARDANDO || status == StatusReserva.DISPONIVEL;
+    }
+
+    /**
+     * Enum que define os status possíveis de uma reserva.
+     */
+    public enum StatusReserva {
+        AGUARDANDO,  // Na fila do livro
+        DISPONIVEL,  // Exemplar separado aguardando retirada
+        ATENDIDA,    // Retirada convertida em empréstimo
+        EXPIRADA,    // Prazo de retirada excedido
+        CANCELADA    // Cancelada pelo usuário
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Reserva reserva = (Reserva) o;
+        return id != null && id.equals(reserva.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -6,11 +6,10 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 /**
  * Entidade que representa um usuário do sistema.
@@ -61,8 +60,18 @@ public class Usuario implements UserDetails {
     @Column(name = "ultimo_acesso")
     private LocalDateTime ultimoAcesso;
 
-    @OneToMany(mappedBy = "usuario", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
-    private Set<Emprestimo> emprestimos = new HashSet<>();
+    // Mantido pelo extrato de multas (UsuarioRepository); nunca gravado pela entidade
+    @Column(name = "saldo_devedor", nullable = false, precision = 10, scale = 2,
+            insertable = false, updatable = false)
+    private BigDecimal saldoDevedor;
+
+    // Totais do histórico, mantidos pelos serviços de empréstimo e de multas
+    @Column(name = "total_emprestimos", nullable = false, insertable = false, updatable = false)
+    private Long totalEmprestimos;
+
+    @Column(name = "total_multas_pagas", nullable = false, precision = 12, scale = 2,
+            insertable = false, updatable = false)
+    private BigDecimal totalMultasPagas;
 
     @PrePersist
     protected void onCreate() {
@@ -71,6 +80,22 @@ public class Usuario implements UserDetails {
         if (role == null) {
             role = Role.USER;
         }
+        if (saldoDevedor == null) {
+            saldoDevedor = BigDecimal.ZERO;
+        }
+        if (totalEmprestimos == null) {
+            totalEmprestimos = 0L;
+        }
+        if (totalMultasPagas == null) {
+            totalMultasPagas = BigDecimal.ZERO;
+        }
+    }
+
+    /**
+     * Verifica se o usuário possui multas em aberto.
+     */
+    public boolean possuiDebitos() {
+        return saldoDevedor != null && saldoDevedor.signum() > 0;
     }
 
     // Implementação de UserDetails
@@ -0,0 +1,15 @@
+package com.biblioteca.model.projection;
+
+/**
+ * Projeção de listagem de autores com o total de livros, sem carregar a coleção.
+ */
+public interface AutorResumo {
+
+    Long getId();
+
+    String getNome();
+
+    String getNacionalidade();
+
+    Long getTotalLivros();
+}
@@ -0,0 +1,11 @@
+package com.biblioteca.model.projection;
+
+/**
+ * Projeção com o total de empréstimos de uma categoria em um período.
+ */
+public interface CategoriaCirculacao {
+
+    String getNome();
+
+    Long getEmprestimos();
+}
@@ -0,0 +1,15 @@
+package com.biblioteca.model.projection;
+
+/**
+ * Projeção de listagem de categorias com o total de livros, sem carregar a coleção.
+ */
+public interface CategoriaResumo {
+
+    Long getId();
+
+    String getNome();
+
+    String getDescricao();
+
+    Long getTotalLivros();
+}
@@ -0,0 +1,27 @@
+package com.biblioteca.model.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Projeção de empréstimos agrupados por dia, livro e usuário,
+ * usada na reconstrução das estatísticas de circulação.
+ *
+ * Atrasos e multas só são preenchidos nos agrupamentos de devoluções.
+ */
+public interface CirculacaoAgregada {
+
+    LocalDate getData();
+
+    Long getLivroId();
+
+    Long getCategoriaId();
+
+    Long getUsuarioId();
+
+    Long getQuantidade();
+
+    Long getAtrasos();
+
+    BigDecimal getMultas();
+}
@@ -0,0 +1,33 @@
+package com.biblioteca.model.projection;
+
+import com.biblioteca.model.entity.Emprestimo;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Projeção plana de empréstimo usada nas exportações em streaming.
+ * Não carrega entidades no contexto de persistência.
+ */
+public interface EmprestimoExportacao {
+
+    Long getId();
+
+    String getLivroTitulo();
+
+    String getLivroIsbn();
+
+    String getUsuarioNome();
+
+    String getUsuarioEmail();
+
+    LocalDate getDataEmprestimo();
+
+    LocalDate getDataPrevistaDevolucao();
+
+    LocalDate getDataDevolucao();
+
+    Emprestimo.StatusEmprestimo getStatus();
+
+    BigDecimal getMulta();
+}
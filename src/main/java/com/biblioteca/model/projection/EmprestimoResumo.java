@@ -0,0 +1,35 @@
+package com.biblioteca.model.projection;
+
+import com.biblioteca.model.entity.Emprestimo;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Projeção das listagens de empréstimos: administrativa e histórico do usuário
+ * (livro e usuário por junção).
+ */
+public interface EmprestimoResumo {
+
+    Long getId();
+
+    Long getLivroId();
+
+    String getLivroTitulo();
+
+    String getLivroIsbn();
+
+    Long getUsuarioId();
+
+    String getUsuarioNome();
+
+    LocalDate getDataEmprestimo();
+
+    LocalDate getDataPrevistaDevolucao();
+
+    LocalDate getDataDevolucao();
+
+    Emprestimo.StatusEmprestimo getStatus();
+
+    BigDecimal getMulta();
+}
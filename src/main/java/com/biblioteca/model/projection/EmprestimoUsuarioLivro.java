@@ -0,0 +1,11 @@
+package com.biblioteca.model.projection;
+
+/**
+ * Projeção com o par usuário/livro de um empréstimo.
+ */
+public interface EmprestimoUsuarioLivro {
+
+    Long getUsuarioId();
+
+    Long getLivroId();
+}
@@ -0,0 +1,13 @@
+package com.biblioteca.model.projection;
+
+/**
+ * Par livro/autor usado para compor os autores das listagens de LivroResumo.
+ */
+public interface LivroAutorNome {
+
+    Long getLivroId();
+
+    Long getAutorId();
+
+    String getAutorNome();
+}
@@ -0,0 +1,11 @@
+package com.biblioteca.model.projection;
+
+/**
+ * Projeção com o total de empréstimos de um livro em um período.
+ */
+public interface LivroCirculacao {
+
+    Long getLivroId();
+
+    Long getEmprestimos();
+}
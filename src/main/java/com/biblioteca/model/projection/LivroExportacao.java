@@ -0,0 +1,31 @@
+package com.biblioteca.model.projection;
+
+import com.biblioteca.model.entity.Livro;
+
+/**
+ * Projeção plana de livro usada nas exportações em streaming.
+ * Cada linha traz um autor; livros com vários autores aparecem em linhas
+ * consecutivas (ordenadas por id).
+ */
+public interface LivroExportacao {
+
+    Long getId();
+
+    String getTitulo();
+
+    String getIsbn();
+
+    String getEditora();
+
+    Integer getAnoPublicacao();
+
+    String getCategoriaNome();
+
+    String getAutorNome();
+
+    Integer getQuantidadeTotal();
+
+    Integer getQuantidadeDisponivel();
+
+    Livro.StatusLivro getStatus();
+}
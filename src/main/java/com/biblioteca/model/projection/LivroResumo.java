@@ -0,0 +1,28 @@
+package com.biblioteca.model.projection;
+
+import com.biblioteca.model.entity.Livro;
+
+/**
+ * Projeção de listagem de livros: sem sinopse (TEXT) e demais colunas exibidas
+ * apenas no detalhe. Os autores vêm de LivroAutorNome.
+ */
+public interface LivroResumo {
+
+    Long getId();
+
+    String getTitulo();
+
+    String getIsbn();
+
+    Integer getAnoPublicacao();
+
+    Integer getQuantidadeTotal();
+
+    Integer getQuantidadeDisponivel();
+
+    Livro.StatusLivro getStatus();
+
+    Long getCategoriaId();
+
+    String getCategoriaNome();
+}
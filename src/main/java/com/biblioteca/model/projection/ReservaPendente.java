@@ -0,0 +1,16 @@
+package com.biblioteca.model.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projeção mínima de uma reserva ativa, usada para reconstruir as filas
+ * e os prazos de retirada na inicialização.
+ */
+public interface ReservaPendente {
+
+    Long getId();
+
+    Long getLivroId();
+
+    LocalDateTime getDataExpiracao();
+}
@@ -0,0 +1,25 @@
+package com.biblioteca.model.projection;
+
+import com.biblioteca.model.entity.Usuario;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projeção plana de usuário usada nas exportações em streaming.
+ */
+public interface UsuarioExportacao {
+
+    Long getId();
+
+    String getNome();
+
+    String getEmail();
+
+    Usuario.Role getRole();
+
+    Boolean getAtivo();
+
+    LocalDateTime getDataCadastro();
+
+    Long getTotalEmprestimos();
+}
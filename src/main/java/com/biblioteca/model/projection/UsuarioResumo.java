@@ -0,0 +1,23 @@
+package com.biblioteca.model.projection;
+
+import com.biblioteca.model.entity.Usuario;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projeção da listagem administrativa de usuários.
+ */
+public interface UsuarioResumo {
+
+    Long getId();
+
+    String getNome();
+
+    String getEmail();
+
+    Usuario.Role getRole();
+
+    Boolean getAtivo();
+
+    LocalDateTime getDataCadastro();
+}
@@ -3,25 +3,30 @@ package com.biblioteca.pattern.factory;
 import com.biblioteca.model.entity.Emprestimo;
 import com.biblioteca.model.entity.Livro;
 import com.biblioteca.model.entity.Usuario;
+import com.biblioteca.pattern.singleton.ConfigurationManager;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 
 /**
- * Factory concreta para empréstimos estendidos (30 dias).
+ * Factory concreta para empréstimos estendidos (30 dias por padrão).
  * Usado para professores e funcionários.
  */
 @Component
 public class EmprestimoEstendidoFactory extends EmprestimoFactory {
 
-    private static final int DIAS_EMPRESTIMO_ESTENDIDO = 30;
-
     @Override
     public Emprestimo criarEmprestimo(Usuario usuario, Livro livro) {
         validarPreCondicoes(usuario, livro);
+        return criarEmprestimo(usuario, livro, ConfigurationManager.atual().diasEmprestimoEstendido());
+    }
+
+    @Override
+    public Emprestimo criarEmprestimo(Usuario usuario, Livro livro, int diasEmprestimo) {
+        validarParticipantes(usuario, livro);
 
         LocalDate dataEmprestimo = LocalDate.now();
-        LocalDate dataPrevistaDevolucao = dataEmprestimo.plusDays(DIAS_EMPRESTIMO_ESTENDIDO);
+        LocalDate dataPrevistaDevolucao = dataEmprestimo.plusDays(diasEmprestimo);
 
         return Emprestimo.builder()
                 .usuario(usuario)
@@ -29,7 +34,12 @@ public class EmprestimoEstendidoFactory extends EmprestimoFactory {
                 .dataEmprestimo(dataEmprestimo)
                 .dataPrevistaDevolucao(dataPrevistaDevolucao)
                 .status(Emprestimo.StatusEmprestimo.ATIVO)
-                .observacoes("Empréstimo estendido - " + DIAS_EMPRESTIMO_ESTENDIDO + " dias")
+                .observacoes("Empréstimo estendido - " + diasEmprestimo + " dias")
                 .build();
     }
+
+    @Override
+    public String getTipo() {
+        return "estendido";
+    }
 }
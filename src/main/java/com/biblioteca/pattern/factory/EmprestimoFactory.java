@@ -24,10 +24,28 @@ public abstract class EmprestimoFactory {
      */
     public abstract Emprestimo criarEmprestimo(Usuario usuario, Livro livro);
 
+    /**
+     * Cria o empréstimo com o prazo definido pela política do usuário.
+     * A disponibilidade do livro (ou a reserva) já deve ter sido verificada.
+     */
+    public abstract Emprestimo criarEmprestimo(Usuario usuario, Livro livro, int diasEmprestimo);
+
+    /**
+     * Identificador usado nas políticas de empréstimo (biblioteca.politicas.*).
+     */
+    public abstract String getTipo();
+
     /**
      * Template method com validações comuns.
      */
     protected void validarPreCondicoes(Usuario usuario, Livro livro) {
+        validarParticipantes(usuario, livro);
+        if (!livro.isDisponivel()) {
+            throw new IllegalStateException("Livro não está disponível para empréstimo");
+        }
+    }
+
+    protected void validarParticipantes(Usuario usuario, Livro livro) {
         if (usuario == null) {
             throw new IllegalArgumentException("Usuário não pode ser nulo");
         }
@@ -37,8 +55,5 @@ public abstract class EmprestimoFactory {
         if (!usuario.isAtivo()) {
             throw new IllegalStateException("Usuário inativo não pode realizar empréstimos");
         }
-        if (!livro.isDisponivel()) {
-            throw new IllegalStateException("Livro não está disponível para empréstimo");
-        }
     }
 }
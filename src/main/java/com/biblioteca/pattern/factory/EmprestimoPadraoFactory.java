@@ -3,24 +3,29 @@ package com.biblioteca.pattern.factory;
 import com.biblioteca.model.entity.Emprestimo;
 import com.biblioteca.model.entity.Livro;
 import com.biblioteca.model.entity.Usuario;
+import com.biblioteca.pattern.singleton.ConfigurationManager;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 
 /**
- * Factory concreta para empréstimos padrão (14 dias).
+ * Factory concreta para empréstimos padrão (14 dias por padrão).
  */
 @Component
 public class EmprestimoPadraoFactory extends EmprestimoFactory {
 
-    private static final int DIAS_EMPRESTIMO_PADRAO = 14;
-
     @Override
     public Emprestimo criarEmprestimo(Usuario usuario, Livro livro) {
         validarPreCondicoes(usuario, livro);
+        return criarEmprestimo(usuario, livro, ConfigurationManager.atual().diasEmprestimoPadrao());
+    }
+
+    @Override
+    public Emprestimo criarEmprestimo(Usuario usuario, Livro livro, int diasEmprestimo) {
+        validarParticipantes(usuario, livro);
 
         LocalDate dataEmprestimo = LocalDate.now();
-        LocalDate dataPrevistaDevolucao = dataEmprestimo.plusDays(DIAS_EMPRESTIMO_PADRAO);
+        LocalDate dataPrevistaDevolucao = dataEmprestimo.plusDays(diasEmprestimo);
 
         return Emprestimo.builder()
                 .usuario(usuario)
@@ -30,4 +35,9 @@ public class EmprestimoPadraoFactory extends EmprestimoFactory {
                 .status(Emprestimo.StatusEmprestimo.ATIVO)
                 .build();
     }
+
+    @Override
+    public String getTipo() {
+        return "padrao";
+    }
 }
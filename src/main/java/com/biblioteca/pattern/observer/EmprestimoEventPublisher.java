@@ -1,21 +1,31 @@
 package com.biblioteca.pattern.observer;
 
 import com.biblioteca.model.entity.Emprestimo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Subject que gerencia e notifica os observers de empréstimo.
+ *
+ * Os observers são chamados na thread de quem publica o evento; o timer
+ * {@code biblioteca.observer.despacho} mede o tempo gasto em cada um, por
+ * observer e evento.
  */
 @Component
 public class EmprestimoEventPublisher {
 
     private final List<EmprestimoObserver> observers;
+    private final MeterRegistry meterRegistry;
 
-    public EmprestimoEventPublisher(List<EmprestimoObserver> observers) {
+    public EmprestimoEventPublisher(List<EmprestimoObserver> observers, MeterRegistry meterRegistry) {
         this.observers = new ArrayList<>(observers);
+        this.meterRegistry = meterRegistry;
     }
 
     public void addObserver(EmprestimoObserver observer) {
@@ -27,18 +37,33 @@ public class EmprestimoEventPublisher {
     }
 
     public void notificarEmprestimoRealizado(Emprestimo emprestimo) {
-        observers.forEach(observer -> observer.onEmprestimoRealizado(emprestimo));
+        despachar("realizado", observer -> observer.onEmprestimoRealizado(emprestimo));
     }
 
     public void notificarDevolucaoRealizada(Emprestimo emprestimo) {
-        observers.forEach(observer -> observer.onDevolucaoRealizada(emprestimo));
+        despachar("devolucao", observer -> observer.onDevolucaoRealizada(emprestimo));
     }
 
     public void notificarProximoVencimento(Emprestimo emprestimo) {
-        observers.forEach(observer -> observer.onEmprestimoProximoVencimento(emprestimo));
+        despachar("proximoVencimento", observer -> observer.onEmprestimoProximoVencimento(emprestimo));
     }
 
     public void notificarAtraso(Emprestimo emprestimo) {
-        observers.forEach(observer -> observer.onEmprestimoAtrasado(emprestimo));
+        despachar("atraso", observer -> observer.onEmprestimoAtrasado(emprestimo));
+    }
+
+    public void notificarEmprestimoCancelado(Emprestimo emprestimo) {
+        despachar("cancelado", observer -> observer.onEmprestimoCancelado(emprestimo));
+    }
+
+    private void despachar(String evento, Consumer<EmprestimoObserver> notificacao) {
+        for (EmprestimoObserver observer : observers) {
+            Timer.builder("biblioteca.observer.despacho")
+                    .description("Tempo de despacho de eventos de empréstimo por observer")
+                    .tag("observer", ClassUtils.getUserClass(observer).getSimpleName())
+                    .tag("evento", evento)
+                    .register(meterRegistry)
+                    .record(() -> notificacao.accept(observer));
+        }
     }
 }
@@ -34,4 +34,10 @@ public interface EmprestimoObserver {
      * Chamado quando um empréstimo entra em atraso.
      */
     void onEmprestimoAtrasado(Emprestimo emprestimo);
+
+    /**
+     * Chamado quando um empréstimo é cancelado.
+     */
+    default void onEmprestimoCancelado(Emprestimo emprestimo) {
+    }
 }
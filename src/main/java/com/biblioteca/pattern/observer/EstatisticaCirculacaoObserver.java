@@ -0,0 +1,43 @@
+package com.biblioteca.pattern.observer;
+
+import com.biblioteca.model.entity.Emprestimo;
+import com.biblioteca.service.EstatisticaCirculacaoService;
+import org.springframework.stereotype.Component;
+
+/**
+ * Observer concreto que alimenta as estatísticas diárias de circulação.
+ */
+@Component
+public class EstatisticaCirculacaoObserver implements EmprestimoObserver {
+
+    private final EstatisticaCirculacaoService estatisticaService;
+
+    public EstatisticaCirculacaoObserver(EstatisticaCirculacaoService estatisticaService) {
+        this.estatisticaService = estatisticaService;
+    }
+
+    @Override
+    public void onEmprestimoRealizado(Emprestimo emprestimo) {
+        estatisticaService.registrarEmprestimo(emprestimo);
+    }
+
+    @Override
+    public void onDevolucaoRealizada(Emprestimo emprestimo) {
+        estatisticaService.registrarDevolucao(emprestimo);
+    }
+
+    @Override
+    public void onEmprestimoProximoVencimento(Emprestimo emprestimo) {
+        // Lembretes não alteram a circulação
+    }
+
+    @Override
+    public void onEmprestimoAtrasado(Emprestimo emprestimo) {
+        // Atrasos são contabilizados na devolução
+    }
+
+    @Override
+    public void onEmprestimoCancelado(Emprestimo emprestimo) {
+        estatisticaService.registrarCancelamento(emprestimo);
+    }
+}
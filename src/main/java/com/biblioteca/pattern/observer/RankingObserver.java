@@ -0,0 +1,36 @@
+package com.biblioteca.pattern.observer;
+
+import com.biblioteca.model.entity.Emprestimo;
+import com.biblioteca.service.RankingService;
+import org.springframework.stereotype.Component;
+
+/**
+ * Observer concreto que alimenta o ranking de livros mais emprestados.
+ */
+@Component
+public class RankingObserver implements EmprestimoObserver {
+
+    private final RankingService rankingService;
+
+    public RankingObserver(RankingService rankingService) {
+        this.rankingService = rankingService;
+    }
+
+    @Override
+    public void onEmprestimoRealizado(Emprestimo emprestimo) {
+        rankingService.registrarEmprestimo(emprestimo);
+    }
+
+    @Override
+    public void onDevolucaoRealizada(Emprestimo emprestimo) {
+        // O ranking considera apenas retiradas
+    }
+
+    @Override
+    public void onEmprestimoProximoVencimento(Emprestimo emprestimo) {
+    }
+
+    @Override
+    public void onEmprestimoAtrasado(Emprestimo emprestimo) {
+    }
+}
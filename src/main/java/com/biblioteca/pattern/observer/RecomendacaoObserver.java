@@ -0,0 +1,35 @@
+package com.biblioteca.pattern.observer;
+
+import com.biblioteca.model.entity.Emprestimo;
+import com.biblioteca.service.RecomendacaoService;
+import org.springframework.stereotype.Component;
+
+/**
+ * Observer concreto que atualiza as recomendações a cada novo empréstimo.
+ */
+@Component
+public class RecomendacaoObserver implements EmprestimoObserver {
+
+    private final RecomendacaoService recomendacaoService;
+
+    public RecomendacaoObserver(RecomendacaoService recomendacaoService) {
+        this.recomendacaoService = recomendacaoService;
+    }
+
+    @Override
+    public void onEmprestimoRealizado(Emprestimo emprestimo) {
+        recomendacaoService.registrarEmprestimo(emprestimo);
+    }
+
+    @Override
+    public void onDevolucaoRealizada(Emprestimo emprestimo) {
+    }
+
+    @Override
+    public void onEmprestimoProximoVencimento(Emprestimo emprestimo) {
+    }
+
+    @Override
+    public void onEmprestimoAtrasado(Emprestimo emprestimo) {
+    }
+}
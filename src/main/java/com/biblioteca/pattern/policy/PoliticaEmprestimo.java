@@ -0,0 +1,23 @@
+package com.biblioteca.pattern.policy;
+
+import com.biblioteca.model.entity.Usuario;
+import com.biblioteca.pattern.factory.EmprestimoFactory;
+import com.biblioteca.pattern.strategy.MultaStrategy;
+
+/**
+ * Regras de empréstimo aplicáveis a uma classe de usuário: como o
+ * empréstimo é criado, por quantos dias, quantas renovações são permitidas
+ * e como a multa é calculada.
+ */
+public record PoliticaEmprestimo(Usuario.Role papel,
+                                 EmprestimoFactory fabrica,
+                                 int diasEmprestimo,
+                                 int maxRenovacoes,
+                                 MultaStrategy multa) {
+
+    @Override
+    public String toString() {
+        return papel + "[" + fabrica.getTipo() + ", " + diasEmprestimo + " dias, "
+                + maxRenovacoes + " renovações, " + multa.getDescricao() + "]";
+    }
+}
@@ -0,0 +1,132 @@
+package com.biblioteca.pattern.policy;
+
+import com.biblioteca.model.entity.Usuario;
+import com.biblioteca.pattern.factory.EmprestimoFactory;
+import com.biblioteca.pattern.singleton.ConfigurationManager;
+import com.biblioteca.pattern.singleton.ConfiguracaoEmprestimo;
+import com.biblioteca.pattern.strategy.MultaCalculator;
+import com.biblioteca.pattern.strategy.MultaStrategy;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Motor de políticas de empréstimo por papel do usuário.
+ *
+ * As políticas são compiladas numa tabela imutável indexada pelo ordinal do
+ * papel, na inicialização e sempre que o retrato do
+ * {@link ConfigurationManager} muda. Resolver uma política é uma leitura
+ * volatile, uma comparação de referência e um acesso a array.
+ *
+ * Configuração por papel (arquivo externo ou application.yml):
+ * - biblioteca.politicas.PAPEL.fabrica: padrao | estendido
+ * - biblioteca.politicas.PAPEL.dias: prazo em dias (padrão: o da fábrica)
+ * - biblioteca.politicas.PAPEL.max-renovacoes
+ * - biblioteca.politicas.PAPEL.multa: nome do bean da estratégia de multa
+ *   (padrão: a estratégia ativa em biblioteca.emprestimo.estrategia-multa)
+ *
+ * Uma configuração inválida mantém a tabela anterior.
+ */
+@Component
+public class PoliticaEmprestimoResolver {
+
+    private static final Logger logger = LoggerFactory.getLogger(PoliticaEmprestimoResolver.class);
+
+    private static final String PREFIXO = "biblioteca.politicas.";
+
+    private final ConfigurationManager configurationManager;
+    private final Map<String, EmprestimoFactory> fabricas;
+    private final MultaCalculator multaCalculator;
+
+    private volatile Tabela tabela;
+
+    public PoliticaEmprestimoResolver(ConfigurationManager configurationManager,
+                                      List<EmprestimoFactory> fabricas,
+                                      MultaCalculator multaCalculator) {
+        this.configurationManager = configurationManager;
+        this.fabricas = fabricas.stream()
+                .collect(Collectors.toMap(EmprestimoFactory::getTipo, Function.identity()));
+        this.multaCalculator = multaCalculator;
+    }
+
+    @PostConstruct
+    void inicializar() {
+        // Falha na inicialização se a configuração for inválida
+        ConfiguracaoEmprestimo configuracao = ConfigurationManager.atual();
+        tabela = new Tabela(configuracao, compilarPoliticas(configuracao));
+    }
+
+    public PoliticaEmprestimo resolver(Usuario usuario) {
+        return resolver(usuario.getRole());
+    }
+
+    public PoliticaEmprestimo resolver(Usuario.Role papel) {
+        Tabela atual = tabela;
+        if (atual.origem() != ConfigurationManager.atual()) {
+            atual = recompilar();
+        }
+        return atual.politicas()[papel.ordinal()];
+    }
+
+    private synchronized Tabela recompilar() {
+        ConfiguracaoEmprestimo configuracao = ConfigurationManager.atual();
+        Tabela atual = tabela;
+        if (atual.origem() == configuracao) {
+            return atual;
+        }
+
+        PoliticaEmprestimo[] politicas;
+        try {
+            politicas = compilarPoliticas(configuracao);
+        } catch (IllegalArgumentException e) {
+            logger.error("Políticas de empréstimo inválidas; mantidas as anteriores", e);
+            politicas = atual.politicas();
+        }
+        tabela = new Tabela(configuracao, politicas);
+        return tabela;
+    }
+
+    private PoliticaEmprestimo[] compilarPoliticas(ConfiguracaoEmprestimo configuracao) {
+        Usuario.Role[] papeis = Usuario.Role.values();
+        PoliticaEmprestimo[] politicas = new PoliticaEmprestimo[papeis.length];
+        for (Usuario.Role papel : papeis) {
+            politicas[papel.ordinal()] = compilar(papel, configuracao);
+        }
+        logger.info("Políticas de empréstimo compiladas: {}", List.of(politicas));
+        return politicas;
+    }
+
+    private PoliticaEmprestimo compilar(Usuario.Role papel, ConfiguracaoEmprestimo configuracao) {
+        String prefixo = PREFIXO + papel.name() + ".";
+
+        String tipoFabrica = configurationManager.getPropriedade(prefixo + "fabrica", "padrao");
+        EmprestimoFactory fabrica = fabricas.get(tipoFabrica);
+        if (fabrica == null) {
+            throw new IllegalArgumentException("Fábrica de empréstimo desconhecida para " + papel + ": " + tipoFabrica);
+        }
+
+        int diasPadrao = "estendido".equals(tipoFabrica)
+                ? configuracao.diasEmprestimoEstendido()
+                : configuracao.diasEmprestimoPadrao();
+        int dias = Integer.parseInt(configurationManager.getPropriedade(prefixo + "dias", String.valueOf(diasPadrao)));
+        int maxRenovacoes = Integer.parseInt(configurationManager.getPropriedade(prefixo + "max-renovacoes",
+                String.valueOf(configuracao.maxRenovacoes())));
+        if (dias <= 0 || maxRenovacoes < 0) {
+            throw new IllegalArgumentException("Prazo e renovações inválidos para " + papel);
+        }
+
+        String nomeMulta = configurationManager.getPropriedade(prefixo + "multa", configuracao.estrategiaMulta());
+        MultaStrategy multa = multaCalculator.getEstrategia(nomeMulta);
+
+        return new PoliticaEmprestimo(papel, fabrica, dias, maxRenovacoes, multa);
+    }
+
+    private record Tabela(ConfiguracaoEmprestimo origem, PoliticaEmprestimo[] politicas) {
+    }
+}
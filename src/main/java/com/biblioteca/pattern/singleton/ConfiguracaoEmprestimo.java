@@ -0,0 +1,82 @@
+package com.biblioteca.pattern.singleton;
+
+import java.math.BigDecimal;
+
+/**
+ * Retrato imutável das regras de empréstimo.
+ *
+ * Os campos são primitivos ou imutáveis (valor da multa e nome da
+ * estratégia de multa ativa), então ler uma regra não aloca nem faz
+ * unboxing. Uma alteração produz um novo retrato, trocado atomicamente
+ * pelo {@link ConfigurationManager}.
+ */
+public record ConfiguracaoEmprestimo(int maxEmprestimosPorUsuario,
+                                     int diasEmprestimoPadrao,
+                                     int diasEmprestimoEstendido,
+                                     BigDecimal valorMultaPorDia,
+                                     int diasAvisoVencimento,
+                                     boolean permitirRenovacao,
+                                     int maxRenovacoes,
+                                     String estrategiaMulta) {
+
+    public static final ConfiguracaoEmprestimo PADRAO = new ConfiguracaoEmprestimo(
+            3, 14, 30, new BigDecimal("2.00"), 3, true, 1, "multaFixa");
+
+    public ConfiguracaoEmprestimo {
+        if (maxEmprestimosPorUsuario <= 0) {
+            throw new IllegalArgumentException("O limite de empréstimos por usuário deve ser positivo");
+        }
+        if (diasEmprestimoPadrao <= 0 || diasEmprestimoEstendido <= 0) {
+            throw new IllegalArgumentException("Os prazos de empréstimo devem ser positivos");
+        }
+        if (valorMultaPorDia == null || valorMultaPorDia.signum() < 0) {
+            throw new IllegalArgumentException("O valor da multa por dia não pode ser negativo");
+        }
+        if (diasAvisoVencimento < 0 || maxRenovacoes < 0) {
+            throw new IllegalArgumentException("Aviso de vencimento e renovações não podem ser negativos");
+        }
+        if (estrategiaMulta == null || estrategiaMulta.isBlank()) {
+            throw new IllegalArgumentException("A estratégia de multa deve ser informada");
+        }
+    }
+
+    public ConfiguracaoEmprestimo comMaxEmprestimosPorUsuario(int valor) {
+        return new ConfiguracaoEmprestimo(valor, diasEmprestimoPadrao, diasEmprestimoEstendido,
+                valorMultaPorDia, diasAvisoVencimento, permitirRenovacao, maxRenovacoes, estrategiaMulta);
+    }
+
+    public ConfiguracaoEmprestimo comDiasEmprestimoPadrao(int valor) {
+        return new ConfiguracaoEmprestimo(maxEmprestimosPorUsuario, valor, diasEmprestimoEstendido,
+                valorMultaPorDia, diasAvisoVencimento, permitirRenovacao, maxRenovacoes, estrategiaMulta);
+    }
+
+    public ConfiguracaoEmprestimo comDiasEmprestimoEstendido(int valor) {
+        return new ConfiguracaoEmprestimo(maxEmprestimosPorUsuario, diasEmprestimoPadrao, valor,
+                valorMultaPorDia, diasAvisoVencimento, permitirRenovacao, maxRenovacoes, estrategiaMulta);
+    }
+
+    public ConfiguracaoEmprestimo comValorMultaPorDia(BigDecimal valor) {
+        return new ConfiguracaoEmprestimo(maxEmprestimosPorUsuario, diasEmprestimoPadrao, diasEmprestimoEstendido,
+                valor, diasAvisoVencimento, permitirRenovacao, maxRenovacoes, estrategiaMulta);
+    }
+
+    public ConfiguracaoEmprestimo comDiasAvisoVencimento(int valor) {
+        return new ConfiguracaoEmprestimo(maxEmprestimosPorUsuario, diasEmprestimoPadrao, diasEmprestimoEstendido,
+                valorMultaPorDia, valor, permitirRenovacao, maxRenovacoes, estrategiaMulta);
+    }
+
+    public ConfiguracaoEmprestimo comPermitirRenovacao(boolean valor) {
+        return new ConfiguracaoEmprestimo(maxEmprestimosPorUsuario, diasEmprestimoPadrao, diasEmprestimoEstendido,
+                valorMultaPorDia, diasAvisoVencimento, valor, maxRenovacoes, estrategiaMulta);
+    }
+
+    public ConfiguracaoEmprestimo comMaxRenovacoes(int valor) {
+        return new ConfiguracaoEmprestimo(maxEmprestimosPorUsuario, diasEmprestimoPadrao, diasEmprestimoEstendido,
+                valorMultaPorDia, diasAvisoVencimento, permitirRenovacao, valor, estrategiaMulta);
+    }
+
+    public ConfiguracaoEmprestimo comEstrategiaMulta(String valor) {
+        return new ConfiguracaoEmprestimo(maxEmprestimosPorUsuario, diasEmprestimoPadrao, diasEmprestimoEstendido,
+                valorMultaPorDia, diasAvisoVencimento, permitirRenovacao, maxRenovacoes, valor);
+    }
+}
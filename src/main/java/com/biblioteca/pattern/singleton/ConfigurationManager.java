@@ -1,10 +1,23 @@
 package com.biblioteca.pattern.singleton;
 
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.Properties;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * PADRÃO DE PROJETO: SINGLETON
@@ -19,99 +32,283 @@ import java.util.concurrent.atomic.AtomicLong;
  * - Única instância compartilhada
  * - Acesso global controlado
  * - Estado consistente
+ * 
+ * As regras ficam num {@link ConfiguracaoEmprestimo} imutável publicado
+ * por uma referência volatile: a leitura é uma única carga, sem boxing nem
+ * contadores compartilhados. Os valores vêm de biblioteca.emprestimo.* e,
+ * se configurado, de um arquivo .properties recarregado ao ser alterado.
+ *
+ * Alterações feitas em execução (setConfig, troca da estratégia de multa)
+ * têm prioridade sobre o arquivo e as propriedades e são mantidas nas
+ * recargas, até {@link #resetToDefaults()} ou o reinício da aplicação.
  */
 @Component
 public class ConfigurationManager {
 
-    // Instância única (Thread-safe com ConcurrentHashMap)
-    private static ConfigurationManager instance;
-    
-    private final Map<String, Object> configurations;
-    private final AtomicLong accessCount;
+    private static final Logger logger = LoggerFactory.getLogger(ConfigurationManager.class);
+
+    private static final String PREFIXO = "biblioteca.emprestimo.";
+
+    private static final List<String> CHAVES = List.of("MAX_EMPRESTIMOS_POR_USUARIO", "DIAS_EMPRESTIMO_PADRAO",
+            "DIAS_EMPRESTIMO_ESTENDIDO", "VALOR_MULTA_POR_DIA", "DIAS_AVISO_VENCIMENTO", "PERMITIR_RENOVACAO",
+            "MAX_RENOVACOES", "ESTRATEGIA_MULTA");
+
+    // Instância única; a gerenciada pelo Spring assume o lugar ao iniciar
+    private static volatile ConfigurationManager instance;
+
+    // Retrato vigente das regras (troca atômica)
+    private static volatile ConfiguracaoEmprestimo configuracao = ConfiguracaoEmprestimo.PADRAO;
+
+    private final Environment environment;
+    private final Path arquivo;
+    private long arquivoModificadoEm;
+    private volatile Properties propriedadesArquivo = new Properties();
+
+    // Alterações em execução, nas mesmas chaves de biblioteca.emprestimo.*
+    private final Properties ajustes = new Properties();
+
+    // Leituras pela API por chave; LongAdder evita disputa entre threads
+    private final LongAdder acessos = new LongAdder();
 
     private ConfigurationManager() {
-        this.configurations = new ConcurrentHashMap<>();
-        this.accessCount = new AtomicLong(0);
-        
-        // Configurações padrão
-        configurations.put("MAX_EMPRESTIMOS_POR_USUARIO", 3);
-        configurations.put("DIAS_EMPRESTIMO_PADRAO", 14);
-        configurations.put("DIAS_EMPRESTIMO_ESTENDIDO", 30);
-        configurations.put("VALOR_MULTA_POR_DIA", 2.0);
-        configurations.put("DIAS_AVISO_VENCIMENTO", 3);
-        configurations.put("PERMITIR_RENOVACAO", true);
-        configurations.put("MAX_RENOVACOES", 1);
+        this.environment = null;
+        this.arquivo = null;
+    }
+
+    @Autowired
+    ConfigurationManager(Environment environment) {
+        this.environment = environment;
+        String caminho = environment.getProperty("biblioteca.configuracao.arquivo", "");
+        this.arquivo = caminho.isBlank() ? null : Path.of(caminho);
+    }
+
+    @PostConstruct
+    void registrar() {
+        recarregar();
+        instance = this;
     }
 
     /**
      * Retorna a instância única do ConfigurationManager.
      * Double-checked locking para thread-safety.
      */
-    public static synchronized ConfigurationManager getInstance() {
-        if (instance == null) {
-            instance = new ConfigurationManager();
+    public static ConfigurationManager getInstance() {
+        ConfigurationManager atual = instance;
+        if (atual == null) {
+            synchronized (ConfigurationManager.class) {
+                atual = instance;
+                if (atual == null) {
+                    atual = new ConfigurationManager();
+                    instance = atual;
+                }
+            }
+        }
+        return atual;
+    }
+
+    /**
+     * Retorna o retrato vigente das regras de empréstimo.
+     */
+    public static ConfiguracaoEmprestimo atual() {
+        return configuracao;
+    }
+
+    public ConfiguracaoEmprestimo getConfiguracao() {
+        return configuracao;
+    }
+
+    /**
+     * Substitui o retrato vigente de uma só vez.
+     */
+    public void atualizar(ConfiguracaoEmprestimo nova) {
+        configuracao = nova;
+        logger.info("Configuração de empréstimos atualizada: {}", nova);
+    }
+
+    /**
+     * Relê as propriedades da aplicação e o arquivo externo, se houver.
+     * Valores inválidos mantêm o retrato anterior.
+     */
+    public synchronized void recarregar() {
+        if (environment == null) {
+            return;
+        }
+        try {
+            Properties propriedades = new Properties();
+            if (arquivo != null && Files.isReadable(arquivo)) {
+                arquivoModificadoEm = Files.getLastModifiedTime(arquivo).toMillis();
+                try (InputStream entrada = Files.newInputStream(arquivo)) {
+                    propriedades.load(entrada);
+                }
+            }
+            ConfiguracaoEmprestimo nova = lerConfiguracao(propriedades);
+            propriedadesArquivo = propriedades;
+            atualizar(nova);
+        } catch (IOException | IllegalArgumentException e) {
+            logger.error("Configuração de empréstimos inválida; mantida a anterior", e);
+        }
+    }
+
+    /**
+     * Recarrega quando o arquivo externo é alterado.
+     */
+    @Scheduled(fixedDelayString = "${biblioteca.configuracao.verificacao-ms:30000}")
+    void verificarArquivo() {
+        if (arquivo == null || !Files.isReadable(arquivo)) {
+            return;
+        }
+        try {
+            if (Files.getLastModifiedTime(arquivo).toMillis() != arquivoModificadoEm) {
+                recarregar();
+            }
+        } catch (IOException e) {
+            logger.warn("Não foi possível verificar o arquivo de configuração {}", arquivo, e);
         }
-        return instance;
     }
 
     /**
-     * Obtém uma configuração pelo nome.
+     * Lê uma propriedade livre (ex.: políticas por papel), com o arquivo
+     * externo tendo prioridade sobre as propriedades da aplicação.
+     */
+    public String getPropriedade(String chave, String padrao) {
+        String valor = propriedadesArquivo.getProperty(chave);
+        if (valor == null && environment != null) {
+            valor = environment.getProperty(chave);
+        }
+        return valor != null ? valor.trim() : padrao;
+    }
+
+    /**
+     * Obtém uma configuração pelo nome. VALOR_MULTA_POR_DIA continua
+     * {@link Double} nesta API; o retrato traz o valor em BigDecimal.
      */
     @SuppressWarnings("unchecked")
     public <T> T getConfig(String key) {
-        accessCount.incrementAndGet();
-        return (T) configurations.get(key);
+        acessos.increment();
+        return (T) valorDaChave(configuracao, key);
     }
 
     /**
      * Obtém uma configuração com valor padrão.
      */
-    @SuppressWarnings("unchecked")
     public <T> T getConfig(String key, T defaultValue) {
-        accessCount.incrementAndGet();
-        Object value = configurations.get(key);
-        return value != null ? (T) value : defaultValue;
+        T value = getConfig(key);
+        return value != null ? value : defaultValue;
     }
 
     /**
-     * Define uma configuração.
+     * Define uma configuração. O valor é mantido nas recargas do arquivo
+     * e das propriedades (ver {@link #resetToDefaults()}).
      */
-    public void setConfig(String key, Object value) {
-        configurations.put(key, value);
+    public synchronized void setConfig(String key, Object value) {
+        ConfiguracaoEmprestimo atual = configuracao;
+        ConfiguracaoEmprestimo nova = switch (key) {
+            case "MAX_EMPRESTIMOS_POR_USUARIO" -> atual.comMaxEmprestimosPorUsuario(((Number) value).intValue());
+            case "DIAS_EMPRESTIMO_PADRAO" -> atual.comDiasEmprestimoPadrao(((Number) value).intValue());
+            case "DIAS_EMPRESTIMO_ESTENDIDO" -> atual.comDiasEmprestimoEstendido(((Number) value).intValue());
+            case "VALOR_MULTA_POR_DIA" -> atual.comValorMultaPorDia(new BigDecimal(value.toString()));
+            case "DIAS_AVISO_VENCIMENTO" -> atual.comDiasAvisoVencimento(((Number) value).intValue());
+            case "PERMITIR_RENOVACAO" -> atual.comPermitirRenovacao((Boolean) value);
+            case "MAX_RENOVACOES" -> atual.comMaxRenovacoes(((Number) value).intValue());
+            case "ESTRATEGIA_MULTA" -> atual.comEstrategiaMulta(value.toString());
+            default -> throw new IllegalArgumentException("Configuração desconhecida: " + key);
+        };
+        ajustes.setProperty(propriedade(key), String.valueOf(valorDaChave(nova, key)));
+        atualizar(nova);
     }
 
     /**
      * Verifica se uma configuração existe.
      */
     public boolean hasConfig(String key) {
-        return configurations.containsKey(key);
+        return CHAVES.contains(key);
     }
 
     /**
      * Retorna todas as configurações.
      */
     public Map<String, Object> getAllConfigs() {
-        return Map.copyOf(configurations);
+        ConfiguracaoEmprestimo atual = configuracao;
+        Map<String, Object> configs = new LinkedHashMap<>();
+        for (String chave : CHAVES) {
+            configs.put(chave, valorDaChave(atual, chave));
+        }
+        return configs;
     }
 
     /**
-     * Retorna contagem de acessos (para métricas).
+     * Retorna contagem de acessos pela API por chave (para métricas).
      */
     public long getAccessCount() {
-        return accessCount.get();
+        return acessos.sum();
     }
 
     /**
-     * Recarrega configurações padrão.
+     * Descarta as alterações feitas em execução e volta aos valores
+     * configurados (arquivo e propriedades) ou, sem eles, aos padrões.
      */
-    public void resetToDefaults() {
-        configurations.clear();
-        configurations.put("MAX_EMPRESTIMOS_POR_USUARIO", 3);
-        configurations.put("DIAS_EMPRESTIMO_PADRAO", 14);
-        configurations.put("DIAS_EMPRESTIMO_ESTENDIDO", 30);
-        configurations.put("VALOR_MULTA_POR_DIA", 2.0);
-        configurations.put("DIAS_AVISO_VENCIMENTO", 3);
-        configurations.put("PERMITIR_RENOVACAO", true);
-        configurations.put("MAX_RENOVACOES", 1);
+    public synchronized void resetToDefaults() {
+        ajustes.clear();
+        if (environment != null) {
+            recarregar();
+        } else {
+            atualizar(ConfiguracaoEmprestimo.PADRAO);
+        }
+    }
+
+    private static Object valorDaChave(ConfiguracaoEmprestimo atual, String key) {
+        return switch (key) {
+            case "MAX_EMPRESTIMOS_POR_USUARIO" -> atual.maxEmprestimosPorUsuario();
+            case "DIAS_EMPRESTIMO_PADRAO" -> atual.diasEmprestimoPadrao();
+            case "DIAS_EMPRESTIMO_ESTENDIDO" -> atual.diasEmprestimoEstendido();
+            case "VALOR_MULTA_POR_DIA" -> atual.valorMultaPorDia().doubleValue();
+            case "DIAS_AVISO_VENCIMENTO" -> atual.diasAvisoVencimento();
+            case "PERMITIR_RENOVACAO" -> atual.permitirRenovacao();
+            case "MAX_RENOVACOES" -> atual.maxRenovacoes();
+            case "ESTRATEGIA_MULTA" -> atual.estrategiaMulta();
+            default -> null;
+        };
+    }
+
+    private static String propriedade(String key) {
+        return PREFIXO + switch (key) {
+            case "MAX_EMPRESTIMOS_POR_USUARIO" -> "max-por-usuario";
+            case "DIAS_EMPRESTIMO_PADRAO" -> "dias-padrao";
+            case "DIAS_EMPRESTIMO_ESTENDIDO" -> "dias-estendido";
+            case "VALOR_MULTA_POR_DIA" -> "multa-por-dia";
+            case "DIAS_AVISO_VENCIMENTO" -> "dias-aviso-vencimento";
+            case "PERMITIR_RENOVACAO" -> "permitir-renovacao";
+            case "MAX_RENOVACOES" -> "max-renovacoes";
+            case "ESTRATEGIA_MULTA" -> "estrategia-multa";
+            default -> throw new IllegalArgumentException("Configuração desconhecida: " + key);
+        };
+    }
+
+    /**
+     * Combina as alterações em execução e o arquivo externo (nessa ordem de
+     * prioridade) com as propriedades da aplicação.
+     */
+    private ConfiguracaoEmprestimo lerConfiguracao(Properties arquivo) {
+        ConfiguracaoEmprestimo padrao = ConfiguracaoEmprestimo.PADRAO;
+        return new ConfiguracaoEmprestimo(
+                Integer.parseInt(valor(arquivo, "max-por-usuario", padrao.maxEmprestimosPorUsuario())),
+                Integer.parseInt(valor(arquivo, "dias-padrao", padrao.diasEmprestimoPadrao())),
+                Integer.parseInt(valor(arquivo, "dias-estendido", padrao.diasEmprestimoEstendido())),
+                new BigDecimal(valor(arquivo, "multa-por-dia", padrao.valorMultaPorDia())),
+                Integer.parseInt(valor(arquivo, "dias-aviso-vencimento", padrao.diasAvisoVencimento())),
+                Boolean.parseBoolean(valor(arquivo, "permitir-renovacao", padrao.permitirRenovacao())),
+                Integer.parseInt(valor(arquivo, "max-renovacoes", padrao.maxRenovacoes())),
+                valor(arquivo, "estrategia-multa", padrao.estrategiaMulta()));
+    }
+
+    private String valor(Properties arquivo, String chave, Object padrao) {
+        String valor = ajustes.getProperty(PREFIXO + chave);
+        if (valor == null) {
+            valor = arquivo.getProperty(PREFIXO + chave);
+        }
+        if (valor == null) {
+            valor = environment.getProperty(PREFIXO + chave, String.valueOf(padrao));
+        }
+        return valor.trim();
     }
 }
@@ -1,33 +1,100 @@
 package com.biblioteca.pattern.strategy;
 
 import com.biblioteca.model.entity.Emprestimo;
-import org.springframework.beans.factory.annotation.Qualifier;
+import com.biblioteca.pattern.singleton.ConfigurationManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Contexto que utiliza a estratégia de cálculo de multa.
- * Permite trocar a estratégia dinamicamente.
+ * 
+ * Registro imutável das estratégias disponíveis, indexadas pelo nome do
+ * bean. A estratégia ativa é um nome no retrato do ConfigurationManager:
+ * trocá-la é uma troca atômica de configuração, e cada cálculo (ou lote)
+ * usa a estratégia lida uma única vez no início, sem bloqueios.
  */
 @Component
 public class MultaCalculator {
 
-    private MultaStrategy strategy;
+    private static final Logger logger = LoggerFactory.getLogger(MultaCalculator.class);
 
-    public MultaCalculator(@Qualifier("multaFixa") MultaStrategy strategy) {
-        this.strategy = strategy;
+    private static final String ESTRATEGIA_PADRAO = "multaFixa";
+
+    private final Map<String, MultaStrategy> estrategias;
+    private final ConfigurationManager configurationManager;
+
+    public MultaCalculator(Map<String, MultaStrategy> estrategias, ConfigurationManager configurationManager) {
+        this.estrategias = Map.copyOf(estrategias);
+        this.configurationManager = configurationManager;
+    }
+
+    /**
+     * Retorna a estratégia pelo nome.
+     *
+     * @throws IllegalArgumentException se não houver estratégia com o nome
+     */
+    public MultaStrategy getEstrategia(String nome) {
+        MultaStrategy estrategia = estrategias.get(nome);
+        if (estrategia == null) {
+            throw new IllegalArgumentException("Estratégia de multa desconhecida: " + nome
+                    + ". Disponíveis: " + estrategias.keySet());
+        }
+        return estrategia;
+    }
+
+    public Set<String> getNomesEstrategias() {
+        return estrategias.keySet();
     }
 
-    public void setStrategy(MultaStrategy strategy) {
-        this.strategy = strategy;
+    /**
+     * Retorna a estratégia ativa na configuração vigente.
+     */
+    public MultaStrategy getEstrategiaAtiva() {
+        String nome = ConfigurationManager.atual().estrategiaMulta();
+        MultaStrategy estrategia = estrategias.get(nome);
+        if (estrategia == null) {
+            logger.warn("Estratégia de multa '{}' inexistente; usando {}", nome, ESTRATEGIA_PADRAO);
+            return estrategias.get(ESTRATEGIA_PADRAO);
+        }
+        return estrategia;
+    }
+
+    /**
+     * Torna ativa a estratégia informada (troca atômica na configuração).
+     */
+    public void ativar(String nome) {
+        getEstrategia(nome);
+        configurationManager.setConfig("ESTRATEGIA_MULTA", nome);
     }
 
     public BigDecimal calcular(Emprestimo emprestimo) {
-        return strategy.calcularMulta(emprestimo);
+        return getEstrategiaAtiva().calcularMulta(emprestimo);
+    }
+
+    /**
+     * Calcula a multa de cada empréstimo com a estratégia ativa no início
+     * do lote, na mesma ordem da lista.
+     */
+    public List<BigDecimal> calcular(List<Emprestimo> emprestimos) {
+        return calcular(emprestimos, getEstrategiaAtiva());
+    }
+
+    public List<BigDecimal> calcular(List<Emprestimo> emprestimos, MultaStrategy estrategia) {
+        List<BigDecimal> multas = new ArrayList<>(emprestimos.size());
+        for (Emprestimo emprestimo : emprestimos) {
+            multas.add(estrategia.calcularMulta(emprestimo));
+        }
+        return multas;
     }
 
     public String getDescricaoEstrategia() {
-        return strategy.getDescricao();
+        return getEstrategiaAtiva().getDescricao();
     }
 }
@@ -1,6 +1,7 @@
 package com.biblioteca.repository;
 
 import com.biblioteca.model.entity.Autor;
+import com.biblioteca.model.projection.AutorResumo;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -21,8 +22,16 @@ public interface AutorRepository extends JpaRepository<Autor, Long> {
     @Query("SELECT DISTINCT a.nacionalidade FROM Autor a WHERE a.nacionalidade IS NOT NULL ORDER BY a.nacionalidade")
     List<String> findAllNacionalidades();
 
-    @Query("SELECT a FROM Autor a JOIN a.livros l WHERE l.id = :livroId")
+    @Query("SELECT a FROM Livro l JOIN l.autores a WHERE l.id = :livroId")
     List<Autor> findByLivroId(@Param("livroId") Long livroId);
 
     boolean existsByNome(String nome);
+
+    /**
+     * Autores com o total de livros em uma única consulta, ordenados por nome.
+     */
+    @Query("SELECT a.id AS id, a.nome AS nome, a.nacionalidade AS nacionalidade, " +
+           "(SELECT COUNT(l) FROM Livro l JOIN l.autores la WHERE la = a) AS totalLivros " +
+           "FROM Autor a ORDER BY a.nome")
+    List<AutorResumo> findAutoresComContagem();
 }
@@ -1,6 +1,7 @@
 package com.biblioteca.repository;
 
 import com.biblioteca.model.entity.Categoria;
+import com.biblioteca.model.projection.CategoriaResumo;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -20,9 +21,11 @@ public interface CategoriaRepository extends JpaRepository<Categoria, Long> {
 
     boolean existsByNome(String nome);
 
-    @Query("SELECT c FROM Categoria c LEFT JOIN FETCH c.livros ORDER BY c.nome")
-    List<Categoria> findAllWithLivros();
-
-    @Query("SELECT c, COUNT(l) FROM Categoria c LEFT JOIN c.livros l GROUP BY c ORDER BY COUNT(l) DESC")
-    List<Object[]> findCategoriasComContagem();
+    /**
+     * Categorias com o total de livros em uma única consulta agrupada, ordenadas por nome.
+     */
+    @Query("SELECT c.id AS id, c.nome AS nome, c.descricao AS descricao, COUNT(l) AS totalLivros " +
+           "FROM Categoria c LEFT JOIN Livro l ON l.categoria = c " +
+           "GROUP BY c.id, c.nome, c.descricao ORDER BY c.nome")
+    List<CategoriaResumo> findCategoriasComContagem();
 }
@@ -1,13 +1,25 @@
 package com.biblioteca.repository;
 
 import com.biblioteca.model.entity.Emprestimo;
+import com.biblioteca.model.projection.CirculacaoAgregada;
+import com.biblioteca.model.projection.EmprestimoExportacao;
+import com.biblioteca.model.projection.EmprestimoResumo;
+import com.biblioteca.model.projection.EmprestimoUsuarioLivro;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repositório para operações de persistência de Emprestimo.
@@ -15,33 +27,145 @@ import java.util.List;
 @Repository
 public interface EmprestimoRepository extends JpaRepository<Emprestimo, Long> {
 
-    List<Emprestimo> findByUsuarioId(Long usuarioId);
+    String SELECT_RESUMO = "SELECT e.id AS id, l.id AS livroId, l.titulo AS livroTitulo, l.isbn AS livroIsbn, " +
+           "u.id AS usuarioId, u.nome AS usuarioNome, e.dataEmprestimo AS dataEmprestimo, " +
+           "e.dataPrevistaDevolucao AS dataPrevistaDevolucao, e.dataDevolucao AS dataDevolucao, " +
+           "e.status AS status, e.multa AS multa " +
+           "FROM Emprestimo e JOIN e.livro l JOIN e.usuario u ";
+
+    // Listagens: livro e usuário carregados junto (sem uma consulta extra por linha)
+
+    @Override
+    @EntityGraph(Emprestimo.GRAFO_LIVRO_USUARIO)
+    List<Emprestimo> findAll();
 
     List<Emprestimo> findByLivroId(Long livroId);
 
     List<Emprestimo> findByStatus(Emprestimo.StatusEmprestimo status);
 
-    @Query("SELECT e FROM Emprestimo e WHERE e.status = 'ATIVO'")
+    // Verificações de exclusão: EXISTS limitado à primeira linha
+    boolean existsByLivroId(Long livroId);
+
+    boolean existsByUsuarioId(Long usuarioId);
+
+    @EntityGraph(Emprestimo.GRAFO_LIVRO_USUARIO)
+    @Query("SELECT e FROM Emprestimo e WHERE e.status IN ('ATIVO', 'RENOVADO')")
     List<Emprestimo> findEmprestimosAtivos();
 
-    @Query("SELECT e FROM Emprestimo e WHERE e.status = 'ATIVO' AND e.dataPrevistaDevolucao < :hoje")
+    @EntityGraph(Emprestimo.GRAFO_LIVRO_USUARIO)
+    @Query("SELECT e FROM Emprestimo e WHERE e.status IN ('ATIVO', 'RENOVADO') AND e.dataPrevistaDevolucao < :hoje")
     List<Emprestimo> findEmprestimosAtrasados(@Param("hoje") LocalDate hoje);
 
-    @Query("SELECT e FROM Emprestimo e WHERE e.usuario.id = :usuarioId AND e.status = 'ATIVO'")
+    @Query("SELECT e FROM Emprestimo e WHERE e.usuario.id = :usuarioId AND e.status IN ('ATIVO', 'RENOVADO')")
     List<Emprestimo> findEmprestimosAtivosPorUsuario(@Param("usuarioId") Long usuarioId);
 
-    @Query("SELECT COUNT(e) FROM Emprestimo e WHERE e.status = 'ATIVO'")
+    @Query("SELECT COUNT(e) FROM Emprestimo e WHERE e.status IN ('ATIVO', 'RENOVADO')")
     Long countEmprestimosAtivos();
 
-    @Query("SELECT COUNT(e) FROM Emprestimo e WHERE e.status = 'ATIVO' AND e.dataPrevistaDevolucao < :hoje")
+    @Query("SELECT COUNT(e) FROM Emprestimo e WHERE e.status IN ('ATIVO', 'RENOVADO') AND e.dataPrevistaDevolucao < :hoje")
     Long countEmprestimosAtrasados(@Param("hoje") LocalDate hoje);
 
-    @Query("SELECT e FROM Emprestimo e LEFT JOIN FETCH e.usuario LEFT JOIN FETCH e.livro WHERE e.id = :id")
+    @EntityGraph(Emprestimo.GRAFO_LIVRO_USUARIO)
+    @Query("SELECT e FROM Emprestimo e WHERE e.id = :id")
     Emprestimo findByIdWithRelations(@Param("id") Long id);
 
+    @EntityGraph(Emprestimo.GRAFO_LIVRO_USUARIO)
     @Query("SELECT e FROM Emprestimo e WHERE e.dataEmprestimo BETWEEN :inicio AND :fim")
     List<Emprestimo> findByPeriodo(@Param("inicio") LocalDate inicio, @Param("fim") LocalDate fim);
 
-    @Query("SELECT e FROM Emprestimo e WHERE e.usuario.id = :usuarioId AND e.livro.id = :livroId AND e.status = 'ATIVO'")
+    @Query("SELECT e FROM Emprestimo e WHERE e.usuario.id = :usuarioId AND e.livro.id = :livroId AND e.status IN ('ATIVO', 'RENOVADO')")
     List<Emprestimo> findEmprestimoAtivo(@Param("usuarioId") Long usuarioId, @Param("livroId") Long livroId);
+
+    /**
+     * Listagem administrativa paginada; parâmetros nulos não filtram
+     * (status é obrigatório: todos os status para não filtrar).
+     * Retorna Slice (sem COUNT sobre a tabela inteira a cada página).
+     */
+    @Query(SELECT_RESUMO +
+           "WHERE e.status IN :status " +
+           "AND (:vencidoAntes IS NULL OR e.dataPrevistaDevolucao < :vencidoAntes) " +
+           "AND (:inicio IS NULL OR e.dataEmprestimo >= :inicio) " +
+           "AND (:fim IS NULL OR e.dataEmprestimo <= :fim) " +
+           "AND (:usuarioId IS NULL OR e.usuario.id = :usuarioId) " +
+           "AND (:livroId IS NULL OR e.livro.id = :livroId)")
+    Slice<EmprestimoResumo> buscarResumos(@Param("status") Collection<Emprestimo.StatusEmprestimo> status,
+                                          @Param("vencidoAntes") LocalDate vencidoAntes,
+                                          @Param("inicio") LocalDate inicio,
+                                          @Param("fim") LocalDate fim,
+                                          @Param("usuarioId") Long usuarioId,
+                                          @Param("livroId") Long livroId,
+                                          Pageable pageable);
+
+    /**
+     * Histórico do usuário: empréstimos em andamento primeiro, depois os demais
+     * do mais recente para o mais antigo. Ordenação fixa; o Pageable só define a página.
+     * Índice: idx_emprestimos_usuario_data (usuario_id, data_emprestimo DESC).
+     */
+    @Query(SELECT_RESUMO +
+           "WHERE e.usuario.id = :usuarioId " +
+           "ORDER BY CASE WHEN e.status IN ('ATIVO', 'RENOVADO') THEN 0 ELSE 1 END, " +
+           "e.dataEmprestimo DESC, e.id DESC")
+    Slice<EmprestimoResumo> buscarHistorico(@Param("usuarioId") Long usuarioId, Pageable pageable);
+
+    // Consultas em streaming para exportação (consumir dentro de transação)
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT e.id AS id, l.titulo AS livroTitulo, l.isbn AS livroIsbn, " +
+           "u.nome AS usuarioNome, u.email AS usuarioEmail, e.dataEmprestimo AS dataEmprestimo, " +
+           "e.dataPrevistaDevolucao AS dataPrevistaDevolucao, e.dataDevolucao AS dataDevolucao, " +
+           "e.status AS status, e.multa AS multa " +
+           "FROM Emprestimo e JOIN e.livro l JOIN e.usuario u ORDER BY e.id")
+    Stream<EmprestimoExportacao> streamParaExportacao();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT e.id AS id, l.titulo AS livroTitulo, l.isbn AS livroIsbn, " +
+           "u.nome AS usuarioNome, u.email AS usuarioEmail, e.dataEmprestimo AS dataEmprestimo, " +
+           "e.dataPrevistaDevolucao AS dataPrevistaDevolucao, e.dataDevolucao AS dataDevolucao, " +
+           "e.status AS status, e.multa AS multa " +
+           "FROM Emprestimo e JOIN e.livro l JOIN e.usuario u " +
+           "WHERE e.status IN ('ATIVO', 'RENOVADO') AND e.dataPrevistaDevolucao < :hoje ORDER BY e.dataPrevistaDevolucao")
+    Stream<EmprestimoExportacao> streamAtrasadosParaExportacao(@Param("hoje") LocalDate hoje);
+
+    @Query("SELECT MIN(e.dataEmprestimo) FROM Emprestimo e")
+    LocalDate findPrimeiraDataEmprestimo();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT e.dataEmprestimo AS data, l.id AS livroId, c.id AS categoriaId, " +
+           "e.usuario.id AS usuarioId, COUNT(e) AS quantidade " +
+           "FROM Emprestimo e JOIN e.livro l LEFT JOIN l.categoria c " +
+           "WHERE e.status <> 'CANCELADO' AND e.dataEmprestimo BETWEEN :inicio AND :fim " +
+           "GROUP BY e.dataEmprestimo, l.id, c.id, e.usuario.id")
+    Stream<CirculacaoAgregada> streamEmprestimosAgregados(@Param("inicio") LocalDate inicio,
+                                                          @Param("fim") LocalDate fim);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT e.dataDevolucao AS data, l.id AS livroId, c.id AS categoriaId, " +
+           "e.usuario.id AS usuarioId, COUNT(e) AS quantidade, " +
+           "SUM(CASE WHEN e.dataDevolucao > e.dataPrevistaDevolucao THEN 1 ELSE 0 END) AS atrasos, " +
+           "SUM(COALESCE(e.multa, 0)) AS multas " +
+           "FROM Emprestimo e JOIN e.livro l LEFT JOIN l.categoria c " +
+           "WHERE e.status = 'DEVOLVIDO' AND e.dataDevolucao BETWEEN :inicio AND :fim " +
+           "GROUP BY e.dataDevolucao, l.id, c.id, e.usuario.id")
+    Stream<CirculacaoAgregada> streamDevolucoesAgregadas(@Param("inicio") LocalDate inicio,
+                                                         @Param("fim") LocalDate fim);
+
+    /**
+     * Pares usuário/livro distintos, agrupados por usuário e do mais recente
+     * para o mais antigo, usados na construção das recomendações.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT e.usuario.id AS usuarioId, e.livro.id AS livroId FROM Emprestimo e " +
+           "WHERE e.status <> 'CANCELADO' " +
+           "GROUP BY e.usuario.id, e.livro.id ORDER BY e.usuario.id, MAX(e.id) DESC")
+    Stream<EmprestimoUsuarioLivro> streamUsuarioLivroParaRecomendacao();
+
+    @Query("SELECT COUNT(e) FROM Emprestimo e WHERE e.usuario.id = :usuarioId AND e.livro.id = :livroId " +
+           "AND e.status <> 'CANCELADO'")
+    long countEmprestimosValidos(@Param("usuarioId") Long usuarioId, @Param("livroId") Long livroId);
+
+    @Query("SELECT e.livro.id FROM Emprestimo e WHERE e.usuario.id = :usuarioId AND e.livro.id <> :livroId " +
+           "AND e.status <> 'CANCELADO' GROUP BY e.livro.id ORDER BY MAX(e.id) DESC")
+    List<Long> findLivrosRecentesDoUsuario(@Param("usuarioId") Long usuarioId,
+                                           @Param("livroId") Long livroId,
+                                           Pageable pageable);
 }
@@ -0,0 +1,61 @@
+package com.biblioteca.repository;
+
+import com.biblioteca.model.entity.EstatisticaCirculacao;
+import com.biblioteca.model.projection.CategoriaCirculacao;
+import com.biblioteca.model.projection.LivroCirculacao;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repositório para operações de persistência das estatísticas de circulação.
+ */
+@Repository
+public interface EstatisticaCirculacaoRepository extends JpaRepository<EstatisticaCirculacao, Long> {
+
+    List<EstatisticaCirculacao> findByDimensaoAndDataBetweenOrderByData(EstatisticaCirculacao.Dimensao dimensao,
+                                                                       LocalDate inicio, LocalDate fim);
+
+    /**
+     * Soma os valores à linha existente. Retorna 0 se a linha ainda não existe.
+     */
+    @Modifying
+    @Query("UPDATE EstatisticaCirculacao s SET s.emprestimos = s.emprestimos + :emprestimos, " +
+           "s.devolucoes = s.devolucoes + :devolucoes, s.atrasos = s.atrasos + :atrasos, " +
+           "s.multas = s.multas + :multas " +
+           "WHERE s.data = :data AND s.dimensao = :dimensao AND s.chave = :chave")
+    int incrementar(@Param("data") LocalDate data,
+                    @Param("dimensao") EstatisticaCirculacao.Dimensao dimensao,
+                    @Param("chave") Long chave,
+                    @Param("emprestimos") long emprestimos,
+                    @Param("devolucoes") long devolucoes,
+                    @Param("atrasos") long atrasos,
+                    @Param("multas") BigDecimal multas);
+
+    @Modifying
+    @Query("DELETE FROM EstatisticaCirculacao s WHERE s.data BETWEEN :inicio AND :fim")
+    int excluirPorPeriodo(@Param("inicio") LocalDate inicio, @Param("fim") LocalDate fim);
+
+    @Query("SELECT c.nome AS nome, SUM(s.emprestimos) AS emprestimos " +
+           "FROM EstatisticaCirculacao s JOIN Categoria c ON c.id = s.chave " +
+           "WHERE s.dimensao = 'CATEGORIA' AND s.data BETWEEN :inicio AND :fim " +
+           "GROUP BY c.id, c.nome HAVING SUM(s.emprestimos) > 0 ORDER BY SUM(s.emprestimos) DESC")
+    List<CategoriaCirculacao> findCategoriasMaisEmprestadas(@Param("inicio") LocalDate inicio,
+                                                            @Param("fim") LocalDate fim,
+                                                            Pageable pageable);
+
+    @Query("SELECT s.chave AS livroId, SUM(s.emprestimos) AS emprestimos " +
+           "FROM EstatisticaCirculacao s " +
+           "WHERE s.dimensao = 'LIVRO' AND s.data BETWEEN :inicio AND :fim " +
+           "GROUP BY s.chave HAVING SUM(s.emprestimos) > 0 ORDER BY SUM(s.emprestimos) DESC")
+    List<LivroCirculacao> findLivrosMaisEmprestados(@Param("inicio") LocalDate inicio,
+                                                    @Param("fim") LocalDate fim,
+                                                    Pageable pageable);
+}
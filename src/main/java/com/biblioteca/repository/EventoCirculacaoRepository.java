@@ -0,0 +1,26 @@
+package com.biblioteca.repository;
+
+import com.biblioteca.model.entity.EventoCirculacao;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repositório das variações de circulação pendentes de consolidação.
+ */
+@Repository
+public interface EventoCirculacaoRepository extends JpaRepository<EventoCirculacao, Long> {
+
+    @Query("SELECT e FROM EventoCirculacao e ORDER BY e.id")
+    List<EventoCirculacao> findLote(Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM EventoCirculacao e WHERE e.data BETWEEN :inicio AND :fim")
+    int excluirPorPeriodo(@Param("inicio") LocalDate inicio, @Param("fim") LocalDate fim);
+}
@@ -0,0 +1,24 @@
+package com.biblioteca.repository;
+
+import com.biblioteca.model.entity.LancamentoMulta;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repositório para operações de persistência de LancamentoMulta.
+ *
+ * O extrato é somente de inclusão; o saldo devedor materializado fica em
+ * usuarios.saldo_devedor e é alterado na mesma transação do lançamento.
+ */
+@Repository
+public interface LancamentoMultaRepository extends JpaRepository<LancamentoMulta, Long> {
+
+    @Query("SELECT l FROM LancamentoMulta l WHERE l.usuario.id = :usuarioId ORDER BY l.id DESC")
+    List<LancamentoMulta> findByUsuarioId(@Param("usuarioId") Long usuarioId);
+
+    boolean existsByUsuarioId(Long usuarioId);
+}
@@ -1,15 +1,25 @@
 package com.biblioteca.repository;
 
 import com.biblioteca.model.entity.Livro;
+import com.biblioteca.model.projection.LivroAutorNome;
+import com.biblioteca.model.projection.LivroExportacao;
+import com.biblioteca.model.projection.LivroResumo;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repositório para operações de persistência de Livro.
@@ -17,18 +27,31 @@ import java.util.Optional;
 @Repository
 public interface LivroRepository extends JpaRepository<Livro, Long> {
 
+    /**
+     * Colunas das listagens (LivroResumo), sem a sinopse.
+     */
+    String SELECT_RESUMO = "SELECT l.id AS id, l.titulo AS titulo, l.isbn AS isbn, " +
+            "l.anoPublicacao AS anoPublicacao, l.quantidadeTotal AS quantidadeTotal, " +
+            "l.quantidadeDisponivel AS quantidadeDisponivel, l.status AS status, " +
+            "c.id AS categoriaId, c.nome AS categoriaNome " +
+            "FROM Livro l LEFT JOIN l.categoria c ";
+
+    String FILTRO_TERMO = "LOWER(l.titulo) LIKE LOWER(CONCAT('%', :termo, '%')) OR " +
+            "LOWER(l.isbn) LIKE LOWER(CONCAT('%', :termo, '%')) OR " +
+            "LOWER(l.editora) LIKE LOWER(CONCAT('%', :termo, '%'))";
+
     Optional<Livro> findByIsbn(String isbn);
 
     boolean existsByIsbn(String isbn);
 
-    List<Livro> findByTituloContainingIgnoreCase(String titulo);
+    // Verificações de exclusão: EXISTS limitado à primeira linha
+    boolean existsByCategoriaId(Long categoriaId);
 
-    List<Livro> findByStatus(Livro.StatusLivro status);
+    boolean existsByAutoresId(Long autorId);
 
-    List<Livro> findByCategoriaId(Long categoriaId);
+    List<Livro> findByTituloContainingIgnoreCase(String titulo);
 
-    @Query("SELECT l FROM Livro l WHERE l.quantidadeDisponivel > 0")
-    List<Livro> findLivrosDisponiveis();
+    List<Livro> findByStatus(Livro.StatusLivro status);
 
     @Query("SELECT l FROM Livro l WHERE l.quantidadeDisponivel = 0")
     List<Livro> findLivrosIndisponiveis();
@@ -36,18 +59,103 @@ public interface LivroRepository extends JpaRepository<Livro, Long> {
     @Query("SELECT l FROM Livro l JOIN l.autores a WHERE a.id = :autorId")
     List<Livro> findByAutorId(@Param("autorId") Long autorId);
 
-    @Query("SELECT l FROM Livro l WHERE " +
-           "LOWER(l.titulo) LIKE LOWER(CONCAT('%', :termo, '%')) OR " +
-           "LOWER(l.isbn) LIKE LOWER(CONCAT('%', :termo, '%')) OR " +
-           "LOWER(l.editora) LIKE LOWER(CONCAT('%', :termo, '%'))")
-    Page<Livro> buscarPorTermo(@Param("termo") String termo, Pageable pageable);
-
     @Query("SELECT COUNT(l) FROM Livro l WHERE l.quantidadeDisponivel > 0")
     Long countLivrosDisponiveis();
 
     @Query("SELECT COUNT(l) FROM Livro l WHERE l.quantidadeDisponivel = 0")
     Long countLivrosIndisponiveis();
 
-    @Query("SELECT l FROM Livro l LEFT JOIN FETCH l.categoria LEFT JOIN FETCH l.autores WHERE l.id = :id")
+    @EntityGraph(Livro.GRAFO_CATEGORIA_AUTORES)
+    @Query("SELECT l FROM Livro l WHERE l.id = :id")
     Optional<Livro> findByIdWithRelations(@Param("id") Long id);
+
+    /**
+     * Uma linha por par livro/autor, ordenada por livro, para exportação em streaming.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT l.id AS id, l.titulo AS titulo, l.isbn AS isbn, l.editora AS editora, " +
+           "l.anoPublicacao AS anoPublicacao, c.nome AS categoriaNome, a.nome AS autorNome, " +
+           "l.quantidadeTotal AS quantidadeTotal, l.quantidadeDisponivel AS quantidadeDisponivel, " +
+           "l.status AS status " +
+           "FROM Livro l LEFT JOIN l.categoria c LEFT JOIN l.autores a ORDER BY l.id")
+    Stream<LivroExportacao> streamParaExportacao();
+
+    /**
+     * Descarta em um único comando os livros informados que não estão
+     * descartados nem possuem empréstimo em aberto (ativo ou renovado).
+     */
+    @Modifying
+    @Query("UPDATE Livro l SET l.status = 'DESCARTADO', l.quantidadeDisponivel = 0 " +
+           "WHERE l.id IN :ids AND l.status <> 'DESCARTADO' " +
+           "AND NOT EXISTS (SELECT e.id FROM Emprestimo e WHERE e.livro.id = l.id AND e.status IN ('ATIVO', 'RENOVADO'))")
+    int descartar(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT l.id FROM Livro l WHERE l.id IN :ids AND l.status = 'DESCARTADO'")
+    List<Long> findIdsDescartados(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Retira um exemplar disponível com um UPDATE condicional: entre operações
+     * concorrentes, só uma leva o último exemplar e o saldo nunca fica negativo.
+     *
+     * @return 1 se o exemplar foi retirado, 0 se não havia exemplar disponível
+     */
+    @Modifying
+    @Query("UPDATE Livro l SET l.quantidadeDisponivel = l.quantidadeDisponivel - 1 " +
+           "WHERE l.id = :id AND l.quantidadeDisponivel > 0 AND l.status = 'DISPONIVEL'")
+    int retirarExemplar(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Livro l SET l.quantidadeDisponivel = l.quantidadeDisponivel + 1 WHERE l.id = :id")
+    int devolverExemplar(@Param("id") Long id);
+
+    /**
+     * Acompanham o saldo de exemplares; descartados e em manutenção mantêm o status.
+     */
+    @Modifying
+    @Query("UPDATE Livro l SET l.status = 'INDISPONIVEL' " +
+           "WHERE l.id = :id AND l.status = 'DISPONIVEL' AND l.quantidadeDisponivel = 0")
+    int marcarEsgotado(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Livro l SET l.status = 'DISPONIVEL' " +
+           "WHERE l.id = :id AND l.status = 'INDISPONIVEL' AND l.quantidadeDisponivel > 0")
+    int marcarDisponivel(@Param("id") Long id);
+
+    @Query("SELECT l FROM Livro l LEFT JOIN FETCH l.categoria WHERE l.id IN :ids")
+    List<Livro> findAllByIdComCategoria(@Param("ids") Collection<Long> ids);
+
+    // Listagens: projeções sem a sinopse; autores via findAutoresPorLivros
+
+    @Query(value = SELECT_RESUMO, countQuery = "SELECT COUNT(l) FROM Livro l")
+    Page<LivroResumo> findResumos(Pageable pageable);
+
+    @Query(value = SELECT_RESUMO + "WHERE " + FILTRO_TERMO,
+           countQuery = "SELECT COUNT(l) FROM Livro l WHERE " + FILTRO_TERMO)
+    Page<LivroResumo> buscarResumosPorTermo(@Param("termo") String termo, Pageable pageable);
+
+    @Query(SELECT_RESUMO + "WHERE l.quantidadeDisponivel > 0")
+    List<LivroResumo> findResumosDisponiveis();
+
+    @Query(SELECT_RESUMO + "WHERE c.id = :categoriaId")
+    List<LivroResumo> findResumosPorCategoria(@Param("categoriaId") Long categoriaId);
+
+    @Query(value = SELECT_RESUMO + "WHERE c.id = :categoriaId",
+           countQuery = "SELECT COUNT(l) FROM Livro l WHERE l.categoria.id = :categoriaId")
+    Page<LivroResumo> findResumosPorCategoria(@Param("categoriaId") Long categoriaId, Pageable pageable);
+
+    @Query(value = SELECT_RESUMO + "JOIN l.autores a WHERE a.id = :autorId",
+           countQuery = "SELECT COUNT(l) FROM Livro l JOIN l.autores a WHERE a.id = :autorId")
+    Page<LivroResumo> findResumosPorAutor(@Param("autorId") Long autorId, Pageable pageable);
+
+    /**
+     * Livros disponíveis cujo título (em minúsculas) ou ISBN começa pelo prefixo
+     * (ver BuscaUtil); índices por LOWER(titulo) e isbn no PostgreSQL (V7).
+     */
+    @Query(SELECT_RESUMO + "WHERE l.quantidadeDisponivel > 0 " +
+           "AND (LOWER(l.titulo) LIKE :prefixo ESCAPE '\\' OR l.isbn LIKE :prefixo ESCAPE '\\')")
+    List<LivroResumo> buscarDisponiveisPorPrefixo(@Param("prefixo") String prefixo, Pageable pageable);
+
+    @Query("SELECT l.id AS livroId, a.id AS autorId, a.nome AS autorNome " +
+           "FROM Livro l JOIN l.autores a WHERE l.id IN :livroIds ORDER BY a.nome")
+    List<LivroAutorNome> findAutoresPorLivros(@Param("livroIds") Collection<Long> livroIds);
 }
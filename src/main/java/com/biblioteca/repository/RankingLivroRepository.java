@@ -0,0 +1,24 @@
+package com.biblioteca.repository;
+
+import com.biblioteca.model.entity.RankingLivro;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repositório para operações de persistência do ranking de livros.
+ */
+@Repository
+public interface RankingLivroRepository extends JpaRepository<RankingLivro, Long> {
+
+    List<RankingLivro> findByJanelaAndInicioOrderByContagemDesc(RankingLivro.Janela janela, LocalDate inicio);
+
+    @Modifying
+    @Query("DELETE FROM RankingLivro r WHERE r.janela = :janela")
+    int excluirPorJanela(@Param("janela") RankingLivro.Janela janela);
+}
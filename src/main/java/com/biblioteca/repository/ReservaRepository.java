@@ -0,0 +1,88 @@
+package com.biblioteca.repository;
+
+import com.biblioteca.model.entity.Reserva;
+import com.biblioteca.model.entity.Reserva.StatusReserva;
+import com.biblioteca.model.projection.ReservaPendente;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repositório para operações de persistência de Reserva.
+ *
+ * As transições de status são UPDATEs condicionais ao status atual
+ * (compare-and-set): o retorno 1 indica que esta transação venceu a disputa.
+ */
+@Repository
+public interface ReservaRepository extends JpaRepository<Reserva, Long> {
+
+    @Query("SELECT r FROM Reserva r JOIN FETCH r.livro WHERE r.usuario.id = :usuarioId ORDER BY r.id DESC")
+    List<Reserva> findByUsuarioIdComLivro(@Param("usuarioId") Long usuarioId);
+
+    boolean existsByLivroId(Long livroId);
+
+    boolean existsByUsuarioId(Long usuarioId);
+
+    @Query("SELECT r FROM Reserva r WHERE r.usuario.id = :usuarioId AND r.livro.id = :livroId " +
+           "AND r.status IN :status")
+    List<Reserva> findByUsuarioELivro(@Param("usuarioId") Long usuarioId,
+                                          @Param("livroId") Long livroId,
+                                          @Param("status") Collection<StatusReserva> status);
+
+    @Query("SELECT r.id FROM Reserva r WHERE r.livro.id = :livroId AND r.status = 'AGUARDANDO' ORDER BY r.id")
+    List<Long> findIdsAguardando(@Param("livroId") Long livroId);
+
+    @Query("SELECT COUNT(r) FROM Reserva r WHERE r.livro.id = :livroId AND r.status = 'AGUARDANDO'")
+    long countAguardando(@Param("livroId") Long livroId);
+
+    @Query("SELECT COUNT(r) FROM Reserva r WHERE r.livro.id = :livroId AND r.status = 'AGUARDANDO' AND r.id < :id")
+    long countAguardandoAntes(@Param("livroId") Long livroId, @Param("id") Long id);
+
+    @Query("SELECT r.id AS id, r.livro.id AS livroId, r.dataExpiracao AS dataExpiracao " +
+           "FROM Reserva r WHERE r.status = :status ORDER BY r.id")
+    List<ReservaPendente> findPendentes(@Param("status") StatusReserva status);
+
+    /**
+     * Livros com exemplar livre e fila não vazia (reconciliação periódica).
+     */
+    @Query("SELECT DISTINCT r.livro.id FROM Reserva r WHERE r.status = 'AGUARDANDO' " +
+           "AND r.livro.quantidadeDisponivel > 0 AND r.livro.status = 'DISPONIVEL'")
+    List<Long> findLivrosComExemplarParaFila();
+
+    /**
+     * Cancela em um único comando as reservas ativas dos livros informados
+     * que estão descartados.
+     */
+    @Modifying
+    @Query("UPDATE Reserva r SET r.status = 'CANCELADA' WHERE r.status IN ('AGUARDANDO', 'DISPONIVEL') " +
+           "AND r.livro.id IN (SELECT l.id FROM Livro l WHERE l.id IN :livroIds AND l.status = 'DESCARTADO')")
+    int cancelarDeLivrosDescartados(@Param("livroIds") Collection<Long> livroIds);
+
+    @Modifying
+    @Query("UPDATE Reserva r SET r.status = :novo WHERE r.id = :id AND r.status = :atual")
+    int alterarStatus(@Param("id") Long id,
+                      @Param("atual") StatusReserva atual,
+                      @Param("novo") StatusReserva novo);
+
+    @Modifying
+    @Query("UPDATE Reserva r SET r.status = :novo, r.dataDisponibilidade = :agora, r.dataExpiracao = :expiracao " +
+           "WHERE r.id = :id AND r.status = :atual")
+    int disponibilizar(@Param("id") Long id,
+                       @Param("atual") StatusReserva atual,
+                       @Param("novo") StatusReserva novo,
+                       @Param("agora") LocalDateTime agora,
+                       @Param("expiracao") LocalDateTime expiracao);
+
+    @Modifying
+    @Query("UPDATE Reserva r SET r.status = :novo WHERE r.id = :id AND r.status = :atual AND r.dataExpiracao <= :agora")
+    int expirar(@Param("id") Long id,
+                @Param("atual") StatusReserva atual,
+                @Param("novo") StatusReserva novo,
+                @Param("agora") LocalDateTime agora);
+}
@@ -1,20 +1,41 @@
 package com.biblioteca.repository;
 
 import com.biblioteca.model.entity.Usuario;
+import com.biblioteca.model.projection.UsuarioExportacao;
+import com.biblioteca.model.projection.UsuarioResumo;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repositório para operações de persistência de Usuário.
+ *
+ * O saldo devedor só é alterado pelos UPDATEs relativos abaixo, na
+ * transação que grava o lançamento correspondente no extrato de multas.
  */
 @Repository
 public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
 
+    /**
+     * Filtros da listagem administrativa (buscarResumos).
+     */
+    String FILTRO_LISTAGEM = "(:termo IS NULL OR LOWER(u.nome) LIKE LOWER(CONCAT('%', :termo, '%')) " +
+            "OR LOWER(u.email) LIKE LOWER(CONCAT('%', :termo, '%'))) " +
+            "AND (:role IS NULL OR u.role = :role) " +
+            "AND (:ativo IS NULL OR u.ativo = :ativo)";
+
     Optional<Usuario> findByEmail(String email);
 
     boolean existsByEmail(String email);
@@ -26,6 +47,54 @@ public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
     @Query("SELECT u FROM Usuario u WHERE u.nome LIKE %:termo% OR u.email LIKE %:termo%")
     List<Usuario> buscarPorTermo(@Param("termo") String termo);
 
+    /**
+     * Listagem administrativa paginada; parâmetros nulos não filtram.
+     */
+    @Query(value = "SELECT u.id AS id, u.nome AS nome, u.email AS email, u.role AS role, " +
+                   "u.ativo AS ativo, u.dataCadastro AS dataCadastro FROM Usuario u WHERE " + FILTRO_LISTAGEM,
+           countQuery = "SELECT COUNT(u) FROM Usuario u WHERE " + FILTRO_LISTAGEM)
+    Page<UsuarioResumo> buscarResumos(@Param("termo") String termo,
+                                      @Param("role") Usuario.Role role,
+                                      @Param("ativo") Boolean ativo,
+                                      Pageable pageable);
+
+    /**
+     * Usuários ativos cujo nome ou e-mail começa pelo prefixo (padrão LIKE em
+     * minúsculas, ver BuscaUtil); índices por LOWER(nome) e LOWER(email) no PostgreSQL (V7).
+     */
+    @Query("SELECT u.id AS id, u.nome AS nome, u.email AS email, u.role AS role, " +
+           "u.ativo AS ativo, u.dataCadastro AS dataCadastro FROM Usuario u " +
+           "WHERE u.ativo = true AND (LOWER(u.nome) LIKE :prefixo ESCAPE '\\' " +
+           "OR LOWER(u.email) LIKE :prefixo ESCAPE '\\')")
+    List<UsuarioResumo> buscarPorPrefixo(@Param("prefixo") String prefixo, Pageable pageable);
+
     @Query("SELECT COUNT(u) FROM Usuario u WHERE u.ativo = true")
     Long countUsuariosAtivos();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT u.id AS id, u.nome AS nome, u.email AS email, u.role AS role, u.ativo AS ativo, " +
+           "u.dataCadastro AS dataCadastro, u.totalEmprestimos AS totalEmprestimos " +
+           "FROM Usuario u ORDER BY u.id")
+    Stream<UsuarioExportacao> streamParaExportacao();
+
+    @Query("SELECT u.saldoDevedor FROM Usuario u WHERE u.id = :id")
+    Optional<BigDecimal> findSaldoDevedor(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Usuario u SET u.saldoDevedor = u.saldoDevedor + :valor WHERE u.id = :id")
+    int adicionarSaldoDevedor(@Param("id") Long id, @Param("valor") BigDecimal valor);
+
+    /**
+     * Abate o valor do saldo devedor e o soma ao total de multas pagas;
+     * retorna 0 se o saldo for menor que o valor.
+     */
+    @Modifying
+    @Query("UPDATE Usuario u SET u.saldoDevedor = u.saldoDevedor - :valor, " +
+           "u.totalMultasPagas = u.totalMultasPagas + :valor " +
+           "WHERE u.id = :id AND u.saldoDevedor >= :valor")
+    int abaterSaldoDevedor(@Param("id") Long id, @Param("valor") BigDecimal valor);
+
+    @Modifying
+    @Query("UPDATE Usuario u SET u.totalEmprestimos = u.totalEmprestimos + 1 WHERE u.id = :id")
+    int incrementarTotalEmprestimos(@Param("id") Long id);
 }
@@ -1,6 +1,9 @@
 package com.biblioteca.service;
 
 import com.biblioteca.model.dto.EmprestimoDTO;
+import com.biblioteca.model.dto.FiltroEmprestimoDTO;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -13,6 +16,11 @@ public interface EmprestimoService {
 
     List<EmprestimoDTO> listarTodos();
 
+    /**
+     * Listagem administrativa filtrada, paginada sob demanda (sem total de páginas).
+     */
+    Slice<EmprestimoDTO> buscar(FiltroEmprestimoDTO filtro, Pageable pageable);
+
     Optional<EmprestimoDTO> buscarPorId(Long id);
 
     EmprestimoDTO realizarEmprestimo(Long usuarioId, Long livroId);
@@ -23,7 +31,10 @@ public interface EmprestimoService {
 
     void cancelarEmprestimo(Long emprestimoId);
 
-    List<EmprestimoDTO> listarPorUsuario(Long usuarioId);
+    /**
+     * Histórico do usuário: em andamento primeiro, depois do mais recente ao mais antigo.
+     */
+    Slice<EmprestimoDTO> listarHistorico(Long usuarioId, Pageable pageable);
 
     List<EmprestimoDTO> listarAtivos();
 
@@ -0,0 +1,58 @@
+package com.biblioteca.service;
+
+import com.biblioteca.model.dto.EstatisticaCirculacaoDTO;
+import com.biblioteca.model.entity.Emprestimo;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Interface de serviço para as estatísticas diárias de circulação.
+ *
+ * As estatísticas são atualizadas incrementalmente a partir dos eventos de
+ * empréstimo: cada variação é gravada na transação do evento e consolidada
+ * periodicamente nas tabelas agregadas.
+ */
+public interface EstatisticaCirculacaoService {
+
+    /**
+     * Registra um novo empréstimo. Deve ser chamado dentro da transação que
+     * o criou; a contabilização só ocorre se ela for confirmada.
+     */
+    void registrarEmprestimo(Emprestimo emprestimo);
+
+    void registrarDevolucao(Emprestimo emprestimo);
+
+    /**
+     * Desconta o empréstimo cancelado do dia em que foi realizado.
+     */
+    void registrarCancelamento(Emprestimo emprestimo);
+
+    /**
+     * Consolida as variações pendentes nas tabelas agregadas.
+     */
+    void descarregar();
+
+    /**
+     * Recalcula as estatísticas do período a partir da tabela de empréstimos.
+     * Com início nulo, reconstrói desde o primeiro empréstimo registrado.
+     * Executa na thread chamadora; ver {@link #iniciarReconstrucao}.
+     *
+     * @return quantidade de linhas agregadas gravadas
+     */
+    long reconstruir(LocalDate inicio, LocalDate fim);
+
+    /**
+     * Inicia a reconstrução em segundo plano.
+     *
+     * @return false se já houver uma reconstrução em andamento
+     */
+    boolean iniciarReconstrucao(LocalDate inicio, LocalDate fim);
+
+    /**
+     * Série diária com os totais gerais, incluindo dias sem movimentação.
+     */
+    List<EstatisticaCirculacaoDTO> obterCirculacaoDiaria(LocalDate inicio, LocalDate fim);
+
+    List<EstatisticaCirculacaoDTO> obterCategoriasMaisEmprestadas(LocalDate inicio, LocalDate fim, int limite);
+}
@@ -0,0 +1,42 @@
+package com.biblioteca.service;
+
+import java.io.OutputStream;
+
+/**
+ * Interface de serviço para exportação de dados em formatos tabulares.
+ *
+ * Os registros são lidos por cursor e escritos linha a linha no stream
+ * de saída, sem materializar a lista completa em memória.
+ */
+public interface ExportacaoService {
+
+    /**
+     * Exporta os dados do relatório no formato informado.
+     * O relatório de dashboard não possui exportação tabular.
+     */
+    void exportar(ReportService.TipoRelatorio tipo, FormatoExportacao formato, OutputStream out);
+
+    /**
+     * Enum que define os formatos de exportação suportados.
+     */
+    enum FormatoExportacao {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extensao;
+
+        FormatoExportacao(String contentType, String extensao) {
+            this.contentType = contentType;
+            this.extensao = extensao;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtensao() {
+            return extensao;
+        }
+    }
+}
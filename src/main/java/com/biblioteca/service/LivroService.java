@@ -1,10 +1,13 @@
 package com.biblioteca.service;
 
+import com.biblioteca.model.dto.DescarteLivrosDTO;
 import com.biblioteca.model.dto.LivroDTO;
+import com.biblioteca.model.dto.SugestaoDTO;
 import com.biblioteca.model.entity.Livro;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,14 +30,35 @@ public interface LivroService {
 
     void deletar(Long id);
 
+    /**
+     * Descarta em lote os livros informados (status DESCARTADO) com comandos
+     * únicos, cancelando as reservas ativas. Livros com empréstimo ativo são ignorados.
+     */
+    DescarteLivrosDTO descartar(Collection<Long> ids);
+
     List<LivroDTO> buscarPorTitulo(String titulo);
 
     List<LivroDTO> buscarPorCategoria(Long categoriaId);
 
     List<LivroDTO> buscarPorAutor(Long autorId);
 
+    /**
+     * Livros da categoria, paginados, com categoria e autores carregados.
+     */
+    Page<LivroDTO> buscarPorCategoria(Long categoriaId, Pageable pageable);
+
+    /**
+     * Livros do autor, paginados, com categoria e autores carregados.
+     */
+    Page<LivroDTO> buscarPorAutor(Long autorId, Pageable pageable);
+
     List<LivroDTO> listarDisponiveis();
 
+    /**
+     * Livros disponíveis cujo título ou ISBN começa pelo termo, ordenados por título.
+     */
+    List<SugestaoDTO> sugerirDisponiveis(String termo, int limite);
+
     Page<LivroDTO> buscarPorTermo(String termo, Pageable pageable);
 
     Long contarDisponiveis();
@@ -0,0 +1,38 @@
+package com.biblioteca.service;
+
+import com.biblioteca.model.dto.LancamentoMultaDTO;
+import com.biblioteca.model.entity.Emprestimo;
+import com.biblioteca.model.entity.Usuario;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Interface de serviço para o extrato de multas dos usuários.
+ *
+ * Cada multa ou pagamento é um lançamento no extrato, e o saldo devedor
+ * materializado do usuário é atualizado na mesma transação. Consultar se
+ * o usuário tem débitos é apenas ler esse saldo.
+ */
+public interface MultaService {
+
+    /**
+     * Lança no extrato a multa registrada na devolução, se houver.
+     * Deve ser chamado na transação que realizou a devolução.
+     */
+    void registrarMulta(Emprestimo emprestimo);
+
+    LancamentoMultaDTO registrarPagamento(Long usuarioId, BigDecimal valor);
+
+    BigDecimal consultarSaldo(Long usuarioId);
+
+    List<LancamentoMultaDTO> listarExtrato(Long usuarioId);
+
+    /**
+     * Impede novos empréstimos e reservas se o saldo devedor do usuário
+     * ultrapassar o limite configurado. Usa o saldo da entidade já carregada.
+     *
+     * @throws com.biblioteca.exception.BusinessException se houver débitos acima do limite
+     */
+    void verificarDebitos(Usuario usuario);
+}
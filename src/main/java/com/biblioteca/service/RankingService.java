@@ -0,0 +1,28 @@
+package com.biblioteca.service;
+
+import com.biblioteca.model.dto.RankingLivroDTO;
+import com.biblioteca.model.entity.Emprestimo;
+import com.biblioteca.model.entity.RankingLivro;
+
+import java.util.List;
+
+/**
+ * Interface de serviço para o ranking de livros mais emprestados.
+ *
+ * O ranking é mantido em memória por janela de tempo, com contadores
+ * aproximados de tamanho fixo, e persistido periodicamente.
+ */
+public interface RankingService {
+
+    /**
+     * Contabiliza o empréstimo após o commit da transação corrente.
+     */
+    void registrarEmprestimo(Emprestimo emprestimo);
+
+    List<RankingLivroDTO> obterRanking(RankingLivro.Janela janela, int limite);
+
+    /**
+     * Grava o estado atual dos contadores.
+     */
+    void persistir();
+}
@@ -0,0 +1,28 @@
+package com.biblioteca.service;
+
+import com.biblioteca.model.dto.LivroDTO;
+import com.biblioteca.model.entity.Emprestimo;
+
+import java.util.List;
+
+/**
+ * Interface de serviço para recomendações "quem emprestou este livro
+ * também emprestou", baseadas na co-ocorrência de empréstimos.
+ */
+public interface RecomendacaoService {
+
+    /**
+     * Atualiza as recomendações com o novo empréstimo após o commit.
+     */
+    void registrarEmprestimo(Emprestimo emprestimo);
+
+    /**
+     * Agenda a reconstrução completa a partir do histórico de empréstimos.
+     */
+    void reconstruir();
+
+    /**
+     * Livros recomendados a partir do livro informado, servidos da memória.
+     */
+    List<LivroDTO> recomendar(Long livroId, int limite);
+}
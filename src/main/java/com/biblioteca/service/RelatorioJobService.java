@@ -0,0 +1,28 @@
+package com.biblioteca.service;
+
+import com.biblioteca.model.dto.RelatorioJobDTO;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Interface de serviço para geração assíncrona de relatórios.
+ *
+ * Os relatórios são gerados em um executor limitado e gravados em disco,
+ * ficando disponíveis para download quando concluídos.
+ */
+public interface RelatorioJobService {
+
+    /**
+     * Agenda a geração do relatório. Se já houver um job em andamento
+     * para os mesmos parâmetros, retorna o job existente.
+     */
+    RelatorioJobDTO submeter(ReportService.TipoRelatorio tipo);
+
+    Optional<RelatorioJobDTO> buscarPorId(String id);
+
+    /**
+     * Retorna o arquivo gerado, apenas para jobs concluídos.
+     */
+    Optional<Path> obterArquivo(String id);
+}
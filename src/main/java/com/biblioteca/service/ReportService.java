@@ -2,34 +2,62 @@ package com.biblioteca.service;
 
 import com.biblioteca.model.dto.DashboardDTO;
 import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 
 /**
  * Interface para serviço de geração de relatórios
  */
 public interface ReportService {
-    
+
     /**
      * Gera relatório PDF de livros
      */
     ByteArrayOutputStream gerarRelatorioLivros();
-    
+
     /**
      * Gera relatório PDF de empréstimos
      */
     ByteArrayOutputStream gerarRelatorioEmprestimos();
-    
+
     /**
      * Gera relatório PDF de empréstimos atrasados
      */
     ByteArrayOutputStream gerarRelatorioEmprestimosAtrasados();
-    
+
     /**
      * Gera relatório PDF de usuários
      */
     ByteArrayOutputStream gerarRelatorioUsuarios();
-    
+
     /**
      * Gera relatório completo do dashboard
      */
     ByteArrayOutputStream gerarRelatorioDashboard(DashboardDTO dashboard);
+
+    /**
+     * Gera o relatório PDF do tipo informado diretamente no stream de saída,
+     * sem manter o documento inteiro em memória
+     */
+    void gerarRelatorio(TipoRelatorio tipo, OutputStream out);
+
+    /**
+     * Enum que define os relatórios disponíveis.
+     */
+    enum TipoRelatorio {
+        LIVROS("relatorio-livros"),
+        EMPRESTIMOS("relatorio-emprestimos"),
+        EMPRESTIMOS_ATRASADOS("relatorio-emprestimos-atrasados"),
+        USUARIOS("relatorio-usuarios"),
+        DASHBOARD("relatorio-dashboard");
+
+        private final String nomeArquivo;
+
+        TipoRelatorio(String nomeArquivo) {
+            this.nomeArquivo = nomeArquivo;
+        }
+
+        public String getNomeArquivo() {
+            return nomeArquivo;
+        }
+    }
 }
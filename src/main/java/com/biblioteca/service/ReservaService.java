@@ -0,0 +1,51 @@
+package com.biblioteca.service;
+
+import com.biblioteca.model.dto.ReservaDTO;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Interface de serviço para reservas de livros indisponíveis.
+ *
+ * Cada livro tem uma fila FIFO de reservas. Exemplares devolvidos são
+ * separados para a primeira reserva da fila, que tem um prazo para a
+ * retirada antes de o exemplar passar à reserva seguinte.
+ */
+public interface ReservaService {
+
+    ReservaDTO reservar(Long usuarioId, Long livroId);
+
+    void cancelar(Long reservaId, Long usuarioId);
+
+    List<ReservaDTO> listarPorUsuario(Long usuarioId);
+
+    long contarFila(Long livroId);
+
+    /**
+     * Devolve um exemplar ao acervo e, havendo reservas aguardando, separa-o
+     * para a primeira da fila. Deve ser chamado na transação da devolução ou
+     * do cancelamento.
+     */
+    void liberarExemplar(Long livroId);
+
+    /**
+     * Marca como atendida a reserva disponível do usuário para o livro,
+     * liberando o exemplar separado para o empréstimo.
+     *
+     * @return true se havia uma reserva disponível
+     */
+    boolean retirarReserva(Long usuarioId, Long livroId);
+
+    /**
+     * Expira as reservas com prazo de retirada vencido e repassa os exemplares.
+     */
+    void processarExpiracoes();
+
+    /**
+     * Cancela as reservas ativas dos livros informados que foram descartados.
+     *
+     * @return quantidade de reservas canceladas
+     */
+    int cancelarDeLivrosDescartados(Collection<Long> livroIds);
+}
@@ -0,0 +1,18 @@
+package com.biblioteca.service;
+
+/**
+ * Verificações que impedem a exclusão de registros ainda referenciados.
+ *
+ * Cada verificação usa consultas de existência (primeira linha apenas),
+ * sem carregar coleções, e lança BusinessException com o vínculo encontrado.
+ */
+public interface RestricaoExclusaoService {
+
+    void verificarLivro(Long livroId);
+
+    void verificarCategoria(Long categoriaId);
+
+    void verificarAutor(Long autorId);
+
+    void verificarUsuario(Long usuarioId);
+}
@@ -1,7 +1,10 @@
 package com.biblioteca.service;
 
+import com.biblioteca.model.dto.SugestaoDTO;
 import com.biblioteca.model.dto.UsuarioDTO;
 import com.biblioteca.model.entity.Usuario;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,6 +18,11 @@ public interface UsuarioService {
 
     List<UsuarioDTO> listarTodos();
 
+    /**
+     * Listagem administrativa filtrada e paginada; filtros nulos são ignorados.
+     */
+    Page<UsuarioDTO> buscar(String termo, Usuario.Role role, Boolean ativo, Pageable pageable);
+
     Optional<UsuarioDTO> buscarPorId(Long id);
 
     Optional<Usuario> buscarEntidadePorId(Long id);
@@ -29,6 +37,11 @@ public interface UsuarioService {
 
     List<UsuarioDTO> buscarPorTermo(String termo);
 
+    /**
+     * Usuários ativos cujo nome ou e-mail começa pelo termo, ordenados por nome.
+     */
+    List<SugestaoDTO> sugerir(String termo, int limite);
+
     Long contarUsuariosAtivos();
 
     boolean emailExiste(String email);
@@ -1,11 +1,11 @@
 package com.biblioteca.service.impl;
 
-import com.biblioteca.exception.BusinessException;
 import com.biblioteca.exception.ResourceNotFoundException;
 import com.biblioteca.model.dto.AutorDTO;
 import com.biblioteca.model.entity.Autor;
 import com.biblioteca.repository.AutorRepository;
 import com.biblioteca.service.AutorService;
+import com.biblioteca.service.RestricaoExclusaoService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,16 +21,19 @@ import java.util.stream.Collectors;
 public class AutorServiceImpl implements AutorService {
 
     private final AutorRepository autorRepository;
+    private final RestricaoExclusaoService restricaoExclusaoService;
 
-    public AutorServiceImpl(AutorRepository autorRepository) {
+    public AutorServiceImpl(AutorRepository autorRepository,
+                            RestricaoExclusaoService restricaoExclusaoService) {
         this.autorRepository = autorRepository;
+        this.restricaoExclusaoService = restricaoExclusaoService;
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<AutorDTO> listarTodos() {
-        return autorRepository.findAll().stream()
-                .map(AutorDTO::fromEntity)
+        return autorRepository.findAutoresComContagem().stream()
+                .map(AutorDTO::fromResumo)
                 .collect(Collectors.toList());
     }
 
@@ -70,13 +73,12 @@ public class AutorServiceImpl implements AutorService {
 
     @Override
     public void deletar(Long id) {
-        Autor autor = autorRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Autor", id));
-
-        if (!autor.getLivros().isEmpty()) {
-            throw new BusinessException("Não é possível excluir autor com livros associados");
+        if (!autorRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Autor", id);
         }
 
+        restricaoExclusaoService.verificarAutor(id);
+
         autorRepository.deleteById(id);
     }
 
@@ -6,6 +6,7 @@ import com.biblioteca.model.dto.CategoriaDTO;
 import com.biblioteca.model.entity.Categoria;
 import com.biblioteca.repository.CategoriaRepository;
 import com.biblioteca.service.CategoriaService;
+import com.biblioteca.service.RestricaoExclusaoService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,16 +22,19 @@ import java.util.stream.Collectors;
 public class CategoriaServiceImpl implements CategoriaService {
 
     private final CategoriaRepository categoriaRepository;
+    private final RestricaoExclusaoService restricaoExclusaoService;
 
-    public CategoriaServiceImpl(CategoriaRepository categoriaRepository) {
+    public CategoriaServiceImpl(CategoriaRepository categoriaRepository,
+                                RestricaoExclusaoService restricaoExclusaoService) {
         this.categoriaRepository = categoriaRepository;
+        this.restricaoExclusaoService = restricaoExclusaoService;
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<CategoriaDTO> listarTodas() {
-        return categoriaRepository.findAll().stream()
-                .map(CategoriaDTO::fromEntity)
+        return categoriaRepository.findCategoriasComContagem().stream()
+                .map(CategoriaDTO::fromResumo)
                 .collect(Collectors.toList());
     }
 
@@ -78,13 +82,12 @@ public class CategoriaServiceImpl implements CategoriaService {
 
     @Override
     public void deletar(Long id) {
-        Categoria categoria = categoriaRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Categoria", id));
-
-        if (!categoria.getLivros().isEmpty()) {
-            throw new BusinessException("Não é possível excluir categoria com livros associados");
+        if (!categoriaRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Categoria", id);
         }
 
+        restricaoExclusaoService.verificarCategoria(id);
+
         categoriaRepository.deleteById(id);
     }
 
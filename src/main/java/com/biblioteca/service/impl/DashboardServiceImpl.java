@@ -1,42 +1,63 @@
 package com.biblioteca.service.impl;
 
 import com.biblioteca.model.dto.DashboardDTO;
+import com.biblioteca.model.dto.EstatisticaCirculacaoDTO;
+import com.biblioteca.model.entity.RankingLivro;
 import com.biblioteca.repository.*;
 import com.biblioteca.service.DashboardService;
+import com.biblioteca.service.EstatisticaCirculacaoService;
+import com.biblioteca.service.RankingService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
 /**
  * Implementação do serviço de Dashboard.
  * 
- * Agrega estatísticas de todas as entidades do sistema.
+ * Agrega estatísticas de todas as entidades do sistema. Os dados de
+ * circulação vêm das tabelas agregadas, sem varrer os empréstimos.
  */
 @Service
 @Transactional(readOnly = true)
 public class DashboardServiceImpl implements DashboardService {
 
+    private static final int DIAS_PERIODO = 30;
+    private static final int LIMITE_CATEGORIAS = 5;
+    private static final int LIMITE_RANKING = 5;
+
     private final LivroRepository livroRepository;
     private final UsuarioRepository usuarioRepository;
     private final AutorRepository autorRepository;
     private final CategoriaRepository categoriaRepository;
     private final EmprestimoRepository emprestimoRepository;
+    private final EstatisticaCirculacaoService estatisticaService;
+    private final RankingService rankingService;
 
     public DashboardServiceImpl(LivroRepository livroRepository,
                                 UsuarioRepository usuarioRepository,
                                 AutorRepository autorRepository,
                                 CategoriaRepository categoriaRepository,
-                                EmprestimoRepository emprestimoRepository) {
+                                EmprestimoRepository emprestimoRepository,
+                                EstatisticaCirculacaoService estatisticaService,
+                                RankingService rankingService) {
         this.livroRepository = livroRepository;
         this.usuarioRepository = usuarioRepository;
         this.autorRepository = autorRepository;
         this.categoriaRepository = categoriaRepository;
         this.emprestimoRepository = emprestimoRepository;
+        this.estatisticaService = estatisticaService;
+        this.rankingService = rankingService;
     }
 
     @Override
     public DashboardDTO obterEstatisticas() {
+        LocalDate hoje = LocalDate.now();
+        LocalDate inicioPeriodo = hoje.minusDays(DIAS_PERIODO - 1);
+        List<EstatisticaCirculacaoDTO> circulacao = estatisticaService.obterCirculacaoDiaria(inicioPeriodo, hoje);
+
         return DashboardDTO.builder()
                 .totalLivros(livroRepository.count())
                 .totalUsuarios(usuarioRepository.countUsuariosAtivos())
@@ -46,6 +67,14 @@ public class DashboardServiceImpl implements DashboardService {
                 .emprestimosAtrasados(emprestimoRepository.countEmprestimosAtrasados(LocalDate.now()))
                 .livrosDisponiveis(livroRepository.countLivrosDisponiveis())
                 .livrosIndisponiveis(livroRepository.countLivrosIndisponiveis())
+                .diasPeriodo(DIAS_PERIODO)
+                .emprestimosPeriodo(circulacao.stream().mapToLong(EstatisticaCirculacaoDTO::getEmprestimos).sum())
+                .devolucoesPeriodo(circulacao.stream().mapToLong(EstatisticaCirculacaoDTO::getDevolucoes).sum())
+                .atrasosPeriodo(circulacao.stream().mapToLong(EstatisticaCirculacaoDTO::getAtrasos).sum())
+                .multasPeriodo(circulacao.stream().map(EstatisticaCirculacaoDTO::getMultas).reduce(BigDecimal.ZERO, BigDecimal::add))
+                .circulacaoDiaria(circulacao)
+                .categoriasMaisEmprestadas(estatisticaService.obterCategoriasMaisEmprestadas(inicioPeriodo, hoje, LIMITE_CATEGORIAS))
+                .livrosMaisEmprestados(rankingService.obterRanking(RankingLivro.Janela.SEMANA, LIMITE_RANKING))
                 .build();
     }
 }
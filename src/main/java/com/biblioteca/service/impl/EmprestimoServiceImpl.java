@@ -3,42 +3,73 @@ package com.biblioteca.service.impl;
 import com.biblioteca.exception.BusinessException;
 import com.biblioteca.exception.ResourceNotFoundException;
 import com.biblioteca.model.dto.EmprestimoDTO;
+import com.biblioteca.model.dto.FiltroEmprestimoDTO;
 import com.biblioteca.model.entity.Emprestimo;
 import com.biblioteca.model.entity.Livro;
 import com.biblioteca.model.entity.Usuario;
+import com.biblioteca.pattern.observer.EmprestimoEventPublisher;
+import com.biblioteca.pattern.policy.PoliticaEmprestimo;
+import com.biblioteca.pattern.policy.PoliticaEmprestimoResolver;
+import com.biblioteca.pattern.singleton.ConfigurationManager;
 import com.biblioteca.repository.EmprestimoRepository;
 import com.biblioteca.repository.LivroRepository;
 import com.biblioteca.repository.UsuarioRepository;
 import com.biblioteca.service.EmprestimoService;
+import com.biblioteca.service.MultaService;
+import com.biblioteca.service.ReservaService;
+import com.biblioteca.util.PaginacaoUtil;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * Implementação do serviço de Empréstimo.
  * 
  * Implementa regras de negócio para empréstimos de livros.
+ * Prazo, renovações e multa seguem a política do papel do usuário.
+ * Multas entram no extrato do usuário, e débitos em aberto bloqueiam
+ * novos empréstimos.
  */
 @Service
 @Transactional
 public class EmprestimoServiceImpl implements EmprestimoService {
 
-    private static final int MAX_EMPRESTIMOS_ATIVOS = 3;
+    // Ordenações da listagem administrativa (colunas indexadas)
+    private static final Set<String> ORDENACOES = Set.of("id", "dataEmprestimo", "dataPrevistaDevolucao");
+    private static final Sort ORDENACAO_PADRAO = Sort.by(Sort.Direction.DESC, "id");
 
     private final EmprestimoRepository emprestimoRepository;
     private final UsuarioRepository usuarioRepository;
     private final LivroRepository livroRepository;
+    private final EmprestimoEventPublisher eventPublisher;
+    private final ReservaService reservaService;
+    private final PoliticaEmprestimoResolver politicaResolver;
+    private final MultaService multaService;
 
     public EmprestimoServiceImpl(EmprestimoRepository emprestimoRepository,
                                  UsuarioRepository usuarioRepository,
-                                 LivroRepository livroRepository) {
+                                 LivroRepository livroRepository,
+                                 EmprestimoEventPublisher eventPublisher,
+                                 ReservaService reservaService,
+                                 PoliticaEmprestimoResolver politicaResolver,
+                                 MultaService multaService) {
         this.emprestimoRepository = emprestimoRepository;
         this.usuarioRepository = usuarioRepository;
         this.livroRepository = livroRepository;
+        this.eventPublisher = eventPublisher;
+        this.reservaService = reservaService;
+        this.politicaResolver = politicaResolver;
+        this.multaService = multaService;
     }
 
     @Override
@@ -49,6 +80,19 @@ public class EmprestimoServiceImpl implements EmprestimoService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<EmprestimoDTO> buscar(FiltroEmprestimoDTO filtro, Pageable pageable) {
+        // Atrasado não é gravado: é o empréstimo em aberto com prazo vencido
+        LocalDate vencidoAntes = filtro.getStatus() == Emprestimo.StatusEmprestimo.ATRASADO
+                ? LocalDate.now() : null;
+
+        return emprestimoRepository.buscarResumos(statusFiltrados(filtro.getStatus()), vencidoAntes, filtro.getInicio(), filtro.getFim(),
+                        filtro.getUsuarioId(), filtro.getLivroId(),
+                        PaginacaoUtil.restringirOrdenacao(pageable, ORDENACOES, ORDENACAO_PADRAO))
+                .map(EmprestimoDTO::fromResumo);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<EmprestimoDTO> buscarPorId(Long id) {
@@ -67,37 +111,45 @@ public class EmprestimoServiceImpl implements EmprestimoService {
             throw new BusinessException("Usuário inativo não pode realizar empréstimos");
         }
 
+        // Verificar multas em aberto (saldo já carregado com o usuário)
+        multaService.verificarDebitos(usuario);
+
         // Buscar livro
         Livro livro = livroRepository.findById(livroId)
                 .orElseThrow(() -> new ResourceNotFoundException("Livro", livroId));
 
-        // Verificar disponibilidade
-        if (!livro.isDisponivel()) {
-            throw new BusinessException("Livro não está disponível para empréstimo");
-        }
-
         // Verificar se usuário já tem empréstimo ativo deste livro
         if (usuarioPossuiEmprestimoAtivo(usuarioId, livroId)) {
             throw new BusinessException("Usuário já possui um empréstimo ativo deste livro");
         }
 
         // Verificar limite de empréstimos
+        int maxEmprestimos = ConfigurationManager.atual().maxEmprestimosPorUsuario();
         List<Emprestimo> emprestimosAtivos = emprestimoRepository.findEmprestimosAtivosPorUsuario(usuarioId);
-        if (emprestimosAtivos.size() >= MAX_EMPRESTIMOS_ATIVOS) {
-            throw new BusinessException("Usuário atingiu o limite de " + MAX_EMPRESTIMOS_ATIVOS + " empréstimos ativos");
+        if (emprestimosAtivos.size() >= maxEmprestimos) {
+            throw new BusinessException("Usuário atingiu o limite de " + maxEmprestimos + " empréstimos ativos");
         }
 
-        // Criar empréstimo
-        Emprestimo emprestimo = Emprestimo.builder()
-                .usuario(usuario)
-                .livro(livro)
-                .build();
+        // Exemplar separado por reserva do usuário já saiu do saldo do livro
+        boolean reservado = reservaService.retirarReserva(usuarioId, livroId);
+        if (!reservado) {
+            // Fila FIFO: sem reserva, só empresta se ninguém estiver aguardando
+            if (reservaService.contarFila(livroId) > 0) {
+                throw new BusinessException("Há reservas aguardando este livro. Faça uma reserva para entrar na fila.");
+            }
+            if (livroRepository.retirarExemplar(livroId) == 0) {
+                throw new BusinessException("Livro não está disponível para empréstimo. Faça uma reserva para entrar na fila.");
+            }
+            livroRepository.marcarEsgotado(livroId);
+        }
 
-        // Atualizar disponibilidade do livro
-        livro.emprestar();
-        livroRepository.save(livro);
+        // Criar empréstimo pela fábrica da política do usuário
+        PoliticaEmprestimo politica = politicaResolver.resolver(usuario);
+        Emprestimo emprestimo = politica.fabrica().criarEmprestimo(usuario, livro, politica.diasEmprestimo());
 
         Emprestimo salvo = emprestimoRepository.save(emprestimo);
+        usuarioRepository.incrementarTotalEmprestimos(usuarioId);
+        eventPublisher.notificarEmprestimoRealizado(salvo);
         return EmprestimoDTO.fromEntity(salvo);
     }
 
@@ -108,12 +160,15 @@ public class EmprestimoServiceImpl implements EmprestimoService {
             throw new ResourceNotFoundException("Empréstimo", emprestimoId);
         }
 
-        if (emprestimo.getStatus() == Emprestimo.StatusEmprestimo.DEVOLVIDO) {
-            throw new BusinessException("Este empréstimo já foi devolvido");
+        if (emprestimo.isEncerrado()) {
+            throw new BusinessException("Este empréstimo já foi " + descreverEncerramento(emprestimo));
         }
 
-        emprestimo.realizarDevolucao();
+        emprestimo.realizarDevolucao(politicaResolver.resolver(emprestimo.getUsuario()).multa());
+        multaService.registrarMulta(emprestimo);
+        reservaService.liberarExemplar(emprestimo.getLivro().getId());
         Emprestimo salvo = emprestimoRepository.save(emprestimo);
+        eventPublisher.notificarDevolucaoRealizada(salvo);
         return EmprestimoDTO.fromEntity(salvo);
     }
 
@@ -124,19 +179,29 @@ public class EmprestimoServiceImpl implements EmprestimoService {
             throw new ResourceNotFoundException("Empréstimo", emprestimoId);
         }
 
-        if (emprestimo.getStatus() == Emprestimo.StatusEmprestimo.DEVOLVIDO) {
-            throw new BusinessException("Não é possível renovar empréstimo já devolvido");
+        if (emprestimo.isEncerrado()) {
+            throw new BusinessException("Não é possível renovar empréstimo já " + descreverEncerramento(emprestimo));
+        }
+
+        PoliticaEmprestimo politica = politicaResolver.resolver(emprestimo.getUsuario());
+        if (!ConfigurationManager.atual().permitirRenovacao() || politica.maxRenovacoes() == 0) {
+            throw new BusinessException("Renovações de empréstimo estão desabilitadas");
         }
 
         if (emprestimo.isAtrasado()) {
             throw new BusinessException("Não é possível renovar empréstimo em atraso. Por favor, devolva o livro primeiro.");
         }
 
-        if (emprestimo.getStatus() == Emprestimo.StatusEmprestimo.RENOVADO) {
-            throw new BusinessException("Empréstimo já foi renovado uma vez. Não é permitida nova renovação.");
+        if (emprestimo.getRenovacoes() >= politica.maxRenovacoes()) {
+            throw new BusinessException("Empréstimo já atingiu o limite de " + politica.maxRenovacoes()
+                    + " renovação(ões). Não é permitida nova renovação.");
         }
 
-        emprestimo.renovar();
+        if (reservaService.contarFila(emprestimo.getLivro().getId()) > 0) {
+            throw new BusinessException("Não é possível renovar: há reservas aguardando este livro");
+        }
+
+        emprestimo.renovar(politica.diasEmprestimo());
         Emprestimo salvo = emprestimoRepository.save(emprestimo);
         return EmprestimoDTO.fromEntity(salvo);
     }
@@ -148,23 +213,23 @@ public class EmprestimoServiceImpl implements EmprestimoService {
             throw new ResourceNotFoundException("Empréstimo", emprestimoId);
         }
 
-        if (emprestimo.getStatus() == Emprestimo.StatusEmprestimo.DEVOLVIDO) {
-            throw new BusinessException("Não é possível cancelar empréstimo já devolvido");
+        if (emprestimo.isEncerrado()) {
+            throw new BusinessException("Não é possível cancelar empréstimo já " + descreverEncerramento(emprestimo));
         }
 
         emprestimo.setStatus(Emprestimo.StatusEmprestimo.CANCELADO);
-        emprestimo.getLivro().devolver();
-        
-        livroRepository.save(emprestimo.getLivro());
+        reservaService.liberarExemplar(emprestimo.getLivro().getId());
         emprestimoRepository.save(emprestimo);
+        eventPublisher.notificarEmprestimoCancelado(emprestimo);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<EmprestimoDTO> listarPorUsuario(Long usuarioId) {
-        return emprestimoRepository.findByUsuarioId(usuarioId).stream()
-                .map(EmprestimoDTO::fromEntity)
-                .collect(Collectors.toList());
+    public Slice<EmprestimoDTO> listarHistorico(Long usuarioId, Pageable pageable) {
+        // Ordenação definida pela consulta
+        Pageable pagina = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        return emprestimoRepository.buscarHistorico(usuarioId, pagina)
+                .map(EmprestimoDTO::fromResumo);
     }
 
     @Override
@@ -208,4 +273,22 @@ public class EmprestimoServiceImpl implements EmprestimoService {
     public boolean usuarioPossuiEmprestimoAtivo(Long usuarioId, Long livroId) {
         return !emprestimoRepository.findEmprestimoAtivo(usuarioId, livroId).isEmpty();
     }
+
+    /**
+     * Status gravados que atendem ao filtro: ativos e atrasados incluem os
+     * renovados (também em aberto); sem filtro, todos.
+     */
+    private static Set<Emprestimo.StatusEmprestimo> statusFiltrados(Emprestimo.StatusEmprestimo filtro) {
+        if (filtro == null) {
+            return EnumSet.allOf(Emprestimo.StatusEmprestimo.class);
+        }
+        if (filtro == Emprestimo.StatusEmprestimo.ATIVO || filtro == Emprestimo.StatusEmprestimo.ATRASADO) {
+            return EnumSet.of(Emprestimo.StatusEmprestimo.ATIVO, Emprestimo.StatusEmprestimo.RENOVADO);
+        }
+        return EnumSet.of(filtro);
+    }
+
+    private static String descreverEncerramento(Emprestimo emprestimo) {
+        return emprestimo.getStatus() == Emprestimo.StatusEmprestimo.CANCELADO ? "cancelado" : "devolvido";
+    }
 }
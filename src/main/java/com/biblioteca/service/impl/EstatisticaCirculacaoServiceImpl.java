@@ -0,0 +1,341 @@
+package com.biblioteca.service.impl;
+
+import com.biblioteca.exception.BusinessException;
+import com.biblioteca.model.dto.EstatisticaCirculacaoDTO;
+import com.biblioteca.model.entity.Emprestimo;
+import com.biblioteca.model.entity.EstatisticaCirculacao;
+import com.biblioteca.model.entity.EstatisticaCirculacao.Dimensao;
+import com.biblioteca.model.entity.EventoCirculacao;
+import com.biblioteca.model.projection.CirculacaoAgregada;
+import com.biblioteca.repository.EmprestimoRepository;
+import com.biblioteca.repository.EstatisticaCirculacaoRepository;
+import com.biblioteca.repository.EventoCirculacaoRepository;
+import com.biblioteca.service.EstatisticaCirculacaoService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Implementação do serviço de estatísticas de circulação.
+ *
+ * - Cada evento grava uma linha em eventos_circulacao na própria transação:
+ *   um INSERT, sem disputa de locks nas linhas agregadas, e nenhuma variação
+ *   confirmada se perde se a aplicação cair antes da consolidação
+ * - Uma única thread agendada consolida as variações em lotes (UPDATE e, se
+ *   a linha não existir, INSERT) e exclui os eventos na mesma transação
+ * - A reconstrução processa o histórico mês a mês, com memória limitada,
+ *   em uma thread própria quando iniciada pela interface
+ * - Cada mês reconstruído exclui os eventos pendentes do período no mesmo
+ *   instante lido pelas consultas agregadas, que já os contam
+ */
+@Service
+public class EstatisticaCirculacaoServiceImpl implements EstatisticaCirculacaoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EstatisticaCirculacaoServiceImpl.class);
+
+    private static final int LOTE_DESCARGA = 1000;
+
+    private final EstatisticaCirculacaoRepository estatisticaRepository;
+    private final EventoCirculacaoRepository eventoRepository;
+    private final EmprestimoRepository emprestimoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate reconstrucaoTemplate;
+    private final ExecutorService executor;
+    private final AtomicBoolean reconstrucaoEmAndamento = new AtomicBoolean();
+
+    // Serializa gravação das variações e reconstrução
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public EstatisticaCirculacaoServiceImpl(EstatisticaCirculacaoRepository estatisticaRepository,
+                                            EventoCirculacaoRepository eventoRepository,
+                                            EmprestimoRepository emprestimoRepository,
+                                            PlatformTransactionManager transactionManager,
+                                            MeterRegistry meterRegistry) {
+        this.estatisticaRepository = estatisticaRepository;
+        this.eventoRepository = eventoRepository;
+        this.emprestimoRepository = emprestimoRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // As duas consultas agregadas de um mês leem o mesmo instante do banco
+        this.reconstrucaoTemplate = new TransactionTemplate(transactionManager);
+        this.reconstrucaoTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry,
+                Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "estatisticas-reconstrucao");
+                    thread.setDaemon(true);
+                    return thread;
+                }), "estatisticas-reconstrucao");
+    }
+
+    @Override
+    public void registrarEmprestimo(Emprestimo emprestimo) {
+        registrar(emprestimo, emprestimo.getDataEmprestimo(), 1, 0, 0, BigDecimal.ZERO);
+    }
+
+    @Override
+    public void registrarDevolucao(Emprestimo emprestimo) {
+        long atraso = emprestimo.getDataDevolucao().isAfter(emprestimo.getDataPrevistaDevolucao()) ? 1 : 0;
+        BigDecimal multa = emprestimo.getMulta() != null ? emprestimo.getMulta() : BigDecimal.ZERO;
+        registrar(emprestimo, emprestimo.getDataDevolucao(), 0, 1, atraso, multa);
+    }
+
+    @Override
+    public void registrarCancelamento(Emprestimo emprestimo) {
+        registrar(emprestimo, emprestimo.getDataEmprestimo(), -1, 0, 0, BigDecimal.ZERO);
+    }
+
+    /**
+     * Grava a variação na transação do evento: desfeita junto com ela e
+     * durável a partir do commit.
+     */
+    private void registrar(Emprestimo emprestimo, LocalDate data,
+                           long emprestimos, long devolucoes, long atrasos, BigDecimal multas) {
+        Long categoriaId = emprestimo.getLivro().getCategoria() != null
+                ? emprestimo.getLivro().getCategoria().getId()
+                : null;
+        eventoRepository.save(EventoCirculacao.builder()
+                .data(data)
+                .livroId(emprestimo.getLivro().getId())
+                .categoriaId(categoriaId)
+                .usuarioId(emprestimo.getUsuario().getId())
+                .emprestimos(emprestimos)
+                .devolucoes(devolucoes)
+                .atrasos(atrasos)
+                .multas(multas)
+                .build());
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${biblioteca.estatisticas.descarga-ms:5000}")
+    public void descarregar() {
+        lock.lock();
+        try {
+            int consolidados = 0;
+            Integer lote;
+            do {
+                lote = transactionTemplate.execute(status -> consolidarLote());
+                consolidados += lote != null ? lote : 0;
+            } while (lote != null && lote == LOTE_DESCARGA);
+
+            if (consolidados > 0) {
+                logger.debug("{} eventos de circulação consolidados", consolidados);
+            }
+        } catch (RuntimeException e) {
+            // Os eventos do lote continuam na tabela para o próximo ciclo
+            logger.error("Erro ao consolidar estatísticas de circulação; nova tentativa no próximo ciclo", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Soma um lote de eventos às linhas agregadas e os exclui na mesma
+     * transação: cada evento é contado exatamente uma vez.
+     */
+    private int consolidarLote() {
+        List<EventoCirculacao> eventos = eventoRepository.findLote(PageRequest.of(0, LOTE_DESCARGA));
+        if (eventos.isEmpty()) {
+            return 0;
+        }
+
+        Map<ChaveEstatistica, Variacao> lote = new HashMap<>();
+        for (EventoCirculacao evento : eventos) {
+            acumular(lote, evento.getData(), evento.getLivroId(), evento.getCategoriaId(), evento.getUsuarioId(),
+                    new Variacao(evento.getEmprestimos(), evento.getDevolucoes(), evento.getAtrasos(),
+                            evento.getMultas()));
+        }
+        gravar(lote);
+        eventoRepository.deleteAllByIdInBatch(eventos.stream().map(EventoCirculacao::getId).collect(Collectors.toList()));
+        return eventos.size();
+    }
+
+    @PreDestroy
+    void encerrar() {
+        executor.shutdownNow();
+        descarregar();
+    }
+
+    private void gravar(Map<ChaveEstatistica, Variacao> lote) {
+        lote.forEach((chave, v) -> {
+            int atualizadas = estatisticaRepository.incrementar(chave.data(), chave.dimensao(), chave.chave(),
+                    v.emprestimos(), v.devolucoes(), v.atrasos(), v.multas());
+            if (atualizadas == 0) {
+                estatisticaRepository.save(novaEstatistica(chave, v));
+            }
+        });
+    }
+
+    @Override
+    public boolean iniciarReconstrucao(LocalDate inicio, LocalDate fim) {
+        if (inicio != null && fim != null && fim.isBefore(inicio)) {
+            throw new BusinessException("Data final não pode ser anterior à data inicial");
+        }
+        if (!reconstrucaoEmAndamento.compareAndSet(false, true)) {
+            return false;
+        }
+
+        executor.execute(() -> {
+            try {
+                reconstruir(inicio, fim);
+            } catch (RuntimeException e) {
+                logger.error("Erro ao reconstruir estatísticas de circulação de {} a {}", inicio, fim, e);
+            } finally {
+                reconstrucaoEmAndamento.set(false);
+            }
+        });
+        return true;
+    }
+
+    @Override
+    public long reconstruir(LocalDate inicio, LocalDate fim) {
+        LocalDate inicioEfetivo = inicio != null ? inicio : emprestimoRepository.findPrimeiraDataEmprestimo();
+        LocalDate fimEfetivo = fim != null ? fim : LocalDate.now();
+        if (inicioEfetivo == null) {
+            return 0;
+        }
+        if (fimEfetivo.isBefore(inicioEfetivo)) {
+            throw new BusinessException("Data final não pode ser anterior à data inicial");
+        }
+
+        lock.lock();
+        try {
+            descarregar();
+
+            long linhas = 0;
+            LocalDate inicioBloco = inicioEfetivo;
+            while (!inicioBloco.isAfter(fimEfetivo)) {
+                LocalDate fimMes = inicioBloco.withDayOfMonth(inicioBloco.lengthOfMonth());
+                LocalDate fimBloco = fimMes.isBefore(fimEfetivo) ? fimMes : fimEfetivo;
+                LocalDate blocoInicio = inicioBloco;
+
+                Integer gravadas = reconstrucaoTemplate.execute(status -> reconstruirBloco(blocoInicio, fimBloco));
+                linhas += gravadas != null ? gravadas : 0;
+                inicioBloco = fimBloco.plusDays(1);
+            }
+
+            logger.info("Estatísticas de circulação reconstruídas de {} a {}: {} linhas",
+                    inicioEfetivo, fimEfetivo, linhas);
+            return linhas;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Recalcula um mês. Chamado com o lock, então descarregar() não grava
+     * enquanto o bloco é processado.
+     */
+    private int reconstruirBloco(LocalDate inicio, LocalDate fim) {
+        // Eventos pendentes do mês pertencem a empréstimos que as consultas
+        // abaixo já contam; consolidá-los depois os contaria duas vezes
+        int descartados = eventoRepository.excluirPorPeriodo(inicio, fim);
+        if (descartados > 0) {
+            logger.debug("{} eventos pendentes de {} a {} substituídos pela reconstrução", descartados, inicio, fim);
+        }
+
+        Map<ChaveEstatistica, Variacao> agregados = new HashMap<>();
+
+        try (Stream<CirculacaoAgregada> linhas = emprestimoRepository.streamEmprestimosAgregados(inicio, fim)) {
+            for (Iterator<CirculacaoAgregada> it = linhas.iterator(); it.hasNext(); ) {
+                CirculacaoAgregada linha = it.next();
+                acumular(agregados, linha.getData(), linha.getLivroId(), linha.getCategoriaId(), linha.getUsuarioId(),
+                        new Variacao(linha.getQuantidade(), 0, 0, BigDecimal.ZERO));
+            }
+        }
+
+        try (Stream<CirculacaoAgregada> linhas = emprestimoRepository.streamDevolucoesAgregadas(inicio, fim)) {
+            for (Iterator<CirculacaoAgregada> it = linhas.iterator(); it.hasNext(); ) {
+                CirculacaoAgregada linha = it.next();
+                acumular(agregados, linha.getData(), linha.getLivroId(), linha.getCategoriaId(), linha.getUsuarioId(),
+                        new Variacao(0, linha.getQuantidade(), linha.getAtrasos(), linha.getMultas()));
+            }
+        }
+
+        estatisticaRepository.excluirPorPeriodo(inicio, fim);
+        List<EstatisticaCirculacao> novas = new ArrayList<>(agregados.size());
+        agregados.forEach((chave, v) -> novas.add(novaEstatistica(chave, v)));
+        estatisticaRepository.saveAll(novas);
+        return novas.size();
+    }
+
+    @Override
+    public List<EstatisticaCirculacaoDTO> obterCirculacaoDiaria(LocalDate inicio, LocalDate fim) {
+        Map<LocalDate, EstatisticaCirculacaoDTO> porDia = estatisticaRepository
+                .findByDimensaoAndDataBetweenOrderByData(Dimensao.GERAL, inicio, fim).stream()
+                .collect(Collectors.toMap(EstatisticaCirculacao::getData, EstatisticaCirculacaoDTO::fromEntity));
+
+        List<EstatisticaCirculacaoDTO> serie = new ArrayList<>();
+        for (LocalDate dia = inicio; !dia.isAfter(fim); dia = dia.plusDays(1)) {
+            serie.add(porDia.getOrDefault(dia, EstatisticaCirculacaoDTO.vazio(dia)));
+        }
+        return serie;
+    }
+
+    @Override
+    public List<EstatisticaCirculacaoDTO> obterCategoriasMaisEmprestadas(LocalDate inicio, LocalDate fim, int limite) {
+        return estatisticaRepository.findCategoriasMaisEmprestadas(inicio, fim, PageRequest.of(0, limite)).stream()
+                .map(categoria -> EstatisticaCirculacaoDTO.builder()
+                        .rotulo(categoria.getNome())
+                        .emprestimos(categoria.getEmprestimos())
+                        .multas(BigDecimal.ZERO)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Distribui a variação de um evento (ou grupo de eventos) entre as dimensões.
+     */
+    private static void acumular(Map<ChaveEstatistica, Variacao> destino, LocalDate data,
+                                 Long livroId, Long categoriaId, Long usuarioId, Variacao variacao) {
+        destino.merge(new ChaveEstatistica(data, Dimensao.GERAL, EstatisticaCirculacao.CHAVE_GERAL), variacao, Variacao::somar);
+        destino.merge(new ChaveEstatistica(data, Dimensao.LIVRO, livroId), variacao, Variacao::somar);
+        destino.merge(new ChaveEstatistica(data, Dimensao.USUARIO, usuarioId), variacao, Variacao::somar);
+        if (categoriaId != null) {
+            destino.merge(new ChaveEstatistica(data, Dimensao.CATEGORIA, categoriaId), variacao, Variacao::somar);
+        }
+    }
+
+    private static EstatisticaCirculacao novaEstatistica(ChaveEstatistica chave, Variacao v) {
+        return EstatisticaCirculacao.builder()
+                .data(chave.data())
+                .dimensao(chave.dimensao())
+                .chave(chave.chave())
+                .emprestimos(v.emprestimos())
+                .devolucoes(v.devolucoes())
+                .atrasos(v.atrasos())
+                .multas(v.multas())
+                .build();
+    }
+
+    private record ChaveEstatistica(LocalDate data, Dimensao dimensao, Long chave) {
+    }
+
+    private record Variacao(long emprestimos, long devolucoes, long atrasos, BigDecimal multas) {
+
+        Variacao somar(Variacao outra) {
+            return new Variacao(emprestimos + outra.emprestimos, devolucoes + outra.devolucoes,
+                    atrasos + outra.atrasos, multas.add(outra.multas));
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package com.biblioteca.service.impl;
+
+import com.biblioteca.exception.BusinessException;
+import com.biblioteca.metrics.MetricasRelatorio;
+import com.biblioteca.model.entity.Emprestimo;
+import com.biblioteca.model.projection.EmprestimoExportacao;
+import com.biblioteca.model.projection.LivroExportacao;
+import com.biblioteca.model.projection.UsuarioExportacao;
+import com.biblioteca.pattern.strategy.MultaCalculator;
+import com.biblioteca.pattern.strategy.MultaStrategy;
+import com.biblioteca.repository.EmprestimoRepository;
+import com.biblioteca.repository.LivroRepository;
+import com.biblioteca.repository.UsuarioRepository;
+import com.biblioteca.service.ExportacaoService;
+import com.biblioteca.service.ReportService;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAccessor;
+import java.util.Iterator;
+import java.util.StringJoiner;
+import java.util.stream.Stream;
+
+/**
+ * Implementação do serviço de exportação em CSV e NDJSON.
+ *
+ * Cada exportação percorre um cursor de projeções (sem entidades gerenciadas)
+ * e escreve um registro por vez, mantendo o uso de memória constante
+ * independentemente do volume de dados.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Slf4j
+public class ExportacaoServiceImpl implements ExportacaoService {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final LivroRepository livroRepository;
+    private final EmprestimoRepository emprestimoRepository;
+    private final UsuarioRepository usuarioRepository;
+    private final MultaCalculator multaCalculator;
+    private final MetricasRelatorio metricasRelatorio;
+
+    @Override
+    public void exportar(ReportService.TipoRelatorio tipo, FormatoExportacao formato, OutputStream out) {
+        if (tipo == ReportService.TipoRelatorio.DASHBOARD) {
+            throw new BusinessException("Relatório de dashboard não possui exportação em " + formato);
+        }
+
+        metricasRelatorio.medir(tipo, formato.name(), out, destino -> escrever(tipo, formato, destino));
+    }
+
+    private void escrever(ReportService.TipoRelatorio tipo, FormatoExportacao formato, OutputStream out) {
+        long inicio = System.nanoTime();
+        try {
+            RegistroWriter writer = formato == FormatoExportacao.CSV
+                    ? new CsvWriter(out)
+                    : new NdjsonWriter(out);
+
+            long registros = switch (tipo) {
+                case LIVROS -> exportarLivros(writer);
+                case EMPRESTIMOS -> exportarEmprestimos(writer, emprestimoRepository.streamParaExportacao());
+                case EMPRESTIMOS_ATRASADOS -> exportarEmprestimos(writer,
+                        emprestimoRepository.streamAtrasadosParaExportacao(LocalDate.now()));
+                case USUARIOS -> exportarUsuarios(writer);
+                case DASHBOARD -> 0;
+            };
+            writer.finalizar();
+
+            log.info("Exportação {} ({}) concluída: {} registros em {} ms",
+                    tipo, formato, registros, (System.nanoTime() - inicio) / 1_000_000);
+        } catch (IOException e) {
+            // Normalmente o cliente encerrou a conexão durante o download
+            log.warn("Exportação {} ({}) interrompida: {}", tipo, formato, e.getMessage());
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long exportarLivros(RegistroWriter writer) throws IOException {
+        writer.cabecalho("id", "titulo", "isbn", "editora", "anoPublicacao", "categoria",
+                "autores", "quantidadeTotal", "quantidadeDisponivel", "status");
+
+        long registros = 0;
+        try (Stream<LivroExportacao> linhas = livroRepository.streamParaExportacao()) {
+            // A consulta retorna uma linha por autor, ordenada por livro:
+            // agrupa linhas consecutivas do mesmo livro antes de escrever
+            LivroExportacao atual = null;
+            StringJoiner autores = null;
+
+            for (Iterator<LivroExportacao> it = linhas.iterator(); it.hasNext(); ) {
+                LivroExportacao linha = it.next();
+                if (atual != null && !atual.getId().equals(linha.getId())) {
+                    escreverLivro(writer, atual, autores);
+                    registros++;
+                    atual = null;
+                }
+                if (atual == null) {
+                    atual = linha;
+                    autores = new StringJoiner(", ");
+                }
+                if (linha.getAutorNome() != null) {
+                    autores.add(linha.getAutorNome());
+                }
+            }
+
+            if (atual != null) {
+                escreverLivro(writer, atual, autores);
+                registros++;
+            }
+        }
+        return registros;
+    }
+
+    private void escreverLivro(RegistroWriter writer, LivroExportacao livro, StringJoiner autores) throws IOException {
+        writer.linha(livro.getId(), livro.getTitulo(), livro.getIsbn(), livro.getEditora(),
+                livro.getAnoPublicacao(), livro.getCategoriaNome(), autores.toString(),
+                livro.getQuantidadeTotal(), livro.getQuantidadeDisponivel(), livro.getStatus());
+    }
+
+    private long exportarEmprestimos(RegistroWriter writer, Stream<EmprestimoExportacao> stream) throws IOException {
+        writer.cabecalho("id", "livro", "isbn", "usuario", "email", "dataEmprestimo",
+                "dataPrevistaDevolucao", "dataDevolucao", "status", "diasAtraso", "multa");
+
+        // Mesma estratégia de multa em toda a exportação
+        MultaStrategy estrategiaMulta = multaCalculator.getEstrategiaAtiva();
+
+        long registros = 0;
+        try (Stream<EmprestimoExportacao> linhas = stream) {
+            for (Iterator<EmprestimoExportacao> it = linhas.iterator(); it.hasNext(); ) {
+                EmprestimoExportacao emp = it.next();
+
+                // Reaproveita as regras de atraso/multa da entidade sem consultá-la
+                Emprestimo calculo = Emprestimo.builder()
+                        .status(emp.getStatus())
+                        .dataPrevistaDevolucao(emp.getDataPrevistaDevolucao())
+                        .dataDevolucao(emp.getDataDevolucao())
+                        .build();
+                BigDecimal multa = emp.getMulta() != null ? emp.getMulta() : estrategiaMulta.calcularMulta(calculo);
+
+                writer.linha(emp.getId(), emp.getLivroTitulo(), emp.getLivroIsbn(),
+                        emp.getUsuarioNome(), emp.getUsuarioEmail(), emp.getDataEmprestimo(),
+                        emp.getDataPrevistaDevolucao(), emp.getDataDevolucao(), emp.getStatus(),
+                        calculo.getDiasAtraso(), multa);
+                registros++;
+            }
+        }
+        return registros;
+    }
+
+    private long exportarUsuarios(RegistroWriter writer) throws IOException {
+        writer.cabecalho("id", "nome", "email", "papel", "ativo", "dataCadastro", "totalEmprestimos");
+
+        long registros = 0;
+        try (Stream<UsuarioExportacao> linhas = usuarioRepository.streamParaExportacao()) {
+            for (Iterator<UsuarioExportacao> it = linhas.iterator(); it.hasNext(); ) {
+                UsuarioExportacao usuario = it.next();
+                writer.linha(usuario.getId(), usuario.getNome(), usuario.getEmail(), usuario.getRole(),
+                        usuario.getAtivo(), usuario.getDataCadastro(), usuario.getTotalEmprestimos());
+                registros++;
+            }
+        }
+        return registros;
+    }
+
+    /**
+     * Escritor de registros independente do formato de saída.
+     */
+    private interface RegistroWriter {
+
+        void cabecalho(String... colunas) throws IOException;
+
+        void linha(Object... valores) throws IOException;
+
+        /**
+         * Descarrega o buffer sem fechar o stream, que pertence ao chamador.
+         */
+        void finalizar() throws IOException;
+    }
+
+    /**
+     * CSV conforme RFC 4180: campos com separador, aspas ou quebra de linha
+     * são delimitados por aspas. Textos iniciados por =, +, -, @, tabulação ou
+     * CR recebem o prefixo ' para que planilhas não os interpretem como fórmula.
+     */
+    private static final class CsvWriter implements RegistroWriter {
+
+        private final Writer writer;
+
+        CsvWriter(OutputStream out) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+        }
+
+        @Override
+        public void cabecalho(String... colunas) throws IOException {
+            linha((Object[]) colunas);
+        }
+
+        @Override
+        public void linha(Object... valores) throws IOException {
+            for (int i = 0; i < valores.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                escreverCampo(valores[i]);
+            }
+            writer.write("\r\n");
+        }
+
+        private void escreverCampo(Object valor) throws IOException {
+            if (valor == null) {
+                return;
+            }
+            String texto = valor instanceof Enum<?> e ? e.name() : valor.toString();
+            if (!(valor instanceof Number) && iniciaFormula(texto)) {
+                texto = "'" + texto;
+            }
+            boolean precisaAspas = texto.indexOf(',') >= 0 || texto.indexOf('"') >= 0
+                    || texto.indexOf('\n') >= 0 || texto.indexOf('\r') >= 0;
+            if (!precisaAspas) {
+                writer.write(texto);
+                return;
+            }
+            writer.write('"');
+            writer.write(texto.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        private static boolean iniciaFormula(String texto) {
+            if (texto.isEmpty()) {
+                return false;
+            }
+            char inicial = texto.charAt(0);
+            return inicial == '=' || inicial == '+' || inicial == '-' || inicial == '@'
+                    || inicial == '\t' || inicial == '\r';
+        }
+
+        @Override
+        public void finalizar() throws IOException {
+            writer.flush();
+        }
+    }
+
+    /**
+     * NDJSON: um objeto JSON por linha, com as colunas do cabeçalho como chaves.
+     */
+    private static final class NdjsonWriter implements RegistroWriter {
+
+        private final JsonGenerator generator;
+        private String[] colunas;
+
+        NdjsonWriter(OutputStream out) throws IOException {
+            this.generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void cabecalho(String... colunas) {
+            this.colunas = colunas;
+        }
+
+        @Override
+        public void linha(Object... valores) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < valores.length; i++) {
+                generator.writeFieldName(colunas[i]);
+                escreverValor(valores[i]);
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        private void escreverValor(Object valor) throws IOException {
+            if (valor == null) {
+                generator.writeNull();
+            } else if (valor instanceof BigDecimal decimal) {
+                generator.writeNumber(decimal);
+            } else if (valor instanceof Long numero) {
+                generator.writeNumber(numero);
+            } else if (valor instanceof Integer numero) {
+                generator.writeNumber(numero);
+            } else if (valor instanceof Boolean booleano) {
+                generator.writeBoolean(booleano);
+            } else if (valor instanceof Enum<?> e) {
+                generator.writeString(e.name());
+            } else if (valor instanceof TemporalAccessor) {
+                generator.writeString(valor.toString());
+            } else {
+                generator.writeString(valor.toString());
+            }
+        }
+
+        @Override
+        public void finalizar() throws IOException {
+            generator.flush();
+        }
+    }
+}
@@ -2,21 +2,35 @@ package com.biblioteca.service.impl;
 
 import com.biblioteca.exception.BusinessException;
 import com.biblioteca.exception.ResourceNotFoundException;
+import com.biblioteca.model.dto.DescarteLivrosDTO;
 import com.biblioteca.model.dto.LivroDTO;
+import com.biblioteca.model.dto.SugestaoDTO;
 import com.biblioteca.model.entity.Autor;
 import com.biblioteca.model.entity.Categoria;
 import com.biblioteca.model.entity.Livro;
+import com.biblioteca.model.projection.LivroAutorNome;
+import com.biblioteca.model.projection.LivroResumo;
 import com.biblioteca.repository.AutorRepository;
 import com.biblioteca.repository.CategoriaRepository;
 import com.biblioteca.repository.LivroRepository;
 import com.biblioteca.service.LivroService;
+import com.biblioteca.service.ReservaService;
+import com.biblioteca.service.RestricaoExclusaoService;
+import com.biblioteca.util.BuscaUtil;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -28,16 +42,28 @@ import java.util.stream.Collectors;
 @Transactional
 public class LivroServiceImpl implements LivroService {
 
+    // Parâmetros por comando do descarte (IN), abaixo do limite dos drivers JDBC
+    private static final int MAX_DESCARTE = 10_000;
+
+    // Livros por consulta de autores das listagens (IN)
+    private static final int LOTE_AUTORES = 1_000;
+
     private final LivroRepository livroRepository;
     private final CategoriaRepository categoriaRepository;
     private final AutorRepository autorRepository;
+    private final RestricaoExclusaoService restricaoExclusaoService;
+    private final ReservaService reservaService;
 
     public LivroServiceImpl(LivroRepository livroRepository, 
                            CategoriaRepository categoriaRepository,
-                           AutorRepository autorRepository) {
+                           AutorRepository autorRepository,
+                           RestricaoExclusaoService restricaoExclusaoService,
+                           ReservaService reservaService) {
         this.livroRepository = livroRepository;
         this.categoriaRepository = categoriaRepository;
         this.autorRepository = autorRepository;
+        this.restricaoExclusaoService = restricaoExclusaoService;
+        this.reservaService = reservaService;
     }
 
     @Override
@@ -51,8 +77,7 @@ public class LivroServiceImpl implements LivroService {
     @Override
     @Transactional(readOnly = true)
     public Page<LivroDTO> listarPaginado(Pageable pageable) {
-        return livroRepository.findAll(pageable)
-                .map(LivroDTO::fromEntity);
+        return comAutores(livroRepository.findResumos(pageable));
     }
 
     @Override
@@ -152,11 +177,29 @@ public class LivroServiceImpl implements LivroService {
         Livro livro = livroRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Livro", id));
 
-        if (!livro.getEmprestimos().isEmpty()) {
-            throw new BusinessException("Não é possível excluir livro com empréstimos registrados");
+        restricaoExclusaoService.verificarLivro(id);
+        livroRepository.delete(livro);
+    }
+
+    @Override
+    public DescarteLivrosDTO descartar(Collection<Long> ids) {
+        Set<Long> distintos = new HashSet<>(ids);
+        if (distintos.isEmpty()) {
+            throw new BusinessException("Informe ao menos um livro para descarte");
+        }
+        if (distintos.size() > MAX_DESCARTE) {
+            throw new BusinessException("Descarte limitado a " + MAX_DESCARTE + " livros por operação");
         }
 
-        livroRepository.deleteById(id);
+        int descartados = livroRepository.descartar(distintos);
+        int reservasCanceladas = reservaService.cancelarDeLivrosDescartados(distintos);
+
+        return DescarteLivrosDTO.builder()
+                .solicitados(distintos.size())
+                .descartados(descartados)
+                .ignorados(distintos.size() - descartados)
+                .reservasCanceladas(reservasCanceladas)
+                .build();
     }
 
     @Override
@@ -170,9 +213,7 @@ public class LivroServiceImpl implements LivroService {
     @Override
     @Transactional(readOnly = true)
     public List<LivroDTO> buscarPorCategoria(Long categoriaId) {
-        return livroRepository.findByCategoriaId(categoriaId).stream()
-                .map(LivroDTO::fromEntity)
-                .collect(Collectors.toList());
+        return comAutores(livroRepository.findResumosPorCategoria(categoriaId));
     }
 
     @Override
@@ -183,19 +224,70 @@ public class LivroServiceImpl implements LivroService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<LivroDTO> buscarPorCategoria(Long categoriaId, Pageable pageable) {
+        return comAutores(livroRepository.findResumosPorCategoria(categoriaId, pageable));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<LivroDTO> buscarPorAutor(Long autorId, Pageable pageable) {
+        return comAutores(livroRepository.findResumosPorAutor(autorId, pageable));
+    }
+
+    /**
+     * Converte uma página de resumos, mantendo ordem e total
+     * (três consultas por página: resumos, total e autores).
+     */
+    private Page<LivroDTO> comAutores(Page<LivroResumo> pagina) {
+        return new PageImpl<>(comAutores(pagina.getContent()), pagina.getPageable(), pagina.getTotalElements());
+    }
+
+    /**
+     * Converte resumos em DTOs, buscando os autores de todos os livros em lotes.
+     */
+    private List<LivroDTO> comAutores(List<LivroResumo> resumos) {
+        if (resumos.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = resumos.stream().map(LivroResumo::getId).collect(Collectors.toList());
+        Map<Long, List<LivroAutorNome>> autores = new HashMap<>();
+        for (int inicio = 0; inicio < ids.size(); inicio += LOTE_AUTORES) {
+            List<Long> lote = ids.subList(inicio, Math.min(inicio + LOTE_AUTORES, ids.size()));
+            livroRepository.findAutoresPorLivros(lote).forEach(autor ->
+                    autores.computeIfAbsent(autor.getLivroId(), id -> new ArrayList<>()).add(autor));
+        }
+
+        return resumos.stream()
+                .map(resumo -> LivroDTO.fromResumo(resumo, autores.getOrDefault(resumo.getId(), List.of())))
+                .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<LivroDTO> listarDisponiveis() {
-        return livroRepository.findLivrosDisponiveis().stream()
-                .map(LivroDTO::fromEntity)
+        return comAutores(livroRepository.findResumosDisponiveis());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SugestaoDTO> sugerirDisponiveis(String termo, int limite) {
+        String prefixo = BuscaUtil.prefixo(termo);
+        if (prefixo == null) {
+            return List.of();
+        }
+        return livroRepository.buscarDisponiveisPorPrefixo(prefixo,
+                        PageRequest.of(0, BuscaUtil.limite(limite), Sort.by("titulo"))).stream()
+                .map(livro -> new SugestaoDTO(livro.getId(), livro.getTitulo(), livro.getIsbn()))
                 .collect(Collectors.toList());
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<LivroDTO> buscarPorTermo(String termo, Pageable pageable) {
-        return livroRepository.buscarPorTermo(termo, pageable)
-                .map(LivroDTO::fromEntity);
+        return comAutores(livroRepository.buscarResumosPorTermo(termo, pageable));
     }
 
     @Override
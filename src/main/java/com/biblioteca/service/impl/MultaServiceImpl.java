@@ -0,0 +1,107 @@
+package com.biblioteca.service.impl;
+
+import com.biblioteca.exception.BusinessException;
+import com.biblioteca.exception.ResourceNotFoundException;
+import com.biblioteca.model.dto.LancamentoMultaDTO;
+import com.biblioteca.model.entity.Emprestimo;
+import com.biblioteca.model.entity.LancamentoMulta;
+import com.biblioteca.model.entity.LancamentoMulta.TipoLancamento;
+import com.biblioteca.model.entity.Usuario;
+import com.biblioteca.repository.LancamentoMultaRepository;
+import com.biblioteca.repository.UsuarioRepository;
+import com.biblioteca.service.MultaService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Implementação do serviço de extrato de multas.
+ *
+ * O saldo devedor é alterado por UPDATEs relativos (saldo = saldo ± valor),
+ * então lançamentos concorrentes do mesmo usuário não perdem atualizações;
+ * o pagamento só é aceito se não deixar o saldo negativo.
+ */
+@Service
+@Transactional
+public class MultaServiceImpl implements MultaService {
+
+    private final LancamentoMultaRepository lancamentoRepository;
+    private final UsuarioRepository usuarioRepository;
+    private final BigDecimal saldoMaximo;
+
+    public MultaServiceImpl(LancamentoMultaRepository lancamentoRepository,
+                            UsuarioRepository usuarioRepository,
+                            @Value("${biblioteca.multas.saldo-maximo:0.00}") BigDecimal saldoMaximo) {
+        this.lancamentoRepository = lancamentoRepository;
+        this.usuarioRepository = usuarioRepository;
+        this.saldoMaximo = saldoMaximo;
+    }
+
+    @Override
+    public void registrarMulta(Emprestimo emprestimo) {
+        BigDecimal multa = emprestimo.getMulta();
+        if (multa == null || multa.signum() <= 0) {
+            return;
+        }
+
+        Usuario usuario = emprestimo.getUsuario();
+        lancamentoRepository.save(LancamentoMulta.builder()
+                .usuario(usuario)
+                .emprestimo(emprestimo)
+                .tipo(TipoLancamento.MULTA)
+                .valor(multa)
+                .descricao("Multa por atraso: " + emprestimo.getLivro().getTitulo())
+                .build());
+        usuarioRepository.adicionarSaldoDevedor(usuario.getId(), multa);
+        usuario.setSaldoDevedor(usuario.getSaldoDevedor().add(multa));
+    }
+
+    @Override
+    public LancamentoMultaDTO registrarPagamento(Long usuarioId, BigDecimal valor) {
+        if (valor == null || valor.signum() <= 0) {
+            throw new BusinessException("O valor do pagamento deve ser positivo");
+        }
+
+        BigDecimal saldo = consultarSaldo(usuarioId);
+        if (usuarioRepository.abaterSaldoDevedor(usuarioId, valor) == 0) {
+            throw new BusinessException(String.format(
+                    "Pagamento de R$ %.2f excede o saldo devedor de R$ %.2f", valor, saldo));
+        }
+
+        LancamentoMulta pagamento = lancamentoRepository.save(LancamentoMulta.builder()
+                .usuario(usuarioRepository.getReferenceById(usuarioId))
+                .tipo(TipoLancamento.PAGAMENTO)
+                .valor(valor)
+                .descricao("Pagamento de multa")
+                .build());
+        return LancamentoMultaDTO.fromEntity(pagamento);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BigDecimal consultarSaldo(Long usuarioId) {
+        return usuarioRepository.findSaldoDevedor(usuarioId)
+                .orElseThrow(() -> new ResourceNotFoundException("Usuário", usuarioId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LancamentoMultaDTO> listarExtrato(Long usuarioId) {
+        return lancamentoRepository.findByUsuarioId(usuarioId).stream()
+                .map(LancamentoMultaDTO::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void verificarDebitos(Usuario usuario) {
+        BigDecimal saldo = usuario.getSaldoDevedor();
+        if (saldo != null && saldo.compareTo(saldoMaximo) > 0) {
+            throw new BusinessException(String.format(
+                    "Usuário possui multas em aberto (R$ %.2f). Regularize o pagamento para continuar.", saldo));
+        }
+    }
+}
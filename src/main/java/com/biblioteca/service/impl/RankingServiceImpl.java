@@ -0,0 +1,196 @@
+package com.biblioteca.service.impl;
+
+import com.biblioteca.exception.BusinessException;
+import com.biblioteca.model.dto.RankingLivroDTO;
+import com.biblioteca.model.entity.Emprestimo;
+import com.biblioteca.model.entity.Livro;
+import com.biblioteca.model.entity.RankingLivro;
+import com.biblioteca.model.entity.RankingLivro.Janela;
+import com.biblioteca.model.projection.LivroCirculacao;
+import com.biblioteca.repository.EstatisticaCirculacaoRepository;
+import com.biblioteca.repository.LivroRepository;
+import com.biblioteca.repository.RankingLivroRepository;
+import com.biblioteca.service.RankingService;
+import com.biblioteca.util.SpaceSaving;
+import com.biblioteca.util.TransacaoUtil;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementação do serviço de ranking de livros.
+ *
+ * - Um contador Space-Saving por janela (dia, semana, mês e total), com
+ *   memória limitada pela capacidade configurada
+ * - Ao virar a janela o contador é substituído por um novo
+ * - O estado é gravado periodicamente e restaurado na inicialização; sem
+ *   estado gravado, a janela é semeada a partir das estatísticas agregadas
+ *   (só os livros que cabem na capacidade, sem margem de erro)
+ */
+@Service
+public class RankingServiceImpl implements RankingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RankingServiceImpl.class);
+
+    private final RankingLivroRepository rankingRepository;
+    private final EstatisticaCirculacaoRepository estatisticaRepository;
+    private final LivroRepository livroRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int capacidade;
+
+    private final Map<Janela, JanelaAtiva> janelas = new ConcurrentHashMap<>();
+    private final AtomicBoolean alterado = new AtomicBoolean();
+
+    public RankingServiceImpl(RankingLivroRepository rankingRepository,
+                              EstatisticaCirculacaoRepository estatisticaRepository,
+                              LivroRepository livroRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${biblioteca.ranking.capacidade:200}") int capacidade) {
+        this.rankingRepository = rankingRepository;
+        this.estatisticaRepository = estatisticaRepository;
+        this.livroRepository = livroRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.capacidade = capacidade;
+    }
+
+    @PostConstruct
+    void carregar() {
+        LocalDate hoje = LocalDate.now();
+        for (Janela janela : Janela.values()) {
+            LocalDate inicio = janela.inicio(hoje);
+            SpaceSaving contador = new SpaceSaving(capacidade);
+
+            List<RankingLivro> gravados = rankingRepository.findByJanelaAndInicioOrderByContagemDesc(janela, inicio);
+            if (!gravados.isEmpty()) {
+                gravados.forEach(r -> contador.restaurar(r.getLivroId(), r.getContagem(), r.getErro()));
+            } else {
+                // Contagens exatas dos livros mais emprestados da janela. Os demais
+                // ficam fora do total, e a margem de erro exibida só cobre o que
+                // for registrado a partir daqui
+                List<LivroCirculacao> livros = estatisticaRepository.findLivrosMaisEmprestados(
+                        inicio, hoje, PageRequest.of(0, capacidade));
+                livros.forEach(l -> contador.restaurar(l.getLivroId(), l.getEmprestimos(), 0));
+            }
+
+            janelas.put(janela, new JanelaAtiva(inicio, contador));
+        }
+        logger.info("Ranking de livros carregado ({} contadores por janela)", capacidade);
+    }
+
+    @Override
+    public void registrarEmprestimo(Emprestimo emprestimo) {
+        long livroId = emprestimo.getLivro().getId();
+        TransacaoUtil.executarAposCommit(() -> {
+            LocalDate hoje = LocalDate.now();
+            for (Janela janela : Janela.values()) {
+                janelaAtual(janela, hoje).contador().registrar(livroId);
+            }
+            alterado.set(true);
+        });
+    }
+
+    @Override
+    public List<RankingLivroDTO> obterRanking(Janela janela, int limite) {
+        if (limite <= 0) {
+            throw new BusinessException("O limite do ranking deve ser positivo");
+        }
+
+        List<SpaceSaving.Entrada> entradas = janelaAtual(janela, LocalDate.now()).contador()
+                .topK(Math.min(limite, capacidade));
+        if (entradas.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Livro> livros = livroRepository.findAllById(
+                        entradas.stream().map(SpaceSaving.Entrada::item).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(Livro::getId, Function.identity()));
+
+        List<RankingLivroDTO> ranking = new ArrayList<>(entradas.size());
+        for (SpaceSaving.Entrada entrada : entradas) {
+            Livro livro = livros.get(entrada.item());
+            if (livro == null) {
+                continue; // Livro excluído
+            }
+            ranking.add(RankingLivroDTO.builder()
+                    .posicao(ranking.size() + 1)
+                    .livroId(livro.getId())
+                    .titulo(livro.getTitulo())
+                    .isbn(livro.getIsbn())
+                    .emprestimos(entrada.contagem())
+                    .margemErro(entrada.erro())
+                    .build());
+        }
+        return ranking;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${biblioteca.ranking.persistencia-ms:60000}")
+    public void persistir() {
+        if (!alterado.getAndSet(false)) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Map.Entry<Janela, JanelaAtiva> entry : janelas.entrySet()) {
+                    Janela janela = entry.getKey();
+                    JanelaAtiva ativa = entry.getValue();
+
+                    // Mantém apenas a janela corrente de cada tipo
+                    rankingRepository.excluirPorJanela(janela);
+                    rankingRepository.flush();
+
+                    List<RankingLivro> contadores = ativa.contador().topK(capacidade).stream()
+                            .map(e -> RankingLivro.builder()
+                                    .janela(janela)
+                                    .inicio(ativa.inicio())
+                                    .livroId(e.item())
+                                    .contagem(e.contagem())
+                                    .erro(e.erro())
+                                    .build())
+                            .collect(Collectors.toList());
+                    rankingRepository.saveAll(contadores);
+                }
+            });
+        } catch (RuntimeException e) {
+            alterado.set(true);
+            logger.error("Erro ao gravar ranking de livros; nova tentativa no próximo ciclo", e);
+        }
+    }
+
+    @PreDestroy
+    void encerrar() {
+        persistir();
+    }
+
+    /**
+     * Retorna o contador da janela vigente, iniciando um novo ao virar a janela.
+     */
+    private JanelaAtiva janelaAtual(Janela janela, LocalDate hoje) {
+        LocalDate inicio = janela.inicio(hoje);
+        return janelas.compute(janela, (j, atual) ->
+                atual != null && atual.inicio().equals(inicio)
+                        ? atual
+                        : new JanelaAtiva(inicio, new SpaceSaving(capacidade)));
+    }
+
+    private record JanelaAtiva(LocalDate inicio, SpaceSaving contador) {
+    }
+}
@@ -0,0 +1,218 @@
+package com.biblioteca.service.impl;
+
+import com.biblioteca.model.dto.LivroDTO;
+import com.biblioteca.model.entity.Emprestimo;
+import com.biblioteca.model.entity.Livro;
+import com.biblioteca.model.projection.EmprestimoUsuarioLivro;
+import com.biblioteca.repository.EmprestimoRepository;
+import com.biblioteca.repository.LivroRepository;
+import com.biblioteca.service.RecomendacaoService;
+import com.biblioteca.util.MatrizCoocorrencia;
+import com.biblioteca.util.TransacaoUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Implementação do serviço de recomendações por co-empréstimo.
+ *
+ * - A matriz de co-ocorrência usa mapas de chaves primitivas e é alterada
+ *   apenas pela thread única do serviço (construção e atualizações)
+ * - Após cada alteração, os k livros mais similares de cada livro afetado
+ *   são publicados como arrays imutáveis; a consulta é O(k)
+ * - A reconstrução percorre os empréstimos por cursor, agrupados por usuário
+ *   e limitados aos livros mais recentes de cada um
+ *
+ * Cancelamentos não são descontados incrementalmente: a reconstrução
+ * periódica corrige a matriz.
+ */
+@Service
+public class RecomendacaoServiceImpl implements RecomendacaoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecomendacaoServiceImpl.class);
+
+    private static final long[] NENHUMA = new long[0];
+
+    private final EmprestimoRepository emprestimoRepository;
+    private final LivroRepository livroRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+
+    private final int recomendacoesPorLivro;
+    private final int maxLivrosPorUsuario;
+    private final int maxVizinhos;
+
+    // Alterados apenas pela thread do executor
+    private MatrizCoocorrencia matriz;
+    private volatile Map<Long, long[]> recomendacoes = new ConcurrentHashMap<>();
+
+    public RecomendacaoServiceImpl(EmprestimoRepository emprestimoRepository,
+                                   LivroRepository livroRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${biblioteca.recomendacoes.por-livro:10}") int recomendacoesPorLivro,
+                                   @Value("${biblioteca.recomendacoes.max-livros-por-usuario:50}") int maxLivrosPorUsuario,
+                                   @Value("${biblioteca.recomendacoes.max-vizinhos:50}") int maxVizinhos) {
+        this.emprestimoRepository = emprestimoRepository;
+        this.livroRepository = livroRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.recomendacoesPorLivro = recomendacoesPorLivro;
+        this.maxLivrosPorUsuario = maxLivrosPorUsuario;
+        this.maxVizinhos = maxVizinhos;
+        this.matriz = new MatrizCoocorrencia(maxVizinhos, 16);
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(10_000),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "recomendacoes");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (tarefa, executorCheio) -> logger.warn("Fila de recomendações cheia; atualização descartada até a próxima reconstrução"));
+        // executor.idle mede a espera na fila entre o evento e a atualização da matriz
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "recomendacoes");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void construirNaInicializacao() {
+        reconstruir();
+    }
+
+    @PreDestroy
+    void encerrar() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    @Scheduled(cron = "${biblioteca.recomendacoes.cron:0 0 3 * * *}")
+    public void reconstruir() {
+        executor.execute(this::construir);
+    }
+
+    @Override
+    public void registrarEmprestimo(Emprestimo emprestimo) {
+        long usuarioId = emprestimo.getUsuario().getId();
+        long livroId = emprestimo.getLivro().getId();
+        TransacaoUtil.executarAposCommit(() -> executor.execute(() -> atualizar(usuarioId, livroId)));
+    }
+
+    @Override
+    public List<LivroDTO> recomendar(Long livroId, int limite) {
+        long[] similares = recomendacoes.getOrDefault(livroId, NENHUMA);
+        int quantidade = Math.min(limite, similares.length);
+        if (quantidade == 0) {
+            return List.of();
+        }
+
+        List<Long> ids = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            ids.add(similares[i]);
+        }
+
+        Map<Long, Livro> livros = livroRepository.findAllByIdComCategoria(ids).stream()
+                .collect(Collectors.toMap(Livro::getId, Function.identity()));
+
+        // Preserva a ordem de similaridade; livros excluídos são ignorados
+        return ids.stream()
+                .map(livros::get)
+                .filter(livro -> livro != null)
+                .map(livro -> LivroDTO.builder()
+                        .id(livro.getId())
+                        .titulo(livro.getTitulo())
+                        .urlCapa(livro.getUrlCapa())
+                        .categoriaNome(livro.getCategoria() != null ? livro.getCategoria().getNome() : null)
+                        .disponivel(livro.getQuantidadeDisponivel() != null && livro.getQuantidadeDisponivel() > 0)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private void construir() {
+        long inicio = System.nanoTime();
+        try {
+            MatrizCoocorrencia nova = new MatrizCoocorrencia(maxVizinhos, (int) Math.min(livroRepository.count(), 1 << 20));
+            long[] livrosUsuario = new long[maxLivrosPorUsuario];
+
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<EmprestimoUsuarioLivro> linhas = emprestimoRepository.streamUsuarioLivroParaRecomendacao()) {
+                    long usuarioAtual = Long.MIN_VALUE;
+                    int quantidade = 0;
+                    for (Iterator<EmprestimoUsuarioLivro> it = linhas.iterator(); it.hasNext(); ) {
+                        EmprestimoUsuarioLivro linha = it.next();
+                        if (linha.getUsuarioId() != usuarioAtual) {
+                            nova.registrarConjunto(livrosUsuario, quantidade);
+                            usuarioAtual = linha.getUsuarioId();
+                            quantidade = 0;
+                        }
+                        if (quantidade < maxLivrosPorUsuario) {
+                            livrosUsuario[quantidade++] = linha.getLivroId();
+                        }
+                    }
+                    nova.registrarConjunto(livrosUsuario, quantidade);
+                }
+            });
+
+            Map<Long, long[]> publicadas = new ConcurrentHashMap<>(nova.getItens() * 4 / 3 + 1);
+            nova.forEachItem((livroId, linha) -> publicadas.put(livroId, nova.similares(livroId, recomendacoesPorLivro)));
+
+            this.matriz = nova;
+            this.recomendacoes = publicadas;
+
+            logger.info("Recomendações construídas em {} ms: {} livros, {} pares, ~{} KB",
+                    (System.nanoTime() - inicio) / 1_000_000, nova.getItens(), nova.getPares(),
+                    nova.memoriaEstimadaBytes() / 1024);
+        } catch (RuntimeException e) {
+            logger.error("Erro ao construir recomendações; mantidas as anteriores", e);
+        }
+    }
+
+    private void atualizar(long usuarioId, long livroId) {
+        try {
+            long[] anteriores = transactionTemplate.execute(status -> {
+                // Pares do usuário com este livro já foram contabilizados
+                if (emprestimoRepository.countEmprestimosValidos(usuarioId, livroId) > 1) {
+                    return null;
+                }
+                return emprestimoRepository.findLivrosRecentesDoUsuario(usuarioId, livroId,
+                                PageRequest.of(0, maxLivrosPorUsuario - 1)).stream()
+                        .mapToLong(Long::longValue)
+                        .toArray();
+            });
+            if (anteriores == null) {
+                return;
+            }
+
+            matriz.registrarNovoItem(livroId, anteriores);
+
+            Map<Long, long[]> atuais = recomendacoes;
+            atuais.put(livroId, matriz.similares(livroId, recomendacoesPorLivro));
+            for (long anterior : anteriores) {
+                atuais.put(anterior, matriz.similares(anterior, recomendacoesPorLivro));
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Erro ao atualizar recomendações do livro {}", livroId, e);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.biblioteca.service.impl;
+
+import com.biblioteca.exception.BusinessException;
+import com.biblioteca.model.dto.RelatorioJobDTO;
+import com.biblioteca.model.dto.RelatorioJobDTO.StatusJob;
+import com.biblioteca.service.RelatorioJobService;
+import com.biblioteca.service.ReportService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Implementação do serviço de geração assíncrona de relatórios.
+ *
+ * - Executor próprio com número fixo de threads e fila limitada, para que
+ *   relatórios não disputem recursos com o fluxo de empréstimos
+ * - Jobs para os mesmos parâmetros em andamento são reaproveitados
+ * - O PDF é gravado em arquivo temporário e publicado ao concluir
+ */
+@Service
+public class RelatorioJobServiceImpl implements RelatorioJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RelatorioJobServiceImpl.class);
+
+    // Nomes gerados por executar(): <uuid>.pdf e <uuid>.pdf.part
+    private static final Pattern ARQUIVO_JOB = Pattern.compile(
+            "[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}\\.pdf(\\.part)?");
+
+    private final ReportService reportService;
+    private final Path diretorio;
+    private final long retencaoMinutos;
+    private final ExecutorService executor;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final Map<String, Job> emAndamento = new ConcurrentHashMap<>();
+
+    public RelatorioJobServiceImpl(ReportService reportService,
+                                   @Value("${biblioteca.relatorios.diretorio:${java.io.tmpdir}/biblioteca-relatorios}") String diretorio,
+                                   @Value("${biblioteca.relatorios.max-concorrentes:2}") int maxConcorrentes,
+                                   @Value("${biblioteca.relatorios.fila:20}") int capacidadeFila,
+                                   @Value("${biblioteca.relatorios.retencao-minutos:60}") long retencaoMinutos,
+                                   MeterRegistry meterRegistry) {
+        this.reportService = reportService;
+        this.diretorio = Paths.get(diretorio);
+        this.retencaoMinutos = retencaoMinutos;
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(maxConcorrentes, maxConcorrentes,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(capacidadeFila),
+                criarThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        pool.allowCoreThreadTimeOut(true);
+        // Ocupação da fila e tempo de espera dos jobs (executor.queued, executor.idle)
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "relatorios");
+    }
+
+    @PostConstruct
+    void prepararDiretorio() throws IOException {
+        Files.createDirectories(diretorio);
+        // Jobs ficam apenas em memória: arquivos de execuções anteriores são órfãos.
+        // O diretório é configurável e pode ser compartilhado: só os arquivos dos jobs são excluídos
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            arquivos.filter(arquivo -> ARQUIVO_JOB.matcher(arquivo.getFileName().toString()).matches())
+                    .forEach(this::excluirArquivo);
+        }
+    }
+
+    @PreDestroy
+    void encerrar() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public RelatorioJobDTO submeter(ReportService.TipoRelatorio tipo) {
+        String chave = tipo.name();
+        Job novo = new Job(UUID.randomUUID().toString(), tipo, chave);
+
+        Job existente = emAndamento.putIfAbsent(chave, novo);
+        if (existente != null) {
+            return toDTO(existente);
+        }
+
+        jobs.put(novo.id, novo);
+        try {
+            executor.execute(() -> executar(novo));
+        } catch (RejectedExecutionException e) {
+            emAndamento.remove(chave, novo);
+            jobs.remove(novo.id);
+            throw new BusinessException("Limite de relatórios em geração atingido. Tente novamente em instantes.");
+        }
+
+        logger.info("Job de relatório {} agendado ({})", novo.id, tipo);
+        return toDTO(novo);
+    }
+
+    @Override
+    public Optional<RelatorioJobDTO> buscarPorId(String id) {
+        return Optional.ofNullable(jobs.get(id)).map(this::toDTO);
+    }
+
+    @Override
+    public Optional<Path> obterArquivo(String id) {
+        Job job = jobs.get(id);
+        if (job == null || job.status != StatusJob.CONCLUIDO) {
+            return Optional.empty();
+        }
+        return Optional.of(job.arquivo);
+    }
+
+    /**
+     * Remove jobs finalizados há mais tempo que o período de retenção.
+     */
+    @Scheduled(fixedDelayString = "${biblioteca.relatorios.limpeza-ms:300000}")
+    public void limparExpirados() {
+        LocalDateTime limite = LocalDateTime.now().minusMinutes(retencaoMinutos);
+        jobs.values().removeIf(job -> {
+            boolean expirado = job.dataConclusao != null && job.dataConclusao.isBefore(limite);
+            if (expirado && job.arquivo != null) {
+                excluirArquivo(job.arquivo);
+            }
+            return expirado;
+        });
+    }
+
+    private void executar(Job job) {
+        job.status = StatusJob.EM_EXECUCAO;
+        Path destino = diretorio.resolve(job.id + ".pdf");
+        Path parcial = diretorio.resolve(job.id + ".pdf.part");
+
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(parcial))) {
+                reportService.gerarRelatorio(job.tipo, out);
+            }
+            Files.move(parcial, destino, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            job.arquivo = destino;
+            job.tamanhoBytes = Files.size(destino);
+            job.status = StatusJob.CONCLUIDO;
+            logger.info("Job de relatório {} concluído ({} bytes)", job.id, job.tamanhoBytes);
+        } catch (Exception e) {
+            logger.error("Erro ao executar job de relatório {}", job.id, e);
+            excluirArquivo(parcial);
+            job.mensagemErro = "Erro ao gerar relatório";
+            job.status = StatusJob.FALHOU;
+        } finally {
+            job.dataConclusao = LocalDateTime.now();
+            emAndamento.remove(job.chave, job);
+        }
+    }
+
+    private void excluirArquivo(Path arquivo) {
+        try {
+            Files.deleteIfExists(arquivo);
+        } catch (IOException e) {
+            logger.warn("Não foi possível excluir o arquivo {}", arquivo, e);
+        }
+    }
+
+    private RelatorioJobDTO toDTO(Job job) {
+        return RelatorioJobDTO.builder()
+                .id(job.id)
+                .tipo(job.tipo)
+                .status(job.status)
+                .dataCriacao(job.dataCriacao)
+                .dataConclusao(job.dataConclusao)
+                .tamanhoBytes(job.status == StatusJob.CONCLUIDO ? job.tamanhoBytes : null)
+                .mensagemErro(job.mensagemErro)
+                .urlDownload(job.status == StatusJob.CONCLUIDO ? "/relatorios/jobs/" + job.id + "/download" : null)
+                .build();
+    }
+
+    private static ThreadFactory criarThreadFactory() {
+        AtomicInteger contador = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "relatorio-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        };
+    }
+
+    /**
+     * Estado de um job. Campos voláteis: escritos pela thread do executor
+     * e lidos pelas threads das requisições de status/download.
+     */
+    private static final class Job {
+        final String id;
+        final ReportService.TipoRelatorio tipo;
+        final String chave;
+        final LocalDateTime dataCriacao = LocalDateTime.now();
+        volatile StatusJob status = StatusJob.PENDENTE;
+        volatile LocalDateTime dataConclusao;
+        volatile Path arquivo;
+        volatile long tamanhoBytes;
+        volatile String mensagemErro;
+
+        Job(String id, ReportService.TipoRelatorio tipo, String chave) {
+            this.id = id;
+            this.tipo = tipo;
+            this.chave = chave;
+        }
+    }
+}
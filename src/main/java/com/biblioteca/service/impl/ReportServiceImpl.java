@@ -1,12 +1,17 @@
 package com.biblioteca.service.impl;
 
+import com.biblioteca.metrics.MetricasRelatorio;
 import com.biblioteca.model.dto.DashboardDTO;
+import com.biblioteca.model.dto.EstatisticaCirculacaoDTO;
 import com.biblioteca.model.entity.Emprestimo;
 import com.biblioteca.model.entity.Livro;
 import com.biblioteca.model.entity.Usuario;
+import com.biblioteca.model.projection.UsuarioExportacao;
+import com.biblioteca.pattern.strategy.MultaCalculator;
 import com.biblioteca.repository.EmprestimoRepository;
 import com.biblioteca.repository.LivroRepository;
 import com.biblioteca.repository.UsuarioRepository;
+import com.biblioteca.service.DashboardService;
 import com.biblioteca.service.ReportService;
 import com.itextpdf.text.*;
 import com.itextpdf.text.pdf.PdfPCell;
@@ -16,18 +21,26 @@ import com.itextpdf.text.pdf.draw.LineSeparator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Implementação do serviço de geração de relatórios em PDF
  * Utiliza a biblioteca iTextPDF para geração dos documentos
+ * 
+ * Executa em transação somente leitura para que os relatórios possam ser
+ * gerados fora da thread da requisição (ver RelatorioJobService)
  */
 @Service
+@Transactional(readOnly = true)
 @RequiredArgsConstructor
 @Slf4j
 public class ReportServiceImpl implements ReportService {
@@ -35,6 +48,11 @@ public class ReportServiceImpl implements ReportService {
     private final LivroRepository livroRepository;
     private final EmprestimoRepository emprestimoRepository;
     private final UsuarioRepository usuarioRepository;
+    private final DashboardService dashboardService;
+    private final MultaCalculator multaCalculator;
+    private final MetricasRelatorio metricasRelatorio;
+    
+    private static final String FORMATO = "PDF";
     
     // Fontes padrão
     private static final Font TITLE_FONT = new Font(Font.FontFamily.HELVETICA, 18, Font.BOLD, BaseColor.DARK_GRAY);
@@ -49,12 +67,61 @@ public class ReportServiceImpl implements ReportService {
     
     @Override
     public ByteArrayOutputStream gerarRelatorioLivros() {
-        log.info("Gerando relatório de livros");
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        metricasRelatorio.medir(TipoRelatorio.LIVROS, FORMATO, baos, this::escreverRelatorioLivros);
+        return baos;
+    }
+    
+    @Override
+    public ByteArrayOutputStream gerarRelatorioEmprestimos() {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        metricasRelatorio.medir(TipoRelatorio.EMPRESTIMOS, FORMATO, baos, this::escreverRelatorioEmprestimos);
+        return baos;
+    }
+    
+    @Override
+    public ByteArrayOutputStream gerarRelatorioEmprestimosAtrasados() {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        metricasRelatorio.medir(TipoRelatorio.EMPRESTIMOS_ATRASADOS, FORMATO, baos, this::escreverRelatorioEmprestimosAtrasados);
+        return baos;
+    }
+    
+    @Override
+    public ByteArrayOutputStream gerarRelatorioUsuarios() {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        metricasRelatorio.medir(TipoRelatorio.USUARIOS, FORMATO, baos, this::escreverRelatorioUsuarios);
+        return baos;
+    }
+    
+    @Override
+    public ByteArrayOutputStream gerarRelatorioDashboard(DashboardDTO dashboard) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        metricasRelatorio.medir(TipoRelatorio.DASHBOARD, FORMATO, baos,
+                destino -> escreverRelatorioDashboard(dashboard, destino));
+        return baos;
+    }
+    
+    @Override
+    public void gerarRelatorio(TipoRelatorio tipo, OutputStream out) {
+        metricasRelatorio.medir(tipo, FORMATO, out, destino -> {
+            switch (tipo) {
+                case LIVROS -> escreverRelatorioLivros(destino);
+                case EMPRESTIMOS -> escreverRelatorioEmprestimos(destino);
+                case EMPRESTIMOS_ATRASADOS -> escreverRelatorioEmprestimosAtrasados(destino);
+                case USUARIOS -> escreverRelatorioUsuarios(destino);
+                case DASHBOARD -> escreverRelatorioDashboard(dashboardService.obterEstatisticas(), destino);
+            }
+        });
+    }
+    
+    // Geração dos documentos
+    
+    private void escreverRelatorioLivros(OutputStream out) {
+        log.info("Gerando relatório de livros");
         
         try {
             Document document = new Document(PageSize.A4);
-            PdfWriter.getInstance(document, baos);
+            PdfWriter.getInstance(document, out);
             document.open();
             
             // Cabeçalho
@@ -100,18 +167,14 @@ public class ReportServiceImpl implements ReportService {
             log.error("Erro ao gerar relatório de livros", e);
             throw new RuntimeException("Erro ao gerar relatório", e);
         }
-        
-        return baos;
     }
     
-    @Override
-    public ByteArrayOutputStream gerarRelatorioEmprestimos() {
+    private void escreverRelatorioEmprestimos(OutputStream out) {
         log.info("Gerando relatório de empréstimos");
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
         
         try {
             Document document = new Document(PageSize.A4.rotate());
-            PdfWriter.getInstance(document, baos);
+            PdfWriter.getInstance(document, out);
             document.open();
             
             addHeader(document, "Relatório de Empréstimos");
@@ -152,7 +215,8 @@ public class ReportServiceImpl implements ReportService {
             // Estatísticas
             document.add(new Paragraph("\n"));
             long ativos = emprestimos.stream()
-                .filter(e -> e.getStatus() == Emprestimo.StatusEmprestimo.ATIVO).count();
+                .filter(e -> e.getStatus() == Emprestimo.StatusEmprestimo.ATIVO
+                        || e.getStatus() == Emprestimo.StatusEmprestimo.RENOVADO).count();
             long atrasados = emprestimos.stream()
                 .filter(e -> e.getStatus() == Emprestimo.StatusEmprestimo.ATRASADO).count();
             java.math.BigDecimal totalMultas = emprestimos.stream()
@@ -172,18 +236,14 @@ public class ReportServiceImpl implements ReportService {
             log.error("Erro ao gerar relatório de empréstimos", e);
             throw new RuntimeException("Erro ao gerar relatório", e);
         }
-        
-        return baos;
     }
     
-    @Override
-    public ByteArrayOutputStream gerarRelatorioEmprestimosAtrasados() {
+    private void escreverRelatorioEmprestimosAtrasados(OutputStream out) {
         log.info("Gerando relatório de empréstimos atrasados");
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
         
         try {
             Document document = new Document(PageSize.A4);
-            PdfWriter.getInstance(document, baos);
+            PdfWriter.getInstance(document, out);
             document.open();
             
             addHeader(document, "Relatório de Empréstimos Atrasados");
@@ -200,28 +260,33 @@ public class ReportServiceImpl implements ReportService {
             if (atrasados.isEmpty()) {
                 document.add(new Paragraph("Nenhum empréstimo atrasado encontrado.", NORMAL_FONT));
             } else {
-                PdfPTable table = new PdfPTable(5);
+                PdfPTable table = new PdfPTable(6);
                 table.setWidthPercentage(100);
-                table.setWidths(new float[]{3, 2, 2, 2, 2});
+                table.setWidths(new float[]{3, 2, 2, 1.5f, 1.5f, 1.5f});
                 
-                addTableHeader(table, "Livro", "Usuário", "Email", "Prev. Dev.", "Multa");
+                // Saldo devedor materializado: lido com o usuário, sem somar empréstimos
+                addTableHeader(table, "Livro", "Usuário", "Email", "Prev. Dev.", "Multa", "Saldo Dev.");
                 
                 DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
                 
-                for (Emprestimo emp : atrasados) {
+                // Multas previstas pela estratégia ativa, calculadas em lote
+                List<java.math.BigDecimal> previstas = multaCalculator.calcular(atrasados);
+                java.math.BigDecimal totalMultas = java.math.BigDecimal.ZERO;
+                
+                for (int i = 0; i < atrasados.size(); i++) {
+                    Emprestimo emp = atrasados.get(i);
                     table.addCell(createCell(emp.getLivro().getTitulo()));
                     table.addCell(createCell(emp.getUsuario().getNome()));
                     table.addCell(createCell(emp.getUsuario().getEmail()));
                     table.addCell(createCell(emp.getDataPrevistaDevolucao().format(formatter)));
-                    java.math.BigDecimal multa = emp.getMulta() != null ? emp.getMulta() : emp.calcularMulta();
+                    java.math.BigDecimal multa = emp.getMulta() != null ? emp.getMulta() : previstas.get(i);
                     table.addCell(createCell(String.format("R$ %.2f", multa)));
+                    table.addCell(createCell(String.format("R$ %.2f", emp.getUsuario().getSaldoDevedor())));
+                    totalMultas = totalMultas.add(multa);
                 }
                 
                 document.add(table);
                 
-                java.math.BigDecimal totalMultas = atrasados.stream()
-                    .map(e -> e.getMulta() != null ? e.getMulta() : e.calcularMulta())
-                    .reduce(java.math.BigDecimal.ZERO, java.math.BigDecimal::add);
                 document.add(new Paragraph("\n"));
                 document.add(new Paragraph("Total de empréstimos atrasados: " + atrasados.size(), NORMAL_FONT));
                 document.add(new Paragraph(String.format("Total em multas pendentes: R$ %.2f", totalMultas), 
@@ -235,24 +300,18 @@ public class ReportServiceImpl implements ReportService {
             log.error("Erro ao gerar relatório de empréstimos atrasados", e);
             throw new RuntimeException("Erro ao gerar relatório", e);
         }
-        
-        return baos;
     }
     
-    @Override
-    public ByteArrayOutputStream gerarRelatorioUsuarios() {
+    private void escreverRelatorioUsuarios(OutputStream out) {
         log.info("Gerando relatório de usuários");
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
         
         try {
             Document document = new Document(PageSize.A4);
-            PdfWriter.getInstance(document, baos);
+            PdfWriter.getInstance(document, out);
             document.open();
             
             addHeader(document, "Relatório de Usuários");
             
-            List<Usuario> usuarios = usuarioRepository.findAll();
-            
             PdfPTable table = new PdfPTable(5);
             table.setWidthPercentage(100);
             table.setSpacingBefore(20);
@@ -260,27 +319,41 @@ public class ReportServiceImpl implements ReportService {
             
             addTableHeader(table, "Nome", "Email", "Papel", "Status", "Empréstimos");
             
-            for (Usuario usuario : usuarios) {
-                table.addCell(createCell(usuario.getNome()));
-                table.addCell(createCell(usuario.getEmail()));
-                table.addCell(createCell(usuario.getRole().name()));
-                
-                PdfPCell statusCell = createCell(usuario.isAtivo() ? "Ativo" : "Inativo");
-                statusCell.setBackgroundColor(usuario.isAtivo() ? 
-                    new BaseColor(200, 255, 200) : new BaseColor(255, 200, 200));
-                table.addCell(statusCell);
-                
-                table.addCell(createCell(String.valueOf(usuario.getEmprestimos().size())));
+            // Projeção com a contagem de empréstimos por subconsulta (sem carregar coleções)
+            long total = 0;
+            long ativos = 0;
+            long admins = 0;
+            try (Stream<UsuarioExportacao> usuarios = usuarioRepository.streamParaExportacao()) {
+                for (Iterator<UsuarioExportacao> it = usuarios.iterator(); it.hasNext(); ) {
+                    UsuarioExportacao usuario = it.next();
+                    boolean ativo = Boolean.TRUE.equals(usuario.getAtivo());
+                    
+                    table.addCell(createCell(usuario.getNome()));
+                    table.addCell(createCell(usuario.getEmail()));
+                    table.addCell(createCell(usuario.getRole().name()));
+                    
+                    PdfPCell statusCell = createCell(ativo ? "Ativo" : "Inativo");
+                    statusCell.setBackgroundColor(ativo ? 
+                        new BaseColor(200, 255, 200) : new BaseColor(255, 200, 200));
+                    table.addCell(statusCell);
+                    
+                    table.addCell(createCell(String.valueOf(usuario.getTotalEmprestimos())));
+                    
+                    total++;
+                    if (ativo) {
+                        ativos++;
+                    }
+                    if (usuario.getRole() == Usuario.Role.ADMIN) {
+                        admins++;
+                    }
+                }
             }
             
             document.add(table);
             
             // Estatísticas
             document.add(new Paragraph("\n"));
-            long ativos = usuarios.stream().filter(Usuario::isAtivo).count();
-            long admins = usuarios.stream().filter(u -> u.getRole() == Usuario.Role.ADMIN).count();
-            
-            document.add(new Paragraph("Total de usuários: " + usuarios.size(), NORMAL_FONT));
+            document.add(new Paragraph("Total de usuários: " + total, NORMAL_FONT));
             document.add(new Paragraph("Usuários ativos: " + ativos, NORMAL_FONT));
             document.add(new Paragraph("Administradores: " + admins, NORMAL_FONT));
             
@@ -291,18 +364,14 @@ public class ReportServiceImpl implements ReportService {
             log.error("Erro ao gerar relatório de usuários", e);
             throw new RuntimeException("Erro ao gerar relatório", e);
         }
-        
-        return baos;
     }
     
-    @Override
-    public ByteArrayOutputStream gerarRelatorioDashboard(DashboardDTO dashboard) {
+    private void escreverRelatorioDashboard(DashboardDTO dashboard, OutputStream out) {
         log.info("Gerando relatório do dashboard");
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
         
         try {
             Document document = new Document(PageSize.A4);
-            PdfWriter.getInstance(document, baos);
+            PdfWriter.getInstance(document, out);
             document.open();
             
             addHeader(document, "Relatório Geral - Dashboard");
@@ -333,6 +402,39 @@ public class ReportServiceImpl implements ReportService {
                 document.add(new Paragraph(String.format("Taxa de ocupação do acervo: %.1f%%", taxaOcupacao), NORMAL_FONT));
             }
             
+            // Circulação do período, a partir das estatísticas agregadas
+            if (dashboard.getCirculacaoDiaria() != null) {
+                document.add(new Paragraph("\n"));
+                document.add(new Paragraph("Circulação - Últimos " + dashboard.getDiasPeriodo() + " dias", SUBTITLE_FONT));
+                document.add(new Paragraph("\n"));
+                
+                PdfPTable circulacaoTable = new PdfPTable(2);
+                circulacaoTable.setWidthPercentage(60);
+                circulacaoTable.setHorizontalAlignment(Element.ALIGN_LEFT);
+                
+                addStatRow(circulacaoTable, "Empréstimos", String.valueOf(dashboard.getEmprestimosPeriodo()));
+                addStatRow(circulacaoTable, "Devoluções", String.valueOf(dashboard.getDevolucoesPeriodo()));
+                addStatRow(circulacaoTable, "Devoluções em Atraso", String.valueOf(dashboard.getAtrasosPeriodo()));
+                addStatRow(circulacaoTable, "Multas", String.format("R$ %.2f", dashboard.getMultasPeriodo()));
+                
+                document.add(circulacaoTable);
+                
+                List<EstatisticaCirculacaoDTO> categorias = dashboard.getCategoriasMaisEmprestadas();
+                if (categorias != null && !categorias.isEmpty()) {
+                    PdfPTable categoriasTable = new PdfPTable(2);
+                    categoriasTable.setWidthPercentage(60);
+                    categoriasTable.setHorizontalAlignment(Element.ALIGN_LEFT);
+                    categoriasTable.setSpacingBefore(20);
+                    
+                    addTableHeader(categoriasTable, "Categoria", "Empréstimos");
+                    for (EstatisticaCirculacaoDTO categoria : categorias) {
+                        categoriasTable.addCell(createCell(categoria.getRotulo()));
+                        categoriasTable.addCell(createCell(String.valueOf(categoria.getEmprestimos())));
+                    }
+                    document.add(categoriasTable);
+                }
+            }
+            
             addFooter(document);
             document.close();
             
@@ -340,8 +442,6 @@ public class ReportServiceImpl implements ReportService {
             log.error("Erro ao gerar relatório do dashboard", e);
             throw new RuntimeException("Erro ao gerar relatório", e);
         }
-        
-        return baos;
     }
     
     // Métodos auxiliares
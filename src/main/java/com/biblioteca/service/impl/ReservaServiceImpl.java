@@ -0,0 +1,337 @@
+package com.biblioteca.service.impl;
+
+import com.biblioteca.exception.BusinessException;
+import com.biblioteca.exception.ResourceNotFoundException;
+import com.biblioteca.model.dto.ReservaDTO;
+import com.biblioteca.model.entity.Livro;
+import com.biblioteca.model.entity.Reserva;
+import com.biblioteca.model.entity.Reserva.StatusReserva;
+import com.biblioteca.model.entity.Usuario;
+import com.biblioteca.model.projection.ReservaPendente;
+import com.biblioteca.repository.EmprestimoRepository;
+import com.biblioteca.repository.LivroRepository;
+import com.biblioteca.repository.ReservaRepository;
+import com.biblioteca.repository.UsuarioRepository;
+import com.biblioteca.service.MultaService;
+import com.biblioteca.service.ReservaService;
+import com.biblioteca.util.TimerWheel;
+import com.biblioteca.util.TransacaoUtil;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Collectors;
+
+/**
+ * Implementação do serviço de reservas.
+ *
+ * - Reservar é apenas um INSERT: não bloqueia o registro do livro, então
+ *   muitas reservas simultâneas não disputam o mesmo lock
+ * - Um índice em memória mantém, por livro, os ids aguardando em ordem; a
+ *   retirada do índice é lock-free e o banco decide o vencedor com um UPDATE
+ *   condicional ao status (compare-and-set)
+ * - A disponibilidade do livro só muda por UPDATE condicional
+ *   (LivroRepository.retirarExemplar): um exemplar devolvido é retirado de
+ *   novo para a reserva na mesma transação, sem janela para empréstimos avulsos
+ * - Os prazos de retirada ficam numa roda de temporização avançada pelo
+ *   agendador; o mesmo ciclo reconcilia livros com exemplar livre e fila
+ *   não vazia (reserva criada durante uma devolução concorrente)
+ *
+ * O índice é reconstruído do banco na inicialização; reservas que ainda
+ * não chegaram ao índice são alcançadas pela reconciliação.
+ */
+@Service
+public class ReservaServiceImpl implements ReservaService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReservaServiceImpl.class);
+
+    private static final Set<StatusReserva> ATIVAS = EnumSet.of(StatusReserva.AGUARDANDO, StatusReserva.DISPONIVEL);
+
+    private final ReservaRepository reservaRepository;
+    private final LivroRepository livroRepository;
+    private final UsuarioRepository usuarioRepository;
+    private final EmprestimoRepository emprestimoRepository;
+    private final MultaService multaService;
+    private final TransactionTemplate transactionTemplate;
+    private final long prazoRetiradaHoras;
+    private final TimerWheel prazos;
+
+    // Livro → ids das reservas aguardando, em ordem FIFO
+    private final Map<Long, ConcurrentSkipListSet<Long>> filas = new ConcurrentHashMap<>();
+
+    public ReservaServiceImpl(ReservaRepository reservaRepository,
+                              LivroRepository livroRepository,
+                              UsuarioRepository usuarioRepository,
+                              EmprestimoRepository emprestimoRepository,
+                              MultaService multaService,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${biblioteca.reservas.prazo-retirada-horas:48}") long prazoRetiradaHoras,
+                              @Value("${biblioteca.reservas.tick-ms:60000}") long tickMs) {
+        this.reservaRepository = reservaRepository;
+        this.livroRepository = livroRepository;
+        this.usuarioRepository = usuarioRepository;
+        this.emprestimoRepository = emprestimoRepository;
+        this.multaService = multaService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.prazoRetiradaHoras = prazoRetiradaHoras;
+        this.prazos = new TimerWheel(tickMs, 512, System.currentTimeMillis());
+    }
+
+    @PostConstruct
+    void carregar() {
+        List<ReservaPendente> aguardando = reservaRepository.findPendentes(StatusReserva.AGUARDANDO);
+        aguardando.forEach(r -> fila(r.getLivroId()).add(r.getId()));
+
+        List<ReservaPendente> disponiveis = reservaRepository.findPendentes(StatusReserva.DISPONIVEL);
+        disponiveis.forEach(r -> agendarExpiracao(r.getId(), r.getDataExpiracao()));
+
+        logger.info("Reservas carregadas: {} aguardando, {} disponíveis para retirada",
+                aguardando.size(), disponiveis.size());
+    }
+
+    @Override
+    @Transactional
+    public ReservaDTO reservar(Long usuarioId, Long livroId) {
+        Usuario usuario = usuarioRepository.findById(usuarioId)
+                .orElseThrow(() -> new ResourceNotFoundException("Usuário", usuarioId));
+
+        if (!usuario.isAtivo()) {
+            throw new BusinessException("Usuário inativo não pode reservar livros");
+        }
+
+        multaService.verificarDebitos(usuario);
+
+        Livro livro = livroRepository.findById(livroId)
+                .orElseThrow(() -> new ResourceNotFoundException("Livro", livroId));
+
+        if (livro.getStatus() == Livro.StatusLivro.DESCARTADO) {
+            throw new BusinessException("Livro descartado não pode ser reservado");
+        }
+
+        // Com fila, o empréstimo avulso é recusado mesmo havendo exemplar no saldo
+        if (livro.isDisponivel() && reservaRepository.countAguardando(livroId) == 0) {
+            throw new BusinessException("Livro disponível: solicite o empréstimo diretamente");
+        }
+
+        if (!emprestimoRepository.findEmprestimoAtivo(usuarioId, livroId).isEmpty()) {
+            throw new BusinessException("Usuário já possui um empréstimo ativo deste livro");
+        }
+
+        if (!reservaRepository.findByUsuarioELivro(usuarioId, livroId, ATIVAS).isEmpty()) {
+            throw new BusinessException("Usuário já possui uma reserva ativa deste livro");
+        }
+
+        Reserva salva = reservaRepository.save(Reserva.builder()
+                .usuario(usuario)
+                .livro(livro)
+                .build());
+
+        Long id = salva.getId();
+        TransacaoUtil.executarAposCommit(() -> fila(livroId).add(id));
+
+        ReservaDTO dto = ReservaDTO.fromEntity(salva);
+        dto.setPosicaoFila(reservaRepository.countAguardandoAntes(livroId, id) + 1);
+        return dto;
+    }
+
+    @Override
+    @Transactional
+    public void cancelar(Long reservaId, Long usuarioId) {
+        Reserva reserva = reservaRepository.findById(reservaId)
+                .orElseThrow(() -> new ResourceNotFoundException("Reserva", reservaId));
+
+        if (!reserva.getUsuario().getId().equals(usuarioId)) {
+            throw new BusinessException("Reserva pertence a outro usuário");
+        }
+
+        Long livroId = reserva.getLivro().getId();
+
+        if (reservaRepository.alterarStatus(reservaId, StatusReserva.AGUARDANDO, StatusReserva.CANCELADA) == 1) {
+            TransacaoUtil.executarAposCommit(() -> removerDaFila(livroId, reservaId));
+            return;
+        }
+
+        if (reservaRepository.alterarStatus(reservaId, StatusReserva.DISPONIVEL, StatusReserva.CANCELADA) == 1) {
+            // Repassa o exemplar separado para a próxima reserva
+            liberarExemplar(livroId);
+            return;
+        }
+
+        throw new BusinessException("Reserva não está mais ativa");
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReservaDTO> listarPorUsuario(Long usuarioId) {
+        return reservaRepository.findByUsuarioIdComLivro(usuarioId).stream()
+                .map(reserva -> {
+                    ReservaDTO dto = ReservaDTO.fromEntity(reserva);
+                    if (reserva.getStatus() == StatusReserva.AGUARDANDO) {
+                        dto.setPosicaoFila(reservaRepository.countAguardandoAntes(dto.getLivroId(), reserva.getId()) + 1);
+                    }
+                    return dto;
+                })
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long contarFila(Long livroId) {
+        return reservaRepository.countAguardando(livroId);
+    }
+
+    @Override
+    @Transactional
+    public void liberarExemplar(Long livroId) {
+        livroRepository.devolverExemplar(livroId);
+        livroRepository.marcarDisponivel(livroId);
+        alocarExemplar(livroId);
+    }
+
+    /**
+     * Separa um exemplar disponível do livro para a próxima reserva da fila.
+     *
+     * @return true se o exemplar foi separado para uma reserva
+     */
+    private boolean alocarExemplar(Long livroId) {
+        ConcurrentSkipListSet<Long> fila = filas.get(livroId);
+        if (fila == null || fila.isEmpty()) {
+            return false;
+        }
+        // O exemplar sai do saldo antes da fila: o UPDATE mantém a linha do
+        // livro bloqueada até o commit
+        if (livroRepository.retirarExemplar(livroId) == 0) {
+            return false;
+        }
+
+        Long candidato;
+        while ((candidato = proximoDaFila(livroId)) != null) {
+            Long reservaId = candidato;
+            LocalDateTime agora = LocalDateTime.now();
+            LocalDateTime expiracao = agora.plusHours(prazoRetiradaHoras);
+
+            // Se a transação for desfeita, a reserva volta ao índice
+            TransacaoUtil.executarAposRollback(() -> fila(livroId).add(reservaId));
+
+            if (reservaRepository.disponibilizar(reservaId, StatusReserva.AGUARDANDO, StatusReserva.DISPONIVEL,
+                    agora, expiracao) == 1) {
+                livroRepository.marcarEsgotado(livroId);
+                TransacaoUtil.executarAposCommit(() -> agendarExpiracao(reservaId, expiracao));
+                logger.info("Exemplar do livro {} separado para a reserva {}", livroId, reservaId);
+                return true;
+            }
+            // Reserva cancelada ou atendida por outra transação: segue a fila
+        }
+
+        // Ninguém mais aguardando: o exemplar volta ao saldo
+        livroRepository.devolverExemplar(livroId);
+        return false;
+    }
+
+    @Override
+    @Transactional
+    public boolean retirarReserva(Long usuarioId, Long livroId) {
+        List<Reserva> disponiveis = reservaRepository.findByUsuarioELivro(usuarioId, livroId,
+                EnumSet.of(StatusReserva.DISPONIVEL));
+        for (Reserva reserva : disponiveis) {
+            if (reservaRepository.alterarStatus(reserva.getId(), StatusReserva.DISPONIVEL, StatusReserva.ATENDIDA) == 1) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${biblioteca.reservas.tick-ms:60000}")
+    public void processarExpiracoes() {
+        long agora = System.currentTimeMillis();
+        for (Long reservaId : prazos.avancar(agora)) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> expirar(reservaId));
+            } catch (RuntimeException e) {
+                logger.error("Erro ao expirar a reserva {}; nova tentativa no próximo ciclo", reservaId, e);
+                prazos.agendar(reservaId, agora);
+            }
+        }
+
+        try {
+            List<Long> livros = transactionTemplate.execute(status -> reservaRepository.findLivrosComExemplarParaFila());
+            for (Long livroId : livros) {
+                // Garante no índice as reservas que ainda não chegaram a ele
+                fila(livroId).addAll(reservaRepository.findIdsAguardando(livroId));
+                transactionTemplate.executeWithoutResult(status -> {
+                    while (alocarExemplar(livroId)) {
+                        // Um exemplar por reserva enquanto houver ambos
+                    }
+                });
+            }
+        } catch (RuntimeException e) {
+            logger.error("Erro ao reconciliar filas de reserva", e);
+        }
+    }
+
+    private void expirar(Long reservaId) {
+        Reserva reserva = reservaRepository.findById(reservaId).orElse(null);
+        if (reserva == null) {
+            return;
+        }
+
+        // Falha se a reserva já foi retirada ou cancelada
+        if (reservaRepository.expirar(reservaId, StatusReserva.DISPONIVEL, StatusReserva.EXPIRADA,
+                LocalDateTime.now()) == 0) {
+            return;
+        }
+
+        Long livroId = reserva.getLivro().getId();
+        liberarExemplar(livroId);
+        logger.info("Reserva {} expirada; exemplar do livro {} liberado", reservaId, livroId);
+    }
+
+    @Override
+    @Transactional
+    public int cancelarDeLivrosDescartados(Collection<Long> livroIds) {
+        int canceladas = reservaRepository.cancelarDeLivrosDescartados(livroIds);
+        if (canceladas > 0) {
+            // Livros descartados nunca recebem exemplar. Os recusados pelo
+            // descarte (empréstimo em aberto) mantêm a fila
+            List<Long> descartados = livroRepository.findIdsDescartados(livroIds);
+            TransacaoUtil.executarAposCommit(() -> descartados.forEach(filas::remove));
+        }
+        return canceladas;
+    }
+
+    private Long proximoDaFila(Long livroId) {
+        ConcurrentSkipListSet<Long> fila = filas.get(livroId);
+        return fila != null ? fila.pollFirst() : null;
+    }
+
+    private ConcurrentSkipListSet<Long> fila(Long livroId) {
+        return filas.computeIfAbsent(livroId, id -> new ConcurrentSkipListSet<>());
+    }
+
+    private void removerDaFila(Long livroId, Long reservaId) {
+        ConcurrentSkipListSet<Long> fila = filas.get(livroId);
+        if (fila != null) {
+            fila.remove(reservaId);
+        }
+    }
+
+    private void agendarExpiracao(Long reservaId, LocalDateTime expiracao) {
+        prazos.agendar(reservaId, expiracao.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+}
@@ -0,0 +1,73 @@
+package com.biblioteca.service.impl;
+
+import com.biblioteca.exception.BusinessException;
+import com.biblioteca.repository.EmprestimoRepository;
+import com.biblioteca.repository.LancamentoMultaRepository;
+import com.biblioteca.repository.LivroRepository;
+import com.biblioteca.repository.ReservaRepository;
+import com.biblioteca.service.RestricaoExclusaoService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementação das verificações de exclusão.
+ *
+ * Empréstimos, reservas e lançamentos de multa são histórico: livros e
+ * usuários que os possuem não são excluídos, e sim descartados ou desativados.
+ */
+@Service
+@Transactional(readOnly = true)
+public class RestricaoExclusaoServiceImpl implements RestricaoExclusaoService {
+
+    private final LivroRepository livroRepository;
+    private final EmprestimoRepository emprestimoRepository;
+    private final ReservaRepository reservaRepository;
+    private final LancamentoMultaRepository lancamentoMultaRepository;
+
+    public RestricaoExclusaoServiceImpl(LivroRepository livroRepository,
+                                        EmprestimoRepository emprestimoRepository,
+                                        ReservaRepository reservaRepository,
+                                        LancamentoMultaRepository lancamentoMultaRepository) {
+        this.livroRepository = livroRepository;
+        this.emprestimoRepository = emprestimoRepository;
+        this.reservaRepository = reservaRepository;
+        this.lancamentoMultaRepository = lancamentoMultaRepository;
+    }
+
+    @Override
+    public void verificarLivro(Long livroId) {
+        if (emprestimoRepository.existsByLivroId(livroId)) {
+            throw new BusinessException("Não é possível excluir livro com empréstimos registrados. Descarte-o do acervo.");
+        }
+        if (reservaRepository.existsByLivroId(livroId)) {
+            throw new BusinessException("Não é possível excluir livro com reservas registradas. Descarte-o do acervo.");
+        }
+    }
+
+    @Override
+    public void verificarCategoria(Long categoriaId) {
+        if (livroRepository.existsByCategoriaId(categoriaId)) {
+            throw new BusinessException("Não é possível excluir categoria com livros associados");
+        }
+    }
+
+    @Override
+    public void verificarAutor(Long autorId) {
+        if (livroRepository.existsByAutoresId(autorId)) {
+            throw new BusinessException("Não é possível excluir autor com livros associados");
+        }
+    }
+
+    @Override
+    public void verificarUsuario(Long usuarioId) {
+        if (emprestimoRepository.existsByUsuarioId(usuarioId)) {
+            throw new BusinessException("Não é possível excluir usuário com empréstimos registrados. Desative-o.");
+        }
+        if (reservaRepository.existsByUsuarioId(usuarioId)) {
+            throw new BusinessException("Não é possível excluir usuário com reservas registradas. Desative-o.");
+        }
+        if (lancamentoMultaRepository.existsByUsuarioId(usuarioId)) {
+            throw new BusinessException("Não é possível excluir usuário com multas registradas. Desative-o.");
+        }
+    }
+}
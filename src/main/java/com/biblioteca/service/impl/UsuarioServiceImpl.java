@@ -2,16 +2,25 @@ package com.biblioteca.service.impl;
 
 import com.biblioteca.exception.BusinessException;
 import com.biblioteca.exception.ResourceNotFoundException;
+import com.biblioteca.model.dto.SugestaoDTO;
 import com.biblioteca.model.dto.UsuarioDTO;
 import com.biblioteca.model.entity.Usuario;
 import com.biblioteca.repository.UsuarioRepository;
+import com.biblioteca.service.RestricaoExclusaoService;
 import com.biblioteca.service.UsuarioService;
+import com.biblioteca.util.BuscaUtil;
+import com.biblioteca.util.PaginacaoUtil;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -26,12 +35,19 @@ import java.util.stream.Collectors;
 @Transactional
 public class UsuarioServiceImpl implements UsuarioService {
 
+    // Ordenações da listagem administrativa
+    private static final Set<String> ORDENACOES = Set.of("id", "nome", "email", "dataCadastro");
+    private static final Sort ORDENACAO_PADRAO = Sort.by("nome");
+
     private final UsuarioRepository usuarioRepository;
     private final PasswordEncoder passwordEncoder;
+    private final RestricaoExclusaoService restricaoExclusaoService;
 
-    public UsuarioServiceImpl(UsuarioRepository usuarioRepository, PasswordEncoder passwordEncoder) {
+    public UsuarioServiceImpl(UsuarioRepository usuarioRepository, PasswordEncoder passwordEncoder,
+                              RestricaoExclusaoService restricaoExclusaoService) {
         this.usuarioRepository = usuarioRepository;
         this.passwordEncoder = passwordEncoder;
+        this.restricaoExclusaoService = restricaoExclusaoService;
     }
 
     @Override
@@ -119,11 +135,30 @@ public class UsuarioServiceImpl implements UsuarioService {
             throw new BusinessException("Não é possível excluir o usuário administrador principal!");
         }
         
-        try {
-            usuarioRepository.deleteById(id);
-        } catch (Exception e) {
-            throw new BusinessException("Não é possível excluir usuário com empréstimos ativos!");
+        restricaoExclusaoService.verificarUsuario(id);
+        usuarioRepository.delete(usuario);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<UsuarioDTO> buscar(String termo, Usuario.Role role, Boolean ativo, Pageable pageable) {
+        String filtro = termo != null && !termo.isBlank() ? termo.trim() : null;
+        return usuarioRepository.buscarResumos(filtro, role, ativo,
+                        PaginacaoUtil.restringirOrdenacao(pageable, ORDENACOES, ORDENACAO_PADRAO))
+                .map(UsuarioDTO::fromResumo);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SugestaoDTO> sugerir(String termo, int limite) {
+        String prefixo = BuscaUtil.prefixo(termo);
+        if (prefixo == null) {
+            return List.of();
         }
+        return usuarioRepository.buscarPorPrefixo(prefixo,
+                        PageRequest.of(0, BuscaUtil.limite(limite), Sort.by("nome"))).stream()
+                .map(usuario -> new SugestaoDTO(usuario.getId(), usuario.getNome(), usuario.getEmail()))
+                .collect(Collectors.toList());
     }
 
     @Override
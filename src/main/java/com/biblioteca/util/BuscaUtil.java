@@ -0,0 +1,42 @@
+package com.biblioteca.util;
+
+/**
+ * Utilitários para buscas por prefixo (LIKE 'termo%'), que usam índice.
+ */
+public final class BuscaUtil {
+
+    /**
+     * Tamanho mínimo do termo; abaixo dele a busca não é executada.
+     */
+    public static final int MIN_TERMO = 2;
+
+    /**
+     * Limite de sugestões por busca.
+     */
+    public static final int MAX_SUGESTOES = 20;
+
+    private BuscaUtil() {
+    }
+
+    /**
+     * Padrão LIKE de prefixo em minúsculas, com os curingas do termo escapados
+     * (consultas com ESCAPE '\'); null se o termo for curto demais.
+     */
+    public static String prefixo(String termo) {
+        if (termo == null || termo.trim().length() < MIN_TERMO) {
+            return null;
+        }
+        String escapado = termo.trim().toLowerCase()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return escapado + "%";
+    }
+
+    /**
+     * Limite solicitado restrito ao intervalo [1, MAX_SUGESTOES].
+     */
+    public static int limite(int solicitado) {
+        return Math.max(1, Math.min(solicitado, MAX_SUGESTOES));
+    }
+}
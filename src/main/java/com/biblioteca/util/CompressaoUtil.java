@@ -0,0 +1,56 @@
+package com.biblioteca.util;
+
+import java.util.Locale;
+
+/**
+ * Negociação de compressão da resposta a partir do cabeçalho Accept-Encoding.
+ */
+public final class CompressaoUtil {
+
+    private CompressaoUtil() {
+    }
+
+    /**
+     * Indica se o cliente aceita gzip, respeitando os pesos (q): "gzip;q=0"
+     * recusa; sem menção a gzip, vale o peso do curinga "*", se houver.
+     */
+    public static boolean aceitaGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double pesoGzip = null;
+        Double pesoCuringa = null;
+        for (String item : acceptEncoding.split(",")) {
+            String[] partes = item.split(";");
+            String codificacao = partes[0].trim().toLowerCase(Locale.ROOT);
+            double peso = peso(partes);
+            if (codificacao.equals("gzip") || codificacao.equals("x-gzip")) {
+                pesoGzip = pesoGzip == null ? peso : Math.max(pesoGzip, peso);
+            } else if (codificacao.equals("*")) {
+                pesoCuringa = peso;
+            }
+        }
+        if (pesoGzip != null) {
+            return pesoGzip > 0;
+        }
+        return pesoCuringa != null && pesoCuringa > 0;
+    }
+
+    /**
+     * Valor do parâmetro q (1 se ausente, 0 se inválido).
+     */
+    private static double peso(String[] partes) {
+        for (int i = 1; i < partes.length; i++) {
+            String parametro = partes[i].trim();
+            if (parametro.length() > 1 && (parametro.charAt(0) == 'q' || parametro.charAt(0) == 'Q')
+                    && parametro.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(parametro.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,34 @@
+package com.biblioteca.util;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * OutputStream que repassa os bytes ao destino e conta quantos foram escritos.
+ */
+public class ContadorOutputStream extends FilterOutputStream {
+
+    private long bytes;
+
+    public ContadorOutputStream(OutputStream out) {
+        super(out);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        bytes++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        // Evita a escrita byte a byte herdada de FilterOutputStream
+        out.write(b, off, len);
+        bytes += len;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+}
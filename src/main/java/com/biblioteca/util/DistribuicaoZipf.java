@@ -0,0 +1,54 @@
+package com.biblioteca.util;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Amostragem da distribuição de Zipf sobre os postos 1..n.
+ *
+ * A probabilidade do posto k é proporcional a 1 / k^s: poucos itens
+ * concentram a maior parte das ocorrências, como a popularidade dos livros
+ * de um acervo. A distribuição acumulada é pré-calculada (8 bytes por
+ * posto) e cada amostra é uma busca binária, O(log n).
+ *
+ * Não é thread-safe: cada thread deve usar a sua instância.
+ */
+public class DistribuicaoZipf {
+
+    private final double[] acumulada;
+    private final SplittableRandom random;
+
+    public DistribuicaoZipf(int n, double expoente, long semente) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("A quantidade de postos deve ser positiva");
+        }
+        if (expoente < 0) {
+            throw new IllegalArgumentException("O expoente não pode ser negativo");
+        }
+        this.acumulada = new double[n];
+        double soma = 0;
+        for (int k = 1; k <= n; k++) {
+            soma += 1.0 / Math.pow(k, expoente);
+            acumulada[k - 1] = soma;
+        }
+        for (int i = 0; i < n; i++) {
+            acumulada[i] /= soma;
+        }
+        this.random = new SplittableRandom(semente);
+    }
+
+    /**
+     * Retorna um posto entre 1 e n (1 é o mais frequente).
+     */
+    public int proximo() {
+        int indice = Arrays.binarySearch(acumulada, random.nextDouble());
+        if (indice < 0) {
+            indice = -indice - 1;
+        }
+        return Math.min(indice, acumulada.length - 1) + 1;
+    }
+
+    public int getPostos() {
+        return acumulada.length;
+    }
+}
@@ -0,0 +1,26 @@
+package com.biblioteca.util;
+
+/**
+ * Funções auxiliares das tabelas hash de chaves primitivas.
+ */
+final class HashUtil {
+
+    private HashUtil() {
+    }
+
+    /**
+     * Espalha os bits da chave (ids sequenciais colidiriam em sondagem linear).
+     */
+    static int espalhar(long chave) {
+        long h = chave * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    static int potenciaDeDois(int minimo) {
+        int capacidade = Integer.highestOneBit(Math.max(minimo, 2) - 1) << 1;
+        if (capacidade <= 0) {
+            throw new IllegalArgumentException("Capacidade excede o limite da tabela: " + minimo);
+        }
+        return capacidade;
+    }
+}
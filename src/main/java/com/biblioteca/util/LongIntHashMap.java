@@ -0,0 +1,235 @@
+package com.biblioteca.util;
+
+import java.util.Arrays;
+
+/**
+ * Mapa long → int com endereçamento aberto (sondagem linear), sem objetos
+ * por entrada. Pensado para contadores esparsos com milhões de entradas,
+ * onde {@code HashMap<Long, Integer>} custaria dezenas de bytes por par.
+ *
+ * Ausência de chave equivale ao valor 0. Não é thread-safe.
+ */
+public class LongIntHashMap {
+
+    private static final float FATOR_CARGA = 0.6f;
+
+    // A chave 0 marca posições livres e é guardada à parte
+    private long[] chaves;
+    private int[] valores;
+    private int mascara;
+    private int tamanho;
+    private int limite;
+    private boolean possuiZero;
+    private int valorZero;
+
+    public LongIntHashMap() {
+        this(8);
+    }
+
+    public LongIntHashMap(int capacidadeEsperada) {
+        alocar(capacidadeTabela(capacidadeEsperada));
+    }
+
+    public int get(long chave) {
+        if (chave == 0) {
+            return valorZero;
+        }
+        int i = indice(chave);
+        while (chaves[i] != 0) {
+            if (chaves[i] == chave) {
+                return valores[i];
+            }
+            i = (i + 1) & mascara;
+        }
+        return 0;
+    }
+
+    public boolean containsKey(long chave) {
+        if (chave == 0) {
+            return possuiZero;
+        }
+        int i = indice(chave);
+        while (chaves[i] != 0) {
+            if (chaves[i] == chave) {
+                return true;
+            }
+            i = (i + 1) & mascara;
+        }
+        return false;
+    }
+
+    public void put(long chave, int valor) {
+        if (chave == 0) {
+            if (!possuiZero) {
+                possuiZero = true;
+                tamanho++;
+            }
+            valorZero = valor;
+            return;
+        }
+        int i = posicaoPara(chave);
+        valores[i] = valor;
+    }
+
+    /**
+     * Soma {@code delta} ao valor da chave e retorna o novo valor.
+     */
+    public int incrementar(long chave, int delta) {
+        if (chave == 0) {
+            if (!possuiZero) {
+                possuiZero = true;
+                tamanho++;
+            }
+            valorZero += delta;
+            return valorZero;
+        }
+        int i = posicaoPara(chave);
+        valores[i] += delta;
+        return valores[i];
+    }
+
+    public int size() {
+        return tamanho;
+    }
+
+    public boolean isEmpty() {
+        return tamanho == 0;
+    }
+
+    public void forEach(Consumidor consumidor) {
+        if (possuiZero) {
+            consumidor.aceitar(0, valorZero);
+        }
+        for (int i = 0; i < chaves.length; i++) {
+            if (chaves[i] != 0) {
+                consumidor.aceitar(chaves[i], valores[i]);
+            }
+        }
+    }
+
+    /**
+     * Mantém apenas as {@code manter} entradas de maior valor (empates no
+     * limite são resolvidos arbitrariamente) e compacta a tabela.
+     */
+    public void podar(int manter) {
+        if (tamanho <= manter) {
+            return;
+        }
+
+        int[] copia = new int[tamanho];
+        int n = 0;
+        if (possuiZero) {
+            copia[n++] = valorZero;
+        }
+        for (int i = 0; i < chaves.length; i++) {
+            if (chaves[i] != 0) {
+                copia[n++] = valores[i];
+            }
+        }
+        Arrays.sort(copia);
+        int corte = manter > 0 ? copia[copia.length - manter] : Integer.MAX_VALUE;
+        int acimaDoCorte = 0;
+        for (int valor : copia) {
+            if (valor > corte) {
+                acimaDoCorte++;
+            }
+        }
+        int vagasNoCorte = manter - acimaDoCorte;
+
+        long[] chavesAntigas = chaves;
+        int[] valoresAntigos = valores;
+        boolean zeroAntigo = possuiZero;
+        int valorZeroAntigo = valorZero;
+
+        alocar(capacidadeTabela(manter));
+        tamanho = 0;
+        possuiZero = false;
+        valorZero = 0;
+
+        if (zeroAntigo && (valorZeroAntigo > corte || (valorZeroAntigo == corte && vagasNoCorte-- > 0))) {
+            put(0, valorZeroAntigo);
+        }
+        for (int i = 0; i < chavesAntigas.length; i++) {
+            long chave = chavesAntigas[i];
+            if (chave == 0) {
+                continue;
+            }
+            int valor = valoresAntigos[i];
+            if (valor > corte || (valor == corte && vagasNoCorte-- > 0)) {
+                put(chave, valor);
+            }
+        }
+    }
+
+    /**
+     * Estimativa do espaço ocupado pelas tabelas internas.
+     */
+    public long memoriaEstimadaBytes() {
+        return (long) chaves.length * Long.BYTES + (long) valores.length * Integer.BYTES;
+    }
+
+    private int posicaoPara(long chave) {
+        int i = indice(chave);
+        while (chaves[i] != 0) {
+            if (chaves[i] == chave) {
+                return i;
+            }
+            i = (i + 1) & mascara;
+        }
+        chaves[i] = chave;
+        valores[i] = 0;
+        if (++tamanho >= limite) {
+            redimensionar();
+            return posicaoExistente(chave);
+        }
+        return i;
+    }
+
+    private int posicaoExistente(long chave) {
+        int i = indice(chave);
+        while (chaves[i] != chave) {
+            i = (i + 1) & mascara;
+        }
+        return i;
+    }
+
+    private void redimensionar() {
+        long[] chavesAntigas = chaves;
+        int[] valoresAntigos = valores;
+        alocar(chaves.length * 2);
+        for (int i = 0; i < chavesAntigas.length; i++) {
+            long chave = chavesAntigas[i];
+            if (chave != 0) {
+                int j = indice(chave);
+                while (chaves[j] != 0) {
+                    j = (j + 1) & mascara;
+                }
+                chaves[j] = chave;
+                valores[j] = valoresAntigos[i];
+            }
+        }
+    }
+
+    private void alocar(int capacidade) {
+        chaves = new long[capacidade];
+        valores = new int[capacidade];
+        mascara = capacidade - 1;
+        limite = (int) (capacidade * FATOR_CARGA);
+    }
+
+    private int indice(long chave) {
+        return HashUtil.espalhar(chave) & mascara;
+    }
+
+    private static int capacidadeTabela(int esperado) {
+        return HashUtil.potenciaDeDois((int) Math.ceil(Math.max(esperado, 4) / FATOR_CARGA) + 1);
+    }
+
+    /**
+     * Consumidor de pares sem boxing.
+     */
+    @FunctionalInterface
+    public interface Consumidor {
+        void aceitar(long chave, int valor);
+    }
+}
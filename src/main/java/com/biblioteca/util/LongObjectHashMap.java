@@ -0,0 +1,121 @@
+package com.biblioteca.util;
+
+import java.util.function.LongFunction;
+
+/**
+ * Mapa long → objeto com endereçamento aberto (sondagem linear), evitando
+ * o boxing das chaves e os nós de entrada do {@code HashMap}.
+ *
+ * Não aceita valores nulos e não é thread-safe.
+ */
+public class LongObjectHashMap<V> {
+
+    private static final float FATOR_CARGA = 0.6f;
+
+    // Posições livres têm valor nulo; a chave 0 pode ser usada normalmente
+    private long[] chaves;
+    private Object[] valores;
+    private int mascara;
+    private int tamanho;
+    private int limite;
+
+    public LongObjectHashMap() {
+        this(16);
+    }
+
+    public LongObjectHashMap(int capacidadeEsperada) {
+        alocar(HashUtil.potenciaDeDois((int) Math.ceil(Math.max(capacidadeEsperada, 4) / FATOR_CARGA) + 1));
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long chave) {
+        int i = HashUtil.espalhar(chave) & mascara;
+        while (valores[i] != null) {
+            if (chaves[i] == chave) {
+                return (V) valores[i];
+            }
+            i = (i + 1) & mascara;
+        }
+        return null;
+    }
+
+    public void put(long chave, V valor) {
+        if (valor == null) {
+            throw new IllegalArgumentException("Valores nulos não são suportados");
+        }
+        int i = HashUtil.espalhar(chave) & mascara;
+        while (valores[i] != null) {
+            if (chaves[i] == chave) {
+                valores[i] = valor;
+                return;
+            }
+            i = (i + 1) & mascara;
+        }
+        chaves[i] = chave;
+        valores[i] = valor;
+        if (++tamanho >= limite) {
+            redimensionar();
+        }
+    }
+
+    public V computeIfAbsent(long chave, LongFunction<V> criar) {
+        V valor = get(chave);
+        if (valor == null) {
+            valor = criar.apply(chave);
+            put(chave, valor);
+        }
+        return valor;
+    }
+
+    public int size() {
+        return tamanho;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumidor<V> consumidor) {
+        for (int i = 0; i < valores.length; i++) {
+            if (valores[i] != null) {
+                consumidor.aceitar(chaves[i], (V) valores[i]);
+            }
+        }
+    }
+
+    /**
+     * Estimativa do espaço das tabelas internas (sem contar os valores).
+     */
+    public long memoriaEstimadaBytes() {
+        // Referências comprimidas: 4 bytes por posição
+        return (long) chaves.length * Long.BYTES + (long) valores.length * 4;
+    }
+
+    private void redimensionar() {
+        long[] chavesAntigas = chaves;
+        Object[] valoresAntigos = valores;
+        alocar(chaves.length * 2);
+        for (int i = 0; i < valoresAntigos.length; i++) {
+            if (valoresAntigos[i] != null) {
+                int j = HashUtil.espalhar(chavesAntigas[i]) & mascara;
+                while (valores[j] != null) {
+                    j = (j + 1) & mascara;
+                }
+                chaves[j] = chavesAntigas[i];
+                valores[j] = valoresAntigos[i];
+            }
+        }
+    }
+
+    private void alocar(int capacidade) {
+        chaves = new long[capacidade];
+        valores = new Object[capacidade];
+        mascara = capacidade - 1;
+        limite = (int) (capacidade * FATOR_CARGA);
+    }
+
+    /**
+     * Consumidor de pares sem boxing da chave.
+     */
+    @FunctionalInterface
+    public interface Consumidor<V> {
+        void aceitar(long chave, V valor);
+    }
+}
@@ -0,0 +1,123 @@
+package com.biblioteca.util;
+
+import java.util.Arrays;
+
+/**
+ * Matriz esparsa e simétrica de co-ocorrência item × item.
+ *
+ * Cada linha é um {@link LongIntHashMap} com o número de usuários que
+ * consumiram os dois itens. As linhas são limitadas a {@code maxVizinhos}
+ * entradas: ao exceder, mantém-se apenas a metade mais frequente, o que
+ * limita a memória em itens muito populares ao custo de perder pares raros.
+ *
+ * Não é thread-safe: deve ser alterada por uma única thread.
+ */
+public class MatrizCoocorrencia {
+
+    private final int maxVizinhos;
+    private final LongObjectHashMap<LongIntHashMap> linhas;
+    private final LongIntHashMap popularidade;
+    private long pares;
+
+    public MatrizCoocorrencia(int maxVizinhos, int itensEsperados) {
+        this.maxVizinhos = maxVizinhos;
+        this.linhas = new LongObjectHashMap<>(itensEsperados);
+        this.popularidade = new LongIntHashMap(itensEsperados);
+    }
+
+    /**
+     * Registra o conjunto de itens distintos de um usuário (construção em lote).
+     */
+    public void registrarConjunto(long[] itens, int quantidade) {
+        for (int i = 0; i < quantidade; i++) {
+            popularidade.incrementar(itens[i], 1);
+        }
+        for (int i = 0; i < quantidade; i++) {
+            for (int j = i + 1; j < quantidade; j++) {
+                incrementarPar(itens[i], itens[j]);
+            }
+        }
+    }
+
+    /**
+     * Registra um item novo de um usuário, dados os itens que ele já tinha.
+     */
+    public void registrarNovoItem(long item, long[] anteriores) {
+        popularidade.incrementar(item, 1);
+        for (long anterior : anteriores) {
+            incrementarPar(item, anterior);
+        }
+    }
+
+    /**
+     * Retorna até {@code k} itens mais similares, por similaridade de cosseno
+     * entre os conjuntos de usuários: coocorrencia / sqrt(pop(a) * pop(b)).
+     */
+    public long[] similares(long item, int k) {
+        LongIntHashMap linha = linhas.get(item);
+        if (linha == null || linha.isEmpty() || k <= 0) {
+            return new long[0];
+        }
+
+        int popularidadeItem = Math.max(popularidade.get(item), 1);
+        long[] melhores = new long[k];
+        double[] pontuacoes = new double[k];
+        int[] n = {0};
+
+        linha.forEach((vizinho, coocorrencia) -> {
+            double pontuacao = coocorrencia / Math.sqrt((double) popularidadeItem * Math.max(popularidade.get(vizinho), 1));
+            if (n[0] == k && pontuacao <= pontuacoes[k - 1]) {
+                return;
+            }
+            // Inserção ordenada em arrays de tamanho k
+            int pos = n[0] < k ? n[0]++ : k - 1;
+            while (pos > 0 && pontuacoes[pos - 1] < pontuacao) {
+                pontuacoes[pos] = pontuacoes[pos - 1];
+                melhores[pos] = melhores[pos - 1];
+                pos--;
+            }
+            pontuacoes[pos] = pontuacao;
+            melhores[pos] = vizinho;
+        });
+
+        return n[0] == k ? melhores : Arrays.copyOf(melhores, n[0]);
+    }
+
+    public void forEachItem(LongObjectHashMap.Consumidor<LongIntHashMap> consumidor) {
+        linhas.forEach(consumidor);
+    }
+
+    public int getItens() {
+        return linhas.size();
+    }
+
+    /**
+     * Total de pares registrados (com repetição).
+     */
+    public long getPares() {
+        return pares;
+    }
+
+    public long memoriaEstimadaBytes() {
+        long[] total = {linhas.memoriaEstimadaBytes() + popularidade.memoriaEstimadaBytes()};
+        linhas.forEach((item, linha) -> total[0] += linha.memoriaEstimadaBytes() + 32);
+        return total[0];
+    }
+
+    private void incrementarPar(long a, long b) {
+        if (a == b) {
+            return;
+        }
+        incrementarLinha(a, b);
+        incrementarLinha(b, a);
+        pares++;
+    }
+
+    private void incrementarLinha(long item, long vizinho) {
+        LongIntHashMap linha = linhas.computeIfAbsent(item, chave -> new LongIntHashMap());
+        linha.incrementar(vizinho, 1);
+        if (linha.size() > maxVizinhos) {
+            linha.podar(maxVizinhos / 2);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.biblioteca.util;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Set;
+
+/**
+ * Utilitários para paginação recebida da interface.
+ */
+public final class PaginacaoUtil {
+
+    private PaginacaoUtil() {
+    }
+
+    /**
+     * Mantém apenas a ordenação por propriedades permitidas (colunas indexadas
+     * da consulta); sem nenhuma válida, aplica a ordenação padrão.
+     */
+    public static Pageable restringirOrdenacao(Pageable pageable, Set<String> permitidas, Sort padrao) {
+        Sort ordenacao = Sort.by(pageable.getSort().stream()
+                .filter(ordem -> permitidas.contains(ordem.getProperty()))
+                .toList());
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                ordenacao.isSorted() ? ordenacao : padrao);
+    }
+}
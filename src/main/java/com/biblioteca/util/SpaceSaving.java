@@ -0,0 +1,177 @@
+package com.biblioteca.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Contador aproximado dos itens mais frequentes de um fluxo (algoritmo
+ * Space-Saving, Metwally et al.).
+ *
+ * Mantém no máximo {@code capacidade} contadores, portanto a memória é
+ * limitada independentemente do número de itens distintos. Garantias:
+ * - a contagem estimada nunca é menor que a real e o excesso é no máximo
+ *   o erro registrado para o item
+ * - todo item com frequência real maior que total / capacidade está presente
+ *
+ * Os contadores ficam em arrays paralelos organizados como min-heap por
+ * contagem, para substituir o menor em O(log capacidade).
+ */
+public class SpaceSaving {
+
+    private final int capacidade;
+    private final long[] itens;
+    private final long[] contagens;
+    private final long[] erros;
+    private final int[] heap;
+    private final int[] posicao;
+    private final Map<Long, Integer> indice;
+    private int tamanho;
+    private long total;
+
+    public SpaceSaving(int capacidade) {
+        if (capacidade <= 0) {
+            throw new IllegalArgumentException("Capacidade deve ser positiva");
+        }
+        this.capacidade = capacidade;
+        this.itens = new long[capacidade];
+        this.contagens = new long[capacidade];
+        this.erros = new long[capacidade];
+        this.heap = new int[capacidade];
+        this.posicao = new int[capacidade];
+        this.indice = new HashMap<>(capacidade * 4 / 3 + 1);
+    }
+
+    public synchronized void registrar(long item) {
+        registrar(item, 1);
+    }
+
+    public synchronized void registrar(long item, long peso) {
+        total += peso;
+
+        Integer slot = indice.get(item);
+        if (slot != null) {
+            contagens[slot] += peso;
+            descer(posicao[slot]);
+            return;
+        }
+
+        if (tamanho < capacidade) {
+            inserir(item, peso, 0);
+            return;
+        }
+
+        // Substitui o item de menor contagem, herdando-a como erro
+        int minimo = heap[0];
+        indice.remove(itens[minimo]);
+        erros[minimo] = contagens[minimo];
+        contagens[minimo] += peso;
+        itens[minimo] = item;
+        indice.put(item, minimo);
+        descer(0);
+    }
+
+    /**
+     * Restaura um contador persistido. Deve ser chamado em ordem decrescente
+     * de contagem; entradas além da capacidade são ignoradas.
+     *
+     * As garantias da classe valem para o que foi registrado ou restaurado
+     * aqui: o total passa a ser a soma das contagens restauradas. Semeado com
+     * contagens exatas (erro 0) de apenas parte dos itens, o histórico dos
+     * demais não entra no total nem no erro.
+     */
+    public synchronized void restaurar(long item, long contagem, long erro) {
+        if (tamanho >= capacidade || indice.containsKey(item)) {
+            return;
+        }
+        total += contagem;
+        inserir(item, contagem, erro);
+    }
+
+    /**
+     * Retorna os itens de maior contagem estimada, em ordem decrescente.
+     */
+    public synchronized List<Entrada> topK(int k) {
+        List<Entrada> entradas = new ArrayList<>(tamanho);
+        for (int slot = 0; slot < tamanho; slot++) {
+            entradas.add(new Entrada(itens[slot], contagens[slot], erros[slot]));
+        }
+        entradas.sort(Comparator.comparingLong(Entrada::contagem).reversed());
+        return entradas.size() > k ? new ArrayList<>(entradas.subList(0, k)) : entradas;
+    }
+
+    public synchronized long getTotal() {
+        return total;
+    }
+
+    public synchronized int getTamanho() {
+        return tamanho;
+    }
+
+    public int getCapacidade() {
+        return capacidade;
+    }
+
+    private void inserir(long item, long contagem, long erro) {
+        int slot = tamanho++;
+        itens[slot] = item;
+        contagens[slot] = contagem;
+        erros[slot] = erro;
+        heap[slot] = slot;
+        posicao[slot] = slot;
+        indice.put(item, slot);
+        subir(slot);
+    }
+
+    private void subir(int i) {
+        while (i > 0) {
+            int pai = (i - 1) / 2;
+            if (contagens[heap[i]] >= contagens[heap[pai]]) {
+                return;
+            }
+            trocar(i, pai);
+            i = pai;
+        }
+    }
+
+    private void descer(int i) {
+        while (true) {
+            int esquerdo = 2 * i + 1;
+            if (esquerdo >= tamanho) {
+                return;
+            }
+            int menor = esquerdo;
+            int direito = esquerdo + 1;
+            if (direito < tamanho && contagens[heap[direito]] < contagens[heap[esquerdo]]) {
+                menor = direito;
+            }
+            if (contagens[heap[i]] <= contagens[heap[menor]]) {
+                return;
+            }
+            trocar(i, menor);
+            i = menor;
+        }
+    }
+
+    private void trocar(int i, int j) {
+        int slotI = heap[i];
+        int slotJ = heap[j];
+        heap[i] = slotJ;
+        heap[j] = slotI;
+        posicao[slotJ] = i;
+        posicao[slotI] = j;
+    }
+
+    /**
+     * Contador de um item: a frequência real está entre
+     * {@code contagem - erro} e {@code contagem}.
+     */
+    public record Entrada(long item, long contagem, long erro) {
+
+        public long minimoGarantido() {
+            return contagem - erro;
+        }
+    }
+}
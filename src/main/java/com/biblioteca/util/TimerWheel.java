@@ -0,0 +1,84 @@
+package com.biblioteca.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Roda de temporização (hashed timing wheel) para prazos de longa duração.
+ *
+ * Cada prazo cai no balde {@code tick % numeroBaldes}; prazos além de uma
+ * volta completa permanecem no balde até que o tick seja alcançado.
+ * Agendar é O(1) e cada avanço visita apenas os baldes dos ticks decorridos,
+ * sem a reordenação de uma fila de prioridade.
+ *
+ * Não há cancelamento explícito: quem consome os ids expirados deve
+ * ignorar os que já não se aplicam.
+ */
+public class TimerWheel {
+
+    private final long duracaoTickMs;
+    private final List<List<Agendamento>> baldes;
+    private final int mascara;
+    private long tickAtual;
+    private int pendentes;
+
+    public TimerWheel(long duracaoTickMs, int numeroBaldes, long agoraMs) {
+        if (duracaoTickMs <= 0) {
+            throw new IllegalArgumentException("Duração do tick deve ser positiva");
+        }
+        int capacidade = HashUtil.potenciaDeDois(numeroBaldes);
+        this.duracaoTickMs = duracaoTickMs;
+        this.mascara = capacidade - 1;
+        this.baldes = new ArrayList<>(capacidade);
+        for (int i = 0; i < capacidade; i++) {
+            baldes.add(new ArrayList<>());
+        }
+        this.tickAtual = agoraMs / duracaoTickMs;
+    }
+
+    /**
+     * Agenda o id para expirar no prazo informado (epoch em ms). Prazos
+     * já vencidos expiram no próximo avanço.
+     */
+    public synchronized void agendar(long id, long prazoMs) {
+        long tick = Math.max((prazoMs + duracaoTickMs - 1) / duracaoTickMs, tickAtual + 1);
+        baldes.get((int) (tick & mascara)).add(new Agendamento(id, tick));
+        pendentes++;
+    }
+
+    /**
+     * Avança a roda até o instante informado e retorna os ids expirados.
+     */
+    public synchronized List<Long> avancar(long agoraMs) {
+        long alvo = agoraMs / duracaoTickMs;
+        if (alvo <= tickAtual) {
+            return List.of();
+        }
+
+        // Após uma volta completa, todos os baldes já terão sido visitados
+        long passos = Math.min(alvo - tickAtual, baldes.size());
+        List<Long> expirados = new ArrayList<>();
+        for (long t = tickAtual + 1; t <= tickAtual + passos; t++) {
+            List<Agendamento> balde = baldes.get((int) (t & mascara));
+            for (int i = balde.size() - 1; i >= 0; i--) {
+                Agendamento agendamento = balde.get(i);
+                if (agendamento.tick() <= alvo) {
+                    expirados.add(agendamento.id());
+                    // Remoção O(1): move o último elemento para a posição
+                    balde.set(i, balde.get(balde.size() - 1));
+                    balde.remove(balde.size() - 1);
+                    pendentes--;
+                }
+            }
+        }
+        tickAtual = alvo;
+        return expirados;
+    }
+
+    public synchronized int getPendentes() {
+        return pendentes;
+    }
+
+    private record Agendamento(long id, long tick) {
+    }
+}
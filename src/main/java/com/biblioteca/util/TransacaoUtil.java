@@ -0,0 +1,47 @@
+package com.biblioteca.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Utilitários para ações vinculadas ao ciclo de vida da transação.
+ */
+public final class TransacaoUtil {
+
+    private TransacaoUtil() {
+    }
+
+    /**
+     * Executa a ação após o commit da transação corrente, ou imediatamente
+     * se não houver transação ativa. Em caso de rollback, a ação é descartada.
+     */
+    public static void executarAposCommit(Runnable acao) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    acao.run();
+                }
+            });
+        } else {
+            acao.run();
+        }
+    }
+
+    /**
+     * Executa a ação se a transação corrente for desfeita. Sem transação
+     * ativa, não há o que desfazer e a ação é ignorada.
+     */
+    public static void executarAposRollback(Runnable acao) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        acao.run();
+                    }
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,106 @@
+-- Esquema inicial, equivalente ao gerado pelo Hibernate a partir das entidades.
+-- Compatível com PostgreSQL e H2.
+
+CREATE TABLE categorias (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nome        VARCHAR(100) NOT NULL,
+    descricao   VARCHAR(500),
+    CONSTRAINT uk_categorias_nome UNIQUE (nome)
+);
+
+CREATE TABLE autores (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nome            VARCHAR(150) NOT NULL,
+    nacionalidade   VARCHAR(100),
+    data_nascimento DATE,
+    biografia       TEXT
+);
+
+CREATE TABLE livros (
+    id                    BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    titulo                VARCHAR(200) NOT NULL,
+    isbn                  VARCHAR(20),
+    ano_publicacao        INTEGER,
+    editora               VARCHAR(100),
+    edicao                VARCHAR(50),
+    numero_paginas        INTEGER,
+    sinopse               TEXT,
+    quantidade_total      INTEGER NOT NULL,
+    quantidade_disponivel INTEGER NOT NULL,
+    url_capa              VARCHAR(255),
+    data_cadastro         DATE,
+    status                VARCHAR(20) NOT NULL,
+    categoria_id          BIGINT,
+    CONSTRAINT uk_livros_isbn UNIQUE (isbn),
+    CONSTRAINT fk_livros_categoria FOREIGN KEY (categoria_id) REFERENCES categorias (id)
+);
+
+CREATE TABLE livro_autor (
+    livro_id BIGINT NOT NULL,
+    autor_id BIGINT NOT NULL,
+    CONSTRAINT pk_livro_autor PRIMARY KEY (livro_id, autor_id),
+    CONSTRAINT fk_livro_autor_livro FOREIGN KEY (livro_id) REFERENCES livros (id),
+    CONSTRAINT fk_livro_autor_autor FOREIGN KEY (autor_id) REFERENCES autores (id)
+);
+
+CREATE TABLE usuarios (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nome          VARCHAR(100) NOT NULL,
+    email         VARCHAR(100) NOT NULL,
+    senha         VARCHAR(255) NOT NULL,
+    telefone      VARCHAR(20),
+    endereco      VARCHAR(200),
+    role          VARCHAR(20) NOT NULL,
+    ativo         BOOLEAN NOT NULL,
+    data_cadastro TIMESTAMP,
+    ultimo_acesso TIMESTAMP,
+    CONSTRAINT uk_usuarios_email UNIQUE (email)
+);
+
+CREATE TABLE emprestimos (
+    id                      BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    usuario_id              BIGINT NOT NULL,
+    livro_id                BIGINT NOT NULL,
+    data_emprestimo         DATE NOT NULL,
+    data_prevista_devolucao DATE NOT NULL,
+    data_devolucao          DATE,
+    status                  VARCHAR(20) NOT NULL,
+    multa                   NUMERIC(10, 2),
+    observacoes             VARCHAR(500),
+    CONSTRAINT fk_emprestimos_usuario FOREIGN KEY (usuario_id) REFERENCES usuarios (id),
+    CONSTRAINT fk_emprestimos_livro FOREIGN KEY (livro_id) REFERENCES livros (id)
+);
+
+CREATE TABLE reservas (
+    id                   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    usuario_id           BIGINT NOT NULL,
+    livro_id             BIGINT NOT NULL,
+    data_reserva         TIMESTAMP NOT NULL,
+    data_disponibilidade TIMESTAMP,
+    data_expiracao       TIMESTAMP,
+    status               VARCHAR(20) NOT NULL,
+    CONSTRAINT fk_reservas_usuario FOREIGN KEY (usuario_id) REFERENCES usuarios (id),
+    CONSTRAINT fk_reservas_livro FOREIGN KEY (livro_id) REFERENCES livros (id)
+);
+
+CREATE TABLE estatisticas_circulacao (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    data        DATE NOT NULL,
+    dimensao    VARCHAR(20) NOT NULL,
+    chave       BIGINT NOT NULL,
+    emprestimos BIGINT NOT NULL,
+    devolucoes  BIGINT NOT NULL,
+    atrasos     BIGINT NOT NULL,
+    multas      NUMERIC(12, 2) NOT NULL,
+    CONSTRAINT uk_estatistica_data_dimensao_chave UNIQUE (data, dimensao, chave)
+);
+
+CREATE TABLE ranking_livros (
+    id       BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    janela   VARCHAR(20) NOT NULL,
+    inicio   DATE NOT NULL,
+    livro_id BIGINT NOT NULL,
+    contagem BIGINT NOT NULL,
+    erro     BIGINT NOT NULL,
+    CONSTRAINT uk_ranking_janela_inicio_livro UNIQUE (janela, inicio, livro_id)
+);
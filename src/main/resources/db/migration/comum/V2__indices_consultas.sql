@@ -0,0 +1,21 @@
+-- Índices das consultas frequentes dos repositórios.
+-- Índices dependentes de status ficam em V3, por banco (parciais no PostgreSQL).
+
+-- Empréstimos do usuário (meus empréstimos, limite de ativos, empréstimo ativo do livro)
+CREATE INDEX idx_emprestimos_usuario_status ON emprestimos (usuario_id, status);
+
+-- Empréstimos de um livro (histórico, exclusão, chave estrangeira)
+CREATE INDEX idx_emprestimos_livro_status ON emprestimos (livro_id, status);
+
+-- Relatórios por período e reconstrução das estatísticas
+CREATE INDEX idx_emprestimos_data_emprestimo ON emprestimos (data_emprestimo);
+
+-- Livros por categoria e por autor
+CREATE INDEX idx_livros_categoria ON livros (categoria_id);
+CREATE INDEX idx_livro_autor_autor ON livro_autor (autor_id);
+
+-- Séries diárias por dimensão (dashboard e ranking)
+CREATE INDEX idx_estatisticas_dimensao_data ON estatisticas_circulacao (dimensao, data, chave);
+
+-- Reservas do usuário
+CREATE INDEX idx_reservas_usuario ON reservas (usuario_id, livro_id);
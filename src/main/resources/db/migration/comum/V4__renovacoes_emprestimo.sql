@@ -0,0 +1,4 @@
+-- Contador de renovações (limite definido pela política do usuário)
+ALTER TABLE emprestimos ADD COLUMN renovacoes INTEGER DEFAULT 0 NOT NULL;
+
+UPDATE emprestimos SET renovacoes = 1 WHERE status = 'RENOVADO';
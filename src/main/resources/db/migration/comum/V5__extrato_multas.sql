@@ -0,0 +1,35 @@
+-- Extrato de multas (somente inclusão) e saldo devedor materializado por usuário
+
+CREATE TABLE lancamentos_multa (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    usuario_id      BIGINT NOT NULL,
+    emprestimo_id   BIGINT,
+    tipo            VARCHAR(20) NOT NULL,
+    valor           NUMERIC(10, 2) NOT NULL,
+    data_lancamento TIMESTAMP NOT NULL,
+    descricao       VARCHAR(200),
+    CONSTRAINT fk_lancamentos_multa_usuario FOREIGN KEY (usuario_id) REFERENCES usuarios (id),
+    CONSTRAINT fk_lancamentos_multa_emprestimo FOREIGN KEY (emprestimo_id) REFERENCES emprestimos (id),
+    CONSTRAINT ck_lancamentos_multa_valor CHECK (valor > 0)
+);
+
+CREATE INDEX idx_lancamentos_multa_usuario ON lancamentos_multa (usuario_id, id);
+
+ALTER TABLE usuarios ADD COLUMN saldo_devedor NUMERIC(10, 2) DEFAULT 0 NOT NULL;
+
+ALTER TABLE usuarios ADD CONSTRAINT ck_usuarios_saldo_devedor CHECK (saldo_devedor >= 0);
+
+-- Multas já registradas nas devoluções entram no extrato como quitadas: antes do
+-- extrato não havia multa em aberto, então cada uma recebe o pagamento correspondente
+-- e o saldo devedor começa em zero
+INSERT INTO lancamentos_multa (usuario_id, emprestimo_id, tipo, valor, data_lancamento, descricao)
+SELECT e.usuario_id, e.id, 'MULTA', e.multa, CAST(COALESCE(e.data_devolucao, e.data_prevista_devolucao) AS TIMESTAMP),
+       'Multa por atraso (migração)'
+FROM emprestimos e
+WHERE e.multa > 0;
+
+INSERT INTO lancamentos_multa (usuario_id, emprestimo_id, tipo, valor, data_lancamento, descricao)
+SELECT e.usuario_id, e.id, 'PAGAMENTO', e.multa, CAST(COALESCE(e.data_devolucao, e.data_prevista_devolucao) AS TIMESTAMP),
+       'Quitação anterior ao extrato (migração)'
+FROM emprestimos e
+WHERE e.multa > 0;
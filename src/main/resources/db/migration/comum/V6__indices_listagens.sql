@@ -0,0 +1,7 @@
+-- Índices das listagens administrativas paginadas.
+
+-- Empréstimos por status na ordenação padrão (id decrescente), sem ordenar em memória
+CREATE INDEX idx_emprestimos_status_id ON emprestimos (status, id);
+
+-- Usuários ordenados por nome
+CREATE INDEX idx_usuarios_nome ON usuarios (nome);
@@ -0,0 +1,17 @@
+-- Histórico paginado de empréstimos do usuário e totais materializados por usuário
+
+-- Empréstimos do usuário do mais recente para o mais antigo (/emprestimos/meus)
+CREATE INDEX idx_emprestimos_usuario_data ON emprestimos (usuario_id, data_emprestimo DESC);
+
+ALTER TABLE usuarios ADD COLUMN total_emprestimos BIGINT DEFAULT 0 NOT NULL;
+
+ALTER TABLE usuarios ADD COLUMN total_multas_pagas NUMERIC(12, 2) DEFAULT 0 NOT NULL;
+
+UPDATE usuarios SET total_emprestimos = (
+    SELECT COUNT(*) FROM emprestimos e WHERE e.usuario_id = usuarios.id
+);
+
+UPDATE usuarios SET total_multas_pagas = (
+    SELECT COALESCE(SUM(l.valor), 0) FROM lancamentos_multa l
+    WHERE l.usuario_id = usuarios.id AND l.tipo = 'PAGAMENTO'
+);
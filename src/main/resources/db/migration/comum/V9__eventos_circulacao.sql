@@ -0,0 +1,14 @@
+-- Variações das estatísticas de circulação gravadas na transação do empréstimo
+-- e consolidadas periodicamente em estatisticas_circulacao
+
+CREATE TABLE eventos_circulacao (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    data         DATE NOT NULL,
+    livro_id     BIGINT NOT NULL,
+    categoria_id BIGINT,
+    usuario_id   BIGINT NOT NULL,
+    emprestimos  BIGINT NOT NULL,
+    devolucoes   BIGINT NOT NULL,
+    atrasos      BIGINT NOT NULL,
+    multas       NUMERIC(12, 2) NOT NULL
+);
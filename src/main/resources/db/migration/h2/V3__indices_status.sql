@@ -0,0 +1,14 @@
+-- Equivalentes compostos dos índices parciais do PostgreSQL (o H2 não
+-- suporta índices parciais).
+
+CREATE INDEX idx_emprestimos_status_prevista ON emprestimos (status, data_prevista_devolucao);
+
+CREATE INDEX idx_emprestimos_status_devolucao ON emprestimos (status, data_devolucao);
+
+CREATE INDEX idx_livros_disponivel ON livros (quantidade_disponivel);
+
+CREATE INDEX idx_livros_status ON livros (status);
+
+CREATE INDEX idx_reservas_fila ON reservas (livro_id, status, id);
+
+CREATE INDEX idx_reservas_status ON reservas (status);
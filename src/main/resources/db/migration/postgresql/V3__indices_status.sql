@@ -0,0 +1,28 @@
+-- Índices parciais: cobrem apenas as linhas no status consultado, então
+-- permanecem pequenos mesmo com o histórico crescendo.
+
+-- Empréstimos ativos e atrasados (dashboard, lista de atrasados, exportação)
+CREATE INDEX idx_emprestimos_ativos_prevista ON emprestimos (data_prevista_devolucao)
+    WHERE status = 'ATIVO';
+
+-- Devoluções por período (estatísticas de circulação)
+CREATE INDEX idx_emprestimos_devolvidos_data ON emprestimos (data_devolucao)
+    WHERE status = 'DEVOLVIDO';
+
+-- Livros sem exemplares disponíveis
+CREATE INDEX idx_livros_indisponiveis ON livros (id)
+    WHERE quantidade_disponivel = 0;
+
+CREATE INDEX idx_livros_status ON livros (status);
+
+-- Fila de reservas por livro, em ordem de chegada
+CREATE INDEX idx_reservas_fila ON reservas (livro_id, id)
+    WHERE status = 'AGUARDANDO';
+
+-- Reservas aguardando retirada (prazos carregados na inicialização)
+CREATE INDEX idx_reservas_disponiveis ON reservas (id)
+    WHERE status = 'DISPONIVEL';
+
+-- No máximo uma reserva ativa por usuário e livro
+CREATE UNIQUE INDEX uk_reservas_ativa ON reservas (usuario_id, livro_id)
+    WHERE status IN ('AGUARDANDO', 'DISPONIVEL');
@@ -0,0 +1,14 @@
+-- Buscas incrementais por prefixo (LIKE 'termo%') do formulário de empréstimo.
+-- text_pattern_ops permite o uso do índice em LIKE independentemente da collation.
+
+-- Usuários ativos por nome ou e-mail (UsuarioRepository.buscarPorPrefixo)
+CREATE INDEX idx_usuarios_nome_prefixo ON usuarios (LOWER(nome) text_pattern_ops)
+    WHERE ativo = true;
+CREATE INDEX idx_usuarios_email_prefixo ON usuarios (LOWER(email) text_pattern_ops)
+    WHERE ativo = true;
+
+-- Livros disponíveis por título ou ISBN (LivroRepository.buscarDisponiveisPorPrefixo)
+CREATE INDEX idx_livros_titulo_prefixo ON livros (LOWER(titulo) text_pattern_ops)
+    WHERE quantidade_disponivel > 0;
+CREATE INDEX idx_livros_isbn_prefixo ON livros (isbn text_pattern_ops)
+    WHERE quantidade_disponivel > 0;
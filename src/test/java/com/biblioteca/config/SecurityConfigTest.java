@@ -0,0 +1,91 @@
+package com.biblioteca.config;
+
+import com.biblioteca.model.entity.Usuario;
+import com.biblioteca.repository.UsuarioRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Comandos da API administrativa: com a sessão do navegador exigem o token
+ * CSRF; com credenciais HTTP Basic no cabeçalho, não.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SecurityConfigTest {
+
+    private static final String SENHA = "segredo-admin";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private Usuario administrador;
+
+    @BeforeAll
+    void preparar() {
+        administrador = usuarioRepository.save(Usuario.builder()
+                .nome("Administrador da API")
+                .email("api" + System.nanoTime() + "@teste.com")
+                .senha(passwordEncoder.encode(SENHA))
+                .role(Usuario.Role.ADMIN)
+                .build());
+    }
+
+    @Test
+    void descarteComSessaoSemTokenERecusado() throws Exception {
+        mockMvc.perform(descarte().with(user(administrador)))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void descarteComSessaoETokenEAceito() throws Exception {
+        mockMvc.perform(descarte().with(user(administrador)).with(csrf()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void descarteComHttpBasicDispensaToken() throws Exception {
+        mockMvc.perform(descarte().with(httpBasic(administrador.getEmail(), SENHA)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void configuracaoComSessaoSemTokenERecusada() throws Exception {
+        mockMvc.perform(put("/api/admin/configuracao/multa").param("estrategia", "multaFixa")
+                        .with(user(administrador)))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/admin/configuracao/recarregar").with(user(administrador)))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/api/admin/configuracao/ajustes").with(user(administrador)))
+                .andExpect(status().isForbidden());
+    }
+
+    private static MockHttpServletRequestBuilder descarte() {
+        // Id inexistente: a requisição é processada sem descartar nada
+        return post("/api/admin/livros/descarte")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[" + Long.MAX_VALUE + "]");
+    }
+}
@@ -0,0 +1,160 @@
+package com.biblioteca.controller;
+
+import com.biblioteca.metrics.ContadorConsultas;
+import com.biblioteca.model.entity.Autor;
+import com.biblioteca.model.entity.Categoria;
+import com.biblioteca.model.entity.Emprestimo;
+import com.biblioteca.model.entity.Livro;
+import com.biblioteca.model.entity.Usuario;
+import com.biblioteca.repository.AutorRepository;
+import com.biblioteca.repository.CategoriaRepository;
+import com.biblioteca.repository.EmprestimoRepository;
+import com.biblioteca.repository.LivroRepository;
+import com.biblioteca.repository.UsuarioRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Comandos SQL por endpoint, medidos com {@link ContadorConsultas#medir}: cada
+ * listagem fica dentro do orçamento e o número de comandos não cresce com a
+ * quantidade de linhas exibidas (sem N+1, inclusive na renderização da view).
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser(roles = "ADMIN")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ConsultasPorEndpointTest {
+
+    private static final AtomicLong SEQUENCIA = new AtomicLong(System.currentTimeMillis());
+    private static final int LOTE = 12;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private LivroRepository livroRepository;
+
+    @Autowired
+    private AutorRepository autorRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private EmprestimoRepository emprestimoRepository;
+
+    @Value("${biblioteca.consultas.orcamento}")
+    private int orcamento;
+
+    @BeforeAll
+    void preparar() {
+        cadastrarLote(LOTE);
+    }
+
+    /**
+     * Listagens paginadas: uma página de 2 e outra de 12 linhas executam os mesmos comandos.
+     */
+    @ParameterizedTest(name = "{0}")
+    @CsvSource({
+            "/livros, size",
+            "/emprestimos, size",
+            "/admin/usuarios, size",
+            "/api/livros/disponiveis/busca?q=Consulta, limite",
+            "/api/admin/usuarios/busca?q=Consulta, limite"
+    })
+    void paginaNaoMultiplicaConsultas(String url, String parametro) {
+        // A primeira requisição absorve inicializações preguiçosas
+        contarComandos(comParametro(url, parametro, 2));
+
+        int pequena = contarComandos(comParametro(url, parametro, 2));
+        int grande = contarComandos(comParametro(url, parametro, LOTE));
+
+        assertThat(grande).as("comandos com %d linhas", LOTE).isEqualTo(pequena);
+        assertThat(grande).isLessThanOrEqualTo(orcamento);
+    }
+
+    /**
+     * Listagens completas: novos registros não acrescentam comandos.
+     */
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"/", "/autores", "/categorias", "/livros/disponiveis"})
+    void listagemNaoCresceComOsDados(String url) {
+        contarComandos(url);
+
+        int antes = contarComandos(url);
+        cadastrarLote(3);
+        int depois = contarComandos(url);
+
+        assertThat(depois).as("comandos após novos cadastros").isEqualTo(antes);
+        assertThat(depois).isLessThanOrEqualTo(orcamento);
+    }
+
+    private int contarComandos(String url) {
+        return ContadorConsultas.medir(() -> {
+            try {
+                mockMvc.perform(get(url)).andExpect(status().isOk());
+                return null;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }).total();
+    }
+
+    private static String comParametro(String url, String parametro, int valor) {
+        return url + (url.contains("?") ? "&" : "?") + parametro + "=" + valor;
+    }
+
+    /**
+     * Livros com autor e categoria próprios e um empréstimo cada, por usuários
+     * distintos: associações repetidas não mascaram consultas por linha.
+     */
+    private void cadastrarLote(int quantidade) {
+        for (int i = 0; i < quantidade; i++) {
+            long numero = SEQUENCIA.incrementAndGet();
+            Autor autor = autorRepository.save(Autor.builder().nome("Autor " + numero).build());
+            Categoria categoria = categoriaRepository.save(Categoria.builder().nome("Categoria " + numero).build());
+            Livro livro = livroRepository.save(Livro.builder()
+                    .titulo("Consulta " + numero)
+                    .isbn("C" + numero)
+                    .quantidadeTotal(2)
+                    .quantidadeDisponivel(1)
+                    .categoria(categoria)
+                    .autores(new HashSet<>(Set.of(autor)))
+                    .build());
+            Usuario usuario = usuarioRepository.save(Usuario.builder()
+                    .nome("Consulta " + numero)
+                    .email("consulta" + numero + "@teste.com")
+                    .senha("senha")
+                    .role(Usuario.Role.USER)
+                    .build());
+            emprestimoRepository.save(Emprestimo.builder()
+                    .usuario(usuario)
+                    .livro(livro)
+                    .dataEmprestimo(LocalDate.now())
+                    .dataPrevistaDevolucao(LocalDate.now().plusDays(14))
+                    .status(Emprestimo.StatusEmprestimo.ATIVO)
+                    .build());
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.biblioteca.controller;
+
+import com.biblioteca.model.entity.Autor;
+import com.biblioteca.model.entity.Categoria;
+import com.biblioteca.model.entity.Emprestimo;
+import com.biblioteca.model.entity.Livro;
+import com.biblioteca.model.entity.Reserva;
+import com.biblioteca.model.entity.Usuario;
+import com.biblioteca.repository.AutorRepository;
+import com.biblioteca.repository.CategoriaRepository;
+import com.biblioteca.repository.EmprestimoRepository;
+import com.biblioteca.repository.LivroRepository;
+import com.biblioteca.repository.ReservaRepository;
+import com.biblioteca.repository.UsuarioRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Com o Open-Session-In-View desligado, as views só recebem dados carregados
+ * na transação do serviço: listagens, detalhes e formulários renderizam sem
+ * LazyInitializationException (que resultaria em erro na renderização).
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PaginasSemSessaoTest {
+
+    private static final AtomicLong SEQUENCIA = new AtomicLong(System.currentTimeMillis());
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AutorRepository autorRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private LivroRepository livroRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private EmprestimoRepository emprestimoRepository;
+
+    @Autowired
+    private ReservaRepository reservaRepository;
+
+    @Value("${spring.jpa.open-in-view}")
+    private boolean openInView;
+
+    private Usuario administrador;
+    private Usuario leitor;
+    private Autor autor;
+    private Categoria categoria;
+    private Livro livro;
+    private Emprestimo emprestimo;
+
+    @BeforeAll
+    void preparar() {
+        long numero = SEQUENCIA.incrementAndGet();
+        autor = autorRepository.save(Autor.builder().nome("Autor sem sessão " + numero).build());
+        categoria = categoriaRepository.save(Categoria.builder().nome("Categoria sem sessão " + numero).build());
+        livro = livroRepository.save(Livro.builder()
+                .titulo("Livro sem sessão " + numero)
+                .isbn("S" + numero)
+                .quantidadeTotal(2)
+                .quantidadeDisponivel(1)
+                .categoria(categoria)
+                .autores(new HashSet<>(Set.of(autor)))
+                .build());
+        Livro esgotado = livroRepository.save(Livro.builder()
+                .titulo("Livro esgotado " + numero)
+                .isbn("SE" + numero)
+                .quantidadeTotal(1)
+                .quantidadeDisponivel(0)
+                .status(Livro.StatusLivro.INDISPONIVEL)
+                .categoria(categoria)
+                .autores(new HashSet<>(Set.of(autor)))
+                .build());
+
+        administrador = usuarioRepository.save(Usuario.builder()
+                .nome("Administrador " + numero)
+                .email("admin.sessao" + numero + "@teste.com")
+                .senha("senha")
+                .role(Usuario.Role.ADMIN)
+                .build());
+        leitor = usuarioRepository.save(Usuario.builder()
+                .nome("Leitor " + numero)
+                .email("leitor.sessao" + numero + "@teste.com")
+                .senha("senha")
+                .role(Usuario.Role.USER)
+                .build());
+
+        emprestimo = emprestimoRepository.save(Emprestimo.builder()
+                .usuario(leitor)
+                .livro(livro)
+                .dataEmprestimo(LocalDate.now().minusDays(20))
+                .dataPrevistaDevolucao(LocalDate.now().minusDays(6))
+                .status(Emprestimo.StatusEmprestimo.ATIVO)
+                .build());
+        emprestimoRepository.save(Emprestimo.builder()
+                .usuario(leitor)
+                .livro(esgotado)
+                .dataEmprestimo(LocalDate.now().minusDays(5))
+                .dataPrevistaDevolucao(LocalDate.now().plusDays(9))
+                .status(Emprestimo.StatusEmprestimo.RENOVADO)
+                .renovacoes(1)
+                .build());
+        reservaRepository.save(Reserva.builder()
+                .usuario(leitor)
+                .livro(esgotado)
+                .build());
+    }
+
+    @Test
+    void openSessionInViewDesligado() {
+        assertThat(openInView).isFalse();
+    }
+
+    Stream<String> paginasDoAdministrador() {
+        return Stream.of(
+                "/",
+                "/livros",
+                "/livros/" + livro.getId(),
+                "/livros/novo",
+                "/livros/editar/" + livro.getId(),
+                "/livros/categoria/" + categoria.getId(),
+                "/livros/disponiveis",
+                "/autores",
+                "/autores/" + autor.getId(),
+                "/autores/editar/" + autor.getId(),
+                "/categorias",
+                "/categorias/" + categoria.getId(),
+                "/categorias/editar/" + categoria.getId(),
+                "/emprestimos",
+                "/emprestimos?status=ATRASADO",
+                "/emprestimos/" + emprestimo.getId(),
+                "/emprestimos/novo?livroId=" + livro.getId(),
+                "/admin/usuarios",
+                "/admin/usuarios/" + leitor.getId(),
+                "/admin/usuarios/editar/" + leitor.getId());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("paginasDoAdministrador")
+    void paginaDoAdministradorRenderiza(String url) throws Exception {
+        mockMvc.perform(get(url).with(user(administrador)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"/dashboard", "/perfil", "/emprestimos/meus", "/reservas/minhas"})
+    void paginaDoLeitorRenderiza(String url) throws Exception {
+        mockMvc.perform(get(url).with(user(leitor)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML));
+    }
+
+    /**
+     * Relatórios em PDF percorrem as associações fora da view, no serviço.
+     */
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"/relatorios/livros", "/relatorios/emprestimos", "/relatorios/emprestimos/atrasados",
+            "/relatorios/usuarios", "/relatorios/dashboard"})
+    void relatorioEmPdfEGerado(String url) throws Exception {
+        mockMvc.perform(get(url).with(user(administrador)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_PDF));
+    }
+}
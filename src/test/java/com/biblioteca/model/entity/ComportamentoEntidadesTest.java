@@ -0,0 +1,148 @@
+package com.biblioteca.model.entity;
+
+import com.biblioteca.metrics.ContadorConsultas;
+import com.biblioteca.repository.AutorRepository;
+import com.biblioteca.repository.EmprestimoRepository;
+import com.biblioteca.repository.LivroRepository;
+import com.biblioteca.repository.UsuarioRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.hibernate.LazyInitializationException;
+import org.hibernate.engine.spi.ManagedEntity;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Carga lazy e dirty checking das entidades. O perfil Maven inicio-rapido
+ * aplica o enhancement do Hibernate em build e executa a suíte sobre as
+ * classes alteradas (biblioteca.enhancement=true): o comportamento verificado
+ * aqui vale para os dois builds.
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ComportamentoEntidadesTest {
+
+    private static final AtomicLong SEQUENCIA = new AtomicLong(System.currentTimeMillis());
+
+    @Autowired
+    private LivroRepository livroRepository;
+
+    @Autowired
+    private AutorRepository autorRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private EmprestimoRepository emprestimoRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transacao;
+    private Livro livro;
+    private Emprestimo emprestimo;
+
+    @BeforeAll
+    void preparar() {
+        transacao = new TransactionTemplate(transactionManager);
+        long numero = SEQUENCIA.incrementAndGet();
+        Autor autor = autorRepository.save(Autor.builder().nome("Autor enhancement " + numero).build());
+        livro = livroRepository.save(Livro.builder()
+                .titulo("Livro enhancement " + numero)
+                .isbn("EH" + numero)
+                .quantidadeTotal(1)
+                .quantidadeDisponivel(0)
+                .autores(new HashSet<>(Set.of(autor)))
+                .build());
+        Usuario leitor = usuarioRepository.save(Usuario.builder()
+                .nome("Leitor " + numero)
+                .email("enhancement" + numero + "@teste.com")
+                .senha("senha")
+                .role(Usuario.Role.USER)
+                .build());
+        emprestimo = emprestimoRepository.save(Emprestimo.builder()
+                .usuario(leitor)
+                .livro(livro)
+                .dataEmprestimo(LocalDate.now())
+                .dataPrevistaDevolucao(LocalDate.now().plusDays(14))
+                .status(Emprestimo.StatusEmprestimo.ATIVO)
+                .build());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(classes = {Autor.class, Categoria.class, Emprestimo.class, EstatisticaCirculacao.class,
+            EventoCirculacao.class, LancamentoMulta.class, Livro.class, RankingLivro.class, Reserva.class,
+            Usuario.class})
+    void enhancementConformeOBuild(Class<?> entidade) {
+        boolean esperado = Boolean.getBoolean("biblioteca.enhancement");
+
+        assertThat(ManagedEntity.class.isAssignableFrom(entidade)).isEqualTo(esperado);
+        assertThat(SelfDirtinessTracker.class.isAssignableFrom(entidade)).isEqualTo(esperado);
+    }
+
+    @Test
+    void associacaoLazySoECarregadaNoAcesso() {
+        Emprestimo carregado = transacao.execute(status -> {
+            Emprestimo encontrado = entityManager.find(Emprestimo.class, emprestimo.getId());
+            assertThat(Hibernate.isInitialized(encontrado.getLivro())).isFalse();
+            // O identificador vem da chave estrangeira, sem consulta ao livro
+            assertThat(encontrado.getLivro().getId()).isEqualTo(livro.getId());
+            assertThat(Hibernate.isInitialized(encontrado.getLivro())).isFalse();
+            return encontrado;
+        });
+
+        assertThatThrownBy(() -> carregado.getLivro().getTitulo()).isInstanceOf(LazyInitializationException.class);
+    }
+
+    @Test
+    void colecaoLazySoECarregadaNoAcesso() {
+        Livro carregado = transacao.execute(status -> {
+            Livro encontrado = entityManager.find(Livro.class, livro.getId());
+            assertThat(Hibernate.isInitialized(encontrado.getAutores())).isFalse();
+            return encontrado;
+        });
+
+        assertThatThrownBy(() -> carregado.getAutores().size()).isInstanceOf(LazyInitializationException.class);
+    }
+
+    @Test
+    void alteracaoEmEntidadeGerenciadaEGravadaNoCommit() {
+        String titulo = "Título alterado " + SEQUENCIA.incrementAndGet();
+        transacao.executeWithoutResult(status -> entityManager.find(Livro.class, livro.getId()).setTitulo(titulo));
+
+        assertThat(livroRepository.findById(livro.getId()).orElseThrow().getTitulo()).isEqualTo(titulo);
+    }
+
+    @Test
+    void entidadeLidaSemAlteracaoNaoGeraUpdate() {
+        ContadorConsultas.Resultado<Void> resultado = ContadorConsultas.medir(() -> transacao.execute(status -> {
+            Emprestimo encontrado = entityManager.find(Emprestimo.class, emprestimo.getId());
+            encontrado.getLivro().getTitulo();
+            encontrado.getUsuario().getNome();
+            return null;
+        }));
+
+        assertThat(resultado.contagem().getPorFormato().keySet())
+                .noneMatch(sql -> sql.regionMatches(true, 0, "update", 0, 6));
+    }
+}
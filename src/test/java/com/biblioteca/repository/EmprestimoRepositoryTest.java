@@ -0,0 +1,88 @@
+package com.biblioteca.repository;
+
+import com.biblioteca.model.entity.Emprestimo;
+import com.biblioteca.model.entity.Emprestimo.StatusEmprestimo;
+import com.biblioteca.model.entity.Livro;
+import com.biblioteca.model.entity.Usuario;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Empréstimos renovados continuam em aberto: entram nas consultas de ativos e atrasados.
+ */
+@SpringBootTest
+@Transactional
+class EmprestimoRepositoryTest {
+
+    @Autowired
+    private EmprestimoRepository emprestimoRepository;
+
+    @Autowired
+    private LivroRepository livroRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    private Usuario usuario;
+    private Livro livro;
+    private Emprestimo renovado;
+
+    @BeforeEach
+    void preparar() {
+        long numero = System.nanoTime();
+        usuario = usuarioRepository.save(Usuario.builder()
+                .nome("Leitor " + numero)
+                .email("renovado" + numero + "@teste.com")
+                .senha("senha")
+                .role(Usuario.Role.USER)
+                .build());
+        livro = livroRepository.save(Livro.builder()
+                .titulo("Livro " + numero)
+                .isbn("E" + numero)
+                .quantidadeTotal(1)
+                .quantidadeDisponivel(0)
+                .build());
+        renovado = emprestimoRepository.save(Emprestimo.builder()
+                .usuario(usuario)
+                .livro(livro)
+                .dataEmprestimo(LocalDate.now().minusDays(30))
+                .dataPrevistaDevolucao(LocalDate.now().minusDays(2))
+                .status(StatusEmprestimo.RENOVADO)
+                .renovacoes(1)
+                .build());
+    }
+
+    @Test
+    void renovadoContaComoAtivo() {
+        assertThat(emprestimoRepository.findEmprestimosAtivos()).contains(renovado);
+        assertThat(emprestimoRepository.findEmprestimosAtivosPorUsuario(usuario.getId())).containsExactly(renovado);
+        assertThat(emprestimoRepository.findEmprestimoAtivo(usuario.getId(), livro.getId())).containsExactly(renovado);
+        assertThat(emprestimoRepository.countEmprestimosAtivos()).isPositive();
+    }
+
+    @Test
+    void renovadoVencidoContaComoAtrasado() {
+        LocalDate hoje = LocalDate.now();
+
+        assertThat(emprestimoRepository.findEmprestimosAtrasados(hoje)).contains(renovado);
+        assertThat(emprestimoRepository.countEmprestimosAtrasados(hoje)).isPositive();
+    }
+
+    @Test
+    void devolvidoDeixaDeContar() {
+        renovado.setStatus(StatusEmprestimo.DEVOLVIDO);
+        renovado.setDataDevolucao(LocalDate.now());
+        emprestimoRepository.saveAndFlush(renovado);
+
+        assertThat(emprestimoRepository.findEmprestimosAtivosPorUsuario(usuario.getId())).isEmpty();
+        assertThat(emprestimoRepository.findEmprestimoAtivo(usuario.getId(), livro.getId())).isEmpty();
+        assertThat(emprestimoRepository.findEmprestimosAtrasados(LocalDate.now())).doesNotContain(renovado);
+    }
+}
@@ -0,0 +1,62 @@
+package com.biblioteca.repository;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Plano de execução (EXPLAIN do H2) das consultas frequentes: cada uma deve
+ * usar o índice criado para ela nas migrações (V2 e h2/V3), sem varrer a tabela.
+ */
+@SpringBootTest
+class IndicesConsultasTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    static Stream<Arguments> consultas() {
+        return Stream.of(
+                Arguments.of("empréstimos ativos do usuário",
+                        "SELECT id FROM emprestimos WHERE usuario_id = 1 AND status = 'ATIVO'",
+                        "idx_emprestimos_usuario_status"),
+                Arguments.of("empréstimos ativos do livro",
+                        "SELECT id FROM emprestimos WHERE livro_id = 1 AND status = 'ATIVO'",
+                        "idx_emprestimos_livro_status"),
+                Arguments.of("empréstimos por período",
+                        "SELECT id FROM emprestimos WHERE data_emprestimo BETWEEN DATE '2024-01-01' AND DATE '2024-01-31'",
+                        "idx_emprestimos_data_emprestimo"),
+                Arguments.of("empréstimos atrasados",
+                        "SELECT id FROM emprestimos WHERE status = 'ATIVO' AND data_prevista_devolucao < DATE '2024-01-01'",
+                        "idx_emprestimos_status_prevista"),
+                Arguments.of("devoluções por período",
+                        "SELECT id FROM emprestimos WHERE status = 'DEVOLVIDO' "
+                                + "AND data_devolucao BETWEEN DATE '2024-01-01' AND DATE '2024-01-31'",
+                        "idx_emprestimos_status_devolucao"),
+                Arguments.of("série diária por dimensão",
+                        "SELECT data FROM estatisticas_circulacao WHERE dimensao = 'GERAL' "
+                                + "AND data BETWEEN DATE '2024-01-01' AND DATE '2024-01-31'",
+                        "idx_estatisticas_dimensao_data"),
+                Arguments.of("fila de reservas do livro",
+                        "SELECT id FROM reservas WHERE livro_id = 1 AND status = 'AGUARDANDO' ORDER BY id",
+                        "idx_reservas_fila"),
+                Arguments.of("reservas do usuário para o livro",
+                        "SELECT id FROM reservas WHERE usuario_id = 1 AND livro_id = 1",
+                        "idx_reservas_usuario"));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("consultas")
+    void consultaUsaIndice(String descricao, String sql, String indice) {
+        String plano = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+
+        assertThat(plano).as(descricao).containsIgnoringCase(indice);
+        assertThat(plano).as(descricao).doesNotContainIgnoringCase("tableScan");
+    }
+}
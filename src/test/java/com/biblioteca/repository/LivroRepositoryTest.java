@@ -0,0 +1,94 @@
+package com.biblioteca.repository;
+
+import com.biblioteca.model.entity.Emprestimo;
+import com.biblioteca.model.entity.Emprestimo.StatusEmprestimo;
+import com.biblioteca.model.entity.Livro;
+import com.biblioteca.model.entity.Usuario;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Descarte em lote: livros com empréstimo em aberto ficam fora do comando.
+ */
+@SpringBootTest
+@Transactional
+class LivroRepositoryTest {
+
+    private static final AtomicLong SEQUENCIA = new AtomicLong(System.currentTimeMillis());
+
+    @Autowired
+    private LivroRepository livroRepository;
+
+    @Autowired
+    private EmprestimoRepository emprestimoRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @ParameterizedTest
+    @EnumSource(value = StatusEmprestimo.class, names = {"ATIVO", "RENOVADO"})
+    void naoDescartaLivroComEmprestimoEmAberto(StatusEmprestimo status) {
+        Livro livro = novoLivro();
+        novoEmprestimo(livro, status);
+
+        assertThat(livroRepository.descartar(List.of(livro.getId()))).isZero();
+        assertThat(statusDoLivro(livro)).isEqualTo(Livro.StatusLivro.INDISPONIVEL);
+    }
+
+    @Test
+    void descartaLivroComEmprestimosEncerrados() {
+        Livro livro = novoLivro();
+        novoEmprestimo(livro, StatusEmprestimo.DEVOLVIDO);
+        novoEmprestimo(livro, StatusEmprestimo.CANCELADO);
+
+        assertThat(livroRepository.descartar(List.of(livro.getId()))).isEqualTo(1);
+        assertThat(statusDoLivro(livro)).isEqualTo(Livro.StatusLivro.DESCARTADO);
+    }
+
+    private Livro.StatusLivro statusDoLivro(Livro livro) {
+        entityManager.clear();
+        return livroRepository.findById(livro.getId()).orElseThrow().getStatus();
+    }
+
+    private Livro novoLivro() {
+        long numero = SEQUENCIA.incrementAndGet();
+        return livroRepository.save(Livro.builder()
+                .titulo("Livro " + numero)
+                .isbn("D" + numero)
+                .quantidadeTotal(1)
+                .quantidadeDisponivel(0)
+                .status(Livro.StatusLivro.INDISPONIVEL)
+                .build());
+    }
+
+    private void novoEmprestimo(Livro livro, StatusEmprestimo status) {
+        long numero = SEQUENCIA.incrementAndGet();
+        Usuario usuario = usuarioRepository.save(Usuario.builder()
+                .nome("Leitor " + numero)
+                .email("descarte" + numero + "@teste.com")
+                .senha("senha")
+                .role(Usuario.Role.USER)
+                .build());
+        emprestimoRepository.saveAndFlush(Emprestimo.builder()
+                .usuario(usuario)
+                .livro(livro)
+                .dataEmprestimo(LocalDate.now().minusDays(10))
+                .dataPrevistaDevolucao(LocalDate.now().plusDays(4))
+                .status(status)
+                .build());
+    }
+}
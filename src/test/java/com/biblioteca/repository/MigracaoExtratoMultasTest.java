@@ -0,0 +1,56 @@
+package com.biblioteca.repository;
+
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Migração do extrato de multas (V5) sobre um banco com multas anteriores:
+ * as multas já cobradas entram quitadas e ninguém fica com saldo devedor.
+ */
+class MigracaoExtratoMultasTest {
+
+    @Test
+    void multasAnterioresEntramQuitadas() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:migracao-multas;DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+
+        flyway(dataSource, "4").migrate();
+        jdbc.update("INSERT INTO usuarios (id, nome, email, senha, role, ativo) "
+                + "VALUES (1, 'Leitor', 'leitor@teste.com', 'senha', 'USER', TRUE)");
+        jdbc.update("INSERT INTO livros (id, titulo, quantidade_total, quantidade_disponivel, status) "
+                + "VALUES (1, 'Livro', 1, 1, 'DISPONIVEL')");
+        jdbc.update("INSERT INTO emprestimos (usuario_id, livro_id, data_emprestimo, data_prevista_devolucao, "
+                + "data_devolucao, status, multa) VALUES (1, 1, DATE '2024-01-01', DATE '2024-01-15', "
+                + "DATE '2024-01-20', 'DEVOLVIDO', 10.00)");
+        jdbc.update("INSERT INTO emprestimos (usuario_id, livro_id, data_emprestimo, data_prevista_devolucao, "
+                + "data_devolucao, status, multa) VALUES (1, 1, DATE '2024-02-01', DATE '2024-02-15', "
+                + "DATE '2024-02-16', 'DEVOLVIDO', 2.50)");
+
+        flyway(dataSource, "latest").migrate();
+
+        assertThat(jdbc.queryForObject("SELECT saldo_devedor FROM usuarios WHERE id = 1", BigDecimal.class))
+                .isEqualByComparingTo("0");
+        assertThat(jdbc.queryForObject("SELECT total_multas_pagas FROM usuarios WHERE id = 1", BigDecimal.class))
+                .isEqualByComparingTo("12.50");
+        List<String> tipos = jdbc.queryForList(
+                "SELECT tipo FROM lancamentos_multa WHERE usuario_id = 1 ORDER BY id", String.class);
+        assertThat(tipos).containsExactly("MULTA", "MULTA", "PAGAMENTO", "PAGAMENTO");
+    }
+
+    private static Flyway flyway(JdbcDataSource dataSource, String versao) {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/comum", "classpath:db/migration/h2")
+                .target(versao)
+                .load();
+    }
+}
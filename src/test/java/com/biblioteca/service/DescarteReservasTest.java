@@ -0,0 +1,97 @@
+package com.biblioteca.service;
+
+import com.biblioteca.model.dto.DescarteLivrosDTO;
+import com.biblioteca.model.dto.ReservaDTO;
+import com.biblioteca.model.entity.Livro;
+import com.biblioteca.model.entity.Reserva.StatusReserva;
+import com.biblioteca.model.entity.Usuario;
+import com.biblioteca.repository.LivroRepository;
+import com.biblioteca.repository.UsuarioRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Descarte em lote com reservas: só os livros efetivamente descartados perdem
+ * a fila; os recusados por empréstimo em aberto continuam atendendo a fila.
+ */
+@SpringBootTest
+class DescarteReservasTest {
+
+    private static final AtomicLong SEQUENCIA = new AtomicLong(System.currentTimeMillis());
+
+    @Autowired
+    private LivroService livroService;
+
+    @Autowired
+    private EmprestimoService emprestimoService;
+
+    @Autowired
+    private ReservaService reservaService;
+
+    @Autowired
+    private LivroRepository livroRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Test
+    void livroRecusadoNoDescarteMantemAFila() {
+        // Emprestado, com reserva aguardando: o descarte é recusado
+        Livro emprestado = novoLivro();
+        Long emprestimoId = emprestimoService.realizarEmprestimo(novoLeitor().getId(), emprestado.getId()).getId();
+        ReservaDTO naFila = reservaService.reservar(novoLeitor().getId(), emprestado.getId());
+
+        // Devolvido com o exemplar separado para uma reserva: é descartado
+        Livro devolvido = novoLivro();
+        Long outroEmprestimoId = emprestimoService.realizarEmprestimo(novoLeitor().getId(), devolvido.getId()).getId();
+        ReservaDTO separada = reservaService.reservar(novoLeitor().getId(), devolvido.getId());
+        emprestimoService.realizarDevolucao(outroEmprestimoId);
+
+        DescarteLivrosDTO resultado = livroService.descartar(List.of(emprestado.getId(), devolvido.getId()));
+
+        assertThat(resultado.getDescartados()).isEqualTo(1);
+        assertThat(resultado.getIgnorados()).isEqualTo(1);
+        assertThat(resultado.getReservasCanceladas()).isEqualTo(1);
+        assertThat(statusDaReserva(separada)).isEqualTo(StatusReserva.CANCELADA);
+
+        // A devolução do livro mantido separa o exemplar para a reserva da fila
+        emprestimoService.realizarDevolucao(emprestimoId);
+
+        assertThat(statusDaReserva(naFila)).isEqualTo(StatusReserva.DISPONIVEL);
+        assertThat(livroRepository.findById(emprestado.getId()).orElseThrow().getQuantidadeDisponivel()).isZero();
+    }
+
+    private StatusReserva statusDaReserva(ReservaDTO reserva) {
+        return reservaService.listarPorUsuario(reserva.getUsuarioId()).stream()
+                .filter(r -> r.getId().equals(reserva.getId()))
+                .map(ReservaDTO::getStatus)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private Livro novoLivro() {
+        long numero = SEQUENCIA.incrementAndGet();
+        return livroRepository.save(Livro.builder()
+                .titulo("Livro descartável " + numero)
+                .isbn("R" + numero)
+                .quantidadeTotal(1)
+                .quantidadeDisponivel(1)
+                .build());
+    }
+
+    private Usuario novoLeitor() {
+        long numero = SEQUENCIA.incrementAndGet();
+        return usuarioRepository.save(Usuario.builder()
+                .nome("Leitor " + numero)
+                .email("descarte.reserva" + numero + "@teste.com")
+                .senha("senha")
+                .role(Usuario.Role.USER)
+                .build());
+    }
+}
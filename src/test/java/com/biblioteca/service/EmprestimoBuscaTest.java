@@ -0,0 +1,107 @@
+package com.biblioteca.service;
+
+import com.biblioteca.model.dto.EmprestimoDTO;
+import com.biblioteca.model.dto.FiltroEmprestimoDTO;
+import com.biblioteca.model.entity.Emprestimo;
+import com.biblioteca.model.entity.Emprestimo.StatusEmprestimo;
+import com.biblioteca.model.entity.Livro;
+import com.biblioteca.model.entity.Usuario;
+import com.biblioteca.repository.EmprestimoRepository;
+import com.biblioteca.repository.LivroRepository;
+import com.biblioteca.repository.UsuarioRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Filtro de status da listagem administrativa: renovados contam como em aberto.
+ */
+@SpringBootTest
+@Transactional
+class EmprestimoBuscaTest {
+
+    @Autowired
+    private EmprestimoService emprestimoService;
+
+    @Autowired
+    private EmprestimoRepository emprestimoRepository;
+
+    @Autowired
+    private LivroRepository livroRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    private Usuario usuario;
+    private Emprestimo ativoNoPrazo;
+    private Emprestimo renovadoVencido;
+    private Emprestimo devolvido;
+
+    @BeforeEach
+    void preparar() {
+        long numero = System.nanoTime();
+        usuario = usuarioRepository.save(Usuario.builder()
+                .nome("Leitor " + numero)
+                .email("busca" + numero + "@teste.com")
+                .senha("senha")
+                .role(Usuario.Role.USER)
+                .build());
+        Livro livro = livroRepository.save(Livro.builder()
+                .titulo("Livro " + numero)
+                .isbn("B" + numero)
+                .quantidadeTotal(3)
+                .quantidadeDisponivel(1)
+                .build());
+
+        ativoNoPrazo = novoEmprestimo(livro, StatusEmprestimo.ATIVO, LocalDate.now().plusDays(5));
+        renovadoVencido = novoEmprestimo(livro, StatusEmprestimo.RENOVADO, LocalDate.now().minusDays(3));
+        devolvido = novoEmprestimo(livro, StatusEmprestimo.DEVOLVIDO, LocalDate.now().minusDays(20));
+    }
+
+    @Test
+    void atrasadosIncluemRenovadosVencidos() {
+        assertThat(buscar(StatusEmprestimo.ATRASADO)).containsExactly(renovadoVencido.getId());
+    }
+
+    @Test
+    void ativosIncluemRenovados() {
+        assertThat(buscar(StatusEmprestimo.ATIVO))
+                .containsExactlyInAnyOrder(ativoNoPrazo.getId(), renovadoVencido.getId());
+    }
+
+    @Test
+    void demaisStatusFiltramExatamente() {
+        assertThat(buscar(StatusEmprestimo.RENOVADO)).containsExactly(renovadoVencido.getId());
+        assertThat(buscar(StatusEmprestimo.DEVOLVIDO)).containsExactly(devolvido.getId());
+        assertThat(buscar(null)).hasSize(3);
+    }
+
+    private List<Long> buscar(StatusEmprestimo status) {
+        FiltroEmprestimoDTO filtro = FiltroEmprestimoDTO.builder()
+                .status(status)
+                .usuarioId(usuario.getId())
+                .build();
+        return emprestimoService.buscar(filtro, PageRequest.of(0, 20)).stream()
+                .map(EmprestimoDTO::getId)
+                .toList();
+    }
+
+    private Emprestimo novoEmprestimo(Livro livro, StatusEmprestimo status, LocalDate prevista) {
+        return emprestimoRepository.save(Emprestimo.builder()
+                .usuario(usuario)
+                .livro(livro)
+                .dataEmprestimo(prevista.minusDays(14))
+                .dataPrevistaDevolucao(prevista)
+                .dataDevolucao(status == StatusEmprestimo.DEVOLVIDO ? prevista : null)
+                .status(status)
+                .build());
+    }
+}
@@ -0,0 +1,185 @@
+package com.biblioteca.service;
+
+import com.biblioteca.exception.BusinessException;
+import com.biblioteca.model.dto.EmprestimoDTO;
+import com.biblioteca.model.dto.ReservaDTO;
+import com.biblioteca.model.entity.Livro;
+import com.biblioteca.model.entity.Reserva.StatusReserva;
+import com.biblioteca.model.entity.Usuario;
+import com.biblioteca.repository.LivroRepository;
+import com.biblioteca.repository.UsuarioRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Empréstimos e reservas concorrentes do mesmo livro: nenhum exemplar é
+ * entregue duas vezes e as reservas são atendidas na ordem da fila.
+ */
+@SpringBootTest
+class ReservaConcorrenciaTest {
+
+    private static final AtomicLong SEQUENCIA = new AtomicLong(System.currentTimeMillis());
+
+    @Autowired
+    private EmprestimoService emprestimoService;
+
+    @Autowired
+    private ReservaService reservaService;
+
+    @Autowired
+    private LivroRepository livroRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Test
+    void ultimosExemplaresSaoEmprestadosUmaUnicaVez() throws Exception {
+        Livro livro = novoLivro(3);
+        List<Callable<Object>> tarefas = novosLeitores(40).stream()
+                .<Callable<Object>>map(leitor -> () -> emprestimoService.realizarEmprestimo(leitor.getId(), livro.getId()))
+                .collect(Collectors.toList());
+
+        List<Object> resultados = emParalelo(tarefas);
+
+        assertThat(resultados).filteredOn(EmprestimoDTO.class::isInstance).hasSize(3);
+        assertThat(resultados).filteredOn(BusinessException.class::isInstance).hasSize(37);
+        Livro atualizado = livroRepository.findById(livro.getId()).orElseThrow();
+        assertThat(atualizado.getQuantidadeDisponivel()).isZero();
+        assertThat(atualizado.getStatus()).isEqualTo(Livro.StatusLivro.INDISPONIVEL);
+    }
+
+    @Test
+    void exemplaresDevolvidosSeguemAOrdemDaFila() throws Exception {
+        Livro livro = novoLivro(2);
+        Long livroId = livro.getId();
+
+        List<Long> emprestimos = new ArrayList<>();
+        for (Usuario leitor : novosLeitores(2)) {
+            emprestimos.add(emprestimoService.realizarEmprestimo(leitor.getId(), livroId).getId());
+        }
+
+        // Reservas simultâneas com o livro esgotado
+        List<Usuario> fila = novosLeitores(20);
+        List<Object> reservas = emParalelo(fila.stream()
+                .<Callable<Object>>map(leitor -> () -> reservaService.reservar(leitor.getId(), livroId))
+                .collect(Collectors.toList()));
+        assertThat(reservas).allMatch(ReservaDTO.class::isInstance);
+
+        List<ReservaDTO> ordem = reservas.stream()
+                .map(ReservaDTO.class::cast)
+                .sorted(Comparator.comparing(ReservaDTO::getId))
+                .collect(Collectors.toList());
+        List<Usuario> avulsos = novosLeitores(10);
+
+        // A cada rodada os dois exemplares voltam enquanto leitores sem reserva tentam emprestá-los
+        for (int rodada = 0; rodada < ordem.size() / 2; rodada++) {
+            List<Callable<Object>> tarefas = new ArrayList<>();
+            for (Long emprestimoId : emprestimos) {
+                tarefas.add(() -> emprestimoService.realizarDevolucao(emprestimoId));
+            }
+            for (Usuario avulso : avulsos) {
+                tarefas.add(() -> emprestimoService.realizarEmprestimo(avulso.getId(), livroId));
+            }
+
+            List<Object> resultados = emParalelo(tarefas);
+            assertThat(resultados.subList(0, emprestimos.size())).allMatch(EmprestimoDTO.class::isInstance);
+            assertThat(resultados.subList(emprestimos.size(), resultados.size()))
+                    .as("empréstimos avulsos na rodada %d", rodada)
+                    .allMatch(BusinessException.class::isInstance);
+
+            // Os exemplares ficam separados para as duas reservas mais antigas
+            List<ReservaDTO> atendidas = ordem.subList(rodada * 2, rodada * 2 + 2);
+            for (ReservaDTO reserva : atendidas) {
+                assertThat(statusDaReserva(reserva)).as("reserva %d", reserva.getId()).isEqualTo(StatusReserva.DISPONIVEL);
+            }
+            for (ReservaDTO reserva : ordem.subList(rodada * 2 + 2, ordem.size())) {
+                assertThat(statusDaReserva(reserva)).as("reserva %d", reserva.getId()).isEqualTo(StatusReserva.AGUARDANDO);
+            }
+            assertThat(livroRepository.findById(livroId).orElseThrow().getQuantidadeDisponivel()).isZero();
+
+            emprestimos.clear();
+            for (ReservaDTO reserva : atendidas) {
+                emprestimos.add(emprestimoService.realizarEmprestimo(reserva.getUsuarioId(), livroId).getId());
+            }
+        }
+
+        assertThat(reservaService.contarFila(livroId)).isZero();
+    }
+
+    private StatusReserva statusDaReserva(ReservaDTO reserva) {
+        return reservaService.listarPorUsuario(reserva.getUsuarioId()).stream()
+                .filter(r -> r.getId().equals(reserva.getId()))
+                .map(ReservaDTO::getStatus)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    /**
+     * Executa as tarefas ao mesmo tempo e devolve, na ordem, o resultado ou a exceção de cada uma.
+     */
+    private static List<Object> emParalelo(List<Callable<Object>> tarefas) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(tarefas.size());
+        CountDownLatch largada = new CountDownLatch(1);
+        try {
+            List<Future<Object>> futuros = new ArrayList<>();
+            for (Callable<Object> tarefa : tarefas) {
+                futuros.add(executor.submit(() -> {
+                    largada.await();
+                    try {
+                        return tarefa.call();
+                    } catch (RuntimeException e) {
+                        return e;
+                    }
+                }));
+            }
+            largada.countDown();
+
+            List<Object> resultados = new ArrayList<>();
+            for (Future<Object> futuro : futuros) {
+                resultados.add(futuro.get(60, TimeUnit.SECONDS));
+            }
+            return resultados;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Livro novoLivro(int exemplares) {
+        long numero = SEQUENCIA.incrementAndGet();
+        return livroRepository.save(Livro.builder()
+                .titulo("Livro concorrido " + numero)
+                .isbn(String.valueOf(numero))
+                .quantidadeTotal(exemplares)
+                .quantidadeDisponivel(exemplares)
+                .build());
+    }
+
+    private List<Usuario> novosLeitores(int quantidade) {
+        List<Usuario> leitores = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            long numero = SEQUENCIA.incrementAndGet();
+            leitores.add(usuarioRepository.save(Usuario.builder()
+                    .nome("Leitor " + numero)
+                    .email("leitor" + numero + "@teste.com")
+                    .senha("senha")
+                    .role(Usuario.Role.USER)
+                    .build()));
+        }
+        return leitores;
+    }
+}
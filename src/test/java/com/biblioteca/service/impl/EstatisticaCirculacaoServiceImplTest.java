@@ -0,0 +1,121 @@
+package com.biblioteca.service.impl;
+
+import com.biblioteca.model.entity.EstatisticaCirculacao;
+import com.biblioteca.model.entity.EstatisticaCirculacao.Dimensao;
+import com.biblioteca.model.entity.EventoCirculacao;
+import com.biblioteca.model.entity.Livro;
+import com.biblioteca.model.entity.Usuario;
+import com.biblioteca.repository.EmprestimoRepository;
+import com.biblioteca.repository.EstatisticaCirculacaoRepository;
+import com.biblioteca.repository.EventoCirculacaoRepository;
+import com.biblioteca.repository.LivroRepository;
+import com.biblioteca.repository.UsuarioRepository;
+import com.biblioteca.service.EmprestimoService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Variações de circulação gravadas na transação do empréstimo: sobrevivem a
+ * um reinício antes da consolidação e são contadas uma única vez.
+ */
+@SpringBootTest(properties = "biblioteca.estatisticas.descarga-ms=3600000")
+class EstatisticaCirculacaoServiceImplTest {
+
+    private static final AtomicLong SEQUENCIA = new AtomicLong(System.currentTimeMillis());
+
+    @Autowired
+    private EmprestimoService emprestimoService;
+
+    @Autowired
+    private EstatisticaCirculacaoRepository estatisticaRepository;
+
+    @Autowired
+    private EventoCirculacaoRepository eventoRepository;
+
+    @Autowired
+    private EmprestimoRepository emprestimoRepository;
+
+    @Autowired
+    private LivroRepository livroRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void variacoesSobrevivemAoReinicio() {
+        Livro livro = novoLivro();
+        Long emprestimoId = emprestimoService.realizarEmprestimo(novoLeitor().getId(), livro.getId()).getId();
+        emprestimoService.realizarDevolucao(emprestimoId);
+
+        // Confirmadas com o empréstimo, antes de qualquer consolidação
+        assertThat(eventoRepository.findAll()).filteredOn(e -> e.getLivroId().equals(livro.getId())).hasSize(2);
+        assertThat(estatisticaDoLivro(livro)).isNull();
+
+        // Nova instância, sem estado em memória, como após uma queda da aplicação
+        EstatisticaCirculacaoServiceImpl reiniciado = novaInstancia();
+        try {
+            reiniciado.descarregar();
+
+            EstatisticaCirculacao estatistica = estatisticaDoLivro(livro);
+            assertThat(estatistica.getEmprestimos()).isEqualTo(1);
+            assertThat(estatistica.getDevolucoes()).isEqualTo(1);
+            assertThat(eventoRepository.findAll()).extracting(EventoCirculacao::getLivroId).doesNotContain(livro.getId());
+
+            // A reconstrução do dia chega aos mesmos totais
+            LocalDate hoje = LocalDate.now();
+            reiniciado.reconstruir(hoje, hoje);
+            estatistica = estatisticaDoLivro(livro);
+            assertThat(estatistica.getEmprestimos()).isEqualTo(1);
+            assertThat(estatistica.getDevolucoes()).isEqualTo(1);
+        } finally {
+            reiniciado.encerrar();
+        }
+    }
+
+    private EstatisticaCirculacaoServiceImpl novaInstancia() {
+        return new EstatisticaCirculacaoServiceImpl(estatisticaRepository, eventoRepository, emprestimoRepository,
+                transactionManager, meterRegistry);
+    }
+
+    private EstatisticaCirculacao estatisticaDoLivro(Livro livro) {
+        LocalDate hoje = LocalDate.now();
+        return estatisticaRepository.findByDimensaoAndDataBetweenOrderByData(Dimensao.LIVRO, hoje, hoje).stream()
+                .filter(e -> e.getChave().equals(livro.getId()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private Livro novoLivro() {
+        long numero = SEQUENCIA.incrementAndGet();
+        return livroRepository.save(Livro.builder()
+                .titulo("Livro circulação " + numero)
+                .isbn("EC" + numero)
+                .quantidadeTotal(1)
+                .quantidadeDisponivel(1)
+                .build());
+    }
+
+    private Usuario novoLeitor() {
+        long numero = SEQUENCIA.incrementAndGet();
+        return usuarioRepository.save(Usuario.builder()
+                .nome("Leitor " + numero)
+                .email("circulacao" + numero + "@teste.com")
+                .senha("senha")
+                .role(Usuario.Role.USER)
+                .build());
+    }
+}
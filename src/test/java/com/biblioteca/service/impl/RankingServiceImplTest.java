@@ -0,0 +1,108 @@
+package com.biblioteca.service.impl;
+
+import com.biblioteca.model.dto.RankingLivroDTO;
+import com.biblioteca.model.entity.Emprestimo;
+import com.biblioteca.model.entity.Livro;
+import com.biblioteca.model.entity.RankingLivro.Janela;
+import com.biblioteca.repository.EstatisticaCirculacaoRepository;
+import com.biblioteca.repository.LivroRepository;
+import com.biblioteca.repository.RankingLivroRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.when;
+
+/**
+ * Ranking aproximado comparado às contagens exatas dos empréstimos registrados.
+ */
+@ExtendWith(MockitoExtension.class)
+class RankingServiceImplTest {
+
+    private static final int LIVROS = 5_000;
+    private static final int EMPRESTIMOS = 50_000;
+    private static final int CAPACIDADE = 100;
+
+    @Mock
+    private RankingLivroRepository rankingRepository;
+
+    @Mock
+    private EstatisticaCirculacaoRepository estatisticaRepository;
+
+    @Mock
+    private LivroRepository livroRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rankingTotalRespeitaMargemDeErroEContemOsMaisEmprestados() {
+        when(livroRepository.findAllById(anyIterable())).thenAnswer(invocacao -> {
+            List<Livro> livros = new ArrayList<>();
+            for (Long id : (Iterable<Long>) invocacao.getArgument(0)) {
+                livros.add(Livro.builder().id(id).titulo("Livro " + id).isbn(String.valueOf(id)).build());
+            }
+            return livros;
+        });
+
+        RankingServiceImpl rankingService = new RankingServiceImpl(rankingRepository, estatisticaRepository,
+                livroRepository, transactionManager, CAPACIDADE);
+        rankingService.carregar();
+
+        // Sem transação ativa o registro é contabilizado imediatamente
+        Map<Long, Long> exatas = new HashMap<>();
+        Map<Long, Emprestimo> emprestimoPorLivro = new HashMap<>();
+        Random random = new Random(7);
+        for (int i = 0; i < EMPRESTIMOS; i++) {
+            long livroId = sortearLivro(random);
+            exatas.merge(livroId, 1L, Long::sum);
+            rankingService.registrarEmprestimo(emprestimoPorLivro.computeIfAbsent(livroId,
+                    id -> Emprestimo.builder().livro(Livro.builder().id(id).build()).build()));
+        }
+
+        List<RankingLivroDTO> ranking = rankingService.obterRanking(Janela.TOTAL, 10);
+
+        assertThat(ranking).hasSize(10);
+        for (RankingLivroDTO livro : ranking) {
+            long real = exatas.get(livro.getLivroId());
+            assertThat(real)
+                    .as("livro %d", livro.getLivroId())
+                    .isBetween(livro.getEmprestimos() - livro.getMargemErro(), livro.getEmprestimos());
+        }
+
+        List<Long> maisEmprestados = exatas.entrySet().stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed())
+                .limit(5)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        assertThat(ranking).extracting(RankingLivroDTO::getLivroId).containsAll(maisEmprestados);
+    }
+
+    /**
+     * Livro sorteado com probabilidade proporcional a 1 / id (distribuição de Zipf).
+     */
+    private static long sortearLivro(Random random) {
+        double harmonico = Math.log(LIVROS) + 0.5772156649;
+        double alvo = random.nextDouble() * harmonico;
+        double soma = 0;
+        for (int id = 1; id < LIVROS; id++) {
+            soma += 1.0 / id;
+            if (soma >= alvo) {
+                return id;
+            }
+        }
+        return LIVROS;
+    }
+}
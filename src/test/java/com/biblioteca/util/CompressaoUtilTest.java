@@ -0,0 +1,34 @@
+package com.biblioteca.util;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Negociação de gzip pelo Accept-Encoding, com pesos (q).
+ */
+class CompressaoUtilTest {
+
+    @ParameterizedTest(name = "[{0}] -> {1}")
+    @CsvSource(delimiter = '|', nullValues = "NULO", value = {
+            "NULO                     | false",
+            "''                       | false",
+            "gzip                     | true",
+            "gzip, deflate, br        | true",
+            "GZIP                     | true",
+            "deflate, gzip;q=0.5      | true",
+            "gzip;q=0                 | false",
+            "gzip; q=0.000            | false",
+            "gzip;q=0, *              | false",
+            "deflate, br              | false",
+            "*                        | true",
+            "*;q=0                    | false",
+            "br, *;q=0.1              | true",
+            "x-gzip                   | true",
+            "gzip;q=abc               | false"
+    })
+    void aceitaGzip(String acceptEncoding, boolean esperado) {
+        assertThat(CompressaoUtil.aceitaGzip(acceptEncoding)).isEqualTo(esperado);
+    }
+}
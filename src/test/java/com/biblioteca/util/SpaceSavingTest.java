@@ -0,0 +1,125 @@
+package com.biblioteca.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Precisão do Space-Saving comparada às contagens exatas de um fluxo com
+ * distribuição de Zipf (poucos livros concentram a maior parte dos empréstimos).
+ */
+class SpaceSavingTest {
+
+    private static final int ITENS = 10_000;
+    private static final int EVENTOS = 200_000;
+    private static final int CAPACIDADE = 200;
+
+    private SpaceSaving contador;
+    private Map<Long, Long> exatas;
+
+    @BeforeEach
+    void processarFluxo() {
+        contador = new SpaceSaving(CAPACIDADE);
+        exatas = new HashMap<>();
+        for (long item : fluxoZipf(ITENS, EVENTOS, 1.1, 42)) {
+            contador.registrar(item);
+            exatas.merge(item, 1L, Long::sum);
+        }
+    }
+
+    @Test
+    void contagemRealFicaEntreMinimoGarantidoEContagemEstimada() {
+        for (SpaceSaving.Entrada entrada : contador.topK(CAPACIDADE)) {
+            long real = exatas.getOrDefault(entrada.item(), 0L);
+            assertThat(real)
+                    .as("item %d", entrada.item())
+                    .isBetween(entrada.minimoGarantido(), entrada.contagem());
+        }
+    }
+
+    @Test
+    void itensAcimaDoLimiarEstaoPresentes() {
+        long limiar = contador.getTotal() / CAPACIDADE;
+        List<Long> presentes = contador.topK(CAPACIDADE).stream()
+                .map(SpaceSaving.Entrada::item)
+                .collect(Collectors.toList());
+
+        exatas.forEach((item, real) -> {
+            if (real > limiar) {
+                assertThat(presentes).as("item %d com %d ocorrências", item, real).contains(item);
+            }
+        });
+    }
+
+    @Test
+    void topDezCoincideComContagemExata() {
+        List<Long> esperados = exatas.entrySet().stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed())
+                .limit(10)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+
+        List<SpaceSaving.Entrada> topDez = contador.topK(10);
+        assertThat(topDez).extracting(SpaceSaving.Entrada::item).containsExactlyInAnyOrderElementsOf(esperados);
+        for (SpaceSaving.Entrada entrada : topDez) {
+            assertThat(entrada.contagem() - exatas.get(entrada.item()))
+                    .isLessThanOrEqualTo(contador.getTotal() / CAPACIDADE);
+        }
+    }
+
+    @Test
+    void totalConsideraTodosOsEventos() {
+        assertThat(contador.getTotal()).isEqualTo(EVENTOS);
+        assertThat(contador.getTamanho()).isEqualTo(CAPACIDADE);
+    }
+
+    @Test
+    void restauracaoContaApenasOsItensRestaurados() {
+        // Semeadura a partir das estatísticas: só os mais emprestados, sem erro
+        SpaceSaving semeado = new SpaceSaving(3);
+        semeado.restaurar(1, 50, 0);
+        semeado.restaurar(2, 30, 0);
+        semeado.restaurar(3, 20, 0);
+        semeado.restaurar(4, 10, 0);
+
+        assertThat(semeado.getTotal()).isEqualTo(100);
+        assertThat(semeado.topK(3)).extracting(SpaceSaving.Entrada::erro).containsOnly(0L);
+
+        // O item 4 entra herdando o menor contador, que cobre seu histórico
+        semeado.registrar(4);
+        SpaceSaving.Entrada entrada = semeado.topK(3).stream()
+                .filter(e -> e.item() == 4)
+                .findFirst()
+                .orElseThrow();
+        assertThat(entrada.contagem()).isEqualTo(21);
+        assertThat(entrada.erro()).isEqualTo(20);
+    }
+
+    /**
+     * Fluxo determinístico de itens 1..itens com frequência proporcional a 1 / posição^expoente.
+     */
+    static long[] fluxoZipf(int itens, int eventos, double expoente, long semente) {
+        double[] acumulado = new double[itens];
+        double soma = 0;
+        for (int i = 0; i < itens; i++) {
+            soma += 1 / Math.pow(i + 1, expoente);
+            acumulado[i] = soma;
+        }
+
+        Random random = new Random(semente);
+        long[] fluxo = new long[eventos];
+        for (int e = 0; e < eventos; e++) {
+            int posicao = Arrays.binarySearch(acumulado, random.nextDouble() * soma);
+            fluxo[e] = (posicao < 0 ? -posicao - 1 : posicao) + 1;
+        }
+        return fluxo;
+    }
+}